@@ -9,6 +9,7 @@ import com.example.encuestas_api.campaigns.domain.exception.CampaignMemberAlread
 import com.example.encuestas_api.campaigns.domain.exception.CampaignNotFoundException;
 import com.example.encuestas_api.campaigns.domain.model.CampaignMember;
 import com.example.encuestas_api.campaigns.domain.model.CampaignMemberRole;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,17 +25,20 @@ public class AddCampaignMemberService implements AddCampaignMemberUseCase {
     private final SaveCampaignMemberPort saveMemberPort;
     private final CheckUserExistsPort checkUserExists;
     private final Clock clock;
+    private final InvalidateRecipientDirectoryUseCase recipientDirectory;
 
     public AddCampaignMemberService(LoadCampaignPort loadCampaignPort,
                                     LoadCampaignMemberPort loadMemberPort,
                                     SaveCampaignMemberPort saveMemberPort,
                                     CheckUserExistsPort checkUserExists,
-                                    Clock clock) {
+                                    Clock clock,
+                                    InvalidateRecipientDirectoryUseCase recipientDirectory) {
         this.loadCampaignPort = loadCampaignPort;
         this.loadMemberPort = loadMemberPort;
         this.saveMemberPort = saveMemberPort;
         this.checkUserExists = checkUserExists;
         this.clock = clock;
+        this.recipientDirectory = recipientDirectory;
     }
 
     @Override
@@ -47,6 +51,8 @@ public class AddCampaignMemberService implements AddCampaignMemberUseCase {
             throw new CampaignMemberAlreadyExistsException(campaignId, userId);
         }
         var member = CampaignMember.createNew(campaignId, userId, role, Instant.now(clock));
-        return saveMemberPort.save(member);
+        var saved = saveMemberPort.save(member);
+        recipientDirectory.handle(campaignId, null);
+        return saved;
     }
 }
@@ -6,6 +6,7 @@ import com.example.encuestas_api.campaigns.application.port.out.SaveCampaignMemb
 import com.example.encuestas_api.campaigns.domain.exception.CampaignMemberNotFoundException;
 import com.example.encuestas_api.campaigns.domain.model.CampaignMember;
 import com.example.encuestas_api.campaigns.domain.model.CampaignMemberRole;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +16,14 @@ public class ChangeMemberRoleService implements ChangeMemberRoleUseCase {
 
     private final LoadCampaignMemberPort loadMemberPort;
     private final SaveCampaignMemberPort saveMemberPort;
+    private final InvalidateRecipientDirectoryUseCase recipientDirectory;
 
     public ChangeMemberRoleService(LoadCampaignMemberPort loadMemberPort,
-                                   SaveCampaignMemberPort saveMemberPort) {
+                                   SaveCampaignMemberPort saveMemberPort,
+                                   InvalidateRecipientDirectoryUseCase recipientDirectory) {
         this.loadMemberPort = loadMemberPort;
         this.saveMemberPort = saveMemberPort;
+        this.recipientDirectory = recipientDirectory;
     }
 
     @Override
@@ -27,6 +31,8 @@ public class ChangeMemberRoleService implements ChangeMemberRoleUseCase {
         var member = loadMemberPort.loadByCampaignIdAndUserId(campaignId, userId)
                 .orElseThrow(() -> new CampaignMemberNotFoundException(campaignId, userId));
         var updated = member.withRole(newRole);
-        return saveMemberPort.save(updated);
+        var saved = saveMemberPort.save(updated);
+        recipientDirectory.handle(campaignId, null);
+        return saved;
     }
 }
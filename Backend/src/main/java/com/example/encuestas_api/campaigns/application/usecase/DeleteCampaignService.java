@@ -2,6 +2,7 @@ package com.example.encuestas_api.campaigns.application.usecase;
 
 import com.example.encuestas_api.campaigns.application.port.in.DeleteCampaignUseCase;
 import com.example.encuestas_api.campaigns.application.port.out.DeleteCampaignPort;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,11 +11,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteCampaignService implements DeleteCampaignUseCase {
 
     private final DeleteCampaignPort deletePort;
+    private final InvalidateRecipientDirectoryUseCase recipientDirectory;
 
-    public DeleteCampaignService(DeleteCampaignPort deletePort) { this.deletePort = deletePort; }
+    public DeleteCampaignService(DeleteCampaignPort deletePort, InvalidateRecipientDirectoryUseCase recipientDirectory) {
+        this.deletePort = deletePort;
+        this.recipientDirectory = recipientDirectory;
+    }
 
     @Override
     public void handle(Long id) {
         deletePort.deleteById(id);
+        recipientDirectory.handle(id, null);
     }
 }
@@ -2,6 +2,7 @@ package com.example.encuestas_api.campaigns.application.usecase;
 
 import com.example.encuestas_api.campaigns.application.port.in.RemoveCampaignMemberUseCase;
 import com.example.encuestas_api.campaigns.application.port.out.DeleteCampaignMemberPort;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,13 +11,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class RemoveCampaignMemberService implements RemoveCampaignMemberUseCase {
 
     private final DeleteCampaignMemberPort deletePort;
+    private final InvalidateRecipientDirectoryUseCase recipientDirectory;
 
-    public RemoveCampaignMemberService(DeleteCampaignMemberPort deletePort) {
+    public RemoveCampaignMemberService(DeleteCampaignMemberPort deletePort,
+                                       InvalidateRecipientDirectoryUseCase recipientDirectory) {
         this.deletePort = deletePort;
+        this.recipientDirectory = recipientDirectory;
     }
 
     @Override
     public void handle(Long campaignId, Long userId) {
         deletePort.deleteByCampaignIdAndUserId(campaignId, userId);
+        recipientDirectory.handle(campaignId, null);
     }
 }
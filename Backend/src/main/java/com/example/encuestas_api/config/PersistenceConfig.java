@@ -0,0 +1,30 @@
+package com.example.encuestas_api.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Batching JDBC de Hibernate: los inserts de un mismo flush viajan en lotes de batch_size en
+ * lugar de uno por fila. Solo aplica a entidades con ids de secuencia (con IDENTITY Hibernate
+ * necesita el id de cada fila y desactiva el batch). En MySQL el driver ademas necesita
+ * rewriteBatchedStatements=true en la URL para mandar el lote como un unico insert, y
+ * useCursorFetch=true para que los cursores de reportes (reports.stream.fetch_size) lean por
+ * bloques en vez de cargar todo el resultado en memoria.
+ * Lo que se configure explicitamente en spring.jpa.properties tiene prioridad.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+            @Value("${persistence.jdbc.batch_size:50}") int batchSize) {
+        return props -> {
+            props.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, Math.max(1, batchSize));
+            props.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            props.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -2,6 +2,7 @@ package com.example.encuestas_api.forms.application.usecase;
 
 import com.example.encuestas_api.forms.application.port.in.DeleteFormUseCase;
 import com.example.encuestas_api.forms.application.port.out.DeleteFormPort;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +10,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DeleteFormService implements DeleteFormUseCase {
     private final DeleteFormPort deletePort;
-    public DeleteFormService(DeleteFormPort deletePort){ this.deletePort = deletePort; }
-    @Override public void handle(Long formId){ deletePort.deleteById(formId); }
+    private final InvalidateRecipientDirectoryUseCase recipientDirectory;
+    public DeleteFormService(DeleteFormPort deletePort, InvalidateRecipientDirectoryUseCase recipientDirectory){
+        this.deletePort = deletePort;
+        this.recipientDirectory = recipientDirectory;
+    }
+    @Override public void handle(Long formId){
+        deletePort.deleteById(formId);
+        recipientDirectory.handle(null, formId);
+    }
 }
@@ -3,6 +3,7 @@ package com.example.encuestas_api.forms.infrastructure.adapter.out.jpa.entity;
 import com.example.encuestas_api.forms.domain.model.AccessMode;
 import com.example.encuestas_api.forms.domain.model.FormStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 
@@ -85,6 +86,11 @@ public class FormEntity {
     @Column(name = "public_code", length = 64)
     private String publicCode;
 
+    // solo la escribe FormStructureVersionJpaAdapter con un update atomico; guardar el formulario no la pisa
+    @ColumnDefault("0")
+    @Column(name = "structure_version", nullable = false, insertable = false, updatable = false)
+    private long structureVersion;
+
 
     @PrePersist
     void prePersist() {
@@ -149,4 +155,5 @@ public class FormEntity {
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
     public String getPublicCode() { return publicCode; }
     public void setPublicCode(String publicCode) { this.publicCode = publicCode; }
+    public long getStructureVersion() { return structureVersion; }
 }
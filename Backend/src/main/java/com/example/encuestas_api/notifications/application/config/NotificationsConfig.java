@@ -1,11 +1,70 @@
 package com.example.encuestas_api.notifications.application.config;
 
+import com.example.encuestas_api.notifications.domain.service.NotificationDigestPolicy;
 import com.example.encuestas_api.notifications.domain.service.NotificationFactory;
+import com.example.encuestas_api.notifications.domain.service.NotificationRetryPolicy;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class NotificationsConfig {
     @Bean
     NotificationFactory notificationFactory() { return new NotificationFactory(); }
+
+    @Bean
+    NotificationRetryPolicy notificationRetryPolicy(
+            @Value("${notifications.retry.max_attempts:8}") int maxAttempts,
+            @Value("${notifications.retry.max_backoff_ms:3600000}") long maxBackoffMillis,
+            @Value("${notifications.retry.base_ms.email:30000}") long emailBaseMillis,
+            @Value("${notifications.retry.base_ms.webhook:10000}") long webhookBaseMillis,
+            @Value("${notifications.retry.base_ms.in_app:5000}") long inAppBaseMillis) {
+        return new NotificationRetryPolicy(Map.of(
+                Channel.EMAIL, Duration.ofMillis(emailBaseMillis),
+                Channel.WEBHOOK, Duration.ofMillis(webhookBaseMillis),
+                Channel.IN_APP, Duration.ofMillis(inAppBaseMillis)),
+                Duration.ofMillis(maxBackoffMillis), maxAttempts);
+    }
+
+    @Bean
+    NotificationDigestPolicy notificationDigestPolicy(
+            @Value("${notifications.digest.window_ms:3600000}") long windowMillis,
+            @Value("${notifications.digest.daily_at:08:00}") String dailyAt,
+            @Value("${notifications.digest.zone:UTC}") String zone) {
+        return new NotificationDigestPolicy(Duration.ofMillis(windowMillis), LocalTime.parse(dailyAt), ZoneId.of(zone));
+    }
+
+    /** Un solo hilo para el relay del outbox: las pasadas no se solapan dentro de la instancia. */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService notificationOutboxExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "notification-outbox");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Coordinador del dispatcher: busca lotes y reparte envios, una pasada a la vez. */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService notificationDispatchExecutor() {
+        return Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "notification-dispatcher");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /** Un hilo virtual por envio: el limite real lo ponen los permisos por canal del dispatcher. */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService notificationSendExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("notification-send-", 0).factory());
+    }
 }
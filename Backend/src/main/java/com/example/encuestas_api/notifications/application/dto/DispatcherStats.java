@@ -0,0 +1,17 @@
+package com.example.encuestas_api.notifications.application.dto;
+
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record DispatcherStats(
+        Map<Channel, ChannelStats> channels,
+        long queueDepth,
+        long lastRunDispatched,
+        long lastRunMillis,
+        double lastRunPerSecond,
+        Instant lastRunAt
+) {
+    public record ChannelStats(long sent, long failed, int inFlight, int limit) { }
+}
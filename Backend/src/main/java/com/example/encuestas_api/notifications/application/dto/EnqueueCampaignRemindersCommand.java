@@ -0,0 +1,9 @@
+package com.example.encuestas_api.notifications.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * target null solo retoma los recordatorios que quedaron a medias; con fecha, ademas abre los
+ * de las campañas que empiezan o terminan ese dia.
+ */
+public record EnqueueCampaignRemindersCommand(LocalDate target, int daysAhead) { }
@@ -0,0 +1,11 @@
+package com.example.encuestas_api.notifications.application.dto;
+
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+
+/** channel y type son filtros opcionales (null = todas). */
+public record RequeueDeadNotificationsCommand(
+        Channel channel,
+        NotificationType type,
+        int limit
+) { }
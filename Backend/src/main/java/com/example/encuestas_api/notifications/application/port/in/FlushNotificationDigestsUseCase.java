@@ -0,0 +1,6 @@
+package com.example.encuestas_api.notifications.application.port.in;
+
+public interface FlushNotificationDigestsUseCase {
+    /** Envia un lote de resumenes vencidos; devuelve cuantos se tomaron. */
+    int handle();
+}
@@ -0,0 +1,7 @@
+package com.example.encuestas_api.notifications.application.port.in;
+
+import com.example.encuestas_api.notifications.application.dto.DispatcherStats;
+
+public interface GetDispatcherStatsUseCase {
+    DispatcherStats handle();
+}
@@ -0,0 +1,6 @@
+package com.example.encuestas_api.notifications.application.port.in;
+
+public interface InvalidateRecipientDirectoryUseCase {
+    /** campaignId y formId pueden ser null; se invalida lo que venga. */
+    void handle(Long campaignId, Long formId);
+}
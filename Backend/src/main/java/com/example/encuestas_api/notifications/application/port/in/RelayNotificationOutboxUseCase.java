@@ -0,0 +1,5 @@
+package com.example.encuestas_api.notifications.application.port.in;
+
+public interface RelayNotificationOutboxUseCase {
+    int handle();
+}
@@ -0,0 +1,7 @@
+package com.example.encuestas_api.notifications.application.port.in;
+
+import com.example.encuestas_api.notifications.application.dto.RequeueDeadNotificationsCommand;
+
+public interface RequeueDeadNotificationsUseCase {
+    int handle(RequeueDeadNotificationsCommand cmd);
+}
@@ -0,0 +1,41 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Campañas a recordar y el punto de control de cada recordatorio (campaña, tipo, fecha):
+ * hasta que miembro se ha encolado, para retomar tras una caida sin reenviar.
+ */
+public interface CampaignReminderPort {
+
+    record Due(Long campaignId, NotificationType type) { }
+
+    record Checkpoint(Long id, Long campaignId, NotificationType type, LocalDate targetDate,
+                      int daysAhead, Long lastUserId, int enqueued) {
+
+        public Checkpoint advancedTo(Long userId, int count) {
+            return new Checkpoint(id, campaignId, type, targetDate, daysAhead, userId, enqueued + count);
+        }
+    }
+
+    /** Campañas que empiezan o terminan en target, en una sola consulta. */
+    List<Due> findDue(LocalDate target);
+
+    /** Crea el punto de control si no existe; vacio si ese recordatorio ya se completo. */
+    Optional<Checkpoint> open(Due due, LocalDate target, int daysAhead);
+
+    /** Recordatorios empezados y sin terminar con fecha objetivo desde from. */
+    List<Checkpoint> findUnfinished(LocalDate from);
+
+    /**
+     * Mueve el punto de control hasta lastUserId solo si sigue donde lo dejo checkpoint; false si
+     * otro nodo ya lo avanzo. Se llama en la misma transaccion que guarda ese trozo.
+     */
+    boolean advance(Checkpoint checkpoint, Long lastUserId, int count);
+
+    void finish(Checkpoint checkpoint);
+}
@@ -0,0 +1,27 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reparto de notificaciones entre nodos: cada una la envia solo quien tiene su lease.
+ */
+public interface ClaimNotificationsPort {
+    /**
+     * Pasa hasta limit notificaciones con nextAttemptAt vencido de PENDING a IN_FLIGHT a nombre de owner.
+     * Con channel solo reclama las de ese canal; null reclama de cualquiera.
+     */
+    List<Notification> claim(String owner, Channel channel, Instant now, Instant leaseUntil, int limit);
+
+    /**
+     * Guarda el resultado del envio (estado, intentos, siguiente intento y ultimo error);
+     * false si owner ya perdio la lease (caduco y otro nodo la tomo).
+     */
+    boolean complete(Notification notification, String owner, Instant now);
+
+    /** Devuelve a PENDING las leases caducadas de nodos caidos o colgados. */
+    int reclaimExpired(Instant now);
+}
@@ -0,0 +1,16 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+import java.util.List;
+import java.util.Optional;
+
+/** Lectura en base de datos de quien pertenece a cada campaña y a que campaña pertenece cada formulario. */
+public interface LoadRecipientDirectoryPort {
+
+    Optional<Long> findCampaignIdByFormId(Long formId);
+
+    /** Ids de usuario de todos los miembros de la campaña, en orden. */
+    List<Long> findAllMemberUserIds(Long campaignId);
+
+    /** Pagina de ids de miembros con userId mayor que afterUserId (null = desde el principio), en orden. */
+    List<Long> findMemberUserIds(Long campaignId, Long afterUserId, int limit);
+}
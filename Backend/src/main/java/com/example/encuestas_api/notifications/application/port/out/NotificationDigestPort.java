@@ -0,0 +1,24 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+
+import java.time.Instant;
+import java.util.List;
+
+/** Cubos de resumen por usuario, formulario y momento de envio, con el numero de respuestas. */
+public interface NotificationDigestPort {
+
+    record PendingDigest(Long id, Long userId, Long formId, NotificationType type,
+                         int count, Instant firstAt, Instant lastAt) { }
+
+    /** Suma una respuesta al cubo; lo crea si es la primera de esa ventana. */
+    void add(Long userId, Long formId, NotificationType type, Instant flushAt, Instant occurredAt);
+
+    List<PendingDigest> findDue(Instant now, int limit);
+
+    /**
+     * Retira el cubo para enviarlo; false si otro nodo ya lo tomo o si entro otra respuesta
+     * desde que se leyo (se enviara en la siguiente pasada con la cuenta completa).
+     */
+    boolean take(PendingDigest digest);
+}
@@ -0,0 +1,6 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+public interface NotificationDispatchTriggerPort {
+    /** Pide una pasada del dispatcher en segundo plano; si ya hay una en curso se encadena otra al terminar. */
+    void requestDispatch();
+}
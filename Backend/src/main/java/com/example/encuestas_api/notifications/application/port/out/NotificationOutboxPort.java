@@ -0,0 +1,19 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+import com.example.encuestas_api.notifications.domain.model.OutboxEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationOutboxPort {
+    void append(OutboxEvent event);
+
+    /** Eventos listos para procesar (available_at vencido y sin agotar intentos), en orden de llegada. */
+    List<OutboxEvent> findDue(Instant now, int maxAttempts, int limit);
+
+    /** Borra el evento y lo devuelve solo si esta transaccion fue la que lo borro. */
+    Optional<OutboxEvent> take(Long id);
+
+    void recordFailure(Long id, String error, Instant retryAt);
+}
@@ -0,0 +1,6 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+public interface NotificationOutboxRelayPort {
+    /** Pide una pasada del relay en segundo plano; varias peticiones seguidas se agrupan en una. */
+    void requestDrain();
+}
@@ -0,0 +1,8 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+public interface RecipientDirectoryCachePort {
+    /** Descarta los miembros cacheados de la campaña; una carga en curso no podra guardarse. */
+    void forgetCampaign(Long campaignId);
+
+    void forgetForm(Long formId);
+}
@@ -0,0 +1,11 @@
+package com.example.encuestas_api.notifications.application.port.out;
+
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+
+import java.time.Instant;
+
+public interface RequeueDeadNotificationsPort {
+    /** Pasa hasta limit dead letters a PENDING con los intentos a cero; channel y type null no filtran. */
+    int requeueDead(Channel channel, NotificationType type, Instant now, int limit);
+}
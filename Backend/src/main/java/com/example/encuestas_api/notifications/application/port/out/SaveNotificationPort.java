@@ -2,6 +2,12 @@ package com.example.encuestas_api.notifications.application.port.out;
 
 import com.example.encuestas_api.notifications.domain.model.Notification;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface SaveNotificationPort {
     Notification save(Notification notification);
+
+    /** Guarda un fan-out completo en lotes; devuelve las notificaciones guardadas en el mismo orden. */
+    List<Notification> saveAll(Collection<Notification> notifications);
 }
@@ -4,53 +4,232 @@ import com.example.encuestas_api.notifications.application.dto.DispatchPendingCo
 import com.example.encuestas_api.notifications.application.port.in.DispatchPendingNotificationsUseCase;
 import com.example.encuestas_api.notifications.application.port.out.*;
 import com.example.encuestas_api.notifications.domain.model.Notification;
-import com.example.encuestas_api.notifications.domain.valueobject.DeliveryStatus;
+import com.example.encuestas_api.notifications.domain.service.NotificationRetryPolicy;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
 
+/**
+ * Motor de envio. El hilo que llama solo reclama lotes y los reparte; cada envio corre en
+ * su propio hilo virtual. Cada canal reclama sus propias filas y nunca mas que los permisos
+ * libres de su canal (como mucho max_in_flight), asi un SMTP lento llena solo la ventana de
+ * email y no frena los webhooks ni el in-app. El siguiente lote de un canal se busca en
+ * cuanto queda media ventana libre, sin esperar a que termine el anterior, y la pasada sigue
+ * mientras algun canal tenga backlog.
+ * <p>
+ * Varios nodos pueden despachar a la vez: cada lote se reclama con una lease a nombre de
+ * este nodo y el resultado solo se guarda si la lease sigue siendo suya. Como el permiso se
+ * toma antes del claim ninguna fila espera turno con la lease corriendo; aun asi, si la lease
+ * ya caduco al ir a enviar, la fila se salta y la recupera el reclaim. Las leases de nodos
+ * caidos se devuelven a PENDING al empezar cada pasada.
+ * <p>
+ * Un envio fallido vuelve a PENDING con nextAttemptAt segun la politica de reintentos del
+ * canal; al agotar los intentos queda DEAD con el ultimo error hasta que se reencole.
+ * <p>
+ * Sin transaccion: cada update de estado va en la suya y ningun envio retiene conexion.
+ */
 @Service
-@Transactional
 public class DispatchPendingNotificationsService implements DispatchPendingNotificationsUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(DispatchPendingNotificationsService.class);
+
     private final FindPendingNotificationsPort findPort;
-    private final UpdateNotificationPort updatePort;
+    private final ClaimNotificationsPort claimPort;
     private final SendEmailPort emailPort;
     private final SendWebhookPort webhookPort;
     private final SendInAppPort inAppPort;
+    private final ExecutorService sendExecutor;
+    private final NotificationDispatchMetrics metrics;
+    private final NotificationRetryPolicy retryPolicy;
+    private final Clock clock;
+    private final int maxInFlight;
+    private final long maxRunMillis;
+    private final Duration lease;
+    private final String owner;
+    private final Map<Channel, Integer> concurrency = new EnumMap<>(Channel.class);
+    private final Map<Channel, Semaphore> limits = new EnumMap<>(Channel.class);
 
     public DispatchPendingNotificationsService(FindPendingNotificationsPort findPort,
-                                               UpdateNotificationPort updatePort,
+                                               ClaimNotificationsPort claimPort,
                                                SendEmailPort emailPort,
                                                SendWebhookPort webhookPort,
-                                               SendInAppPort inAppPort) {
+                                               SendInAppPort inAppPort,
+                                               @Qualifier("notificationSendExecutor") ExecutorService sendExecutor,
+                                               NotificationDispatchMetrics metrics,
+                                               NotificationRetryPolicy retryPolicy,
+                                               Clock clock,
+                                               @Value("${notifications.dispatch.max_in_flight:200}") int maxInFlight,
+                                               @Value("${notifications.dispatch.max_run_ms:60000}") long maxRunMillis,
+                                               @Value("${notifications.dispatch.lease_ms:120000}") long leaseMillis,
+                                               @Value("${notifications.dispatch.node_id:}") String nodeId,
+                                               @Value("${notifications.dispatch.concurrency.email:8}") int emailConcurrency,
+                                               @Value("${notifications.dispatch.concurrency.webhook:16}") int webhookConcurrency,
+                                               @Value("${notifications.dispatch.concurrency.in_app:4}") int inAppConcurrency) {
         this.findPort = findPort;
-        this.updatePort = updatePort;
+        this.claimPort = claimPort;
         this.emailPort = emailPort;
         this.webhookPort = webhookPort;
         this.inAppPort = inAppPort;
+        this.sendExecutor = sendExecutor;
+        this.metrics = metrics;
+        this.retryPolicy = retryPolicy;
+        this.clock = clock;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxRunMillis = Math.max(1, maxRunMillis);
+        this.lease = Duration.ofMillis(Math.max(1000, leaseMillis));
+        // id unico por arranque: un nodo reiniciado no hereda las leases de su vida anterior
+        String node = (nodeId == null || nodeId.isBlank()) ? "node" : nodeId.strip();
+        this.owner = node + "-" + UUID.randomUUID().toString().substring(0, 8);
+        limit(Channel.EMAIL, emailConcurrency);
+        limit(Channel.WEBHOOK, webhookConcurrency);
+        limit(Channel.IN_APP, inAppConcurrency);
+    }
+
+    private void limit(Channel ch, int permits) {
+        int n = Math.max(1, permits);
+        concurrency.put(ch, n);
+        limits.put(ch, new Semaphore(n));
+        metrics.limit(ch, n);
     }
 
     @Override
     public int handle(DispatchPendingCommand cmd) {
-        Instant now = cmd.now() == null ? Instant.now() : cmd.now();
-        List<Notification> batch = findPort.findPending(DeliveryStatus.PENDING, now, Math.max(1, cmd.maxBatch()));
+        int batch = Math.max(1, cmd.maxBatch());
+        long startedAt = clock.millis();
+        long deadline = startedAt + maxRunMillis;
 
-        for (Notification n : batch) {
-            try {
-                switch (n.getChannel()) {
-                    case EMAIL -> emailPort.send(n.getRecipient(), n.getMessage());
-                    case WEBHOOK -> webhookPort.send(n.getRecipient(), n.getMessage());
-                    case IN_APP -> inAppPort.send(n.getRecipient(), n.getMessage());
+        int reclaimed = claimPort.reclaimExpired(clock.instant());
+        if (reclaimed > 0) log.warn("Recuperadas {} notificaciones con lease caducada", reclaimed);
+
+        Map<Channel, Lane> lanes = new EnumMap<>(Channel.class);
+        for (Channel ch : Channel.values()) lanes.put(ch, new Lane());
+        BlockingQueue<Long> done = new LinkedBlockingQueue<>();
+        int dispatched = 0;
+
+        while (true) {
+            boolean open = clock.millis() < deadline;
+            boolean fetched = false;
+            for (Map.Entry<Channel, Lane> e : lanes.entrySet()) {
+                Channel ch = e.getKey();
+                Lane lane = e.getValue();
+                Semaphore permits = limits.get(ch);
+                int window = Math.min(maxInFlight, concurrency.get(ch));
+                int room = Math.min(window - lane.inFlight.size(), permits.availablePermits());
+                if (!open || !lane.backlog || room < Math.min(batch, Math.max(1, window / 2))) continue;
+                // permisos tomados antes del claim: lo reclamado se envia ya, sin esperar con la lease corriendo
+                int want = reserve(permits, Math.min(batch, room));
+                if (want == 0) continue;
+                Instant now = cmd.now() == null ? clock.instant() : cmd.now();
+                Instant leaseUntil = clock.instant().plus(lease);
+                List<Notification> due;
+                try {
+                    due = claimPort.claim(owner, ch, now, leaseUntil, want);
+                } catch (RuntimeException ex) {
+                    permits.release(want);
+                    throw ex;
                 }
-                n.markSent(now);
-            } catch (Exception ex) {
-                n.markFailed();
+                permits.release(want - due.size());
+                lane.backlog = due.size() == want;
+                for (Notification n : due) {
+                    lane.inFlight.add(n.getId());
+                    dispatched++;
+                    sendExecutor.execute(() -> {
+                        try {
+                            deliver(n, leaseUntil);
+                        } finally {
+                            permits.release();
+                            lane.inFlight.remove(n.getId());
+                            done.add(n.getId());
+                        }
+                    });
+                }
+                fetched |= !due.isEmpty();
+            }
+            if (fetched) continue;
+            boolean busy = lanes.values().stream().anyMatch(l -> !l.inFlight.isEmpty());
+            boolean backlog = lanes.values().stream().anyMatch(l -> l.backlog);
+            if (!busy && !(backlog && clock.millis() < deadline)) break;
+            try {
+                done.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
             }
-            updatePort.update(n);
         }
-        return batch.size();
+
+        long elapsed = clock.millis() - startedAt;
+        metrics.run(dispatched, elapsed, clock.instant());
+        metrics.queueDepth(findPort.countPending(clock.instant()));
+        if (dispatched > 0) {
+            log.info("Despachadas {} notificaciones en {} ms", dispatched, elapsed);
+        }
+        return dispatched;
+    }
+
+    private static int reserve(Semaphore permits, int max) {
+        int n = 0;
+        while (n < max && permits.tryAcquire()) n++;
+        return n;
+    }
+
+    private void deliver(Notification n, Instant leaseUntil) {
+        Channel ch = n.getChannel();
+        if (!clock.instant().isBefore(leaseUntil)) {
+            // otro nodo puede haberla reclamado ya: no enviar; el reclaim la devuelve a PENDING
+            log.warn("Lease caducada antes de enviar la notificación {}: se omite", n.getId());
+            return;
+        }
+        metrics.started(ch);
+        try {
+            switch (ch) {
+                case EMAIL -> emailPort.send(n.getRecipient(), n.getMessage());
+                case WEBHOOK -> webhookPort.send(n.getRecipient(), n.getMessage());
+                case IN_APP -> inAppPort.send(n.getRecipient(), n.getMessage());
+            }
+            n.markSent(clock.instant());
+            metrics.sent(ch);
+        } catch (Exception ex) {
+            String error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+            int attempt = n.getAttempts() + 1;
+            if (retryPolicy.exhausted(attempt)) {
+                log.warn("Notificación {} descartada tras {} intentos: {}", n.getId(), attempt, ex.getMessage());
+                n.markDead(error);
+            } else {
+                Instant retryAt = retryPolicy.nextAttempt(ch, attempt, clock.instant());
+                log.warn("Fallo enviando notificación {} (intento {}), reintento {}: {}",
+                        n.getId(), attempt, retryAt, ex.getMessage());
+                n.scheduleRetry(retryAt, error);
+            }
+            metrics.failed(ch);
+        } finally {
+            metrics.finished(ch);
+        }
+        try {
+            if (!claimPort.complete(n, owner, clock.instant())) {
+                log.warn("Lease perdida para la notificación {}: otro nodo puede reenviarla", n.getId());
+            }
+        } catch (RuntimeException ex) {
+            // la fila sigue IN_FLIGHT y vuelve a PENDING cuando caduque la lease
+            log.warn("No se pudo guardar el estado de la notificación {}: {}", n.getId(), ex.getMessage());
+        }
+    }
+
+    /** Estado de un canal durante una pasada: sus envios en curso y si le quedan pendientes. */
+    private static final class Lane {
+        final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+        boolean backlog = true;
     }
 }
@@ -0,0 +1,131 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.dto.EnqueueCampaignRemindersCommand;
+import com.example.encuestas_api.notifications.application.port.in.EnqueueCampaignRemindersUseCase;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort.Checkpoint;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort.Due;
+import com.example.encuestas_api.notifications.application.port.out.LoadRecipientDirectoryPort;
+import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import com.example.encuestas_api.notifications.domain.valueobject.Message;
+import com.example.encuestas_api.notifications.domain.valueobject.Recipient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Recordatorios de campaña por trozos: los miembros se leen en paginas de chunk_size y cada
+ * trozo se guarda en su propia transaccion junto con el punto de control. Memoria y duracion
+ * de transaccion no dependen del tamaño de la campaña, y tras una caida se retoma desde el
+ * ultimo trozo confirmado en lugar de reenviar desde el principio.
+ */
+@Service
+public class EnqueueCampaignRemindersService implements EnqueueCampaignRemindersUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(EnqueueCampaignRemindersService.class);
+
+    private final CampaignReminderPort reminders;
+    private final LoadRecipientDirectoryPort directory;
+    private final SaveNotificationPort savePort;
+    private final TransactionOperations tx;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public EnqueueCampaignRemindersService(CampaignReminderPort reminders,
+                                           LoadRecipientDirectoryPort directory,
+                                           SaveNotificationPort savePort,
+                                           TransactionOperations tx,
+                                           Clock clock,
+                                           @Value("${notifications.reminder.chunk_size:500}") int chunkSize) {
+        this.reminders = reminders;
+        this.directory = directory;
+        this.savePort = savePort;
+        this.tx = tx;
+        this.clock = clock;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    @Override
+    public int handle(EnqueueCampaignRemindersCommand cmd) {
+        Map<Long, Checkpoint> work = new LinkedHashMap<>();
+        // primero lo que quedo a medias; los recordatorios de fechas ya pasadas no se retoman
+        for (Checkpoint cp : reminders.findUnfinished(LocalDate.now(clock))) work.put(cp.id(), cp);
+
+        if (cmd.target() != null) {
+            for (Due due : reminders.findDue(cmd.target())) {
+                try {
+                    reminders.open(due, cmd.target(), cmd.daysAhead()).ifPresent(cp -> work.putIfAbsent(cp.id(), cp));
+                } catch (RuntimeException ex) {
+                    log.info("[Reminders] Campaña {} ({}) abierta por otro nodo: {}", due.campaignId(), due.type(), ex.getMessage());
+                }
+            }
+        }
+
+        if (work.isEmpty()) {
+            log.debug("[Reminders] No hay campañas para recordar (target={}).", cmd.target());
+            return 0;
+        }
+
+        int total = 0;
+        for (Checkpoint cp : work.values()) total += run(cp);
+        return total;
+    }
+
+    private int run(Checkpoint checkpoint) {
+        Checkpoint current = checkpoint;
+        int created = 0;
+        while (true) {
+            List<Long> page = directory.findMemberUserIds(current.campaignId(), current.lastUserId(), chunkSize);
+            if (page.isEmpty()) {
+                reminders.finish(current);
+                break;
+            }
+            Long last = page.get(page.size() - 1);
+            List<Notification> built = new ArrayList<>(page.size());
+            for (Long userId : page) built.add(reminder(current, userId));
+
+            Checkpoint from = current;
+            Boolean saved = tx.execute(status -> {
+                if (!reminders.advance(from, last, built.size())) return false;
+                savePort.saveAll(built);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(saved)) {
+                log.info("[Reminders] Campaña {} ({}) avanzada por otro nodo; se deja.", current.campaignId(), current.type());
+                return created;
+            }
+            created += built.size();
+            current = current.advancedTo(last, built.size());
+            if (page.size() < chunkSize) {
+                reminders.finish(current);
+                break;
+            }
+        }
+        log.info("[Reminders] Encoladas {} notificaciones para campaña {} ({}), {} en total",
+                created, current.campaignId(), current.type(), current.enqueued());
+        return created;
+    }
+
+    private Notification reminder(Checkpoint cp, Long userId) {
+        boolean starts = cp.type() == NotificationType.CAMPAIGN_STARTS_TOMORROW;
+        String subject = starts ? "La campaña inicia pronto" : "La campaña termina pronto";
+        String body = "La campaña " + cp.campaignId() + (starts ? " inicia en " : " termina en ")
+                + cp.daysAhead() + " día(s).";
+        Map<String, Object> metadata = Map.of(
+                "campaignId", cp.campaignId(),
+                "type", cp.type().name(),
+                "daysAhead", cp.daysAhead()
+        );
+        return new Notification(cp.type(), Channel.IN_APP, Recipient.user(userId),
+                new Message(subject, body), clock.instant(), metadata);
+    }
+}
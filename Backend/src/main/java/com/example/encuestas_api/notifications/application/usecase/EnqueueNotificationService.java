@@ -64,12 +64,8 @@ public class EnqueueNotificationService implements EnqueueNotificationUseCase {
                 cmd.scheduledAt() == null ? Instant.now() : cmd.scheduledAt()
         );
 
-        Notification firstSaved = null;
-        for (Notification n : built) {
-            Notification saved = savePort.save(n);
-            if (firstSaved == null) firstSaved = saved;
-        }
-        return firstSaved;
+        List<Notification> saved = savePort.saveAll(built);
+        return saved.isEmpty() ? null : saved.get(0);
     }
 
     private String templateCodeFor(NotificationType type) {
@@ -0,0 +1,132 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.in.FlushNotificationDigestsUseCase;
+import com.example.encuestas_api.notifications.application.port.out.LoadPreferencesPort;
+import com.example.encuestas_api.notifications.application.port.out.LoadTemplatePort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort.PendingDigest;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDispatchTriggerPort;
+import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.service.CompiledTemplate;
+import com.example.encuestas_api.notifications.domain.service.NotificationRenderer;
+import com.example.encuestas_api.notifications.domain.valueobject.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Convierte los cubos de resumen vencidos en una notificacion por usuario, formulario y canal.
+ * Retirar el cubo y guardar las notificaciones van en la misma transaccion; el dispatcher se
+ * despierta despues del commit.
+ */
+@Service
+public class FlushNotificationDigestsService implements FlushNotificationDigestsUseCase {
+
+    private static final Set<Channel> DEFAULT_CHANNELS = EnumSet.of(Channel.EMAIL, Channel.IN_APP);
+
+    private final NotificationDigestPort digests;
+    private final LoadPreferencesPort prefsPort;
+    private final LoadTemplatePort templatePort;
+    private final SaveNotificationPort savePort;
+    private final NotificationDispatchTriggerPort dispatcher;
+    private final TransactionOperations tx;
+    private final Clock clock;
+    private final int batchSize;
+
+    public FlushNotificationDigestsService(NotificationDigestPort digests,
+                                           LoadPreferencesPort prefsPort,
+                                           LoadTemplatePort templatePort,
+                                           SaveNotificationPort savePort,
+                                           NotificationDispatchTriggerPort dispatcher,
+                                           TransactionOperations tx,
+                                           Clock clock,
+                                           @Value("${notifications.digest.batch_size:500}") int batchSize) {
+        this.digests = digests;
+        this.prefsPort = prefsPort;
+        this.templatePort = templatePort;
+        this.savePort = savePort;
+        this.dispatcher = dispatcher;
+        this.tx = tx;
+        this.clock = clock;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public int handle() {
+        Instant now = clock.instant();
+        List<PendingDigest> due = digests.findDue(now, batchSize);
+        if (due.isEmpty()) return 0;
+
+        Set<Long> userIds = new HashSet<>();
+        due.forEach(d -> userIds.add(d.userId()));
+        Map<Long, NotificationPreference> prefs = prefsPort.loadByUserIds(userIds);
+        Map<NotificationType, CompiledTemplate> templates = new EnumMap<>(NotificationType.class);
+
+        List<Notification> out = new ArrayList<>();
+        Integer taken = tx.execute(status -> {
+            int n = 0;
+            for (PendingDigest d : due) {
+                if (!digests.take(d)) continue;
+                n++;
+                Set<Channel> channels = channelsFor(prefs.get(d.userId()), now);
+                if (channels.isEmpty()) continue;
+                CompiledTemplate tpl = templates.computeIfAbsent(d.type(), this::template);
+                Message msg = tpl.render(model(d));
+                for (Channel ch : channels) {
+                    out.add(new Notification(d.type(), ch, Recipient.user(d.userId()), msg, now,
+                            Map.of("formId", d.formId(), "count", d.count())));
+                }
+            }
+            savePort.saveAll(out);
+            return n;
+        });
+        if (!out.isEmpty()) dispatcher.requestDispatch();
+        return taken == null ? 0 : taken;
+    }
+
+    // el usuario eligio resumir avisos de respuestas: se respetan sus canales y su silencio
+    // para ese tipo, aunque el resumen diario salga como DAILY_SUMMARY
+    private static Set<Channel> channelsFor(NotificationPreference pref, Instant now) {
+        if (pref == null) return DEFAULT_CHANNELS;
+        Set<Channel> out = EnumSet.noneOf(Channel.class);
+        for (Channel ch : pref.getChannels()) {
+            if (pref.allows(NotificationType.SUBMISSION_RECEIVED, ch, now)) out.add(ch);
+        }
+        return out;
+    }
+
+    private static TemplateModel model(PendingDigest d) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("form_id", d.formId());
+        model.put("count", d.count());
+        model.put("first_at", d.firstAt().toString());
+        model.put("last_at", d.lastAt().toString());
+        return new TemplateModel(model);
+    }
+
+    private CompiledTemplate template(NotificationType type) {
+        String code = type == NotificationType.DAILY_SUMMARY ? "daily_summary" : "submission_digest";
+        return NotificationRenderer.compile(templatePort.loadByCode(code).orElseGet(() -> defaultTemplateFor(code)));
+    }
+
+    private NotificationTemplate defaultTemplateFor(String code) {
+        return switch (code) {
+            case "daily_summary" -> new NotificationTemplate(
+                    "daily_summary",
+                    "Resumen diario del formulario {{form_id}}",
+                    "El formulario {{form_id}} recibió {{count}} respuesta(s) entre {{first_at}} y {{last_at}}."
+            );
+            default -> new NotificationTemplate(
+                    code,
+                    "{{count}} respuesta(s) nuevas en el formulario {{form_id}}",
+                    "El formulario {{form_id}} recibió {{count}} respuesta(s) entre {{first_at}} y {{last_at}}."
+            );
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.dto.DispatcherStats;
+import com.example.encuestas_api.notifications.application.port.in.GetDispatcherStatsUseCase;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetDispatcherStatsService implements GetDispatcherStatsUseCase {
+
+    private final NotificationDispatchMetrics metrics;
+
+    public GetDispatcherStatsService(NotificationDispatchMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public DispatcherStats handle() {
+        return metrics.snapshot();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
+import com.example.encuestas_api.notifications.application.port.out.RecipientDirectoryCachePort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class InvalidateRecipientDirectoryService implements InvalidateRecipientDirectoryUseCase {
+
+    private final RecipientDirectoryCachePort cache;
+
+    public InvalidateRecipientDirectoryService(RecipientDirectoryCachePort cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(Long campaignId, Long formId) {
+        if (campaignId == null && formId == null) return;
+        forget(campaignId, formId);
+        // una resolucion concurrente antes del commit aun lee los miembros viejos y puede volver a cachearlos
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(campaignId, formId);
+                }
+            });
+        }
+    }
+
+    private void forget(Long campaignId, Long formId) {
+        if (campaignId != null) cache.forgetCampaign(campaignId);
+        if (formId != null) cache.forgetForm(formId);
+    }
+}
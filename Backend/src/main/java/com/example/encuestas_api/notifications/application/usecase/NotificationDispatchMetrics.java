@@ -0,0 +1,57 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.dto.DispatcherStats;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Contadores del dispatcher en memoria; se leen con GetDispatcherStatsUseCase. */
+@Component
+public class NotificationDispatchMetrics {
+
+    private static final class ChannelCounters {
+        final LongAdder sent = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final AtomicInteger inFlight = new AtomicInteger();
+        volatile int limit;
+    }
+
+    private final Map<Channel, ChannelCounters> channels = new EnumMap<>(Channel.class);
+    private final AtomicLong queueDepth = new AtomicLong();
+    private volatile long lastRunDispatched;
+    private volatile long lastRunMillis;
+    private volatile Instant lastRunAt;
+
+    public NotificationDispatchMetrics() {
+        for (Channel ch : Channel.values()) channels.put(ch, new ChannelCounters());
+    }
+
+    void limit(Channel ch, int permits) { channels.get(ch).limit = permits; }
+    void started(Channel ch) { channels.get(ch).inFlight.incrementAndGet(); }
+    void sent(Channel ch) { channels.get(ch).sent.increment(); }
+    void failed(Channel ch) { channels.get(ch).failed.increment(); }
+    void finished(Channel ch) { channels.get(ch).inFlight.decrementAndGet(); }
+    void queueDepth(long pending) { queueDepth.set(pending); }
+
+    void run(long dispatched, long millis, Instant at) {
+        this.lastRunDispatched = dispatched;
+        this.lastRunMillis = millis;
+        this.lastRunAt = at;
+    }
+
+    public DispatcherStats snapshot() {
+        Map<Channel, DispatcherStats.ChannelStats> out = new EnumMap<>(Channel.class);
+        channels.forEach((ch, c) -> out.put(ch,
+                new DispatcherStats.ChannelStats(c.sent.sum(), c.failed.sum(), c.inFlight.get(), c.limit)));
+        long dispatched = lastRunDispatched;
+        long millis = lastRunMillis;
+        double perSecond = millis <= 0 ? dispatched : dispatched * 1000.0 / millis;
+        return new DispatcherStats(out, queueDepth.get(), dispatched, millis, perSecond, lastRunAt);
+    }
+}
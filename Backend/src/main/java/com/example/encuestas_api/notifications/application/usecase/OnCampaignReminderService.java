@@ -63,7 +63,7 @@ public class OnCampaignReminderService implements OnCampaignReminderUseCase {
 
         var defaults = EnumSet.of(Channel.EMAIL, Channel.IN_APP);
         var built = factory.fromEvent(type, new TemplateModel(model), byCode, prefs.values(), recips, defaults, Instant.now());
-        built.forEach(savePort::save);
+        savePort.saveAll(built);
     }
 
     private NotificationTemplate defaultTemplateFor(String code) {
@@ -66,7 +66,7 @@ public class OnFormStatusChangedService implements OnFormStatusChangedUseCase {
 
         var defaults = EnumSet.of(Channel.EMAIL, Channel.IN_APP);
         var built = factory.fromEvent(type, new TemplateModel(model), byCode, prefs.values(), recips, defaults, Instant.now());
-        built.forEach(savePort::save);
+        savePort.saveAll(built);
     }
 
     private NotificationTemplate defaultTemplateFor(String code) {
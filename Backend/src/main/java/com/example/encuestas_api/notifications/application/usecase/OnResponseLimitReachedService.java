@@ -59,7 +59,7 @@ public class OnResponseLimitReachedService implements OnResponseLimitReachedUseC
 
         var defaults = EnumSet.of(Channel.EMAIL, Channel.IN_APP);
         var built = factory.fromEvent(type, new TemplateModel(model), byCode, prefs.values(), recips, defaults, Instant.now());
-        built.forEach(savePort::save);
+        savePort.saveAll(built);
     }
 
     private NotificationTemplate defaultTemplateFor(String code) {
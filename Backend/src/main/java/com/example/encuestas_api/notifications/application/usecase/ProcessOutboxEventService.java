@@ -0,0 +1,131 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.in.ProcessOutboxEventUseCase;
+import com.example.encuestas_api.notifications.application.port.out.LoadPreferencesPort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationOutboxPort;
+import com.example.encuestas_api.notifications.application.port.out.LoadTemplatePort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort;
+import com.example.encuestas_api.notifications.application.port.out.ResolveRecipientsPort;
+import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
+import com.example.encuestas_api.notifications.domain.event.SubmissionSubmittedEvent;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.model.OutboxEvent;
+import com.example.encuestas_api.notifications.domain.service.NotificationDigestPolicy;
+import com.example.encuestas_api.notifications.domain.service.NotificationFactory;
+import com.example.encuestas_api.notifications.domain.valueobject.*;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Convierte un evento del outbox en notificaciones. Borrar el evento y guardar las
+ * notificaciones van en la misma transaccion: si algo falla no queda nada a medias y el
+ * relay lo reintenta; si otro relay ya lo tomo, take() no devuelve nada.
+ */
+@Service
+@Transactional
+public class ProcessOutboxEventService implements ProcessOutboxEventUseCase {
+
+    private final NotificationOutboxPort outbox;
+    private final ResolveRecipientsPort resolveRecipients;
+    private final LoadTemplatePort templatePort;
+    private final LoadPreferencesPort prefsPort;
+    private final SaveNotificationPort savePort;
+    private final NotificationFactory factory;
+    private final NotificationDigestPort digests;
+    private final NotificationDigestPolicy digestPolicy;
+
+    public ProcessOutboxEventService(NotificationOutboxPort outbox,
+                                     ResolveRecipientsPort resolveRecipients,
+                                     LoadTemplatePort templatePort,
+                                     LoadPreferencesPort prefsPort,
+                                     SaveNotificationPort savePort,
+                                     NotificationFactory factory,
+                                     NotificationDigestPort digests,
+                                     NotificationDigestPolicy digestPolicy) {
+        this.outbox = outbox;
+        this.resolveRecipients = resolveRecipients;
+        this.templatePort = templatePort;
+        this.prefsPort = prefsPort;
+        this.savePort = savePort;
+        this.factory = factory;
+        this.digests = digests;
+        this.digestPolicy = digestPolicy;
+    }
+
+    @Override
+    public boolean handle(Long eventId) {
+        Optional<OutboxEvent> taken = outbox.take(eventId);
+        if (taken.isEmpty()) return false;
+        OutboxEvent event = taken.get();
+        switch (event.type()) {
+            case OutboxEvent.SUBMISSION_SUBMITTED -> onSubmissionSubmitted(event.toSubmissionSubmitted());
+            default -> throw new IllegalStateException("Tipo de evento desconocido: " + event.type());
+        }
+        return true;
+    }
+
+    private void onSubmissionSubmitted(SubmissionSubmittedEvent ev) {
+        NotificationType type = NotificationType.SUBMISSION_RECEIVED;
+
+        Map<String,Object> model = new HashMap<>();
+        model.put("submission_id", ev.submissionId());
+        model.put("form_id", ev.formId());
+        model.put("respondent", ev.respondentRepr());
+        model.put("occurred_at", ev.occurredAt().toString());
+
+        TemplateModel tmplModel = new TemplateModel(model);
+        NotificationTemplate tpl = templatePort.loadByCode("submission_received").orElseGet(() ->
+                defaultTemplateFor("submission_received")
+        );
+        Map<String, NotificationTemplate> byCode = Map.of(tpl.getCode(), tpl);
+
+        List<Recipient> recips = resolveRecipients.resolve(type, ev.formId(), null, ev.submissionId());
+
+        Set<Long> userIds = new HashSet<>();
+        recips.forEach(r -> { if (r.getUserId() != null) userIds.add(r.getUserId()); });
+        var prefs = prefsPort.loadByUserIds(userIds);
+
+        // quien pidio resumen suma esta respuesta a su cubo del formulario en vez de recibir un aviso
+        Instant now = Instant.now();
+        List<Recipient> immediate = new ArrayList<>(recips.size());
+        for (Recipient r : recips) {
+            var bucket = r.getUserId() == null || ev.formId() == null ? Optional.<NotificationDigestPolicy.Bucket>empty()
+                    : digestPolicy.bucketFor(prefs.get(r.getUserId()), type, now);
+            if (bucket.isPresent()) {
+                digests.add(r.getUserId(), ev.formId(), bucket.get().summaryType(), bucket.get().flushAt(), ev.occurredAt());
+            } else {
+                immediate.add(r);
+            }
+        }
+        if (immediate.isEmpty()) return;
+
+        var defaults = EnumSet.of(Channel.EMAIL, Channel.IN_APP);
+        List<Notification> built = factory.fromEvent(type, tmplModel, byCode, prefs.values(), immediate, defaults, now);
+
+        savePort.saveAll(built);
+    }
+
+    private NotificationTemplate defaultTemplateFor(String code) {
+        return switch (code) {
+            case "form_published" -> new NotificationTemplate(
+                    "form_published",
+                    "Formulario {{form_id}} publicado",
+                    "El formulario {{form_id}} cambió de {{from}} a {{to}} el {{occurred_at}}."
+            );
+            case "form_closed" -> new NotificationTemplate(
+                    "form_closed",
+                    "Formulario {{form_id}} cerrado",
+                    "El formulario {{form_id}} cambió de {{from}} a {{to}} el {{occurred_at}}."
+            );
+            default -> new NotificationTemplate(
+                    code,
+                    "Notificación",
+                    "Evento del sistema para recurso {{form_id}}."
+            );
+        };
+    }
+}
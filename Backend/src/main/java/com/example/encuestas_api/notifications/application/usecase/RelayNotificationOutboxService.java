@@ -0,0 +1,78 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.in.ProcessOutboxEventUseCase;
+import com.example.encuestas_api.notifications.application.port.in.RelayNotificationOutboxUseCase;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDispatchTriggerPort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationOutboxPort;
+import com.example.encuestas_api.notifications.domain.model.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Vacia el outbox por lotes. Cada evento se procesa en su propia transaccion, asi que un
+ * evento que falla no deshace los demas: se anota el error y se reintenta con espera
+ * exponencial hasta max_attempts; despues queda en la tabla para revisarlo a mano.
+ */
+@Service
+public class RelayNotificationOutboxService implements RelayNotificationOutboxUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RelayNotificationOutboxService.class);
+
+    private final NotificationOutboxPort outbox;
+    private final ProcessOutboxEventUseCase process;
+    private final NotificationDispatchTriggerPort dispatcher;
+    private final Clock clock;
+    private final int batchSize;
+    private final int maxBatches;
+    private final int maxAttempts;
+
+    public RelayNotificationOutboxService(NotificationOutboxPort outbox,
+                                          ProcessOutboxEventUseCase process,
+                                          NotificationDispatchTriggerPort dispatcher,
+                                          Clock clock,
+                                          @Value("${notifications.outbox.batch_size:100}") int batchSize,
+                                          @Value("${notifications.outbox.max_batches:20}") int maxBatches,
+                                          @Value("${notifications.outbox.max_attempts:10}") int maxAttempts) {
+        this.outbox = outbox;
+        this.process = process;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    @Override
+    public int handle() {
+        int processed = 0;
+        for (int b = 0; b < maxBatches; b++) {
+            List<OutboxEvent> due = outbox.findDue(clock.instant(), maxAttempts, batchSize);
+            for (OutboxEvent ev : due) {
+                try {
+                    if (process.handle(ev.id())) processed++;
+                } catch (RuntimeException ex) {
+                    String error = ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage();
+                    log.warn("Fallo procesando evento de outbox {} (intento {}): {}", ev.id(), ev.attempts() + 1, error);
+                    outbox.recordFailure(ev.id(), error, retryAt(ev.attempts()));
+                }
+            }
+            if (due.size() < batchSize) break;
+        }
+        // las notificaciones recien creadas salen ya, sin esperar al siguiente poll del dispatcher
+        if (processed > 0) dispatcher.requestDispatch();
+        return processed;
+    }
+
+    // los fallos se reprograman hacia el futuro, asi que la siguiente consulta no los repite
+    private Instant retryAt(int attempts) {
+        long seconds = Math.min(3600, 5L << Math.min(10, attempts));
+        return clock.instant().plus(Duration.ofSeconds(seconds));
+    }
+}
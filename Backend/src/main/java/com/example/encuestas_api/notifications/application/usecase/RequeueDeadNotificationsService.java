@@ -0,0 +1,41 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.dto.RequeueDeadNotificationsCommand;
+import com.example.encuestas_api.notifications.application.port.in.RequeueDeadNotificationsUseCase;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDispatchTriggerPort;
+import com.example.encuestas_api.notifications.application.port.out.RequeueDeadNotificationsPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+
+@Service
+public class RequeueDeadNotificationsService implements RequeueDeadNotificationsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RequeueDeadNotificationsService.class);
+    private static final int MAX_LIMIT = 10_000;
+
+    private final RequeueDeadNotificationsPort requeuePort;
+    private final NotificationDispatchTriggerPort dispatcher;
+    private final Clock clock;
+
+    public RequeueDeadNotificationsService(RequeueDeadNotificationsPort requeuePort,
+                                           NotificationDispatchTriggerPort dispatcher,
+                                           Clock clock) {
+        this.requeuePort = requeuePort;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+    }
+
+    @Override
+    public int handle(RequeueDeadNotificationsCommand cmd) {
+        int limit = Math.min(MAX_LIMIT, Math.max(1, cmd.limit()));
+        int requeued = requeuePort.requeueDead(cmd.channel(), cmd.type(), clock.instant(), limit);
+        if (requeued > 0) {
+            log.info("Reencoladas {} notificaciones muertas (canal={}, tipo={})", requeued, cmd.channel(), cmd.type());
+            dispatcher.requestDispatch();
+        }
+        return requeued;
+    }
+}
@@ -16,6 +16,8 @@ public class Notification {
     private int attempts;
     private final Instant scheduledAt;
     private Instant sentAt;
+    private Instant nextAttemptAt;
+    private String lastError;
     private final Map<String, Object> metadata;
 
     public Notification(NotificationType type,
@@ -31,6 +33,7 @@ public class Notification {
         this.scheduledAt = scheduledAt == null ? Instant.now() : scheduledAt;
         this.status = DeliveryStatus.PENDING;
         this.attempts = 0;
+        this.nextAttemptAt = this.scheduledAt;
         this.metadata = metadata == null ? Map.of() : Map.copyOf(metadata);
     }
 
@@ -45,6 +48,8 @@ public class Notification {
     public int getAttempts() { return attempts; }
     public Instant getScheduledAt() { return scheduledAt; }
     public Instant getSentAt() { return sentAt; }
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public String getLastError() { return lastError; }
     public Map<String, Object> getMetadata() { return metadata; }
 
     public void markSent(Instant when) {
@@ -55,5 +60,27 @@ public class Notification {
         this.status = DeliveryStatus.FAILED;
         this.attempts += 1;
     }
+    /** Intento fallido con reintento pendiente: vuelve a PENDING y no se reclama antes de at. */
+    public void scheduleRetry(Instant at, String error) {
+        this.status = DeliveryStatus.PENDING;
+        this.attempts += 1;
+        this.nextAttemptAt = Objects.requireNonNull(at);
+        this.lastError = error;
+    }
+    /** Ultimo intento fallido: queda como dead letter hasta que alguien la reencole. */
+    public void markDead(String error) {
+        this.status = DeliveryStatus.DEAD;
+        this.attempts += 1;
+        this.nextAttemptAt = null;
+        this.lastError = error;
+    }
+    /** Estado de entrega tal como esta guardado; solo para la capa de persistencia. */
+    public void restoreDelivery(DeliveryStatus status, int attempts, Instant sentAt, Instant nextAttemptAt, String lastError) {
+        this.status = Objects.requireNonNull(status);
+        this.attempts = attempts;
+        this.sentAt = sentAt;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+    }
     public void updateMessage(Message msg) { this.message = Objects.requireNonNull(msg); }
 }
@@ -0,0 +1,29 @@
+package com.example.encuestas_api.notifications.domain.model;
+
+import com.example.encuestas_api.notifications.domain.event.SubmissionSubmittedEvent;
+
+import java.time.Instant;
+
+/**
+ * Evento pendiente de convertir en notificaciones. Se escribe en la misma transaccion que
+ * lo origina y el relay lo procesa despues, fuera de la peticion del usuario.
+ */
+public record OutboxEvent(Long id,
+                          String type,
+                          Long aggregateId,
+                          Long formId,
+                          String payload,
+                          Instant occurredAt,
+                          int attempts) {
+
+    public static final String SUBMISSION_SUBMITTED = "SUBMISSION_SUBMITTED";
+
+    public static OutboxEvent of(SubmissionSubmittedEvent ev) {
+        return new OutboxEvent(null, SUBMISSION_SUBMITTED, ev.submissionId(), ev.formId(),
+                ev.respondentRepr(), ev.occurredAt(), 0);
+    }
+
+    public SubmissionSubmittedEvent toSubmissionSubmitted() {
+        return new SubmissionSubmittedEvent(aggregateId, formId, payload, occurredAt);
+    }
+}
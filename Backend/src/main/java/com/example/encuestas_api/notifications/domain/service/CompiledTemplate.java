@@ -0,0 +1,85 @@
+package com.example.encuestas_api.notifications.domain.service;
+
+import com.example.encuestas_api.notifications.domain.valueobject.Message;
+import com.example.encuestas_api.notifications.domain.valueobject.NotificationTemplate;
+import com.example.encuestas_api.notifications.domain.valueobject.TemplateModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Plantilla ya parseada: asunto y cuerpo como listas de trozos literales y huecos de
+ * variable. Renderizar solo concatena, sin regex ni buffers sincronizados. Inmutable y
+ * segura para compartir entre hilos.
+ */
+public final class CompiledTemplate {
+
+    private static final Pattern VAR = Pattern.compile("\\{\\{\\s*([a-zA-Z0-9_\\.]+)\\s*}}");
+
+    private final String code;
+    private final long version;
+    private final String subjectSource;
+    private final String bodySource;
+    private final Segments subject;
+    private final Segments body;
+
+    private CompiledTemplate(NotificationTemplate t) {
+        this.code = t.getCode();
+        this.version = t.getVersion();
+        this.subjectSource = t.getSubjectTmpl();
+        this.bodySource = t.getBodyTmpl();
+        this.subject = subjectSource == null ? null : Segments.parse(subjectSource);
+        this.body = Segments.parse(bodySource);
+    }
+
+    public static CompiledTemplate compile(NotificationTemplate template) {
+        return new CompiledTemplate(template);
+    }
+
+    public String getCode() { return code; }
+    public long getVersion() { return version; }
+
+    public Message render(TemplateModel model) {
+        return new Message(subject == null ? "" : subject.render(model), body.render(model));
+    }
+
+    /** true si se compilo a partir de este mismo texto (una plantilla editada sin subir version no coincide). */
+    boolean matches(NotificationTemplate t) {
+        return Objects.equals(subjectSource, t.getSubjectTmpl()) && bodySource.equals(t.getBodyTmpl());
+    }
+
+    /** literals.length == vars.length + 1: literal, var, literal, var, ..., literal. */
+    private record Segments(String[] literals, String[] vars, int literalLength) {
+
+        static Segments parse(String tmpl) {
+            List<String> literals = new ArrayList<>();
+            List<String> vars = new ArrayList<>();
+            Matcher m = VAR.matcher(tmpl);
+            int last = 0;
+            int length = 0;
+            while (m.find()) {
+                literals.add(tmpl.substring(last, m.start()));
+                vars.add(m.group(1));
+                length += m.start() - last;
+                last = m.end();
+            }
+            literals.add(tmpl.substring(last));
+            length += tmpl.length() - last;
+            return new Segments(literals.toArray(String[]::new), vars.toArray(String[]::new), length);
+        }
+
+        String render(TemplateModel model) {
+            if (vars.length == 0) return literals[0];
+            StringBuilder sb = new StringBuilder(literalLength + 16 * vars.length);
+            for (int i = 0; i < vars.length; i++) {
+                sb.append(literals[i]);
+                String val = model.getString(vars[i]);
+                if (val != null) sb.append(val);
+            }
+            return sb.append(literals[vars.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.encuestas_api.notifications.domain.service;
+
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.DigestMode;
+import com.example.encuestas_api.notifications.domain.valueobject.NotificationPreference;
+
+import java.time.*;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Decide si un aviso de respuesta va a un resumen y en que cubo. Los cubos estan alineados
+ * (ventanas fijas desde epoch, o la hora diaria en la zona configurada): todas las respuestas
+ * de un formulario dentro de la misma ventana caen en la misma fila, venga de donde venga.
+ */
+public class NotificationDigestPolicy {
+
+    public record Bucket(NotificationType summaryType, Instant flushAt) { }
+
+    private final Duration window;
+    private final LocalTime dailyAt;
+    private final ZoneId zone;
+
+    public NotificationDigestPolicy(Duration window, LocalTime dailyAt, ZoneId zone) {
+        if (window == null || window.toMillis() < 1) throw new IllegalArgumentException("Ventana de resumen invalida");
+        this.window = window;
+        this.dailyAt = Objects.requireNonNull(dailyAt);
+        this.zone = Objects.requireNonNull(zone);
+    }
+
+    /** Vacio si el aviso sale al momento; si no, el cubo al que se suma. */
+    public Optional<Bucket> bucketFor(NotificationPreference pref, NotificationType type, Instant now) {
+        if (pref == null || type != NotificationType.SUBMISSION_RECEIVED) return Optional.empty();
+        // quien no quiere el aviso tampoco quiere el resumen
+        if (!pref.getEnabledTypes().contains(type)) return Optional.empty();
+        return switch (pref.getDigestMode()) {
+            case NONE -> Optional.empty();
+            case WINDOW -> Optional.of(new Bucket(NotificationType.SUBMISSION_RECEIVED, windowEnd(now)));
+            case DAILY -> Optional.of(new Bucket(NotificationType.DAILY_SUMMARY, nextDaily(now)));
+        };
+    }
+
+    Instant windowEnd(Instant now) {
+        long w = window.toMillis();
+        return Instant.ofEpochMilli(Math.floorDiv(now.toEpochMilli(), w) * w + w);
+    }
+
+    Instant nextDaily(Instant now) {
+        ZonedDateTime at = now.atZone(zone).toLocalDate().atTime(dailyAt).atZone(zone);
+        if (!at.toInstant().isAfter(now)) at = at.plusDays(1);
+        return at.toInstant();
+    }
+}
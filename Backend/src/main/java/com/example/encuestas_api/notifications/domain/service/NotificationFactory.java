@@ -27,6 +27,9 @@ public class NotificationFactory {
                 .collect(Collectors.toMap(NotificationPreference::getUserId, p -> p, (a,b)->a));
 
         List<Notification> out = new ArrayList<>();
+        // el modelo es el mismo para todos los destinatarios: un solo render compartido
+        CompiledTemplate compiled = NotificationRenderer.compile(tpl);
+        Message msg = null;
 
         for (Recipient r : candidateRecipients) {
             Set<Channel> channels = switch (r.getType()) {
@@ -45,7 +48,7 @@ public class NotificationFactory {
 
             if (channels.isEmpty()) continue;
 
-            Message msg = NotificationRenderer.render(tpl, model);
+            if (msg == null) msg = compiled.render(model);
             for (Channel ch : channels) {
                 out.add(new Notification(type, ch, r, msg, now, Map.of()));
             }
@@ -4,29 +4,34 @@ import com.example.encuestas_api.notifications.domain.valueobject.Message;
 import com.example.encuestas_api.notifications.domain.valueobject.NotificationTemplate;
 import com.example.encuestas_api.notifications.domain.valueobject.TemplateModel;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class NotificationRenderer {
-    private static final Pattern VAR = Pattern.compile("\\{\\{\\s*([a-zA-Z0-9_\\.]+)\\s*}}");
+
+    // hay pocas plantillas; el tope solo protege de codigos/versiones que no paran de cambiar
+    private static final int MAX_COMPILED = 256;
+    private static final ConcurrentHashMap<Key, CompiledTemplate> COMPILED = new ConcurrentHashMap<>();
+
+    private record Key(String code, long version) { }
 
     private NotificationRenderer() {}
 
     public static Message render(NotificationTemplate template, TemplateModel model) {
-        String subj = template.getSubjectTmpl() == null ? "" : replace(template.getSubjectTmpl(), model);
-        String body = replace(template.getBodyTmpl(), model);
-        return new Message(subj, body);
+        return compile(template).render(model);
+    }
+
+    /** Plantilla compilada por codigo y version; se parsea una sola vez y se comparte. */
+    public static CompiledTemplate compile(NotificationTemplate template) {
+        Key key = new Key(template.getCode(), template.getVersion());
+        CompiledTemplate c = COMPILED.get(key);
+        if (c != null && c.matches(template)) return c;
+        c = CompiledTemplate.compile(template);
+        if (COMPILED.size() >= MAX_COMPILED) COMPILED.clear();
+        COMPILED.put(key, c);
+        return c;
     }
 
-    private static String replace(String tmpl, TemplateModel model) {
-        Matcher m = VAR.matcher(tmpl);
-        StringBuffer sb = new StringBuffer();
-        while (m.find()) {
-            String key = m.group(1);
-            String val = model.getString(key);
-            m.appendReplacement(sb, Matcher.quoteReplacement(val == null ? "" : val));
-        }
-        m.appendTail(sb);
-        return sb.toString();
+    static int compiledCount() {
+        return COMPILED.size();
     }
 }
@@ -0,0 +1,62 @@
+package com.example.encuestas_api.notifications.domain.service;
+
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Backoff exponencial por canal con jitter: el intento n espera entre la mitad y el total de
+ * base * 2^(n-1), con tope. El jitter reparte los reintentos de un mismo corte (un SMTP caido
+ * unos minutos) para que no vuelvan todos en el mismo segundo.
+ */
+public class NotificationRetryPolicy {
+
+    private final Map<Channel, Duration> baseDelays;
+    private final Duration maxDelay;
+    private final int maxAttempts;
+    private final DoubleSupplier random;
+
+    public NotificationRetryPolicy(Map<Channel, Duration> baseDelays, Duration maxDelay, int maxAttempts) {
+        this(baseDelays, maxDelay, maxAttempts, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    public NotificationRetryPolicy(Map<Channel, Duration> baseDelays, Duration maxDelay, int maxAttempts,
+                                   DoubleSupplier random) {
+        this.baseDelays = new EnumMap<>(baseDelays);
+        for (Channel ch : Channel.values()) {
+            if (!this.baseDelays.containsKey(ch)) throw new IllegalArgumentException("Sin backoff para " + ch);
+        }
+        this.maxDelay = Objects.requireNonNull(maxDelay);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.random = Objects.requireNonNull(random);
+    }
+
+    public int getMaxAttempts() { return maxAttempts; }
+
+    /** true si tras attempts intentos fallidos ya no se reintenta. */
+    public boolean exhausted(int attempts) {
+        return attempts >= maxAttempts;
+    }
+
+    /** Momento del siguiente intento despues del fallo numero attempts (desde 1). */
+    public Instant nextAttempt(Channel channel, int attempts, Instant now) {
+        long delay = delayMillis(channel, attempts);
+        long half = delay / 2;
+        return now.plusMillis(half + (long) (random.getAsDouble() * (delay - half)));
+    }
+
+    long delayMillis(Channel channel, int attempts) {
+        long base = Math.max(1, baseDelays.get(channel).toMillis());
+        long cap = Math.max(base, maxDelay.toMillis());
+        int shift = Math.max(0, attempts - 1);
+        // a partir de aqui base << shift ya pasa del tope (o desborda)
+        if (shift >= Long.numberOfLeadingZeros(base) - 1) return cap;
+        return Math.min(cap, base << shift);
+    }
+}
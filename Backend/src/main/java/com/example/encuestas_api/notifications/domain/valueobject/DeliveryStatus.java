@@ -1,3 +1,3 @@
 package com.example.encuestas_api.notifications.domain.valueobject;
 
-public enum DeliveryStatus { PENDING, SENT, FAILED }
+public enum DeliveryStatus { PENDING, IN_FLIGHT, SENT, FAILED, DEAD }
@@ -0,0 +1,11 @@
+package com.example.encuestas_api.notifications.domain.valueobject;
+
+/** Como quiere recibir un usuario los avisos de respuestas nuevas. */
+public enum DigestMode {
+    /** Un aviso por respuesta. */
+    NONE,
+    /** Un resumen por formulario cada ventana (notifications.digest.window_ms). */
+    WINDOW,
+    /** Un resumen diario por formulario, como DAILY_SUMMARY. */
+    DAILY
+}
@@ -13,21 +13,32 @@ public final class NotificationPreference {
     private final Set<NotificationType> enabledTypes;
     private final Set<Channel> channels;
     private final Instant mutedUntil;
+    private final DigestMode digestMode;
 
     public NotificationPreference(Long userId,
                                   Set<NotificationType> enabledTypes,
                                   Set<Channel> channels,
                                   Instant mutedUntil) {
+        this(userId, enabledTypes, channels, mutedUntil, DigestMode.NONE);
+    }
+
+    public NotificationPreference(Long userId,
+                                  Set<NotificationType> enabledTypes,
+                                  Set<Channel> channels,
+                                  Instant mutedUntil,
+                                  DigestMode digestMode) {
         this.userId = Objects.requireNonNull(userId);
         this.enabledTypes = enabledTypes == null ? EnumSet.noneOf(NotificationType.class) : EnumSet.copyOf(enabledTypes);
         this.channels = channels == null ? EnumSet.noneOf(Channel.class) : EnumSet.copyOf(channels);
         this.mutedUntil = mutedUntil;
+        this.digestMode = digestMode == null ? DigestMode.NONE : digestMode;
     }
 
     public Long getUserId() { return userId; }
     public Set<NotificationType> getEnabledTypes() { return enabledTypes; }
     public Set<Channel> getChannels() { return channels; }
     public Instant getMutedUntil() { return mutedUntil; }
+    public DigestMode getDigestMode() { return digestMode; }
 
     public boolean allows(NotificationType type, Channel channel, Instant now) {
         if (mutedUntil != null && now.isBefore(mutedUntil)) return false;
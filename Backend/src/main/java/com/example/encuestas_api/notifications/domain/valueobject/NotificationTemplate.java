@@ -4,16 +4,23 @@ import java.util.Objects;
 
 public final class NotificationTemplate {
     private final String code;
+    private final long version;
     private final String subjectTmpl;
     private final String bodyTmpl;
 
     public NotificationTemplate(String code, String subjectTmpl, String bodyTmpl) {
+        this(code, 0L, subjectTmpl, bodyTmpl);
+    }
+
+    public NotificationTemplate(String code, long version, String subjectTmpl, String bodyTmpl) {
         this.code = Objects.requireNonNull(code);
+        this.version = version;
         this.subjectTmpl = subjectTmpl;
         this.bodyTmpl = Objects.requireNonNull(bodyTmpl);
     }
 
     public String getCode() { return code; }
+    public long getVersion() { return version; }
     public String getSubjectTmpl() { return subjectTmpl; }
     public String getBodyTmpl() { return bodyTmpl; }
 }
@@ -1,11 +1,16 @@
 package com.example.encuestas_api.notifications.infrastructure.adapter.in.rest;
 
+import com.example.encuestas_api.notifications.application.dto.DispatcherStats;
+import com.example.encuestas_api.notifications.application.dto.RequeueDeadNotificationsCommand;
+import com.example.encuestas_api.notifications.application.port.in.GetDispatcherStatsUseCase;
+import com.example.encuestas_api.notifications.application.port.in.RequeueDeadNotificationsUseCase;
 import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
 import com.example.encuestas_api.notifications.domain.model.Notification;
 import com.example.encuestas_api.notifications.domain.model.NotificationType;
 import com.example.encuestas_api.notifications.domain.valueobject.*;
 import jakarta.validation.constraints.NotBlank;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -19,9 +24,15 @@ import java.util.Map;
 public class NotificationsController {
 
     private final SaveNotificationPort savePort;
+    private final GetDispatcherStatsUseCase dispatcherStats;
+    private final RequeueDeadNotificationsUseCase requeueDead;
 
-    public NotificationsController(SaveNotificationPort savePort) {
+    public NotificationsController(SaveNotificationPort savePort,
+                                   GetDispatcherStatsUseCase dispatcherStats,
+                                   RequeueDeadNotificationsUseCase requeueDead) {
         this.savePort = savePort;
+        this.dispatcherStats = dispatcherStats;
+        this.requeueDead = requeueDead;
     }
 
     private NotificationType def(NotificationType t) {
@@ -78,4 +89,16 @@ public class NotificationsController {
         n = savePort.save(n);
         return ResponseEntity.ok(n.getId());
     }
+
+    @GetMapping("/dispatcher/stats")
+    public ResponseEntity<DispatcherStats> dispatcherStats() {
+        return ResponseEntity.ok(dispatcherStats.handle());
+    }
+
+    @PostMapping("/dead-letters/requeue")
+    public ResponseEntity<Integer> requeueDeadLetters(@RequestParam(required = false) Channel channel,
+                                                      @RequestParam(required = false) NotificationType type,
+                                                      @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(requeueDead.handle(new RequeueDeadNotificationsCommand(channel, type, limit)));
+    }
 }
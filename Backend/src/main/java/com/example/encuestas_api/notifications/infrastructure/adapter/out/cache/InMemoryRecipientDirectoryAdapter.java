@@ -0,0 +1,133 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.notifications.application.port.out.LoadRecipientDirectoryPort;
+import com.example.encuestas_api.notifications.application.port.out.RecipientDirectoryCachePort;
+import com.example.encuestas_api.notifications.application.port.out.ResolveRecipientsPort;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Recipient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Directorio de destinatarios en memoria: formulario -> campaña y campaña -> miembros.
+ * Un formulario caliente se resuelve con dos lecturas de mapas concurrentes, sin consultas
+ * ni bloqueos. Los servicios de miembros y de formularios invalidan por campaña/formulario;
+ * como la invalidacion es local a la instancia, las entradas caducan ademas a los ttl_ms
+ * para que otros nodos no sirvan miembros viejos indefinidamente.
+ */
+@Component
+public class InMemoryRecipientDirectoryAdapter implements ResolveRecipientsPort, RecipientDirectoryCachePort {
+
+    private static final class Members {
+        final long loadedAt;
+        final List<Recipient> recipients;
+        volatile long lastAccess;
+
+        Members(long loadedAt, List<Long> userIds, long lastAccess) {
+            this.loadedAt = loadedAt;
+            this.recipients = userIds.stream().map(Recipient::user).toList();
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final LoadRecipientDirectoryPort loader;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int maxCampaigns;
+    private final int maxForms;
+    private final long ttlMillis;
+
+    private final ConcurrentHashMap<Long, Long> formCampaign = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Members> campaigns = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final AtomicLong tick = new AtomicLong();
+
+    public InMemoryRecipientDirectoryAdapter(LoadRecipientDirectoryPort loader,
+                                             Clock clock,
+                                             @Value("${notifications.recipient_cache.enabled:true}") boolean enabled,
+                                             @Value("${notifications.recipient_cache.max_campaigns:1000}") int maxCampaigns,
+                                             @Value("${notifications.recipient_cache.max_forms:10000}") int maxForms,
+                                             @Value("${notifications.recipient_cache.ttl_ms:300000}") long ttlMillis) {
+        this.loader = loader;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxCampaigns = Math.max(1, maxCampaigns);
+        this.maxForms = Math.max(1, maxForms);
+        this.ttlMillis = Math.max(1, ttlMillis);
+    }
+
+    @Override
+    public List<Recipient> resolve(NotificationType type, Long formId, Long campaignId, Long submissionId) {
+        Long cid = campaignId != null ? campaignId : campaignOf(formId);
+        if (cid == null) return List.of();
+        return members(cid).recipients;
+    }
+
+    @Override
+    public void forgetCampaign(Long campaignId) {
+        versions.computeIfAbsent(campaignId, k -> new AtomicLong()).incrementAndGet();
+        campaigns.remove(campaignId);
+    }
+
+    @Override
+    public void forgetForm(Long formId) {
+        formCampaign.remove(formId);
+    }
+
+    private Long campaignOf(Long formId) {
+        if (formId == null) return null;
+        if (!enabled) return loader.findCampaignIdByFormId(formId).orElse(null);
+        Long cid = formCampaign.get(formId);
+        if (cid != null) return cid;
+        cid = loader.findCampaignIdByFormId(formId).orElse(null);
+        if (cid != null) {
+            // la campaña de un formulario no cambia; al llenarse se empieza de cero
+            if (formCampaign.size() >= maxForms) formCampaign.clear();
+            formCampaign.put(formId, cid);
+        }
+        return cid;
+    }
+
+    private Members members(Long campaignId) {
+        long now = clock.millis();
+        Members cached = enabled ? campaigns.get(campaignId) : null;
+        if (cached != null && now - cached.loadedAt < ttlMillis) {
+            cached.lastAccess = tick.incrementAndGet();
+            return cached;
+        }
+        long version = version(campaignId);
+        Members fresh = new Members(now, loader.findAllMemberUserIds(campaignId), tick.incrementAndGet());
+        if (enabled && version == version(campaignId)) {
+            campaigns.put(campaignId, fresh);
+            // una invalidacion entre la carga y el put dejaria miembros viejos: se descarta
+            if (version != version(campaignId)) campaigns.remove(campaignId, fresh);
+            if (campaigns.size() > maxCampaigns) evictOldest();
+        }
+        return fresh;
+    }
+
+    private long version(Long campaignId) {
+        AtomicLong v = versions.get(campaignId);
+        return v == null ? 0L : v.get();
+    }
+
+    private void evictOldest() {
+        while (campaigns.size() > maxCampaigns) {
+            Long oldest = null;
+            long min = Long.MAX_VALUE;
+            for (var e : campaigns.entrySet()) {
+                if (e.getValue().lastAccess < min) {
+                    min = e.getValue().lastAccess;
+                    oldest = e.getKey();
+                }
+            }
+            if (oldest == null) return;
+            campaigns.remove(oldest);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.executor;
+
+import com.example.encuestas_api.notifications.application.dto.DispatchPendingCommand;
+import com.example.encuestas_api.notifications.application.port.in.DispatchPendingNotificationsUseCase;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDispatchTriggerPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ExecutorNotificationDispatchTriggerAdapter implements NotificationDispatchTriggerPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorNotificationDispatchTriggerAdapter.class);
+
+    private final ExecutorService executor;
+    private final DispatchPendingNotificationsUseCase dispatch;
+    private final int batchSize;
+
+    // igual que el relay del outbox: una pasada en curso y como mucho otra pendiente
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean again = new AtomicBoolean();
+
+    public ExecutorNotificationDispatchTriggerAdapter(@Qualifier("notificationDispatchExecutor") ExecutorService executor,
+                                                      DispatchPendingNotificationsUseCase dispatch,
+                                                      @Value("${notifications.dispatch.batch_size:100}") int batchSize) {
+        this.executor = executor;
+        this.dispatch = dispatch;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void requestDispatch() {
+        again.set(true);
+        if (!scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException ex) {
+            scheduled.set(false);
+        }
+    }
+
+    private void run() {
+        try {
+            while (again.getAndSet(false)) {
+                dispatch.handle(new DispatchPendingCommand(batchSize, null));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Fallo el dispatcher de notificaciones: {}", ex.getMessage());
+        } finally {
+            scheduled.set(false);
+        }
+        if (again.get()) requestDispatch();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.executor;
+
+import com.example.encuestas_api.notifications.application.port.in.RelayNotificationOutboxUseCase;
+import com.example.encuestas_api.notifications.application.port.out.NotificationOutboxRelayPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class ExecutorNotificationOutboxRelayAdapter implements NotificationOutboxRelayPort {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorNotificationOutboxRelayAdapter.class);
+
+    private final ExecutorService executor;
+    private final RelayNotificationOutboxUseCase relay;
+
+    // como mucho una pasada en cola y otra pedida mientras corre: un pico de submits no llena el executor
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean again = new AtomicBoolean();
+
+    public ExecutorNotificationOutboxRelayAdapter(@Qualifier("notificationOutboxExecutor") ExecutorService executor,
+                                                  RelayNotificationOutboxUseCase relay) {
+        this.executor = executor;
+        this.relay = relay;
+    }
+
+    @Override
+    public void requestDrain() {
+        again.set(true);
+        if (!scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            // apagando: los eventos siguen en el outbox y se procesan al arrancar
+            scheduled.set(false);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (again.getAndSet(false)) {
+                relay.handle();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Fallo el relay del outbox de notificaciones: {}", ex.getMessage());
+        } finally {
+            scheduled.set(false);
+        }
+        // una peticion llegada entre el ultimo getAndSet y el finally no se pierde
+        if (again.get()) requestDrain();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.CampaignReminderCheckpointEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Transactional
+public class CampaignReminderJpaAdapter implements CampaignReminderPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final Clock clock;
+
+    public CampaignReminderJpaAdapter(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Due> findDue(LocalDate target) {
+        List<Object[]> rows = em.createQuery("""
+                select c.id, c.startDate, c.endDate
+                from com.example.encuestas_api.campaigns.infrastructure.adapter.out.jpa.entity.CampaignEntity c
+                where c.startDate = :target or c.endDate = :target
+                order by c.id asc
+                """, Object[].class)
+                .setParameter("target", target)
+                .getResultList();
+        List<Due> due = new ArrayList<>();
+        for (Object[] r : rows) {
+            Long id = (Long) r[0];
+            if (target.equals(r[1])) due.add(new Due(id, NotificationType.CAMPAIGN_STARTS_TOMORROW));
+            if (target.equals(r[2])) due.add(new Due(id, NotificationType.CAMPAIGN_ENDS_TOMORROW));
+        }
+        return due;
+    }
+
+    @Override
+    public Optional<Checkpoint> open(Due due, LocalDate target, int daysAhead) {
+        CampaignReminderCheckpointEntity e = em.createQuery("""
+                select c
+                from CampaignReminderCheckpointEntity c
+                where c.campaignId = :cid and c.type = :type and c.targetDate = :target
+                """, CampaignReminderCheckpointEntity.class)
+                .setParameter("cid", due.campaignId())
+                .setParameter("type", due.type().name())
+                .setParameter("target", target)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+        if (e == null) {
+            // si otro nodo lo crea a la vez salta la clave unica y este nodo lo deja estar
+            e = new CampaignReminderCheckpointEntity();
+            e.setCampaignId(due.campaignId());
+            e.setType(due.type().name());
+            e.setTargetDate(target);
+            e.setDaysAhead(daysAhead);
+            e.setUpdatedAt(clock.instant());
+            em.persist(e);
+            em.flush();
+        }
+        return e.isDone() ? Optional.empty() : Optional.of(toCheckpoint(e));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Checkpoint> findUnfinished(LocalDate from) {
+        return em.createQuery("""
+                select c
+                from CampaignReminderCheckpointEntity c
+                where c.done = false and c.targetDate >= :from
+                order by c.id asc
+                """, CampaignReminderCheckpointEntity.class)
+                .setParameter("from", from)
+                .getResultStream()
+                .map(CampaignReminderJpaAdapter::toCheckpoint)
+                .toList();
+    }
+
+    @Override
+    public boolean advance(Checkpoint checkpoint, Long lastUserId, int count) {
+        // los userId son positivos: 0 representa "aun no se encolo a nadie"
+        return em.createQuery("""
+                update CampaignReminderCheckpointEntity c
+                set c.lastUserId = :last, c.enqueued = c.enqueued + :count, c.updatedAt = :now
+                where c.id = :id and c.done = false and coalesce(c.lastUserId, 0) = :prev
+                """)
+                .setParameter("last", lastUserId)
+                .setParameter("count", count)
+                .setParameter("now", clock.instant())
+                .setParameter("id", checkpoint.id())
+                .setParameter("prev", checkpoint.lastUserId() == null ? 0L : checkpoint.lastUserId())
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public void finish(Checkpoint checkpoint) {
+        em.createQuery("""
+                update CampaignReminderCheckpointEntity c
+                set c.done = true, c.updatedAt = :now
+                where c.id = :id
+                """)
+                .setParameter("now", clock.instant())
+                .setParameter("id", checkpoint.id())
+                .executeUpdate();
+    }
+
+    private static Checkpoint toCheckpoint(CampaignReminderCheckpointEntity e) {
+        return new Checkpoint(e.getId(), e.getCampaignId(), NotificationType.valueOf(e.getType()),
+                e.getTargetDate(), e.getDaysAhead(), e.getLastUserId(), e.getEnqueued());
+    }
+}
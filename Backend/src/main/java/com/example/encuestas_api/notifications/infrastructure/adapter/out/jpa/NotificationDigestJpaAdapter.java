@@ -0,0 +1,78 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationDigestEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@Transactional
+public class NotificationDigestJpaAdapter implements NotificationDigestPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void add(Long userId, Long formId, NotificationType type, Instant flushAt, Instant occurredAt) {
+        // lo normal en un formulario con mucho trafico es que el cubo ya exista: un update y listo
+        int updated = em.createQuery("""
+                update NotificationDigestEntity d
+                set d.count = d.count + 1, d.lastAt = :at
+                where d.userId = :uid and d.formId = :fid and d.type = :type and d.flushAt = :flushAt
+                """)
+                .setParameter("at", occurredAt)
+                .setParameter("uid", userId)
+                .setParameter("fid", formId)
+                .setParameter("type", type.name())
+                .setParameter("flushAt", flushAt)
+                .executeUpdate();
+        if (updated > 0) return;
+
+        // si otro relay lo crea a la vez salta la clave unica, la transaccion del evento se
+        // deshace y el outbox lo reintenta: la segunda vez entra por el update
+        NotificationDigestEntity e = new NotificationDigestEntity();
+        e.setUserId(userId);
+        e.setFormId(formId);
+        e.setType(type.name());
+        e.setFlushAt(flushAt);
+        e.setCount(1);
+        e.setFirstAt(occurredAt);
+        e.setLastAt(occurredAt);
+        em.persist(e);
+        em.flush();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PendingDigest> findDue(Instant now, int limit) {
+        return em.createQuery("""
+                select d
+                from NotificationDigestEntity d
+                where d.flushAt <= :now
+                order by d.flushAt asc, d.id asc
+                """, NotificationDigestEntity.class)
+                .setParameter("now", now)
+                .setMaxResults(Math.max(1, limit))
+                .getResultStream()
+                .map(d -> new PendingDigest(d.getId(), d.getUserId(), d.getFormId(),
+                        NotificationType.valueOf(d.getType()), d.getCount(), d.getFirstAt(), d.getLastAt()))
+                .toList();
+    }
+
+    @Override
+    public boolean take(PendingDigest digest) {
+        return em.createQuery("""
+                delete from NotificationDigestEntity d
+                where d.id = :id and d.count = :count
+                """)
+                .setParameter("id", digest.id())
+                .setParameter("count", digest.count())
+                .executeUpdate() == 1;
+    }
+}
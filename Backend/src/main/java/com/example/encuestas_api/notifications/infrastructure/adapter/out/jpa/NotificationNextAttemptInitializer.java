@@ -0,0 +1,46 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.domain.valueobject.DeliveryStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Las notificaciones pendientes creadas antes de next_attempt_at tienen la columna a null y el
+ * claim no las veria nunca. Se rellenan una sola vez al arrancar, antes de los schedulers, con
+ * scheduled_at o, si no hay, created_at. Las filas nuevas ya nacen con valor.
+ */
+@Component
+public class NotificationNextAttemptInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationNextAttemptInitializer.class);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionOperations tx;
+
+    public NotificationNextAttemptInitializer(TransactionOperations tx) {
+        this.tx = tx;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Integer filled = tx.execute(status -> backfill());
+        if (filled != null && filled > 0) log.info("next_attempt_at rellenado en {} notificaciones pendientes", filled);
+    }
+
+    int backfill() {
+        return em.createQuery("""
+                update NotificationEntity n
+                set n.nextAttemptAt = coalesce(n.scheduledAt, n.createdAt)
+                where n.status = :pending and n.nextAttemptAt is null
+                """)
+                .setParameter("pending", DeliveryStatus.PENDING.name())
+                .executeUpdate();
+    }
+}
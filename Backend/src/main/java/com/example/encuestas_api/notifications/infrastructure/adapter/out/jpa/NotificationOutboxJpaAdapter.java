@@ -0,0 +1,84 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.application.port.out.NotificationOutboxPort;
+import com.example.encuestas_api.notifications.domain.model.OutboxEvent;
+import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationOutboxEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Transactional
+public class NotificationOutboxJpaAdapter implements NotificationOutboxPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void append(OutboxEvent event) {
+        NotificationOutboxEntity e = new NotificationOutboxEntity();
+        e.setEventType(event.type());
+        e.setAggregateId(event.aggregateId());
+        e.setFormId(event.formId());
+        e.setPayload(event.payload() == null || event.payload().length() <= 300
+                ? event.payload() : event.payload().substring(0, 300));
+        e.setOccurredAt(event.occurredAt());
+        e.setAvailableAt(event.occurredAt());
+        e.setAttempts(0);
+        em.persist(e);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> findDue(Instant now, int maxAttempts, int limit) {
+        return em.createQuery("""
+                select e from NotificationOutboxEntity e
+                where e.availableAt <= :now and e.attempts < :maxAttempts
+                order by e.id asc
+                """, NotificationOutboxEntity.class)
+                .setParameter("now", now)
+                .setParameter("maxAttempts", maxAttempts)
+                .setMaxResults(Math.max(1, limit))
+                .getResultList()
+                .stream()
+                .map(NotificationOutboxJpaAdapter::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<OutboxEvent> take(Long id) {
+        NotificationOutboxEntity e = em.find(NotificationOutboxEntity.class, id);
+        if (e == null) return Optional.empty();
+        OutboxEvent event = toDomain(e);
+        em.detach(e);
+        // el delete condicional bloquea la fila: un relay concurrente espera y luego borra 0
+        boolean taken = em.createQuery("delete from NotificationOutboxEntity e where e.id = :id")
+                .setParameter("id", id)
+                .executeUpdate() == 1;
+        return taken ? Optional.of(event) : Optional.empty();
+    }
+
+    @Override
+    public void recordFailure(Long id, String error, Instant retryAt) {
+        String msg = error == null ? null : (error.length() <= 1000 ? error : error.substring(0, 1000));
+        em.createQuery("""
+                update NotificationOutboxEntity e
+                set e.attempts = e.attempts + 1, e.lastError = :error, e.availableAt = :retryAt
+                where e.id = :id
+                """)
+                .setParameter("error", msg)
+                .setParameter("retryAt", retryAt)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    private static OutboxEvent toDomain(NotificationOutboxEntity e) {
+        return new OutboxEvent(e.getId(), e.getEventType(), e.getAggregateId(), e.getFormId(),
+                e.getPayload(), e.getOccurredAt(), e.getAttempts());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import static com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationEntity.ID_ALLOCATION_SIZE;
+import static com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationEntity.ID_SEQUENCE;
+
+/**
+ * Las notificaciones creadas cuando el id era IDENTITY no pasaron por notifications_seq, que
+ * en una base existente arranca en 1. Antes de que arranquen el servidor web y los schedulers
+ * se sube la secuencia (o su tabla de emulación en MySQL) para que el primer bloque de ids
+ * empiece por encima de max(id). Solo sube: si ya está por encima no la toca.
+ */
+@Component
+public class NotificationSequenceInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationSequenceInitializer.class);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final TransactionOperations tx;
+
+    public NotificationSequenceInitializer(TransactionOperations tx) {
+        this.tx = tx;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        tx.executeWithoutResult(status -> align());
+    }
+
+    void align() {
+        long maxId = em.createQuery("select coalesce(max(n.id), 0) from NotificationEntity n", Long.class)
+                .getSingleResult();
+        if (maxId == 0) return;
+        // optimizador pooled: un valor v de la secuencia reparte los ids v-49..v
+        long floor = maxId + ID_ALLOCATION_SIZE;
+        Dialect dialect = em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+        SequenceSupport sequences = dialect.getSequenceSupport();
+        if (sequences.supportsSequences()) {
+            long next = ((Number) em.createNativeQuery(sequences.getSequenceNextValString(ID_SEQUENCE))
+                    .getSingleResult()).longValue();
+            if (next - (ID_ALLOCATION_SIZE - 1) > maxId) return;
+            em.createNativeQuery("alter sequence " + ID_SEQUENCE + " restart with " + floor).executeUpdate();
+        } else {
+            // tabla de emulación de Hibernate: next_val es el siguiente valor que se entregará
+            int updated = em.createNativeQuery("update " + ID_SEQUENCE + " set next_val = :floor where next_val < :floor")
+                    .setParameter("floor", floor)
+                    .executeUpdate();
+            if (updated == 0) return;
+        }
+        log.info("Secuencia {} alineada por encima del id {}", ID_SEQUENCE, maxId);
+    }
+}
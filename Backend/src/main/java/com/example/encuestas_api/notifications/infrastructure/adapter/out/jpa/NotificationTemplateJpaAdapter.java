@@ -32,6 +32,7 @@ public class NotificationTemplateJpaAdapter implements LoadTemplatePort {
 
             return Optional.of(new NotificationTemplate(
                     e.getCode(),
+                    e.getVersion() == null ? 0L : e.getVersion(),
                     e.getSubjectTemplate(),
                     e.getBodyTemplate()
             ));
@@ -1,30 +1,51 @@
 package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
 
+import com.example.encuestas_api.notifications.application.port.out.ClaimNotificationsPort;
 import com.example.encuestas_api.notifications.application.port.out.FindPendingNotificationsPort;
+import com.example.encuestas_api.notifications.application.port.out.RequeueDeadNotificationsPort;
 import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
 import com.example.encuestas_api.notifications.application.port.out.UpdateNotificationPort;
 import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
 import com.example.encuestas_api.notifications.domain.valueobject.DeliveryStatus;
 import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationEntity;
 import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.mapper.NotificationsJpaMapper;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Component
 @Transactional
 public class NotificationsJpaAdapter implements
         SaveNotificationPort,
+        ClaimNotificationsPort,
         FindPendingNotificationsPort,
+        RequeueDeadNotificationsPort,
         UpdateNotificationPort {
 
     @PersistenceContext
     private EntityManager em;
 
+    @Value("${notifications.dispatch.skip_locked:true}")
+    private boolean skipLockedEnabled;
+
+    @Value("${persistence.jdbc.batch_size:50}")
+    private int batchSize;
+
+    private volatile Boolean skipLocked;
+
     @Override
     public Notification save(Notification notification) {
         NotificationEntity e = NotificationsJpaMapper.toEntity(notification);
@@ -38,25 +59,49 @@ public class NotificationsJpaAdapter implements
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public List<Notification> findPending(DeliveryStatus status, Instant cutoff, int limit) {
-        String st = (status == null ? DeliveryStatus.PENDING.name() : status.name());
-        Instant ts = (cutoff == null ? Instant.now() : cutoff);
-        int max = Math.max(1, limit);
+    public List<Notification> saveAll(Collection<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) return List.of();
+        int chunkSize = Math.max(1, batchSize);
+        List<Notification> saved = new ArrayList<>(notifications.size());
+        List<NotificationEntity> chunk = new ArrayList<>(chunkSize);
+        for (Notification n : notifications) {
+            NotificationEntity e = NotificationsJpaMapper.toEntity(n);
+            if (e.getId() == null) {
+                em.persist(e);
+            } else {
+                e = em.merge(e);
+            }
+            chunk.add(e);
+            if (chunk.size() >= chunkSize) flushChunk(chunk, saved);
+        }
+        flushChunk(chunk, saved);
+        return saved;
+    }
 
-        var entities = em.createQuery("""
-                select n
+    // un flush por lote (un insert batch) y fuera del contexto para que no crezca con el fan-out;
+    // se sueltan solo estas entidades, no un clear() que desligaria las del llamador
+    private void flushChunk(List<NotificationEntity> chunk, List<Notification> saved) {
+        if (chunk.isEmpty()) return;
+        em.flush();
+        for (NotificationEntity e : chunk) {
+            saved.add(NotificationsJpaMapper.toDomain(e));
+            em.detach(e);
+        }
+        chunk.clear();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countPending(Instant cutoff) {
+        return em.createQuery("""
+                select count(n)
                 from NotificationEntity n
                 where n.status = :status
-                  and (n.scheduledAt is null or n.scheduledAt <= :cutoff)
-                order by n.scheduledAt nulls first, n.id asc
-                """, NotificationEntity.class)
-                .setParameter("status", st)
-                .setParameter("cutoff", ts)
-                .setMaxResults(max)
-                .getResultList();
-
-        return entities.stream().map(NotificationsJpaMapper::toDomain).toList();
+                  and n.nextAttemptAt <= :cutoff
+                """, Long.class)
+                .setParameter("status", DeliveryStatus.PENDING.name())
+                .setParameter("cutoff", cutoff == null ? Instant.now() : cutoff)
+                .getSingleResult();
     }
 
     @Override
@@ -69,4 +114,133 @@ public class NotificationsJpaAdapter implements
         em.flush();
         return NotificationsJpaMapper.toDomain(e);
     }
+
+    @Override
+    public List<Notification> claim(String owner, Channel channel, Instant now, Instant leaseUntil, int limit) {
+        var q = em.createQuery("""
+                select n
+                from NotificationEntity n
+                where n.status = :status
+                  and n.nextAttemptAt <= :now%s
+                order by n.nextAttemptAt asc, n.id asc
+                """.formatted(channel == null ? "" : " and n.channel = :channel"), NotificationEntity.class)
+                .setParameter("status", DeliveryStatus.PENDING.name())
+                .setParameter("now", now)
+                .setMaxResults(Math.max(1, limit));
+        if (channel != null) q.setParameter("channel", channel.name());
+
+        if (skipLocked()) {
+            // FOR UPDATE SKIP LOCKED: cada nodo se queda con filas distintas sin esperar a los demas
+            List<NotificationEntity> rows = q.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                    .setHint(AvailableHints.HINT_SPEC_LOCK_TIMEOUT, LockOptions.SKIP_LOCKED)
+                    .getResultList();
+            for (NotificationEntity e : rows) lease(e, owner, now, leaseUntil);
+            return rows.stream().map(NotificationsJpaMapper::toDomain).toList();
+        }
+
+        // sin SKIP LOCKED (H2, MariaDB antigua...): update condicional fila a fila, gana un solo nodo
+        List<NotificationEntity> candidates = q.getResultList();
+        List<Notification> claimed = new ArrayList<>(candidates.size());
+        for (NotificationEntity e : candidates) {
+            em.detach(e);
+            int updated = em.createQuery("""
+                    update NotificationEntity n
+                    set n.status = :inFlight, n.leaseOwner = :owner, n.leaseExpiresAt = :until, n.updatedAt = :now
+                    where n.id = :id and n.status = :pending
+                    """)
+                    .setParameter("inFlight", DeliveryStatus.IN_FLIGHT.name())
+                    .setParameter("owner", owner)
+                    .setParameter("until", leaseUntil)
+                    .setParameter("now", now)
+                    .setParameter("id", e.getId())
+                    .setParameter("pending", DeliveryStatus.PENDING.name())
+                    .executeUpdate();
+            if (updated == 1) {
+                lease(e, owner, now, leaseUntil);
+                claimed.add(NotificationsJpaMapper.toDomain(e));
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public boolean complete(Notification notification, String owner, Instant now) {
+        return em.createQuery("""
+                update NotificationEntity n
+                set n.status = :status, n.sentAt = :sentAt, n.attempts = :attempts,
+                    n.nextAttemptAt = :nextAttemptAt, n.lastError = :lastError,
+                    n.leaseOwner = null, n.leaseExpiresAt = null, n.updatedAt = :now
+                where n.id = :id and n.status = :inFlight and n.leaseOwner = :owner
+                """)
+                .setParameter("status", notification.getStatus().name())
+                .setParameter("sentAt", notification.getSentAt())
+                .setParameter("attempts", notification.getAttempts())
+                .setParameter("nextAttemptAt", notification.getNextAttemptAt())
+                .setParameter("lastError", NotificationsJpaMapper.truncate(notification.getLastError()))
+                .setParameter("now", now)
+                .setParameter("id", notification.getId())
+                .setParameter("inFlight", DeliveryStatus.IN_FLIGHT.name())
+                .setParameter("owner", owner)
+                .executeUpdate() == 1;
+    }
+
+    @Override
+    public int reclaimExpired(Instant now) {
+        return em.createQuery("""
+                update NotificationEntity n
+                set n.status = :pending, n.nextAttemptAt = :now, n.leaseOwner = null, n.leaseExpiresAt = null,
+                    n.updatedAt = :now
+                where n.status = :inFlight and n.leaseExpiresAt < :now
+                """)
+                .setParameter("pending", DeliveryStatus.PENDING.name())
+                .setParameter("inFlight", DeliveryStatus.IN_FLIGHT.name())
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    public int requeueDead(Channel channel, NotificationType type, Instant now, int limit) {
+        String filters = (channel == null ? "" : " and n.channel = :channel")
+                + (type == null ? "" : " and n.type = :type");
+        var q = em.createQuery("""
+                select n.id
+                from NotificationEntity n
+                where n.status = :dead%s
+                order by n.id asc
+                """.formatted(filters), Long.class)
+                .setParameter("dead", DeliveryStatus.DEAD.name())
+                .setMaxResults(Math.max(1, limit));
+        if (channel != null) q.setParameter("channel", channel.name());
+        if (type != null) q.setParameter("type", type.name());
+        List<Long> ids = q.getResultList();
+        if (ids.isEmpty()) return 0;
+        // lastError se conserva para poder ver por que murio si vuelve a fallar
+        return em.createQuery("""
+                update NotificationEntity n
+                set n.status = :pending, n.attempts = 0, n.nextAttemptAt = :now, n.updatedAt = :now
+                where n.id in :ids and n.status = :dead
+                """)
+                .setParameter("pending", DeliveryStatus.PENDING.name())
+                .setParameter("dead", DeliveryStatus.DEAD.name())
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .executeUpdate();
+    }
+
+    private static void lease(NotificationEntity e, String owner, Instant now, Instant until) {
+        e.setStatus(DeliveryStatus.IN_FLIGHT.name());
+        e.setLeaseOwner(owner);
+        e.setLeaseExpiresAt(until);
+        e.setUpdatedAt(now);
+    }
+
+    private boolean skipLocked() {
+        Boolean v = skipLocked;
+        if (v == null) {
+            v = skipLockedEnabled && em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getDialect().supportsSkipLocked();
+            skipLocked = v;
+        }
+        return v;
+    }
 }
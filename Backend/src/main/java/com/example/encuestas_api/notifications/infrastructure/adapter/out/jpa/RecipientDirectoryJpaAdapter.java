@@ -0,0 +1,60 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.application.port.out.LoadRecipientDirectoryPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@Transactional(readOnly = true)
+public class RecipientDirectoryJpaAdapter implements LoadRecipientDirectoryPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<Long> findCampaignIdByFormId(Long formId) {
+        if (formId == null) return Optional.empty();
+        return em.createQuery("""
+                select f.campaignId
+                from com.example.encuestas_api.forms.infrastructure.adapter.out.jpa.entity.FormEntity f
+                where f.id = :fid
+                """, Long.class)
+                .setParameter("fid", formId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Long> findAllMemberUserIds(Long campaignId) {
+        if (campaignId == null) return List.of();
+        return em.createQuery("""
+                select m.userId
+                from com.example.encuestas_api.campaigns.infrastructure.adapter.out.jpa.entity.CampaignMemberEntity m
+                where m.campaign.id = :cid
+                order by m.userId asc
+                """, Long.class)
+                .setParameter("cid", campaignId)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findMemberUserIds(Long campaignId, Long afterUserId, int limit) {
+        if (campaignId == null) return List.of();
+        // keyset por userId: cada pagina cuesta lo mismo sin importar cuanto se haya avanzado
+        var q = em.createQuery("""
+                select m.userId
+                from com.example.encuestas_api.campaigns.infrastructure.adapter.out.jpa.entity.CampaignMemberEntity m
+                where m.campaign.id = :cid%s
+                order by m.userId asc
+                """.formatted(afterUserId == null ? "" : " and m.userId > :after"), Long.class)
+                .setParameter("cid", campaignId)
+                .setMaxResults(Math.max(1, limit));
+        if (afterUserId != null) q.setParameter("after", afterUserId);
+        return q.getResultList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "notification_reminder_checkpoints",
+        uniqueConstraints = {
+                // un recordatorio por campaña, tipo y fecha: dos nodos no pueden abrir el mismo
+                @UniqueConstraint(name = "uk_reminder_checkpoint", columnNames = {"campaign_id", "type", "target_date"})
+        },
+        indexes = {
+                @Index(name = "idx_reminder_checkpoint_pending", columnList = "done, target_date")
+        })
+public class CampaignReminderCheckpointEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "campaign_id", nullable = false)
+    private Long campaignId;
+
+    @Column(nullable = false, length = 60)
+    private String type;
+
+    @Column(name = "target_date", nullable = false)
+    private LocalDate targetDate;
+
+    @Column(name = "days_ahead", nullable = false)
+    private int daysAhead;
+
+    // ultimo miembro encolado; los miembros se recorren por userId ascendente
+    @Column(name = "last_user_id")
+    private Long lastUserId;
+
+    @Column(nullable = false)
+    private int enqueued;
+
+    @Column(nullable = false)
+    private boolean done;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public Long getId() { return id; }
+    public Long getCampaignId() { return campaignId; }
+    public void setCampaignId(Long campaignId) { this.campaignId = campaignId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public LocalDate getTargetDate() { return targetDate; }
+    public void setTargetDate(LocalDate targetDate) { this.targetDate = targetDate; }
+    public int getDaysAhead() { return daysAhead; }
+    public void setDaysAhead(int daysAhead) { this.daysAhead = daysAhead; }
+    public Long getLastUserId() { return lastUserId; }
+    public void setLastUserId(Long lastUserId) { this.lastUserId = lastUserId; }
+    public int getEnqueued() { return enqueued; }
+    public void setEnqueued(int enqueued) { this.enqueued = enqueued; }
+    public boolean isDone() { return done; }
+    public void setDone(boolean done) { this.done = done; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,58 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "notification_digests",
+        uniqueConstraints = {
+                // un cubo por usuario, formulario, tipo y ventana: dos relays no pueden abrir dos
+                @UniqueConstraint(name = "uk_notification_digest_bucket",
+                        columnNames = {"user_id", "form_id", "type", "flush_at"})
+        },
+        indexes = {
+                @Index(name = "idx_notification_digests_due", columnList = "flush_at, id")
+        })
+public class NotificationDigestEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "form_id", nullable = false)
+    private Long formId;
+
+    @Column(nullable = false, length = 60)
+    private String type;
+
+    @Column(name = "flush_at", nullable = false)
+    private Instant flushAt;
+
+    @Column(name = "event_count", nullable = false)
+    private int count;
+
+    @Column(name = "first_at", nullable = false)
+    private Instant firstAt;
+
+    @Column(name = "last_at", nullable = false)
+    private Instant lastAt;
+
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public Long getFormId() { return formId; }
+    public void setFormId(Long formId) { this.formId = formId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public Instant getFlushAt() { return flushAt; }
+    public void setFlushAt(Instant flushAt) { this.flushAt = flushAt; }
+    public int getCount() { return count; }
+    public void setCount(int count) { this.count = count; }
+    public Instant getFirstAt() { return firstAt; }
+    public void setFirstAt(Instant firstAt) { this.firstAt = firstAt; }
+    public Instant getLastAt() { return lastAt; }
+    public void setLastAt(Instant lastAt) { this.lastAt = lastAt; }
+}
@@ -5,10 +5,27 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+        indexes = {
+                // claim y conteo de pendientes: rango sobre next_attempt_at dentro de PENDING
+                @Index(name = "idx_notifications_status_next_attempt", columnList = "status, next_attempt_at, id"),
+                // claim por canal del dispatcher
+                @Index(name = "idx_notifications_status_channel_next_attempt",
+                        columnList = "status, channel, next_attempt_at, id"),
+                // reclaim de leases caducadas
+                @Index(name = "idx_notifications_status_lease", columnList = "status, lease_expires_at")
+        })
 public class NotificationEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public static final String ID_SEQUENCE = "notifications_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // secuencia con pool de 50 ids: los fan-outs se insertan en lote sin pedir un id por fila.
+    // Donde no hay secuencias (MySQL) Hibernate la emula con la tabla notifications_seq.
+    // NotificationSequenceInitializer la sube por encima del max(id) de las filas creadas con IDENTITY.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 60)
@@ -44,6 +61,20 @@ public class NotificationEntity {
     @Column(length = 1000)
     private String lastError;
 
+    @Column(nullable = false)
+    private int attempts;
+
+    // cuando puede volver a reclamarse; al crearla coincide con scheduledAt
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    // nodo que la esta enviando y hasta cuando; solo con status IN_FLIGHT
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getType() { return type; }
@@ -74,4 +105,12 @@ public class NotificationEntity {
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
     public String getLastError() { return lastError; }
     public void setLastError(String lastError) { this.lastError = lastError; }
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(Instant nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+    public String getLeaseOwner() { return leaseOwner; }
+    public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+    public Instant getLeaseExpiresAt() { return leaseExpiresAt; }
+    public void setLeaseExpiresAt(Instant leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
 }
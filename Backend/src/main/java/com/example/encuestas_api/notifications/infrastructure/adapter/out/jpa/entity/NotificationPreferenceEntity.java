@@ -28,6 +28,10 @@ public class NotificationPreferenceEntity {
     @Column(name = "muted_until")
     private Instant mutedUntil;
 
+    // null en filas anteriores: se lee como NONE
+    @Column(name = "digest_mode", length = 20)
+    private String digestMode;
+
     public Long getUserId() { return userId; }
     public void setUserId(Long userId) { this.userId = userId; }
 
@@ -39,4 +43,7 @@ public class NotificationPreferenceEntity {
 
     public Instant getMutedUntil() { return mutedUntil; }
     public void setMutedUntil(Instant mutedUntil) { this.mutedUntil = mutedUntil; }
+
+    public String getDigestMode() { return digestMode; }
+    public void setDigestMode(String digestMode) { this.digestMode = digestMode; }
 }
@@ -16,10 +16,15 @@ public class NotificationTemplateEntity {
     @Lob
     private String bodyTemplate;
 
+    // se sube al editar la plantilla; invalida la version compilada en cache
+    private Long version;
+
     public String getCode() { return code; }
     public void setCode(String code) { this.code = code; }
     public String getSubjectTemplate() { return subjectTemplate; }
     public void setSubjectTemplate(String subjectTemplate) { this.subjectTemplate = subjectTemplate; }
     public String getBodyTemplate() { return bodyTemplate; }
     public void setBodyTemplate(String bodyTemplate) { this.bodyTemplate = bodyTemplate; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
@@ -13,6 +13,7 @@ import java.util.Map;
 public final class NotificationsJpaMapper {
 
     private static final ObjectMapper M = new ObjectMapper();
+    private static final int MAX_ERROR = 1000;
 
     private NotificationsJpaMapper() {}
 
@@ -41,6 +42,9 @@ public final class NotificationsJpaMapper {
 
         e.setScheduledAt(n.getScheduledAt());
         e.setSentAt(n.getSentAt());
+        e.setAttempts(n.getAttempts());
+        e.setNextAttemptAt(n.getNextAttemptAt());
+        e.setLastError(truncate(n.getLastError()));
         if (e.getCreatedAt() == null) e.setCreatedAt(Instant.now());
         e.setUpdatedAt(Instant.now());
         return e;
@@ -70,9 +74,13 @@ public final class NotificationsJpaMapper {
                 meta
         );
         n.setId(e.getId());
-        if ("SENT".equals(e.getStatus())) n.markSent(e.getSentAt());
-        if (!"SENT".equals(e.getStatus()) && !"PENDING".equals(e.getStatus())) {
-        }
+        n.restoreDelivery(DeliveryStatus.valueOf(e.getStatus()), e.getAttempts(), e.getSentAt(),
+                e.getNextAttemptAt(), e.getLastError());
         return n;
     }
+
+    public static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR) return error;
+        return error.substring(0, MAX_ERROR);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.mapper;
 
+import com.example.encuestas_api.notifications.domain.valueobject.DigestMode;
 import com.example.encuestas_api.notifications.domain.valueobject.NotificationPreference;
 import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationPreferenceEntity;
 
@@ -11,7 +12,8 @@ public final class PreferencesJpaMapper {
                 e.getUserId(),
                 e.getEnabledTypes(),
                 e.getChannels(),
-                e.getMutedUntil()
+                e.getMutedUntil(),
+                e.getDigestMode() == null ? DigestMode.NONE : DigestMode.valueOf(e.getDigestMode())
         );
     }
 }
@@ -0,0 +1,63 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.sender;
+
+/**
+ * Breaker de un host: tras failureThreshold fallos seguidos se abre y rechaza sin llamar
+ * durante openMillis; despues deja pasar una sola llamada de prueba (medio abierto) que
+ * lo cierra si va bien o lo vuelve a abrir si falla.
+ */
+final class HostCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openMillis;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    HostCircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openMillis = Math.max(1, openMillis);
+    }
+
+    /** true si la llamada puede salir; en medio abierto solo la primera. */
+    synchronized boolean tryAcquire(long nowMillis) {
+        switch (state) {
+            case CLOSED:
+                return true;
+            case OPEN:
+                if (nowMillis - openedAt < openMillis) return false;
+                state = State.HALF_OPEN;
+                return true;
+            default:
+                // ya hay una llamada de prueba en curso
+                return false;
+        }
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    synchronized void onFailure(long nowMillis) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nowMillis;
+        }
+    }
+
+    /** La llamada no llego a decidir nada sobre el host (p. ej. no hubo permiso): libera la prueba. */
+    synchronized void onIgnored(long nowMillis) {
+        if (state == State.HALF_OPEN) {
+            state = State.OPEN;
+            openedAt = nowMillis - openMillis;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
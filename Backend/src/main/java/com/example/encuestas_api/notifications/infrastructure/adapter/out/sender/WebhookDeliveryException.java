@@ -0,0 +1,19 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.sender;
+
+/** Envio de webhook rechazado: respuesta no 2xx, breaker abierto o host saturado. */
+public class WebhookDeliveryException extends RuntimeException {
+
+    private final int status;
+
+    public WebhookDeliveryException(String msg, int status) {
+        super(msg);
+        this.status = status;
+    }
+
+    public WebhookDeliveryException(String msg) {
+        this(msg, 0);
+    }
+
+    /** Codigo HTTP de la respuesta, 0 si no llego a haberla. */
+    public int getStatus() { return status; }
+}
@@ -3,27 +3,179 @@ package com.example.encuestas_api.notifications.infrastructure.adapter.out.sende
 import com.example.encuestas_api.notifications.application.port.out.SendWebhookPort;
 import com.example.encuestas_api.notifications.domain.valueobject.Message;
 import com.example.encuestas_api.notifications.domain.valueobject.Recipient;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Envio de webhooks con un unico HttpClient del JDK: reutiliza conexiones por host (y HTTP/2
+ * cuando el receptor lo ofrece) en lugar de abrir una por envio. Cada host tiene su propio
+ * tope de llamadas simultaneas y su breaker, asi un receptor lento o caido no se lleva los
+ * permisos de webhook del dispatcher ni recibe reintentos mientras sigue caido.
+ * <p>
+ * La llamada es bloqueante a proposito: el dispatcher ya ejecuta cada envio en un hilo
+ * virtual, que queda aparcado sin ocupar hilo de plataforma mientras espera la respuesta.
+ */
 @Component
 public class WebhookSenderAdapter implements SendWebhookPort {
 
-    private final RestTemplate http = new RestTemplate();
+    private static final Logger log = LoggerFactory.getLogger(WebhookSenderAdapter.class);
+    private static final ObjectMapper M = new ObjectMapper();
+
+    static final String SIGNATURE_HEADER = "X-Webhook-Signature";
+    static final String TIMESTAMP_HEADER = "X-Webhook-Timestamp";
+
+    private final HttpClient http;
+    private final Clock clock;
+    private final Duration readTimeout;
+    private final int perHostConcurrency;
+    private final long hostWaitMillis;
+    private final int breakerFailures;
+    private final long breakerOpenMillis;
+    private final byte[] signingSecret;
+    private final Map<String, Host> hosts = new ConcurrentHashMap<>();
+
+    public WebhookSenderAdapter(Clock clock,
+                                @Value("${notifications.webhook.connect_timeout_ms:3000}") long connectTimeoutMillis,
+                                @Value("${notifications.webhook.read_timeout_ms:10000}") long readTimeoutMillis,
+                                @Value("${notifications.webhook.per_host_concurrency:4}") int perHostConcurrency,
+                                @Value("${notifications.webhook.host_wait_ms:5000}") long hostWaitMillis,
+                                @Value("${notifications.webhook.breaker.failures:5}") int breakerFailures,
+                                @Value("${notifications.webhook.breaker.open_ms:30000}") long breakerOpenMillis,
+                                @Value("${notifications.webhook.signing_secret:}") String signingSecret) {
+        this.clock = clock;
+        this.readTimeout = Duration.ofMillis(Math.max(1, readTimeoutMillis));
+        this.perHostConcurrency = Math.max(1, perHostConcurrency);
+        this.hostWaitMillis = Math.max(0, hostWaitMillis);
+        this.breakerFailures = breakerFailures;
+        this.breakerOpenMillis = breakerOpenMillis;
+        this.signingSecret = signingSecret == null || signingSecret.isBlank()
+                ? null : signingSecret.getBytes(StandardCharsets.UTF_8);
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(Math.max(1, connectTimeoutMillis)))
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+    }
 
     @Override
     public void send(Recipient recipientWebhook, Message message) throws Exception {
         if (recipientWebhook == null || recipientWebhook.getWebhook() == null) {
             throw new IllegalArgumentException("Webhook URL requerido");
         }
-        HttpHeaders h = new HttpHeaders();
-        h.setContentType(MediaType.APPLICATION_JSON);
-        var body = Map.of("subject", message.getSubject(), "content", message.getBody());
-        http.postForEntity(recipientWebhook.getWebhook(), new HttpEntity<>(body, h), Void.class);
+        URI uri = URI.create(recipientWebhook.getWebhook());
+        if (uri.getHost() == null) throw new IllegalArgumentException("Webhook URL invalida: " + uri);
+
+        String key = hostKey(uri);
+        Host host = hosts.computeIfAbsent(key, k -> new Host(perHostConcurrency, breakerFailures, breakerOpenMillis));
+        if (!host.breaker.tryAcquire(clock.millis())) {
+            throw new WebhookDeliveryException("Circuito abierto para " + key);
+        }
+        if (!host.permits.tryAcquire(hostWaitMillis, TimeUnit.MILLISECONDS)) {
+            host.breaker.onIgnored(clock.millis());
+            throw new WebhookDeliveryException("Demasiados envios simultaneos a " + key);
+        }
+        try {
+            HttpResponse<Void> response = http.send(request(uri, message), HttpResponse.BodyHandlers.discarding());
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                host.breaker.onSuccess();
+                return;
+            }
+            // un 4xx dice que el host esta vivo y rechaza este envio; solo 5xx y 429 cuentan para el breaker
+            if (status >= 500 || status == 429) failed(host, key);
+            else host.breaker.onSuccess();
+            throw new WebhookDeliveryException("Webhook " + key + " respondio " + status, status);
+        } catch (IOException ex) {
+            // conexion rechazada, timeout de conexion o de lectura
+            failed(host, key);
+            throw ex;
+        } catch (InterruptedException ex) {
+            host.breaker.onIgnored(clock.millis());
+            Thread.currentThread().interrupt();
+            throw ex;
+        } catch (WebhookDeliveryException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            // fallo local (URL no soportada, serializacion...): no dice nada del host
+            host.breaker.onIgnored(clock.millis());
+            throw ex;
+        } finally {
+            host.permits.release();
+        }
+    }
+
+    private HttpRequest request(URI uri, Message message) throws Exception {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("subject", message.getSubject());
+        payload.put("content", message.getBody());
+        byte[] body = M.writeValueAsBytes(payload);
+
+        HttpRequest.Builder b = HttpRequest.newBuilder(uri)
+                .timeout(readTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (signingSecret != null) {
+            String ts = Long.toString(clock.instant().getEpochSecond());
+            b.header(TIMESTAMP_HEADER, ts);
+            b.header(SIGNATURE_HEADER, "sha256=" + sign(signingSecret, ts, body));
+        }
+        return b.build();
+    }
+
+    /** HMAC-SHA256 de "timestamp.body": el receptor puede rechazar firmas viejas y reenvios. */
+    static String sign(byte[] secret, String timestamp, byte[] body) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret, "HmacSHA256"));
+        mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) '.');
+        return HexFormat.of().formatHex(mac.doFinal(body));
+    }
+
+    private void failed(Host host, String key) {
+        boolean wasOpen = host.breaker.state() == HostCircuitBreaker.State.OPEN;
+        host.breaker.onFailure(clock.millis());
+        if (!wasOpen && host.breaker.state() == HostCircuitBreaker.State.OPEN) {
+            log.warn("Circuito abierto para el webhook {} durante {} ms", key, breakerOpenMillis);
+        }
+    }
+
+    HostCircuitBreaker.State breakerState(String hostKey) {
+        Host host = hosts.get(hostKey);
+        return host == null ? HostCircuitBreaker.State.CLOSED : host.breaker.state();
+    }
+
+    static String hostKey(URI uri) {
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return uri.getScheme().toLowerCase() + "://" + uri.getHost().toLowerCase() + ":" + port;
+    }
+
+    private static final class Host {
+        final Semaphore permits;
+        final HostCircuitBreaker breaker;
+
+        Host(int concurrency, int failures, long openMillis) {
+            this.permits = new Semaphore(concurrency);
+            this.breaker = new HostCircuitBreaker(failures, openMillis);
+        }
     }
 }
@@ -0,0 +1,27 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.scheduler;
+
+import com.example.encuestas_api.notifications.application.port.in.FlushNotificationDigestsUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** Envia los resumenes cuya ventana ya cerro; varias pasadas si se acumularon muchos. */
+@Component
+public class NotificationDigestJob {
+
+    private final FlushNotificationDigestsUseCase flush;
+
+    @Value("${notifications.digest.max_batches:20}")
+    private int maxBatches;
+
+    public NotificationDigestJob(FlushNotificationDigestsUseCase flush) {
+        this.flush = flush;
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.digest.flush_ms:60000}", initialDelay = 10000)
+    public void flushDueDigests() {
+        for (int b = 0; b < Math.max(1, maxBatches); b++) {
+            if (flush.handle() == 0) return;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.scheduler;
+
+import com.example.encuestas_api.notifications.application.port.out.NotificationOutboxRelayPort;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Red de seguridad del relay: cada submit ya lo despierta tras el commit, esto recoge los
+ * reintentos vencidos y lo que quedo pendiente de un reinicio.
+ */
+@Component
+public class NotificationOutboxRelayJob {
+
+    private final NotificationOutboxRelayPort relay;
+
+    public NotificationOutboxRelayJob(NotificationOutboxRelayPort relay) {
+        this.relay = relay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void drainAfterRestart() {
+        relay.requestDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${notifications.outbox.relay_ms:5000}", initialDelay = 5000)
+    public void drain() {
+        relay.requestDrain();
+    }
+}
@@ -6,6 +6,7 @@ import com.example.encuestas_api.questions.application.port.out.CheckSectionBelo
 import com.example.encuestas_api.questions.application.port.out.ComputeNextQuestionPositionPort;
 import com.example.encuestas_api.questions.application.port.out.CreateMatchingQuestionPort;
 import com.example.encuestas_api.questions.domain.model.Question;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,15 +20,18 @@ public class CreateMatchingQuestionService implements CreateMatchingQuestionUseC
     private final CheckSectionBelongsToFormPort sectionBelongs;
     private final ComputeNextQuestionPositionPort nextPos;
     private final CreateMatchingQuestionPort createPort;
+    private final BumpFormStructureVersionUseCase structureVersion;
 
     public CreateMatchingQuestionService(CheckFormExistsPort formExists,
                                          CheckSectionBelongsToFormPort sectionBelongs,
                                          ComputeNextQuestionPositionPort nextPos,
-                                         CreateMatchingQuestionPort createPort) {
+                                         CreateMatchingQuestionPort createPort,
+                                         BumpFormStructureVersionUseCase structureVersion) {
         this.formExists = formExists;
         this.sectionBelongs = sectionBelongs;
         this.nextPos = nextPos;
         this.createPort = createPort;
+        this.structureVersion = structureVersion;
     }
 
     @Override
@@ -38,7 +42,9 @@ public class CreateMatchingQuestionService implements CreateMatchingQuestionUseC
         if (!sectionBelongs.belongs(formId, sectionId)) throw new IllegalArgumentException("sectionId no pertenece al form");
 
         int position = nextPos.nextPosition(formId, sectionId);
-        return createPort.create(formId, sectionId, position, prompt, helpText, required,
+        var created = createPort.create(formId, sectionId, position, prompt, helpText, required,
                 shuffleRightColumn, leftTexts, rightTexts, keyPairs);
+        structureVersion.handle(formId);
+        return created;
     }
 }
@@ -9,6 +9,7 @@ import com.example.encuestas_api.questions.domain.model.Question;
 import com.example.encuestas_api.questions.domain.model.TextMode;
 import com.example.encuestas_api.questions.domain.model.TextSettings;
 import com.example.encuestas_api.questions.domain.valueobject.Prompt;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,17 +25,20 @@ public class CreateTextQuestionService implements CreateTextQuestionUseCase {
     private final ComputeNextQuestionPositionPort nextPos;
     private final SaveQuestionPort savePort;
     private final Clock clock;
+    private final BumpFormStructureVersionUseCase structureVersion;
 
     public CreateTextQuestionService(CheckFormExistsPort formExists,
                                      CheckSectionBelongsToFormPort sectionBelongs,
                                      ComputeNextQuestionPositionPort nextPos,
                                      SaveQuestionPort savePort,
-                                     Clock clock) {
+                                     Clock clock,
+                                     BumpFormStructureVersionUseCase structureVersion) {
         this.formExists = formExists;
         this.sectionBelongs = sectionBelongs;
         this.nextPos = nextPos;
         this.savePort = savePort;
         this.clock = clock;
+        this.structureVersion = structureVersion;
     }
 
     @Override
@@ -50,6 +54,8 @@ public class CreateTextQuestionService implements CreateTextQuestionUseCase {
 
         var now = Instant.now(clock);
         var q = Question.newText(formId, sectionId, position, Prompt.of(prompt), helpText, required, settings, now);
-        return savePort.save(q);
+        var saved = savePort.save(q);
+        structureVersion.handle(saved.getFormId());
+        return saved;
     }
 }
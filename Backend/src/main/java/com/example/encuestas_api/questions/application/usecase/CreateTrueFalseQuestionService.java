@@ -8,6 +8,7 @@ import com.example.encuestas_api.questions.application.port.out.SaveQuestionPort
 import com.example.encuestas_api.questions.domain.model.Option;
 import com.example.encuestas_api.questions.domain.model.Question;
 import com.example.encuestas_api.questions.domain.valueobject.Prompt;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,17 +24,20 @@ public class CreateTrueFalseQuestionService implements CreateTrueFalseQuestionUs
     private final ComputeNextQuestionPositionPort nextPos;
     private final SaveQuestionPort savePort;
     private final Clock clock;
+    private final BumpFormStructureVersionUseCase structureVersion;
 
     public CreateTrueFalseQuestionService(CheckFormExistsPort formExists,
                                           CheckSectionBelongsToFormPort sectionBelongs,
                                           ComputeNextQuestionPositionPort nextPos,
                                           SaveQuestionPort savePort,
-                                          Clock clock) {
+                                          Clock clock,
+                                          BumpFormStructureVersionUseCase structureVersion) {
         this.formExists = formExists;
         this.sectionBelongs = sectionBelongs;
         this.nextPos = nextPos;
         this.savePort = savePort;
         this.clock = clock;
+        this.structureVersion = structureVersion;
     }
 
     @Override
@@ -52,6 +56,8 @@ public class CreateTrueFalseQuestionService implements CreateTrueFalseQuestionUs
 
         var now = Instant.now(clock);
         var q = Question.newTrueFalse(formId, sectionId, position, Prompt.of(prompt), helpText, required, shuffleOptions, optTrue, optFalse, now);
-        return savePort.save(q);
+        var saved = savePort.save(q);
+        structureVersion.handle(saved.getFormId());
+        return saved;
     }
 }
@@ -2,6 +2,8 @@ package com.example.encuestas_api.questions.application.usecase;
 
 import com.example.encuestas_api.questions.application.port.in.DeleteQuestionUseCase;
 import com.example.encuestas_api.questions.application.port.out.DeleteQuestionPort;
+import com.example.encuestas_api.questions.application.port.out.LoadQuestionPort;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,6 +11,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class DeleteQuestionService implements DeleteQuestionUseCase {
     private final DeleteQuestionPort deletePort;
-    public DeleteQuestionService(DeleteQuestionPort deletePort){ this.deletePort = deletePort; }
-    @Override public void handle(Long questionId){ deletePort.deleteById(questionId); }
+    private final LoadQuestionPort loadPort;
+    private final BumpFormStructureVersionUseCase structureVersion;
+    public DeleteQuestionService(DeleteQuestionPort deletePort, LoadQuestionPort loadPort,
+                                 BumpFormStructureVersionUseCase structureVersion){
+        this.deletePort = deletePort; this.loadPort = loadPort; this.structureVersion = structureVersion;
+    }
+    @Override public void handle(Long questionId){
+        var formId = loadPort.loadById(questionId).map(q -> q.getFormId()).orElse(null);
+        deletePort.deleteById(questionId);
+        structureVersion.handle(formId);
+    }
 }
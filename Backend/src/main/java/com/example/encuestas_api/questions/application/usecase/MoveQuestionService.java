@@ -2,6 +2,7 @@ package com.example.encuestas_api.questions.application.usecase;
 
 import com.example.encuestas_api.questions.application.port.in.MoveQuestionUseCase;
 import com.example.encuestas_api.questions.application.port.out.ReorderQuestionsPort;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,12 +11,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class MoveQuestionService implements MoveQuestionUseCase {
 
     private final ReorderQuestionsPort reorder;
+    private final BumpFormStructureVersionUseCase structureVersion;
 
-    public MoveQuestionService(ReorderQuestionsPort reorder) { this.reorder = reorder; }
+    public MoveQuestionService(ReorderQuestionsPort reorder, BumpFormStructureVersionUseCase structureVersion) {
+        this.reorder = reorder;
+        this.structureVersion = structureVersion;
+    }
 
     @Override
     public com.example.encuestas_api.questions.domain.model.Question handle(Long questionId, Long targetSectionId, int newPosition) {
         if (newPosition < 0) throw new IllegalArgumentException("newPosition >= 0");
-        return reorder.moveTo(questionId, targetSectionId, newPosition);
+        var moved = reorder.moveTo(questionId, targetSectionId, newPosition);
+        structureVersion.handle(moved.getFormId());
+        return moved;
     }
 }
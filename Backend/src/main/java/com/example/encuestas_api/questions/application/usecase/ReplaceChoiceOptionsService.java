@@ -6,6 +6,7 @@ import com.example.encuestas_api.questions.application.port.out.LoadQuestionPort
 import com.example.encuestas_api.questions.application.port.out.SaveQuestionPort;
 import com.example.encuestas_api.questions.domain.model.Option;
 import com.example.encuestas_api.questions.domain.model.Question;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,8 +19,11 @@ import java.util.ArrayList;
 public class ReplaceChoiceOptionsService implements ReplaceChoiceOptionsUseCase {
 
     private final LoadQuestionPort loadPort; private final SaveQuestionPort savePort; private final Clock clock;
-    public ReplaceChoiceOptionsService(LoadQuestionPort loadPort, SaveQuestionPort savePort, Clock clock){
+    private final BumpFormStructureVersionUseCase structureVersion;
+    public ReplaceChoiceOptionsService(LoadQuestionPort loadPort, SaveQuestionPort savePort, Clock clock,
+                                       BumpFormStructureVersionUseCase structureVersion){
         this.loadPort = loadPort; this.savePort = savePort; this.clock = clock;
+        this.structureVersion = structureVersion;
     }
 
     @Override
@@ -28,6 +32,8 @@ public class ReplaceChoiceOptionsService implements ReplaceChoiceOptionsUseCase
         var opts = new ArrayList<Option>();
         for (var oc : options) opts.add(Option.newOf(oc.label(), oc.correct()));
         var updated = q.replaceChoiceOptions(opts, Instant.now(clock));
-        return savePort.save(updated);
+        var saved = savePort.save(updated);
+        structureVersion.handle(saved.getFormId());
+        return saved;
     }
 }
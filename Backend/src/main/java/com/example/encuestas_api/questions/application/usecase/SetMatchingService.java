@@ -7,6 +7,7 @@ import com.example.encuestas_api.questions.application.port.out.SaveQuestionPort
 import com.example.encuestas_api.questions.domain.model.MatchingItem;
 import com.example.encuestas_api.questions.domain.model.MatchingSettings;
 import com.example.encuestas_api.questions.domain.model.Question;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,15 +25,18 @@ public class SetMatchingService implements SetMatchingUseCase {
     private final LoadMatchingItemsPort loadItems;
     private final SaveQuestionPort savePort;
     private final Clock clock;
+    private final BumpFormStructureVersionUseCase structureVersion;
 
     public SetMatchingService(LoadQuestionPort loadPort,
                               LoadMatchingItemsPort loadItems,
                               SaveQuestionPort savePort,
-                              Clock clock) {
+                              Clock clock,
+                              BumpFormStructureVersionUseCase structureVersion) {
         this.loadPort = loadPort;
         this.loadItems = loadItems;
         this.savePort = savePort;
         this.clock = clock;
+        this.structureVersion = structureVersion;
     }
 
     @Override
@@ -49,6 +53,8 @@ public class SetMatchingService implements SetMatchingUseCase {
 
         var settings = MatchingSettings.of(left, right, key);
         var updated = q.setMatching(settings, Instant.now(clock));
-        return savePort.save(updated);
+        var saved = savePort.save(updated);
+        structureVersion.handle(saved.getFormId());
+        return saved;
     }
 }
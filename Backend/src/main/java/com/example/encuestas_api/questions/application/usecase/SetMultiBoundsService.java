@@ -4,6 +4,7 @@ import com.example.encuestas_api.questions.application.port.in.SetMultiBoundsUse
 import com.example.encuestas_api.questions.application.port.out.LoadQuestionPort;
 import com.example.encuestas_api.questions.application.port.out.SaveQuestionPort;
 import com.example.encuestas_api.questions.domain.model.Question;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,12 +16,17 @@ import java.time.Instant;
 public class SetMultiBoundsService implements SetMultiBoundsUseCase {
 
     private final LoadQuestionPort loadPort; private final SaveQuestionPort savePort; private final Clock clock;
-    public SetMultiBoundsService(LoadQuestionPort loadPort, SaveQuestionPort savePort, Clock clock){
+    private final BumpFormStructureVersionUseCase structureVersion;
+    public SetMultiBoundsService(LoadQuestionPort loadPort, SaveQuestionPort savePort, Clock clock,
+                                 BumpFormStructureVersionUseCase structureVersion){
         this.loadPort = loadPort; this.savePort = savePort; this.clock = clock;
+        this.structureVersion = structureVersion;
     }
     @Override public Question handle(Long questionId, Integer min, Integer max){
         var q = loadPort.loadById(questionId).orElseThrow();
         var updated = q.setMultiBounds(min, max, Instant.now(clock));
-        return savePort.save(updated);
+        var saved = savePort.save(updated);
+        structureVersion.handle(saved.getFormId());
+        return saved;
     }
 }
@@ -6,6 +6,7 @@ import com.example.encuestas_api.questions.application.port.out.SaveQuestionPort
 import com.example.encuestas_api.questions.domain.model.Question;
 import com.example.encuestas_api.questions.domain.model.TextMode;
 import com.example.encuestas_api.questions.domain.model.TextSettings;
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,13 +18,18 @@ import java.time.Instant;
 public class SetTextSettingsService implements SetTextSettingsUseCase {
 
     private final LoadQuestionPort loadPort; private final SaveQuestionPort savePort; private final Clock clock;
-    public SetTextSettingsService(LoadQuestionPort loadPort, SaveQuestionPort savePort, Clock clock){
+    private final BumpFormStructureVersionUseCase structureVersion;
+    public SetTextSettingsService(LoadQuestionPort loadPort, SaveQuestionPort savePort, Clock clock,
+                                  BumpFormStructureVersionUseCase structureVersion){
         this.loadPort = loadPort; this.savePort = savePort; this.clock = clock;
+        this.structureVersion = structureVersion;
     }
     @Override public Question handle(Long questionId, String textMode, String placeholder, Integer minLength, Integer maxLength){
         var q = loadPort.loadById(questionId).orElseThrow();
         var mode = (textMode == null ? TextMode.SHORT : TextMode.valueOf(textMode));
         var updated = q.setTextSettings(TextSettings.of(mode, placeholder, minLength, maxLength), Instant.now(clock));
-        return savePort.save(updated);
+        var saved = savePort.save(updated);
+        structureVersion.handle(saved.getFormId());
+        return saved;
     }
 }
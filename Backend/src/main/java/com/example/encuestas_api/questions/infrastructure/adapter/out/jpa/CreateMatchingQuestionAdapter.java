@@ -6,6 +6,7 @@ import com.example.encuestas_api.questions.domain.model.*;
 import com.example.encuestas_api.questions.domain.valueobject.Prompt;
 import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.*;
 import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.repository.*;
+import com.example.encuestas_api.reports.application.port.in.InvalidateReportCacheUseCase;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,15 +22,18 @@ public class CreateMatchingQuestionAdapter implements CreateMatchingQuestionPort
     private final MatchingLeftRepository leftRepo;
     private final MatchingRightRepository rightRepo;
     private final MatchingPairRepository pairRepo;
+    private final InvalidateReportCacheUseCase reportCache;
 
     public CreateMatchingQuestionAdapter(QuestionJpaRepository questions,
                                          MatchingLeftRepository leftRepo,
                                          MatchingRightRepository rightRepo,
-                                         MatchingPairRepository pairRepo) {
+                                         MatchingPairRepository pairRepo,
+                                         InvalidateReportCacheUseCase reportCache) {
         this.questions = questions;
         this.leftRepo = leftRepo;
         this.rightRepo = rightRepo;
         this.pairRepo = pairRepo;
+        this.reportCache = reportCache;
     }
 
     @Override
@@ -83,6 +87,7 @@ public class CreateMatchingQuestionAdapter implements CreateMatchingQuestionPort
             pairs.add(pe);
         }
         pairRepo.saveAll(pairs);
+        reportCache.handle(formId);
 
         var lDomain = left.stream().map(le -> MatchingItem.rehydrate(le.getId(), le.getText())).toList();
         var rDomain = right.stream().map(re -> MatchingItem.rehydrate(re.getId(), re.getText())).toList();
@@ -7,6 +7,7 @@ import com.example.encuestas_api.questions.domain.model.Question;
 import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.*;
 import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.mapper.QuestionJpaMapper;
 import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.repository.*;
+import com.example.encuestas_api.reports.application.port.in.InvalidateReportCacheUseCase;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,17 +28,20 @@ public class QuestionRepositoryAdapter implements
     private final MatchingLeftRepository leftRepo;
     private final MatchingRightRepository rightRepo;
     private final MatchingPairRepository pairRepo;
+    private final InvalidateReportCacheUseCase reportCache;
 
     public QuestionRepositoryAdapter(QuestionJpaRepository questions,
                                      OptionJpaRepository options,
                                      MatchingLeftRepository leftRepo,
                                      MatchingRightRepository rightRepo,
-                                     MatchingPairRepository pairRepo) {
+                                     MatchingPairRepository pairRepo,
+                                     InvalidateReportCacheUseCase reportCache) {
         this.questions = questions;
         this.options = options;
         this.leftRepo = leftRepo;
         this.rightRepo = rightRepo;
         this.pairRepo = pairRepo;
+        this.reportCache = reportCache;
     }
 
     @Override
@@ -63,6 +67,7 @@ public class QuestionRepositoryAdapter implements
             }
         }
 
+        reportCache.handle(saved.getFormId());
         return loadById(saved.getId()).orElseThrow();
     }
 
@@ -89,6 +94,7 @@ public class QuestionRepositoryAdapter implements
     @Override
     @Transactional
     public void deleteById(Long id) {
+        questions.findById(id).ifPresent(e -> reportCache.handle(e.getFormId()));
         pairRepo.deleteByQuestionId(id);
         options.deleteByQuestionId(id);
         leftRepo.deleteByQuestionId(id);
@@ -147,6 +153,7 @@ public class QuestionRepositoryAdapter implements
         for (int i = 0; i < dest.size(); i++) dest.get(i).setPosition(i);
         questions.saveAll(dest);
 
+        reportCache.handle(formId);
         return loadById(questionId).orElseThrow();
     }
 
@@ -1,9 +1,17 @@
 package com.example.encuestas_api.reports.application.config;
 
 import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Configuration
 public class ReportsApplicationConfig {
 
@@ -11,4 +19,48 @@ public class ReportsApplicationConfig {
     public ReportCalculator reportCalculator() {
         return new ReportCalculator();
     }
+
+    @Bean
+    public ReportCounterCalculator reportCounterCalculator() {
+        return new ReportCounterCalculator();
+    }
+
+    /**
+     * Pool compartido por todos los reportes de campaña: su tamaño es el máximo de
+     * conexiones que los reportes pueden tomar del pool de Hikari a la vez. La cola es
+     * acotada: si se llena, el reporte de campaña falla en vez de acumular trabajo sin límite.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService reportExecutor(@Value("${reports.campaign.parallelism:4}") int parallelism,
+                                          @Value("${reports.campaign.queue_capacity:200}") int capacity) {
+        var seq = new AtomicInteger();
+        int n = Math.max(1, parallelism);
+        return new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, capacity)),
+                r -> {
+                    Thread t = new Thread(r, "report-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Workers de los export jobs. La cola es acotada: si se llena, el job sigue QUEUED
+     * en base de datos y lo recoge la siguiente pasada del scheduler.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService exportJobExecutor(@Value("${reports.export.workers:2}") int workers,
+                                             @Value("${reports.export.queue_capacity:50}") int capacity) {
+        var seq = new AtomicInteger();
+        int n = Math.max(1, workers);
+        return new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, capacity)),
+                r -> {
+                    Thread t = new Thread(r, "report-export-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
 }
@@ -0,0 +1,11 @@
+package com.example.encuestas_api.reports.application.dto;
+
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+
+public record EnqueueExportJobCommand(
+        ExportTarget target,
+        Long targetId,
+        ExportFormat format,
+        boolean includeDrafts
+) { }
@@ -1,5 +1,7 @@
 package com.example.encuestas_api.reports.application.dto;
 
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+
 public record ExportCampaignReportQuery(
         Long campaignId,
         boolean includeDrafts,
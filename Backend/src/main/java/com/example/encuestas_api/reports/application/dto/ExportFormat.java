@@ -1,3 +0,0 @@
-package com.example.encuestas_api.reports.application.dto;
-
-public enum ExportFormat { CSV, XLSX, PDF }
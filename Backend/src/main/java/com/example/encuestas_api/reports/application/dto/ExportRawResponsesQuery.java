@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.application.dto;
+
+public record ExportRawResponsesQuery(
+        Long formId,
+        boolean includeDrafts,
+        RawExportFormat format
+) { }
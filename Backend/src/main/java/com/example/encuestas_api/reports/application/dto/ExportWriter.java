@@ -0,0 +1,10 @@
+package com.example.encuestas_api.reports.application.dto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Escribe el contenido exportado directamente sobre el stream de salida. */
+@FunctionalInterface
+public interface ExportWriter {
+    void writeTo(OutputStream out) throws IOException;
+}
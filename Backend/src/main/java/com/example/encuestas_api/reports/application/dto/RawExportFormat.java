@@ -0,0 +1,6 @@
+package com.example.encuestas_api.reports.application.dto;
+
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+
+/** Formatos del export de respuestas sin agregar; los de reporte estan en {@link ExportFormat}. */
+public enum RawExportFormat { CSV, NDJSON }
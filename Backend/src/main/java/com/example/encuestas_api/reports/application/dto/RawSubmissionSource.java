@@ -0,0 +1,11 @@
+package com.example.encuestas_api.reports.application.dto;
+
+import com.example.encuestas_api.responses.domain.model.Submission;
+
+import java.util.function.Consumer;
+
+/** Recorre las submissions una a una (cursor de solo avance). */
+@FunctionalInterface
+public interface RawSubmissionSource {
+    void forEach(Consumer<Submission> action);
+}
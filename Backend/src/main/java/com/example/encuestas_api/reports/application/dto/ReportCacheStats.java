@@ -0,0 +1,3 @@
+package com.example.encuestas_api.reports.application.dto;
+
+public record ReportCacheStats(long hits, long misses, long evictions, long invalidations, int size, int maxEntries) {}
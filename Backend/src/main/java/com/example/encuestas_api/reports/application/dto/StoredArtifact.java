@@ -0,0 +1,6 @@
+package com.example.encuestas_api.reports.application.dto;
+
+public record StoredArtifact(
+        String location,
+        long sizeBytes
+) { }
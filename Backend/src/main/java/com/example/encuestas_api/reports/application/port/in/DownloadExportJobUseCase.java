@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+import com.example.encuestas_api.reports.application.dto.ExportedFile;
+
+public interface DownloadExportJobUseCase {
+    ExportedFile handle(String jobId);
+}
@@ -0,0 +1,8 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+import com.example.encuestas_api.reports.application.dto.EnqueueExportJobCommand;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+
+public interface EnqueueExportJobUseCase {
+    ExportJob handle(EnqueueExportJobCommand command);
+}
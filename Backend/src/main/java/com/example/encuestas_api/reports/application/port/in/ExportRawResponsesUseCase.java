@@ -0,0 +1,8 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+import com.example.encuestas_api.reports.application.dto.ExportRawResponsesQuery;
+import com.example.encuestas_api.reports.application.dto.ExportedFile;
+
+public interface ExportRawResponsesUseCase {
+    ExportedFile handle(ExportRawResponsesQuery query);
+}
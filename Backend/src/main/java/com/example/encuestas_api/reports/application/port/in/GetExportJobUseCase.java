@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+
+public interface GetExportJobUseCase {
+    ExportJob handle(String jobId);
+}
@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+import com.example.encuestas_api.reports.application.dto.ReportCacheStats;
+
+public interface GetReportCacheStatsUseCase {
+    ReportCacheStats handle();
+}
@@ -0,0 +1,5 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+public interface PurgeExpiredExportJobsUseCase {
+    int handle();
+}
@@ -0,0 +1,8 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+public interface RunExportJobUseCase {
+    void handle(String jobId);
+
+    /** Alarga la lease de los jobs que este nodo esta ejecutando. */
+    int renewLeases();
+}
@@ -0,0 +1,8 @@
+package com.example.encuestas_api.reports.application.port.in;
+
+import com.example.encuestas_api.responses.domain.model.Submission;
+
+public interface UpdateReportCountersUseCase {
+    /** delta = 1 al enviar una submission, -1 al borrar una ya enviada. */
+    void handle(Submission submission, int delta);
+}
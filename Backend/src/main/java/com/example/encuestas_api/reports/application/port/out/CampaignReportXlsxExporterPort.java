@@ -2,6 +2,8 @@ package com.example.encuestas_api.reports.application.port.out;
 
 import com.example.encuestas_api.reports.domain.model.CampaignReport;
 
+import java.io.OutputStream;
+
 public interface CampaignReportXlsxExporterPort {
-    byte[] export(CampaignReport report);
+    void export(CampaignReport report, OutputStream out);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+import com.example.encuestas_api.reports.application.dto.ExportWriter;
+import com.example.encuestas_api.reports.application.dto.StoredArtifact;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ExportArtifactStorePort {
+    StoredArtifact write(String name, ExportWriter writer) throws IOException;
+
+    void copyTo(String location, OutputStream out) throws IOException;
+
+    void delete(String location);
+}
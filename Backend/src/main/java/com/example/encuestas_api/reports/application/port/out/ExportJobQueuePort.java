@@ -0,0 +1,6 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+public interface ExportJobQueuePort {
+    /** false si el pool esta lleno; el job sigue QUEUED y se reintenta mas tarde. */
+    boolean submit(String jobId);
+}
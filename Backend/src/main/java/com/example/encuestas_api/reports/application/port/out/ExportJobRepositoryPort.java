@@ -0,0 +1,39 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ExportJobRepositoryPort {
+    /** Lanza ActiveExportJobExistsException si otro job activo ya tiene la misma peticion. */
+    ExportJob save(ExportJob job);
+
+    Optional<ExportJob> findById(String jobId);
+
+    /** Job QUEUED o RUNNING con la misma peticion. */
+    Optional<ExportJob> findActiveByDedupKey(String dedupKey);
+
+    /** QUEUED -> RUNNING de forma atomica con una lease a nombre de owner; false si otro worker ya lo tomo. */
+    boolean claim(String jobId, String owner, Instant now, Instant leaseUntil);
+
+    /** Heartbeat: alarga la lease de los jobs RUNNING de owner. */
+    int renewLeases(Collection<String> jobIds, String owner, Instant leaseUntil);
+
+    /** Guarda el resultado solo si el job sigue RUNNING con la lease de owner; false si la perdio. */
+    boolean finish(ExportJob job, String owner);
+
+    void updateProgress(String jobId, int progress);
+
+    List<String> findQueuedIds(int limit);
+
+    /** Devuelve a QUEUED los jobs RUNNING cuya lease caduco (worker caido o colgado). */
+    int requeueExpired(Instant now);
+
+    /** Devuelve a QUEUED los jobs RUNNING de una vida anterior de este nodo (owner que empieza por ownerPrefix). */
+    int requeueOwnedBy(String ownerPrefix);
+
+    List<ExportJob> findExpired(Instant now, int limit);
+}
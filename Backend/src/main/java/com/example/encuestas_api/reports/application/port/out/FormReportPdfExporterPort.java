@@ -2,6 +2,8 @@ package com.example.encuestas_api.reports.application.port.out;
 
 import com.example.encuestas_api.reports.domain.model.FormReport;
 
+import java.io.OutputStream;
+
 public interface FormReportPdfExporterPort {
-    byte[] export(FormReport report);
+    void export(FormReport report, OutputStream out);
 }
\ No newline at end of file
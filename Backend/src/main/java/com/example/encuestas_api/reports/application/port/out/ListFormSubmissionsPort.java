@@ -2,8 +2,13 @@ package com.example.encuestas_api.reports.application.port.out;
 
 import com.example.encuestas_api.responses.domain.model.Submission;
 
-import java.util.List;
+import java.util.function.Consumer;
 
 public interface ListFormSubmissionsPort {
-    List<Submission> findByFormId(Long formId);
+    /**
+     * Recorre las submissions del formulario con un cursor de solo avance, sin
+     * materializar la lista completa. Si {@code includeDrafts} es false solo se
+     * leen las enviadas.
+     */
+    void forEachByFormId(Long formId, boolean includeDrafts, Consumer<Submission> action);
 }
@@ -0,0 +1,11 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+import com.example.encuestas_api.reports.application.dto.RawSubmissionSource;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+
+import java.io.OutputStream;
+import java.util.List;
+
+public interface RawResponsesCsvExporterPort {
+    void export(List<QuestionSnapshot> columns, RawSubmissionSource source, OutputStream out);
+}
@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+import com.example.encuestas_api.reports.domain.valueobject.FormAggregates;
+
+public interface ReportAggregationPort {
+    FormAggregates aggregate(Long formId, boolean includeDrafts);
+}
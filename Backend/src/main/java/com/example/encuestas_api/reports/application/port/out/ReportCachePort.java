@@ -0,0 +1,28 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+import com.example.encuestas_api.reports.application.dto.ReportCacheStats;
+import com.example.encuestas_api.reports.domain.model.CampaignReport;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+
+import java.util.Optional;
+
+public interface ReportCachePort {
+    Optional<FormReport> getForm(Long formId, boolean includeDrafts);
+
+    Optional<CampaignReport> getCampaign(Long campaignId, boolean includeDrafts);
+
+    /**
+     * Marca de inicio de un cálculo. Si alguno de sus formularios se invalida despues,
+     * el put correspondiente se descarta para no guardar un reporte viejo.
+     */
+    long beginLoad();
+
+    void putForm(FormReport report, boolean includeDrafts, long loadMark);
+
+    void putCampaign(CampaignReport report, boolean includeDrafts, long loadMark);
+
+    /** Descarta los reportes del formulario y los de campaña que lo incluyen. */
+    void invalidateForm(Long formId);
+
+    ReportCacheStats stats();
+}
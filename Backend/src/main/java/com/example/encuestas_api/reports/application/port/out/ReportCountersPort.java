@@ -0,0 +1,24 @@
+package com.example.encuestas_api.reports.application.port.out;
+
+import com.example.encuestas_api.reports.domain.model.ReportCounter;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReportCountersPort {
+    /**
+     * Bloquea los contadores del formulario hasta el fin de la transaccion.
+     * Quien modifica contadores ({@link #add}, {@link #replace}) debe llamarlo antes de leer {@link #isInitialized}.
+     */
+    void lockForm(Long formId);
+
+    List<ReportCounter> loadByFormId(Long formId);
+
+    boolean isInitialized(Long formId);
+
+    /** Suma {@code delta} veces cada contador, creando las filas que falten. */
+    void add(Long formId, Collection<ReportCounter> counters, int delta);
+
+    /** Reemplaza todos los contadores del formulario. */
+    void replace(Long formId, Collection<ReportCounter> counters);
+}
@@ -0,0 +1,31 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.CampaignReportQuery;
+import com.example.encuestas_api.reports.application.port.in.GenerateCampaignReportUseCase;
+import com.example.encuestas_api.reports.application.port.out.ReportCachePort;
+import com.example.encuestas_api.reports.domain.model.CampaignReport;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+@Service
+@Primary
+public class CachedGenerateCampaignReportService implements GenerateCampaignReportUseCase {
+
+    private final GenerateCampaignReportService delegate;
+    private final ReportCachePort cache;
+
+    public CachedGenerateCampaignReportService(GenerateCampaignReportService delegate, ReportCachePort cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public CampaignReport handle(CampaignReportQuery query) {
+        return cache.getCampaign(query.campaignId(), query.includeDrafts()).orElseGet(() -> {
+            long mark = cache.beginLoad();
+            CampaignReport report = delegate.handle(query);
+            cache.putCampaign(report, query.includeDrafts(), mark);
+            return report;
+        });
+    }
+}
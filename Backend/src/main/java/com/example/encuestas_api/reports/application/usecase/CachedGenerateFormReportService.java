@@ -0,0 +1,34 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.FormReportQuery;
+import com.example.encuestas_api.reports.application.port.in.GenerateFormReportUseCase;
+import com.example.encuestas_api.reports.application.port.out.ReportCachePort;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Cache delante de {@link GenerateFormReportService}. Los aciertos no abren transacción.
+ */
+@Service
+@Primary
+public class CachedGenerateFormReportService implements GenerateFormReportUseCase {
+
+    private final GenerateFormReportService delegate;
+    private final ReportCachePort cache;
+
+    public CachedGenerateFormReportService(GenerateFormReportService delegate, ReportCachePort cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public FormReport handle(FormReportQuery query) {
+        return cache.getForm(query.formId(), query.includeDrafts()).orElseGet(() -> {
+            long mark = cache.beginLoad();
+            FormReport report = delegate.handle(query);
+            cache.putForm(report, query.includeDrafts(), mark);
+            return report;
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.ExportedFile;
+import com.example.encuestas_api.reports.application.port.in.DownloadExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportArtifactStorePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.exception.ExportJobNotFoundException;
+import com.example.encuestas_api.reports.domain.exception.ExportJobNotReadyException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DownloadExportJobService implements DownloadExportJobUseCase {
+
+    private final ExportJobRepositoryPort jobs;
+    private final ExportArtifactStorePort store;
+
+    public DownloadExportJobService(ExportJobRepositoryPort jobs, ExportArtifactStorePort store) {
+        this.jobs = jobs;
+        this.store = store;
+    }
+
+    @Override
+    public ExportedFile handle(String jobId) {
+        ExportJob job = jobs.findById(jobId).orElseThrow(() -> new ExportJobNotFoundException(jobId));
+        if (job.getStatus() != ExportJobStatus.DONE) {
+            throw new ExportJobNotReadyException("Export job " + jobId + " en estado " + job.getStatus());
+        }
+        String location = job.getArtifactLocation();
+        return new ExportedFile(job.getFilename(), job.getContentType(), out -> store.copyTo(location, out));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.EnqueueExportJobCommand;
+import com.example.encuestas_api.reports.application.port.in.EnqueueExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportJobQueuePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.exception.ActiveExportJobExistsException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class EnqueueExportJobService implements EnqueueExportJobUseCase {
+
+    private final ExportJobRepositoryPort jobs;
+    private final ExportJobQueuePort queue;
+    private final Clock clock;
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    public EnqueueExportJobService(ExportJobRepositoryPort jobs, ExportJobQueuePort queue, Clock clock) {
+        this.jobs = jobs;
+        this.queue = queue;
+        this.clock = clock;
+    }
+
+    @Override
+    public ExportJob handle(EnqueueExportJobCommand cmd) {
+        Objects.requireNonNull(cmd.target(), "target");
+        Objects.requireNonNull(cmd.targetId(), "targetId");
+        Objects.requireNonNull(cmd.format(), "format");
+
+        String key = ExportJob.dedupKey(cmd.target(), cmd.targetId(), cmd.format(), cmd.includeDrafts());
+        for (int attempt = 1; ; attempt++) {
+            var running = jobs.findActiveByDedupKey(key);
+            if (running.isPresent()) return running.get();
+
+            ExportJob job;
+            try {
+                job = jobs.save(ExportJob.queue(UUID.randomUUID().toString(),
+                        cmd.target(), cmd.targetId(), cmd.format(), cmd.includeDrafts(), clock.instant()));
+            } catch (ActiveExportJobExistsException concurrentEnqueue) {
+                // otro hilo u otra instancia inserto la misma peticion entre la lectura y el insert:
+                // se vuelve a leer y se devuelve su job (si ya termino, se intenta de nuevo)
+                if (attempt >= MAX_ATTEMPTS) throw concurrentEnqueue;
+                continue;
+            }
+            queue.submit(job.getId());
+            return job;
+        }
+    }
+}
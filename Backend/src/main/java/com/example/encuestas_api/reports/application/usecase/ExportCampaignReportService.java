@@ -6,10 +6,13 @@ import com.example.encuestas_api.reports.application.port.in.GenerateCampaignRep
 import com.example.encuestas_api.reports.application.port.out.*;
 import com.example.encuestas_api.reports.domain.model.CampaignReport;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Sin transacción: el reporte de campaña reparte los formularios en el pool de reportes y
+ * cada uno abre la suya. Una transacción aquí retendría una conexión mientras se espera a
+ * los demás y, con el pool de Hikari lleno, podría dejar todo bloqueado.
+ */
 @Service
-@Transactional(readOnly = true)
 public class ExportCampaignReportService implements ExportCampaignReportUseCase {
 
     private final GenerateCampaignReportUseCase generateCampaignReport;
@@ -32,21 +35,21 @@ public class ExportCampaignReportService implements ExportCampaignReportUseCase
 
         String filename;
         String contentType;
-        byte[] bytes;
+        ExportWriter writer;
 
         switch (q.format()) {
             case XLSX -> {
                 filename = "campaign-" + q.campaignId() + (q.includeDrafts() ? "-with-drafts" : "") + ".xlsx";
                 contentType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-                bytes = xlsxExporter.export(report);
+                writer = out -> xlsxExporter.export(report, out);
             }
             case PDF -> {
                 filename = "campaign-" + q.campaignId() + (q.includeDrafts() ? "-with-drafts" : "") + ".pdf";
                 contentType = "application/pdf";
-                bytes = pdfExporter.export(report);
+                writer = out -> pdfExporter.export(report, out);
             }
             default -> throw new IllegalStateException("Unexpected value: " + q.format());
         }
-        return new ExportedFile(filename, contentType, bytes);
+        return new ExportedFile(filename, contentType, writer);
     }
 }
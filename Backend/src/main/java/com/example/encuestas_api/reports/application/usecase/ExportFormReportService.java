@@ -32,23 +32,23 @@ public class ExportFormReportService implements ExportFormReportUseCase {
 
         String filename;
         String contentType;
-        byte[] bytes;
+        ExportWriter writer;
 
         switch (q.format()) {
             case XLSX -> {
                 filename = "form-" + q.formId() + (q.includeDrafts() ? "-with-drafts" : "") + ".xlsx";
                 contentType = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
-                bytes = xlsxExporter.export(report);
+                writer = out -> xlsxExporter.export(report, out);
             }
             case PDF -> {
                 filename = "form-" + q.formId() + (q.includeDrafts() ? "-with-drafts" : "") + ".pdf";
                 contentType = "application/pdf";
-                bytes = pdfExporter.export(report);
+                writer = out -> pdfExporter.export(report, out);
             }
             default -> {
                 throw new IllegalStateException("Unexpected value: " + q.format());
             }
         }
-        return new ExportedFile(filename, contentType, bytes);
+        return new ExportedFile(filename, contentType, writer);
     }
 }
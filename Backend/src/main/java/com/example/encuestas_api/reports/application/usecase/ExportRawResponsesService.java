@@ -0,0 +1,50 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.*;
+import com.example.encuestas_api.reports.application.port.in.ExportRawResponsesUseCase;
+import com.example.encuestas_api.reports.application.port.out.ListFormSubmissionsPort;
+import com.example.encuestas_api.reports.application.port.out.QuestionsSnapshotPort;
+import com.example.encuestas_api.reports.application.port.out.RawResponsesCsvExporterPort;
+import com.example.encuestas_api.reports.application.port.out.RawResponsesNdjsonExporterPort;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Export de respuestas sin agregar: una fila por submission y una columna por pregunta.
+ * Las columnas se resuelven al crear el export; las filas se leen con cursor mientras
+ * se escribe la respuesta, asi que nada se acumula en memoria.
+ */
+@Service
+public class ExportRawResponsesService implements ExportRawResponsesUseCase {
+
+    private final QuestionsSnapshotPort snapshots;
+    private final ListFormSubmissionsPort submissions;
+    private final RawResponsesCsvExporterPort csvExporter;
+    private final RawResponsesNdjsonExporterPort ndjsonExporter;
+
+    public ExportRawResponsesService(QuestionsSnapshotPort snapshots,
+                                     ListFormSubmissionsPort submissions,
+                                     RawResponsesCsvExporterPort csvExporter,
+                                     RawResponsesNdjsonExporterPort ndjsonExporter) {
+        this.snapshots = snapshots;
+        this.submissions = submissions;
+        this.csvExporter = csvExporter;
+        this.ndjsonExporter = ndjsonExporter;
+    }
+
+    @Override
+    public ExportedFile handle(ExportRawResponsesQuery q) {
+        List<QuestionSnapshot> columns = List.copyOf(snapshots.byFormId(q.formId()).values());
+        RawSubmissionSource source = action -> submissions.forEachByFormId(q.formId(), q.includeDrafts(), action);
+        String base = "form-" + q.formId() + "-raw" + (q.includeDrafts() ? "-with-drafts" : "");
+
+        return switch (q.format()) {
+            case CSV -> new ExportedFile(base + ".csv", "text/csv; charset=UTF-8",
+                    out -> csvExporter.export(columns, source, out));
+            case NDJSON -> new ExportedFile(base + ".ndjson", "application/x-ndjson",
+                    out -> ndjsonExporter.export(columns, source, out));
+        };
+    }
+}
@@ -1,59 +1,70 @@
 package com.example.encuestas_api.reports.application.usecase;
 
 import com.example.encuestas_api.reports.application.dto.CampaignReportQuery;
+import com.example.encuestas_api.reports.application.dto.FormReportQuery;
 import com.example.encuestas_api.reports.application.port.in.GenerateCampaignReportUseCase;
-import com.example.encuestas_api.reports.application.port.out.ListFormSubmissionsPort;
+import com.example.encuestas_api.reports.application.port.in.GenerateFormReportUseCase;
 import com.example.encuestas_api.reports.application.port.out.ListFormsByCampaignPort;
-import com.example.encuestas_api.reports.application.port.out.QuestionsSnapshotPort;
+import com.example.encuestas_api.reports.domain.exception.ReportException;
 import com.example.encuestas_api.reports.domain.model.CampaignReport;
 import com.example.encuestas_api.reports.domain.model.FormReport;
 import com.example.encuestas_api.reports.domain.service.ReportCalculator;
-import com.example.encuestas_api.reports.domain.valueobject.ReportParams;
-import com.example.encuestas_api.responses.domain.model.Submission;
-import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
-import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 
+/**
+ * Sin transacción propia, y quien lo llame tampoco debe abrir una: cada formulario se
+ * calcula en el pool de reportes con su propia transacción de solo lectura, y así no se
+ * retiene una conexión extra mientras se espera a los demás.
+ */
 @Service
-@Transactional(readOnly = true)
 public class GenerateCampaignReportService implements GenerateCampaignReportUseCase {
 
     private final ListFormsByCampaignPort formsPort;
-    private final QuestionsSnapshotPort snapshotsPort;
-    private final ListFormSubmissionsPort submissionsPort;
+    private final GenerateFormReportUseCase formReport;
     private final ReportCalculator calculator;
+    private final ExecutorService executor;
 
     public GenerateCampaignReportService(ListFormsByCampaignPort formsPort,
-                                         QuestionsSnapshotPort snapshotsPort,
-                                         ListFormSubmissionsPort submissionsPort,
-                                         ReportCalculator calculator) {
+                                         GenerateFormReportUseCase formReport,
+                                         ReportCalculator calculator,
+                                         @Qualifier("reportExecutor") ExecutorService executor) {
         this.formsPort = formsPort;
-        this.snapshotsPort = snapshotsPort;
-        this.submissionsPort = submissionsPort;
+        this.formReport = formReport;
         this.calculator = calculator;
+        this.executor = executor;
     }
 
     @Override
     public CampaignReport handle(CampaignReportQuery query) {
         var formIds = formsPort.findFormIdsByCampaign(query.campaignId());
 
-        List<FormReport> forms = new ArrayList<>(formIds.size());
-        var params = new ReportParams(query.includeDrafts());
-
-        for (Long formId : formIds) {
-            Map<Long, QuestionSnapshot> snapshots = snapshotsPort.byFormId(formId);
-            List<Submission> all = submissionsPort.findByFormId(formId);
-            List<Submission> base = query.includeDrafts()
-                    ? all
-                    : all.stream().filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED).toList();
+        List<CompletableFuture<FormReport>> pending = new ArrayList<>(formIds.size());
+        try {
+            for (Long formId : formIds) {
+                var q = new FormReportQuery(formId, query.includeDrafts());
+                pending.add(CompletableFuture.supplyAsync(() -> formReport.handle(q), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            // cola del pool llena: se descarta lo ya encolado en vez de esperar sin límite
+            pending.forEach(f -> f.cancel(false));
+            throw new ReportException("Pool de reportes saturado, reintente más tarde", e);
+        }
 
-            var fr = calculator.computeFormReport(formId, snapshots, base, params);
-            forms.add(fr);
+        List<FormReport> forms = new ArrayList<>(formIds.size());
+        try {
+            for (var f : pending) forms.add(f.join());
+        } catch (CompletionException e) {
+            pending.forEach(f -> f.cancel(false));
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new ReportException("Error generando el reporte de campaña " + query.campaignId(), e.getCause());
         }
 
         return calculator.aggregateCampaign(query.campaignId(), forms);
@@ -4,16 +4,17 @@ import com.example.encuestas_api.reports.application.dto.FormReportQuery;
 import com.example.encuestas_api.reports.application.port.in.GenerateFormReportUseCase;
 import com.example.encuestas_api.reports.application.port.out.ListFormSubmissionsPort;
 import com.example.encuestas_api.reports.application.port.out.QuestionsSnapshotPort;
+import com.example.encuestas_api.reports.application.port.out.ReportAggregationPort;
+import com.example.encuestas_api.reports.application.port.out.ReportCountersPort;
 import com.example.encuestas_api.reports.domain.model.FormReport;
 import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
 import com.example.encuestas_api.reports.domain.valueobject.ReportParams;
-import com.example.encuestas_api.responses.domain.model.Submission;
-import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
 import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
 import java.util.Map;
 
 @Service
@@ -22,30 +23,51 @@ public class GenerateFormReportService implements GenerateFormReportUseCase {
 
     private final QuestionsSnapshotPort snapshotsPort;
     private final ListFormSubmissionsPort submissionsPort;
+    private final ReportAggregationPort aggregationPort;
+    private final ReportCountersPort countersPort;
     private final ReportCalculator calculator;
+    private final ReportCounterCalculator counterCalculator;
+    private final boolean sqlAggregation;
 
     public GenerateFormReportService(QuestionsSnapshotPort snapshotsPort,
                                      ListFormSubmissionsPort submissionsPort,
-                                     ReportCalculator calculator) {
+                                     ReportAggregationPort aggregationPort,
+                                     ReportCountersPort countersPort,
+                                     ReportCalculator calculator,
+                                     ReportCounterCalculator counterCalculator,
+                                     @Value("${reports.aggregation.sql:true}") boolean sqlAggregation) {
         this.snapshotsPort = snapshotsPort;
         this.submissionsPort = submissionsPort;
+        this.aggregationPort = aggregationPort;
+        this.countersPort = countersPort;
         this.calculator = calculator;
+        this.counterCalculator = counterCalculator;
+        this.sqlAggregation = sqlAggregation;
     }
 
     @Override
     public FormReport handle(FormReportQuery query) {
         Map<Long, QuestionSnapshot> snapshots = snapshotsPort.byFormId(query.formId());
-        List<Submission> all = submissionsPort.findByFormId(query.formId());
 
-        List<Submission> base = query.includeDrafts()
-                ? all
-                : all.stream().filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED).toList();
+        // los contadores materializados solo cubren submissions enviadas
+        if (!query.includeDrafts()) {
+            var counters = countersPort.loadByFormId(query.formId());
+            if (!counters.isEmpty()) {
+                return calculator.computeFormReport(query.formId(), snapshots, counterCalculator.toAggregates(counters));
+            }
+        }
 
-        return calculator.computeFormReport(
+        if (sqlAggregation) {
+            var agg = aggregationPort.aggregate(query.formId(), query.includeDrafts());
+            return calculator.computeFormReport(query.formId(), snapshots, agg);
+        }
+
+        var acc = calculator.newFormAccumulator(
                 query.formId(),
                 snapshots,
-                base,
                 new ReportParams(query.includeDrafts())
         );
+        submissionsPort.forEachByFormId(query.formId(), query.includeDrafts(), acc::accept);
+        return acc.build();
     }
 }
@@ -0,0 +1,22 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.in.GetExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.exception.ExportJobNotFoundException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetExportJobService implements GetExportJobUseCase {
+
+    private final ExportJobRepositoryPort jobs;
+
+    public GetExportJobService(ExportJobRepositoryPort jobs) {
+        this.jobs = jobs;
+    }
+
+    @Override
+    public ExportJob handle(String jobId) {
+        return jobs.findById(jobId).orElseThrow(() -> new ExportJobNotFoundException(jobId));
+    }
+}
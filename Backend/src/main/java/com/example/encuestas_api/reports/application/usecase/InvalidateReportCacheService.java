@@ -0,0 +1,39 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.ReportCacheStats;
+import com.example.encuestas_api.reports.application.port.in.GetReportCacheStatsUseCase;
+import com.example.encuestas_api.reports.application.port.in.InvalidateReportCacheUseCase;
+import com.example.encuestas_api.reports.application.port.out.ReportCachePort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class InvalidateReportCacheService implements InvalidateReportCacheUseCase, GetReportCacheStatsUseCase {
+
+    private final ReportCachePort cache;
+
+    public InvalidateReportCacheService(ReportCachePort cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(Long formId) {
+        if (formId == null) return;
+        cache.invalidateForm(formId);
+        // un reporte calculado en paralelo antes del commit puede volver a llenar la cache con datos viejos
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateForm(formId);
+                }
+            });
+        }
+    }
+
+    @Override
+    public ReportCacheStats handle() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.in.PurgeExpiredExportJobsUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportArtifactStorePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+
+@Service
+public class PurgeExpiredExportJobsService implements PurgeExpiredExportJobsUseCase {
+
+    private static final int BATCH = 100;
+
+    private final ExportJobRepositoryPort jobs;
+    private final ExportArtifactStorePort store;
+    private final Clock clock;
+
+    public PurgeExpiredExportJobsService(ExportJobRepositoryPort jobs, ExportArtifactStorePort store, Clock clock) {
+        this.jobs = jobs;
+        this.store = store;
+        this.clock = clock;
+    }
+
+    @Override
+    public int handle() {
+        int purged = 0;
+        while (true) {
+            var expired = jobs.findExpired(clock.instant(), BATCH);
+            for (ExportJob job : expired) {
+                if (job.getArtifactLocation() != null) store.delete(job.getArtifactLocation());
+                job.expire();
+                jobs.save(job);
+            }
+            purged += expired.size();
+            if (expired.size() < BATCH) return purged;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.in.RebuildReportCountersUseCase;
+import com.example.encuestas_api.reports.application.port.out.ListFormSubmissionsPort;
+import com.example.encuestas_api.reports.application.port.out.ReportCountersPort;
+import com.example.encuestas_api.reports.domain.model.ReportCounter;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import com.example.encuestas_api.reports.domain.valueobject.ReportCounterMetric;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional
+public class RebuildReportCountersService implements RebuildReportCountersUseCase {
+
+    private final ListFormSubmissionsPort submissionsPort;
+    private final ReportCountersPort countersPort;
+    private final ReportCounterCalculator counterCalculator;
+
+    public RebuildReportCountersService(ListFormSubmissionsPort submissionsPort,
+                                        ReportCountersPort countersPort,
+                                        ReportCounterCalculator counterCalculator) {
+        this.submissionsPort = submissionsPort;
+        this.countersPort = countersPort;
+        this.counterCalculator = counterCalculator;
+    }
+
+    @Override
+    public void handle(Long formId) {
+        countersPort.lockForm(formId);
+        Map<String, ReportCounter> counters = new LinkedHashMap<>();
+        // la fila SUBMITTED marca el formulario como inicializado aunque no tenga envios
+        counterCalculator.merge(counters, List.of(
+                new ReportCounter(formId, 0L, ReportCounterMetric.SUBMITTED, 0L, 0L, 0, null)));
+        submissionsPort.forEachByFormId(formId, false,
+                s -> counterCalculator.merge(counters, counterCalculator.countersFor(s)));
+        countersPort.replace(formId, counters.values());
+    }
+}
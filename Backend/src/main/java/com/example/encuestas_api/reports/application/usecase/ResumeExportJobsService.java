@@ -0,0 +1,53 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.in.ResumeExportJobsUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportJobQueuePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+
+/**
+ * Reenvia al pool los jobs que siguen QUEUED en base de datos: los que no entraron por
+ * pool lleno y los RUNNING cuya lease caduco. Tras un reinicio, si el nodo tiene un
+ * node_id fijo y unico, reencola ademas los que dejo a medias sin esperar a que caduquen; los
+ * RUNNING de otros nodos con lease vigente no se tocan.
+ */
+@Service
+public class ResumeExportJobsService implements ResumeExportJobsUseCase {
+
+    private final ExportJobRepositoryPort jobs;
+    private final ExportJobQueuePort queue;
+    private final Clock clock;
+    private final int batchSize;
+    private final String nodeId;
+
+    public ResumeExportJobsService(ExportJobRepositoryPort jobs,
+                                   ExportJobQueuePort queue,
+                                   Clock clock,
+                                   @Value("${reports.export.resume_batch:100}") int batchSize,
+                                   @Value("${reports.export.node_id:}") String nodeId) {
+        this.jobs = jobs;
+        this.queue = queue;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public int handle(boolean afterRestart) {
+        // sin node_id fijo no se sabe que jobs eran nuestros: esperan a que caduque su lease
+        if (afterRestart && nodeId != null && !nodeId.isBlank()) {
+            jobs.requeueOwnedBy(RunExportJobService.ownerPrefix(nodeId));
+        }
+        jobs.requeueExpired(clock.instant());
+
+        int submitted = 0;
+        for (String id : jobs.findQueuedIds(Math.max(1, batchSize))) {
+            if (!queue.submit(id)) break; // pool lleno: el resto espera a la siguiente pasada
+            submitted++;
+        }
+        return submitted;
+    }
+}
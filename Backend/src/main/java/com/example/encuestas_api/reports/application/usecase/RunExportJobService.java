@@ -0,0 +1,111 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.*;
+import com.example.encuestas_api.reports.application.port.in.ExportCampaignReportUseCase;
+import com.example.encuestas_api.reports.application.port.in.ExportFormReportUseCase;
+import com.example.encuestas_api.reports.application.port.in.RunExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportArtifactStorePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ejecuta un job con una lease a nombre de este nodo. Mientras corre, el heartbeat
+ * ({@link #renewLeases()}) la alarga; si el nodo cae, la lease caduca y otro nodo lo
+ * reencola. El resultado solo se guarda si la lease sigue siendo nuestra.
+ */
+@Service
+public class RunExportJobService implements RunExportJobUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RunExportJobService.class);
+
+    private final ExportJobRepositoryPort jobs;
+    private final ExportArtifactStorePort store;
+    private final ExportFormReportUseCase exportForm;
+    private final ExportCampaignReportUseCase exportCampaign;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration lease;
+    private final String owner;
+
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public RunExportJobService(ExportJobRepositoryPort jobs,
+                               ExportArtifactStorePort store,
+                               ExportFormReportUseCase exportForm,
+                               ExportCampaignReportUseCase exportCampaign,
+                               Clock clock,
+                               @Value("${reports.export.ttl_minutes:60}") long ttlMinutes,
+                               @Value("${reports.export.lease_ms:120000}") long leaseMillis,
+                               @Value("${reports.export.node_id:}") String nodeId) {
+        this.jobs = jobs;
+        this.store = store;
+        this.exportForm = exportForm;
+        this.exportCampaign = exportCampaign;
+        this.clock = clock;
+        this.ttl = Duration.ofMinutes(Math.max(1, ttlMinutes));
+        this.lease = Duration.ofMillis(Math.max(1000, leaseMillis));
+        // id unico por arranque; el prefijo permite reencolar lo de la vida anterior de este nodo
+        this.owner = ownerPrefix(nodeId) + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    static String ownerPrefix(String nodeId) {
+        return ((nodeId == null || nodeId.isBlank()) ? "node" : nodeId.strip()) + "#";
+    }
+
+    @Override
+    public void handle(String jobId) {
+        Instant claimedAt = clock.instant();
+        if (!jobs.claim(jobId, owner, claimedAt, claimedAt.plus(lease))) return; // ya lo tomo otro worker o no esta QUEUED
+        running.add(jobId);
+        try {
+            run(jobId);
+        } finally {
+            running.remove(jobId);
+        }
+    }
+
+    @Override
+    public int renewLeases() {
+        if (running.isEmpty()) return 0;
+        return jobs.renewLeases(Set.copyOf(running), owner, clock.instant().plus(lease));
+    }
+
+    private void run(String jobId) {
+        ExportJob job = jobs.findById(jobId).orElse(null);
+        if (job == null) return;
+
+        try {
+            ExportedFile file = switch (job.getTarget()) {
+                case FORM -> exportForm.handle(
+                        new ExportFormReportQuery(job.getTargetId(), job.isIncludeDrafts(), job.getFormat()));
+                case CAMPAIGN -> exportCampaign.handle(
+                        new ExportCampaignReportQuery(job.getTargetId(), job.isIncludeDrafts(), job.getFormat()));
+            };
+            // el reporte ya esta calculado; falta serializarlo al file store
+            jobs.updateProgress(jobId, 50);
+
+            StoredArtifact artifact = store.write(jobId, file.writer());
+            Instant now = clock.instant();
+            job.complete(file.filename(), file.contentType(), artifact.location(), artifact.sizeBytes(),
+                    now, now.plus(ttl));
+        } catch (Exception ex) {
+            log.warn("Fallo export job {}: {}", jobId, ex.getMessage());
+            Instant now = clock.instant();
+            job.fail(ex.getMessage() == null ? ex.getClass().getSimpleName() : ex.getMessage(), now, now.plus(ttl));
+        }
+        if (!jobs.finish(job, owner)) {
+            log.warn("Export job {} perdio la lease; se descarta el resultado", jobId);
+        }
+    }
+}
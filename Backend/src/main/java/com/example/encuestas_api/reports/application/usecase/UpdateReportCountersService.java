@@ -0,0 +1,40 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.in.RebuildReportCountersUseCase;
+import com.example.encuestas_api.reports.application.port.in.UpdateReportCountersUseCase;
+import com.example.encuestas_api.reports.application.port.out.ReportCountersPort;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class UpdateReportCountersService implements UpdateReportCountersUseCase {
+
+    private final ReportCountersPort countersPort;
+    private final ReportCounterCalculator counterCalculator;
+    private final RebuildReportCountersUseCase rebuild;
+
+    public UpdateReportCountersService(ReportCountersPort countersPort,
+                                       ReportCounterCalculator counterCalculator,
+                                       RebuildReportCountersUseCase rebuild) {
+        this.countersPort = countersPort;
+        this.counterCalculator = counterCalculator;
+        this.rebuild = rebuild;
+    }
+
+    @Override
+    public void handle(Submission submission, int delta) {
+        Long formId = submission.getFormId();
+        // serializa por formulario: solo el primer submit reconstruye y los inserts no chocan
+        countersPort.lockForm(formId);
+        // formulario sin contadores todavia (datos previos): se reconstruye desde las submissions,
+        // que ya incluyen el cambio actual porque corre en la misma transaccion
+        if (!countersPort.isInitialized(formId)) {
+            rebuild.handle(formId);
+            return;
+        }
+        countersPort.add(formId, counterCalculator.countersFor(submission), delta);
+    }
+}
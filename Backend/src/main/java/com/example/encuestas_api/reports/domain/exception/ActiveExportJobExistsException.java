@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.domain.exception;
+
+public class ActiveExportJobExistsException extends ReportException {
+    public ActiveExportJobExistsException(String dedupKey, Throwable cause) {
+        super("Ya hay un export activo para " + dedupKey, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.domain.exception;
+
+import java.util.NoSuchElementException;
+
+public class ExportJobNotFoundException extends NoSuchElementException {
+    public ExportJobNotFoundException(String jobId) { super("Export job no encontrado: " + jobId); }
+}
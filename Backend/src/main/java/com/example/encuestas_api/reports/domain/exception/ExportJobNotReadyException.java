@@ -0,0 +1,5 @@
+package com.example.encuestas_api.reports.domain.exception;
+
+public class ExportJobNotReadyException extends ReportException {
+    public ExportJobNotReadyException(String message) { super(message); }
+}
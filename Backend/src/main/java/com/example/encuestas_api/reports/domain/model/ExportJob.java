@@ -0,0 +1,112 @@
+package com.example.encuestas_api.reports.domain.model;
+
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Export de reporte ejecutado en segundo plano. El artefacto queda en el file store
+ * hasta {@code expiresAt}; despues el job pasa a EXPIRED y solo se conserva su estado.
+ */
+public class ExportJob {
+
+    private final String id;
+    private final ExportTarget target;
+    private final Long targetId;
+    private final ExportFormat format;
+    private final boolean includeDrafts;
+
+    private ExportJobStatus status;
+    private int progress;
+    private String filename;
+    private String contentType;
+    private String artifactLocation;
+    private long sizeBytes;
+    private String error;
+
+    private final Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Instant expiresAt;
+
+    public ExportJob(String id, ExportTarget target, Long targetId, ExportFormat format, boolean includeDrafts,
+                     ExportJobStatus status, int progress, String filename, String contentType,
+                     String artifactLocation, long sizeBytes, String error,
+                     Instant createdAt, Instant startedAt, Instant finishedAt, Instant expiresAt) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.target = Objects.requireNonNull(target, "target");
+        this.targetId = Objects.requireNonNull(targetId, "targetId");
+        this.format = Objects.requireNonNull(format, "format");
+        this.includeDrafts = includeDrafts;
+        this.status = Objects.requireNonNull(status, "status");
+        this.progress = progress;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.artifactLocation = artifactLocation;
+        this.sizeBytes = sizeBytes;
+        this.error = error;
+        this.createdAt = Objects.requireNonNull(createdAt, "createdAt");
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public static ExportJob queue(String id, ExportTarget target, Long targetId, ExportFormat format,
+                                  boolean includeDrafts, Instant now) {
+        return new ExportJob(id, target, targetId, format, includeDrafts,
+                ExportJobStatus.QUEUED, 0, null, null, null, 0, null,
+                now, null, null, null);
+    }
+
+    /** Misma peticion = mismo export: sirve para no encolar dos veces el mismo trabajo. */
+    public static String dedupKey(ExportTarget target, Long targetId, ExportFormat format, boolean includeDrafts) {
+        return target + ":" + targetId + ":" + format + ":" + includeDrafts;
+    }
+
+    public String dedupKey() { return dedupKey(target, targetId, format, includeDrafts); }
+
+    public void complete(String filename, String contentType, String location, long sizeBytes,
+                         Instant now, Instant expiresAt) {
+        this.status = ExportJobStatus.DONE;
+        this.progress = 100;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.artifactLocation = location;
+        this.sizeBytes = sizeBytes;
+        this.error = null;
+        this.finishedAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public void fail(String error, Instant now, Instant expiresAt) {
+        this.status = ExportJobStatus.FAILED;
+        this.error = error;
+        this.finishedAt = now;
+        this.expiresAt = expiresAt;
+    }
+
+    public void expire() {
+        this.status = ExportJobStatus.EXPIRED;
+        this.artifactLocation = null;
+    }
+
+    public String getId() { return id; }
+    public ExportTarget getTarget() { return target; }
+    public Long getTargetId() { return targetId; }
+    public ExportFormat getFormat() { return format; }
+    public boolean isIncludeDrafts() { return includeDrafts; }
+    public ExportJobStatus getStatus() { return status; }
+    public int getProgress() { return progress; }
+    public String getFilename() { return filename; }
+    public String getContentType() { return contentType; }
+    public String getArtifactLocation() { return artifactLocation; }
+    public long getSizeBytes() { return sizeBytes; }
+    public String getError() { return error; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public Instant getExpiresAt() { return expiresAt; }
+}
@@ -0,0 +1,50 @@
+package com.example.encuestas_api.reports.domain.model;
+
+import com.example.encuestas_api.reports.domain.valueobject.ReportCounterMetric;
+
+import java.util.Objects;
+
+/**
+ * Contador materializado de un formulario. Las claves no usadas van en 0 (nunca null)
+ * para que la restriccion unica funcione en todos los motores.
+ */
+public class ReportCounter {
+    private final Long formId;
+    private final Long questionId;
+    private final ReportCounterMetric metric;
+    private final Long key1;
+    private final Long key2;
+    private final long value;
+    private final Long firstSubmissionId;
+
+    public ReportCounter(Long formId, Long questionId, ReportCounterMetric metric,
+                         Long key1, Long key2, long value, Long firstSubmissionId) {
+        this.formId = Objects.requireNonNull(formId, "formId");
+        this.questionId = questionId == null ? 0L : questionId;
+        this.metric = Objects.requireNonNull(metric, "metric");
+        this.key1 = key1 == null ? 0L : key1;
+        this.key2 = key2 == null ? 0L : key2;
+        this.value = value;
+        this.firstSubmissionId = firstSubmissionId;
+    }
+
+    public ReportCounter plus(ReportCounter other) {
+        Long first = firstSubmissionId;
+        if (first == null || (other.firstSubmissionId != null && other.firstSubmissionId < first)) {
+            first = other.firstSubmissionId;
+        }
+        return new ReportCounter(formId, questionId, metric, key1, key2, value + other.value, first);
+    }
+
+    public String key() {
+        return questionId + ":" + metric + ":" + key1 + ":" + key2;
+    }
+
+    public Long getFormId() { return formId; }
+    public Long getQuestionId() { return questionId; }
+    public ReportCounterMetric getMetric() { return metric; }
+    public Long getKey1() { return key1; }
+    public Long getKey2() { return key2; }
+    public long getValue() { return value; }
+    public Long getFirstSubmissionId() { return firstSubmissionId; }
+}
@@ -0,0 +1,176 @@
+package com.example.encuestas_api.reports.domain.service;
+
+import com.example.encuestas_api.reports.domain.exception.UnsupportedQuestionForReportException;
+import com.example.encuestas_api.reports.domain.model.*;
+import com.example.encuestas_api.reports.domain.valueobject.PairKey;
+import com.example.encuestas_api.reports.domain.valueobject.ReportParams;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Acumula las estadisticas de un formulario recorriendo las submissions una sola vez.
+ * Solo mantiene contadores por pregunta, asi que la memoria depende del numero de
+ * preguntas y no del numero de submissions.
+ */
+public class FormReportAccumulator {
+
+    private final Long formId;
+    private final ReportParams params;
+    private final List<QuestionAccumulator> questions;
+
+    private long total;
+    private long submitted;
+    private long base;
+
+    public FormReportAccumulator(Long formId, Map<Long, QuestionSnapshot> snapshots, ReportParams params) {
+        this.formId = Objects.requireNonNull(formId, "formId");
+        this.params = Objects.requireNonNull(params, "params");
+        Objects.requireNonNull(snapshots, "snapshots");
+
+        this.questions = new ArrayList<>(snapshots.size());
+        for (QuestionSnapshot q : snapshots.values()) {
+            questions.add(switch (q.getKind()) {
+                case CHOICE -> new ChoiceAccumulator(q);
+                case TRUE_FALSE -> new TrueFalseAccumulator(q);
+                case TEXT -> new TextAccumulator(q);
+                case MATCHING -> new MatchingAccumulator(q);
+                default -> throw new UnsupportedQuestionForReportException("Tipo no soportado: " + q.getKind());
+            });
+        }
+    }
+
+    public void accept(Submission s) {
+        total++;
+        boolean isSubmitted = s.getStatus() == SubmissionStatus.SUBMITTED;
+        if (isSubmitted) submitted++;
+        if (!params.isIncludeDrafts() && !isSubmitted) return;
+
+        base++;
+        for (QuestionAccumulator q : questions) {
+            s.findAnswer(q.questionId()).ifPresent(q::accept);
+        }
+    }
+
+    public FormReport build() {
+        List<QuestionReport> reports = new ArrayList<>(questions.size());
+        for (QuestionAccumulator q : questions) {
+            reports.add(q.build(base));
+        }
+        long drafts = total - submitted;
+        double completionRate = total == 0 ? 0.0 : (double) submitted / (double) total;
+        return new FormReport(formId, total, submitted, drafts, completionRate, reports, Instant.now());
+    }
+
+    private abstract static class QuestionAccumulator {
+        protected final QuestionSnapshot q;
+        protected long answered;
+
+        QuestionAccumulator(QuestionSnapshot q) { this.q = q; }
+
+        Long questionId() { return q.getQuestionId(); }
+
+        abstract void accept(SubmissionAnswer answer);
+
+        abstract QuestionReport build(long base);
+    }
+
+    private static final class ChoiceAccumulator extends QuestionAccumulator {
+        private final Map<Long, long[]> counts = new LinkedHashMap<>();
+
+        ChoiceAccumulator(QuestionSnapshot q) {
+            super(q);
+            q.getOptionIds().forEach(id -> counts.put(id, new long[1])); // inicializar en orden del snapshot
+        }
+
+        @Override
+        void accept(SubmissionAnswer answer) {
+            if (!(answer instanceof ChoiceAnswer ca)) return;
+            answered++;
+            for (Long sel : ca.getSelectedOptionIds()) {
+                long[] c = counts.get(sel);
+                if (c != null) c[0]++;
+            }
+        }
+
+        @Override
+        QuestionReport build(long base) {
+            List<ChoiceOptionStat> opts = new ArrayList<>(counts.size());
+            counts.forEach((id, c) -> opts.add(new ChoiceOptionStat(id, c[0])));
+            return new ChoiceQuestionReport(q.getQuestionId(),
+                    answered, base - answered,
+                    q.getSelectionMode(),
+                    q.getMinSelections(), q.getMaxSelections(),
+                    opts);
+        }
+    }
+
+    private static final class TrueFalseAccumulator extends QuestionAccumulator {
+        private long t, f;
+
+        TrueFalseAccumulator(QuestionSnapshot q) { super(q); }
+
+        @Override
+        void accept(SubmissionAnswer answer) {
+            if (!(answer instanceof TrueFalseAnswer tf)) return;
+            answered++;
+            if (tf.isValue()) t++; else f++;
+        }
+
+        @Override
+        QuestionReport build(long base) {
+            return new TrueFalseQuestionReport(q.getQuestionId(), answered, base - answered, t, f);
+        }
+    }
+
+    private static final class TextAccumulator extends QuestionAccumulator {
+
+        TextAccumulator(QuestionSnapshot q) { super(q); }
+
+        @Override
+        void accept(SubmissionAnswer answer) {
+            if (!(answer instanceof TextAnswer ta)) return;
+            if (TextAnswerContent.hasContent(ta.getText())) answered++;
+        }
+
+        @Override
+        QuestionReport build(long base) {
+            return new TextQuestionReport(q.getQuestionId(),
+                    answered, base - answered,
+                    q.getTextMode(), q.getMinLength(), q.getMaxLength());
+        }
+    }
+
+    private static final class MatchingAccumulator extends QuestionAccumulator {
+        private static final Comparator<MatchingPair> PAIR_ORDER =
+                Comparator.comparing(MatchingPair::getLeftId).thenComparing(MatchingPair::getRightId);
+
+        private final Map<PairKey, long[]> pairCounts = new LinkedHashMap<>();
+
+        MatchingAccumulator(QuestionSnapshot q) { super(q); }
+
+        @Override
+        void accept(SubmissionAnswer answer) {
+            if (!(answer instanceof MatchingAnswer ma)) return;
+            if (!ma.getPairs().isEmpty()) answered++;
+            // la coleccion de pares no tiene orden persistido: dentro de una respuesta se recorren por (left, right)
+            List<MatchingPair> pairs = new ArrayList<>(ma.getPairs());
+            pairs.sort(PAIR_ORDER);
+            for (MatchingPair p : pairs) {
+                pairCounts.computeIfAbsent(new PairKey(p.getLeftId(), p.getRightId()), k -> new long[1])[0]++;
+            }
+        }
+
+        @Override
+        QuestionReport build(long base) {
+            List<MatchingPairStat> freq = new ArrayList<>(pairCounts.size());
+            pairCounts.forEach((k, c) -> freq.add(new MatchingPairStat(k, c[0])));
+            return new MatchingQuestionReport(q.getQuestionId(),
+                    answered, base - answered,
+                    List.copyOf(q.getLeftIds()), List.copyOf(q.getRightIds()),
+                    freq);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.encuestas_api.reports.domain.service;
+
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+
+import java.util.*;
+
+/**
+ * Normaliza las respuestas para el export raw: opciones en el orden del snapshot
+ * y pares de matching ordenados por (left, right), para que dos exports iguales
+ * produzcan el mismo contenido.
+ */
+public final class RawAnswerFormatter {
+
+    private static final Comparator<MatchingPair> PAIR_ORDER =
+            Comparator.comparing(MatchingPair::getLeftId).thenComparing(MatchingPair::getRightId);
+
+    private RawAnswerFormatter() { }
+
+    public static List<Long> selectedOptions(ChoiceAnswer a, QuestionSnapshot q) {
+        Set<Long> selected = a.getSelectedOptionIds();
+        List<Long> out = new ArrayList<>(selected.size());
+        for (Long id : q.getOptionIds()) {
+            if (selected.contains(id)) out.add(id);
+        }
+        if (out.size() < selected.size()) {
+            // opciones que ya no existen en la pregunta: al final, en orden numerico
+            selected.stream().filter(id -> !q.getOptionIds().contains(id)).sorted().forEach(out::add);
+        }
+        return out;
+    }
+
+    public static List<MatchingPair> sortedPairs(MatchingAnswer a) {
+        List<MatchingPair> pairs = new ArrayList<>(a.getPairs());
+        pairs.sort(PAIR_ORDER);
+        return pairs;
+    }
+
+    /** Valor plano de una celda: ids separados por ';' y pares como left:right. */
+    public static String toText(SubmissionAnswer answer, QuestionSnapshot q) {
+        if (answer == null) return "";
+        if (answer instanceof ChoiceAnswer ca) {
+            StringJoiner sj = new StringJoiner(";");
+            for (Long id : selectedOptions(ca, q)) sj.add(String.valueOf(id));
+            return sj.toString();
+        }
+        if (answer instanceof TrueFalseAnswer tf) return String.valueOf(tf.isValue());
+        if (answer instanceof TextAnswer ta) return ta.getText() == null ? "" : ta.getText();
+        if (answer instanceof MatchingAnswer ma) {
+            StringJoiner sj = new StringJoiner(";");
+            for (MatchingPair p : sortedPairs(ma)) sj.add(p.getLeftId() + ":" + p.getRightId());
+            return sj.toString();
+        }
+        return "";
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.encuestas_api.reports.domain.service;
+
+import com.example.encuestas_api.reports.domain.model.ReportCounter;
+import com.example.encuestas_api.reports.domain.valueobject.FormAggregates;
+import com.example.encuestas_api.reports.domain.valueobject.ReportCounterMetric;
+import com.example.encuestas_api.responses.domain.model.*;
+
+import java.util.*;
+
+public class ReportCounterCalculator {
+
+    private static final Comparator<ReportCounter> PAIR_ORDER =
+            Comparator.comparing((ReportCounter c) -> c.getFirstSubmissionId() == null ? Long.MAX_VALUE : c.getFirstSubmissionId())
+                    .thenComparing(ReportCounter::getKey1)
+                    .thenComparing(ReportCounter::getKey2);
+
+    /** Contadores que aporta una submission enviada; los repetidos ya vienen sumados. */
+    public List<ReportCounter> countersFor(Submission s) {
+        Long formId = s.getFormId();
+        Long sid = s.getId();
+        Map<String, ReportCounter> out = new LinkedHashMap<>();
+        add(out, new ReportCounter(formId, 0L, ReportCounterMetric.SUBMITTED, 0L, 0L, 1, sid));
+
+        for (SubmissionAnswer a : s.getAnswers()) {
+            Long qid = a.getQuestionId();
+            if (a instanceof ChoiceAnswer ca) {
+                add(out, new ReportCounter(formId, qid, ReportCounterMetric.CHOICE_ANSWERED, 0L, 0L, 1, sid));
+                for (Long opt : ca.getSelectedOptionIds()) {
+                    add(out, new ReportCounter(formId, qid, ReportCounterMetric.CHOICE_OPTION, opt, 0L, 1, sid));
+                }
+            } else if (a instanceof TrueFalseAnswer tf) {
+                var metric = tf.isValue() ? ReportCounterMetric.TRUE_COUNT : ReportCounterMetric.FALSE_COUNT;
+                add(out, new ReportCounter(formId, qid, metric, 0L, 0L, 1, sid));
+            } else if (a instanceof TextAnswer ta) {
+                if (TextAnswerContent.hasContent(ta.getText())) {
+                    add(out, new ReportCounter(formId, qid, ReportCounterMetric.TEXT_ANSWERED, 0L, 0L, 1, sid));
+                }
+            } else if (a instanceof MatchingAnswer ma) {
+                if (ma.getPairs().isEmpty()) continue;
+                add(out, new ReportCounter(formId, qid, ReportCounterMetric.MATCHING_ANSWERED, 0L, 0L, 1, sid));
+                for (MatchingPair p : ma.getPairs()) {
+                    add(out, new ReportCounter(formId, qid, ReportCounterMetric.MATCHING_PAIR, p.getLeftId(), p.getRightId(), 1, sid));
+                }
+            }
+        }
+        return new ArrayList<>(out.values());
+    }
+
+    public void merge(Map<String, ReportCounter> target, Collection<ReportCounter> counters) {
+        counters.forEach(c -> add(target, c));
+    }
+
+    /** Los contadores solo cubren submissions enviadas, por eso total = enviadas = base. */
+    public FormAggregates toAggregates(Collection<ReportCounter> counters) {
+        var b = new FormAggregates.Builder();
+        List<ReportCounter> pairs = new ArrayList<>();
+        for (ReportCounter c : counters) {
+            Long qid = c.getQuestionId();
+            switch (c.getMetric()) {
+                case SUBMITTED -> b.totals(c.getValue(), c.getValue(), c.getValue());
+                case CHOICE_ANSWERED -> b.choiceAnswered(qid, c.getValue());
+                case CHOICE_OPTION -> b.choiceSelection(qid, c.getKey1(), c.getValue());
+                case TRUE_COUNT -> b.trueFalse(qid, true, c.getValue());
+                case FALSE_COUNT -> b.trueFalse(qid, false, c.getValue());
+                case TEXT_ANSWERED -> b.textAnswered(qid, c.getValue());
+                case MATCHING_ANSWERED -> b.matchingAnswered(qid, c.getValue());
+                case MATCHING_PAIR -> { if (c.getValue() > 0) pairs.add(c); }
+            }
+        }
+        pairs.sort(PAIR_ORDER);
+        pairs.forEach(c -> b.matchingPair(c.getQuestionId(), c.getKey1(), c.getKey2(), c.getValue()));
+        return b.build();
+    }
+
+    private static void add(Map<String, ReportCounter> out, ReportCounter c) {
+        out.merge(c.key(), c, ReportCounter::plus);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.encuestas_api.reports.domain.service;
+
+import java.util.List;
+
+/**
+ * Criterio unico de "texto respondido" para el calculo en memoria, los contadores y el
+ * GROUP BY en base de datos: cuenta si queda algun caracter al quitar {@link #BLANKS}.
+ * No se usa String.isBlank() porque su conjunto de espacios no se puede replicar en SQL.
+ */
+public final class TextAnswerContent {
+
+    /** Caracteres que no cuentan como respuesta; el adapter SQL los elimina uno a uno con replace(). */
+    public static final List<String> BLANKS = List.of(" ", "\t", "\n", "\r", "\f", "\u000B");
+
+    private TextAnswerContent() { }
+
+    public static boolean hasContent(String text) {
+        if (text == null) return false;
+        for (int i = 0; i < text.length(); i++) {
+            if (!BLANKS.contains(String.valueOf(text.charAt(i)))) return true;
+        }
+        return false;
+    }
+}
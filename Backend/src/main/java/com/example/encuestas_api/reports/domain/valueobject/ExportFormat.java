@@ -0,0 +1,3 @@
+package com.example.encuestas_api.reports.domain.valueobject;
+
+public enum ExportFormat { XLSX, PDF }
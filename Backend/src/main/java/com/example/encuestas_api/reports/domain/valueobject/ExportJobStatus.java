@@ -0,0 +1,7 @@
+package com.example.encuestas_api.reports.domain.valueobject;
+
+public enum ExportJobStatus {
+    QUEUED, RUNNING, DONE, FAILED, EXPIRED;
+
+    public boolean isActive() { return this == QUEUED || this == RUNNING; }
+}
@@ -0,0 +1,106 @@
+package com.example.encuestas_api.reports.domain.valueobject;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Conteos ya agregados de un formulario (por ejemplo con GROUP BY en la base de datos).
+ * Los pares de matching conservan el orden de primera aparicion.
+ */
+public class FormAggregates {
+    private final long total;
+    private final long submitted;
+    private final long base;
+
+    private final Map<Long, Long> choiceAnswered;
+    private final Map<Long, Map<Long, Long>> choiceSelections;
+    private final Map<Long, Long> trueCounts;
+    private final Map<Long, Long> falseCounts;
+    private final Map<Long, Long> textAnswered;
+    private final Map<Long, Long> matchingAnswered;
+    private final Map<Long, Map<PairKey, Long>> matchingPairs;
+
+    private FormAggregates(Builder b) {
+        this.total = b.total;
+        this.submitted = b.submitted;
+        this.base = b.base;
+        this.choiceAnswered = b.choiceAnswered;
+        this.choiceSelections = b.choiceSelections;
+        this.trueCounts = b.trueCounts;
+        this.falseCounts = b.falseCounts;
+        this.textAnswered = b.textAnswered;
+        this.matchingAnswered = b.matchingAnswered;
+        this.matchingPairs = b.matchingPairs;
+    }
+
+    public long getTotal() { return total; }
+    public long getSubmitted() { return submitted; }
+    public long getBase() { return base; }
+
+    public long choiceAnswered(Long questionId) { return choiceAnswered.getOrDefault(questionId, 0L); }
+    public Map<Long, Long> choiceSelections(Long questionId) {
+        return choiceSelections.getOrDefault(questionId, Collections.emptyMap());
+    }
+    public long trueCount(Long questionId) { return trueCounts.getOrDefault(questionId, 0L); }
+    public long falseCount(Long questionId) { return falseCounts.getOrDefault(questionId, 0L); }
+    public long textAnswered(Long questionId) { return textAnswered.getOrDefault(questionId, 0L); }
+    public long matchingAnswered(Long questionId) { return matchingAnswered.getOrDefault(questionId, 0L); }
+    public Map<PairKey, Long> matchingPairs(Long questionId) {
+        return matchingPairs.getOrDefault(questionId, Collections.emptyMap());
+    }
+
+    public static class Builder {
+        private long total;
+        private long submitted;
+        private long base;
+        private final Map<Long, Long> choiceAnswered = new HashMap<>();
+        private final Map<Long, Map<Long, Long>> choiceSelections = new HashMap<>();
+        private final Map<Long, Long> trueCounts = new HashMap<>();
+        private final Map<Long, Long> falseCounts = new HashMap<>();
+        private final Map<Long, Long> textAnswered = new HashMap<>();
+        private final Map<Long, Long> matchingAnswered = new HashMap<>();
+        private final Map<Long, Map<PairKey, Long>> matchingPairs = new HashMap<>();
+
+        public Builder totals(long total, long submitted, long base) {
+            this.total = total;
+            this.submitted = submitted;
+            this.base = base;
+            return this;
+        }
+
+        public Builder choiceAnswered(Long questionId, long count) {
+            choiceAnswered.put(questionId, count);
+            return this;
+        }
+
+        public Builder choiceSelection(Long questionId, Long optionId, long count) {
+            choiceSelections.computeIfAbsent(questionId, k -> new HashMap<>()).put(optionId, count);
+            return this;
+        }
+
+        public Builder trueFalse(Long questionId, boolean value, long count) {
+            (value ? trueCounts : falseCounts).put(questionId, count);
+            return this;
+        }
+
+        public Builder textAnswered(Long questionId, long count) {
+            textAnswered.put(questionId, count);
+            return this;
+        }
+
+        public Builder matchingAnswered(Long questionId, long count) {
+            matchingAnswered.put(questionId, count);
+            return this;
+        }
+
+        /** Debe llamarse en orden de primera aparicion del par. */
+        public Builder matchingPair(Long questionId, Long leftId, Long rightId, long count) {
+            matchingPairs.computeIfAbsent(questionId, k -> new LinkedHashMap<>()).put(new PairKey(leftId, rightId), count);
+            return this;
+        }
+
+        public FormAggregates build() { return new FormAggregates(this); }
+    }
+}
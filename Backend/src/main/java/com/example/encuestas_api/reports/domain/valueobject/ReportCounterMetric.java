@@ -0,0 +1,12 @@
+package com.example.encuestas_api.reports.domain.valueobject;
+
+public enum ReportCounterMetric {
+    SUBMITTED,
+    CHOICE_ANSWERED,
+    CHOICE_OPTION,
+    TRUE_COUNT,
+    FALSE_COUNT,
+    TEXT_ANSWERED,
+    MATCHING_ANSWERED,
+    MATCHING_PAIR
+}
@@ -0,0 +1,67 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.in.rest;
+
+import com.example.encuestas_api.reports.application.dto.EnqueueExportJobCommand;
+import com.example.encuestas_api.reports.application.dto.ExportedFile;
+import com.example.encuestas_api.reports.application.port.in.DownloadExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.in.EnqueueExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.in.GetExportJobUseCase;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.EnqueueExportJobRequest;
+import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.ExportJobResponse;
+import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.mapper.ReportsRestMapper;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/reports/jobs")
+public class ExportJobsController {
+
+    private final EnqueueExportJobUseCase enqueueUC;
+    private final GetExportJobUseCase getUC;
+    private final DownloadExportJobUseCase downloadUC;
+
+    public ExportJobsController(EnqueueExportJobUseCase enqueueUC,
+                                GetExportJobUseCase getUC,
+                                DownloadExportJobUseCase downloadUC) {
+        this.enqueueUC = enqueueUC;
+        this.getUC = getUC;
+        this.downloadUC = downloadUC;
+    }
+
+    @PostMapping
+    public ResponseEntity<ExportJobResponse> enqueue(@Valid @RequestBody EnqueueExportJobRequest req) {
+        ExportJob job = enqueueUC.handle(
+                new EnqueueExportJobCommand(req.target(), req.targetId(), req.format(), req.includeDrafts()));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reports/jobs/" + job.getId()))
+                .body(ReportsRestMapper.toResponse(job));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ExportJobResponse> get(@PathVariable String jobId) {
+        return ResponseEntity.ok(ReportsRestMapper.toResponse(getUC.handle(jobId)));
+    }
+
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<?> download(@PathVariable String jobId) {
+        ExportJob job = getUC.handle(jobId);
+        if (job.getStatus() != ExportJobStatus.DONE) {
+            // todavia no hay artefacto (o ya expiro): se devuelve el estado
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(ReportsRestMapper.toResponse(job));
+        }
+        ExportedFile file = downloadUC.handle(jobId);
+        StreamingResponseBody body = out -> file.writer().writeTo(out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.filename() + "\"")
+                .contentType(MediaType.parseMediaType(file.contentType()))
+                .body(body);
+    }
+}
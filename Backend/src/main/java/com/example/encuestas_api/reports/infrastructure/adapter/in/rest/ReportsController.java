@@ -1,10 +1,14 @@
 package com.example.encuestas_api.reports.infrastructure.adapter.in.rest;
 
 import com.example.encuestas_api.reports.application.dto.*;
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
 import com.example.encuestas_api.reports.application.port.in.ExportCampaignReportUseCase;
 import com.example.encuestas_api.reports.application.port.in.ExportFormReportUseCase;
+import com.example.encuestas_api.reports.application.port.in.ExportRawResponsesUseCase;
 import com.example.encuestas_api.reports.application.port.in.GenerateCampaignReportUseCase;
 import com.example.encuestas_api.reports.application.port.in.GenerateFormReportUseCase;
+import com.example.encuestas_api.reports.application.port.in.GetReportCacheStatsUseCase;
+import com.example.encuestas_api.reports.application.port.in.RebuildReportCountersUseCase;
 import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.CampaignReportResponse;
 import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.FormReportResponse;
 import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.mapper.ReportsRestMapper;
@@ -12,6 +16,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -21,15 +28,24 @@ public class ReportsController {
     private final GenerateCampaignReportUseCase campaignUC;
     private final ExportFormReportUseCase exportFormUC;
     private final ExportCampaignReportUseCase exportCampaignUC;
+    private final RebuildReportCountersUseCase rebuildCountersUC;
+    private final GetReportCacheStatsUseCase cacheStatsUC;
+    private final ExportRawResponsesUseCase exportRawUC;
 
     public ReportsController(GenerateFormReportUseCase formUC,
                              GenerateCampaignReportUseCase campaignUC,
                              ExportFormReportUseCase exportFormUC,
-                             ExportCampaignReportUseCase exportCampaignUC) {
+                             ExportCampaignReportUseCase exportCampaignUC,
+                             RebuildReportCountersUseCase rebuildCountersUC,
+                             GetReportCacheStatsUseCase cacheStatsUC,
+                             ExportRawResponsesUseCase exportRawUC) {
         this.formUC = formUC;
         this.campaignUC = campaignUC;
         this.exportFormUC = exportFormUC;
         this.exportCampaignUC = exportCampaignUC;
+        this.rebuildCountersUC = rebuildCountersUC;
+        this.cacheStatsUC = cacheStatsUC;
+        this.exportRawUC = exportRawUC;
     }
 
     // ---------- JSON ----------
@@ -47,25 +63,61 @@ public class ReportsController {
         return ResponseEntity.ok(ReportsRestMapper.toResponse(report));
     }
 
+    // ---------- Contadores ----------
+    @PostMapping("/forms/{formId}/counters/rebuild")
+    public ResponseEntity<Void> rebuildCounters(@PathVariable Long formId) {
+        rebuildCountersUC.handle(formId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // ---------- Cache ----------
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ReportCacheStats> cacheStats() {
+        return ResponseEntity.ok(cacheStatsUC.handle());
+    }
+
     @GetMapping("/forms/{formId}/export")
-    public ResponseEntity<byte[]> exportForm(@PathVariable Long formId,
-                                             @RequestParam(defaultValue = "false") boolean includeDrafts,
-                                             @RequestParam(defaultValue = "PDF") ExportFormat format) {
+    public ResponseEntity<StreamingResponseBody> exportForm(@PathVariable Long formId,
+                                                            @RequestParam(defaultValue = "false") boolean includeDrafts,
+                                                            @RequestParam(defaultValue = "PDF") ExportFormat format) {
         ExportedFile file = exportFormUC.handle(new ExportFormReportQuery(formId, includeDrafts, format));
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.filename() + "\"")
                 .contentType(MediaType.parseMediaType(file.contentType()))
-                .body(file.bytes());
+                .body(out -> file.writer().writeTo(out));
     }
 
     @GetMapping("/campaigns/{campaignId}/export")
-    public ResponseEntity<byte[]> exportCampaign(@PathVariable Long campaignId,
-                                                 @RequestParam(defaultValue = "false") boolean includeDrafts,
-                                                 @RequestParam(defaultValue = "PDF") ExportFormat format) {
+    public ResponseEntity<StreamingResponseBody> exportCampaign(@PathVariable Long campaignId,
+                                                                @RequestParam(defaultValue = "false") boolean includeDrafts,
+                                                                @RequestParam(defaultValue = "PDF") ExportFormat format) {
         ExportedFile file = exportCampaignUC.handle(new ExportCampaignReportQuery(campaignId, includeDrafts, format));
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.filename() + "\"")
                 .contentType(MediaType.parseMediaType(file.contentType()))
-                .body(file.bytes());
+                .body(out -> file.writer().writeTo(out));
+    }
+
+    @GetMapping("/forms/{formId}/raw")
+    public ResponseEntity<StreamingResponseBody> exportRaw(@PathVariable Long formId,
+                                                           @RequestParam(defaultValue = "false") boolean includeDrafts,
+                                                           @RequestParam(defaultValue = "CSV") RawExportFormat format,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ExportedFile file = exportRawUC.handle(new ExportRawResponsesQuery(formId, includeDrafts, format));
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+
+        ResponseEntity.BodyBuilder rb = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.filename() + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.parseMediaType(file.contentType()));
+        if (!gzip) {
+            return rb.body(out -> file.writer().writeTo(out));
+        }
+        return rb.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(out -> {
+                    GZIPOutputStream gz = new GZIPOutputStream(out, 8192);
+                    file.writer().writeTo(gz);
+                    gz.finish();
+                });
     }
 }
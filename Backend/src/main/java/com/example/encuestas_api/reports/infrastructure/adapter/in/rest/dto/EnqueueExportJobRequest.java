@@ -0,0 +1,12 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto;
+
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+import jakarta.validation.constraints.NotNull;
+
+public record EnqueueExportJobRequest(
+        @NotNull ExportTarget target,
+        @NotNull Long targetId,
+        @NotNull ExportFormat format,
+        boolean includeDrafts
+) {}
@@ -0,0 +1,20 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto;
+
+import java.time.Instant;
+
+public record ExportJobResponse(
+        String id,
+        String target,
+        Long targetId,
+        String format,
+        boolean includeDrafts,
+        String status,
+        int progress,
+        String filename,
+        long sizeBytes,
+        String error,
+        Instant createdAt,
+        Instant startedAt,
+        Instant finishedAt,
+        Instant expiresAt
+) {}
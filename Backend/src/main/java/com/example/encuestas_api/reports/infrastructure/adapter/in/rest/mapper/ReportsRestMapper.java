@@ -2,6 +2,7 @@ package com.example.encuestas_api.reports.infrastructure.adapter.in.rest.mapper;
 
 import com.example.encuestas_api.reports.domain.model.*;
 import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.CampaignReportResponse;
+import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.ExportJobResponse;
 import com.example.encuestas_api.reports.infrastructure.adapter.in.rest.dto.FormReportResponse;
 
 import java.util.List;
@@ -73,4 +74,12 @@ public final class ReportsRestMapper {
                 forms
         );
     }
+
+    public static ExportJobResponse toResponse(ExportJob j) {
+        return new ExportJobResponse(
+                j.getId(), j.getTarget().name(), j.getTargetId(), j.getFormat().name(), j.isIncludeDrafts(),
+                j.getStatus().name(), j.getProgress(), j.getFilename(), j.getSizeBytes(), j.getError(),
+                j.getCreatedAt(), j.getStartedAt(), j.getFinishedAt(), j.getExpiresAt()
+        );
+    }
 }
@@ -0,0 +1,142 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.reports.application.dto.ReportCacheStats;
+import com.example.encuestas_api.reports.application.port.out.ReportCachePort;
+import com.example.encuestas_api.reports.domain.model.CampaignReport;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * LRU acotada por tamaño y por TTL. Las entradas de campaña recuerdan sus formularios
+ * para poder invalidarlas cuando cambia cualquiera de ellos.
+ * <p>
+ * La ultima invalidacion de cada formulario se recuerda para descartar cargas que empezaron
+ * antes; solo se guardan las max_tracked_invalidations mas recientes. Al olvidar una se sube
+ * {@code forgottenUpTo} y cualquier carga anterior a ese punto se descarta sin mirar el formulario.
+ */
+@Component
+public class InMemoryReportCacheAdapter implements ReportCachePort {
+
+    private enum Kind { FORM, CAMPAIGN }
+
+    private record Key(Kind kind, Long id, boolean includeDrafts) {}
+
+    private record Entry(Object value, Set<Long> formIds, Instant expiresAt) {}
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final int maxTrackedInvalidations;
+
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // en orden de invalidacion: la cabeza es la mas antigua
+    private final LinkedHashMap<Long, Long> lastInvalidation = new LinkedHashMap<>();
+    private long sequence;
+    private long forgottenUpTo = -1;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public InMemoryReportCacheAdapter(Clock clock,
+                                      @Value("${reports.cache.enabled:true}") boolean enabled,
+                                      @Value("${reports.cache.max_entries:500}") int maxEntries,
+                                      @Value("${reports.cache.ttl_seconds:60}") long ttlSeconds,
+                                      @Value("${reports.cache.max_tracked_invalidations:10000}") int maxTrackedInvalidations) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxTrackedInvalidations = Math.max(1, maxTrackedInvalidations);
+    }
+
+    @Override
+    public Optional<FormReport> getForm(Long formId, boolean includeDrafts) {
+        return get(new Key(Kind.FORM, formId, includeDrafts)).map(FormReport.class::cast);
+    }
+
+    @Override
+    public Optional<CampaignReport> getCampaign(Long campaignId, boolean includeDrafts) {
+        return get(new Key(Kind.CAMPAIGN, campaignId, includeDrafts)).map(CampaignReport.class::cast);
+    }
+
+    @Override
+    public synchronized long beginLoad() {
+        return sequence;
+    }
+
+    @Override
+    public void putForm(FormReport report, boolean includeDrafts, long loadMark) {
+        put(new Key(Kind.FORM, report.getFormId(), includeDrafts), report, Set.of(report.getFormId()), loadMark);
+    }
+
+    @Override
+    public void putCampaign(CampaignReport report, boolean includeDrafts, long loadMark) {
+        Set<Long> formIds = new HashSet<>();
+        report.getForms().forEach(f -> formIds.add(f.getFormId()));
+        put(new Key(Kind.CAMPAIGN, report.getCampaignId(), includeDrafts), report, formIds, loadMark);
+    }
+
+    @Override
+    public synchronized void invalidateForm(Long formId) {
+        lastInvalidation.remove(formId);
+        lastInvalidation.put(formId, ++sequence);
+        var tracked = lastInvalidation.values().iterator();
+        while (lastInvalidation.size() > maxTrackedInvalidations) {
+            forgottenUpTo = Math.max(forgottenUpTo, tracked.next());
+            tracked.remove();
+        }
+        var it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().formIds().contains(formId)) {
+                it.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    @Override
+    public synchronized ReportCacheStats stats() {
+        return new ReportCacheStats(hits, misses, evictions, invalidations, entries.size(), maxEntries);
+    }
+
+    private synchronized Optional<Object> get(Key key) {
+        if (!enabled) return Optional.empty();
+        Entry e = entries.get(key);
+        if (e != null && e.expiresAt().isBefore(clock.instant())) {
+            entries.remove(key);
+            evictions++;
+            e = null;
+        }
+        if (e == null) {
+            misses++;
+            return Optional.empty();
+        }
+        hits++;
+        return Optional.of(e.value());
+    }
+
+    private synchronized void put(Key key, Object value, Set<Long> formIds, long loadMark) {
+        if (!enabled) return;
+        // alguna invalidacion posterior a la carga pudo olvidarse: no se puede descartar que sea de estos formularios
+        if (forgottenUpTo > loadMark) return;
+        for (Long formId : formIds) {
+            if (lastInvalidation.getOrDefault(formId, -1L) > loadMark) return;
+        }
+        entries.put(key, new Entry(value, formIds, clock.instant().plus(ttl)));
+        var it = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions++;
+        }
+    }
+}
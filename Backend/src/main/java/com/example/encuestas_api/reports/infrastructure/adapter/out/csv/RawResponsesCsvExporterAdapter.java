@@ -0,0 +1,93 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.csv;
+
+import com.example.encuestas_api.reports.application.dto.RawSubmissionSource;
+import com.example.encuestas_api.reports.application.port.out.RawResponsesCsvExporterPort;
+import com.example.encuestas_api.reports.domain.service.RawAnswerFormatter;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+@Component
+public class RawResponsesCsvExporterAdapter implements RawResponsesCsvExporterPort {
+
+    @Override
+    public void export(List<QuestionSnapshot> columns, RawSubmissionSource source, OutputStream out) {
+        try {
+            Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+            w.write("submission_id,status,respondent_type,respondent,created_at,submitted_at");
+            for (QuestionSnapshot q : columns) {
+                w.write(",q_");
+                w.write(String.valueOf(q.getQuestionId()));
+            }
+            w.write("\r\n");
+
+            source.forEach(s -> {
+                try {
+                    writeRow(w, columns, s);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            w.flush();
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Error generating CSV raw responses", e);
+        }
+    }
+
+    private void writeRow(Writer w, List<QuestionSnapshot> columns, Submission s) throws IOException {
+        Respondent r = s.getRespondent();
+        w.write(String.valueOf(s.getId()));
+        w.write(',');
+        w.write(s.getStatus().name());
+        w.write(',');
+        w.write(r.getType().name());
+        w.write(',');
+        writeCell(w, respondentValue(r));
+        w.write(',');
+        w.write(instant(s.getCreatedAt()));
+        w.write(',');
+        w.write(instant(s.getSubmittedAt()));
+        for (QuestionSnapshot q : columns) {
+            w.write(',');
+            writeCell(w, RawAnswerFormatter.toText(s.findAnswer(q.getQuestionId()).orElse(null), q));
+        }
+        w.write("\r\n");
+    }
+
+    // RFC 4180: comillas solo si hace falta, duplicando las internas
+    private void writeCell(Writer w, String v) throws IOException {
+        if (v == null || v.isEmpty()) return;
+        boolean quote = false;
+        for (int i = 0; i < v.length() && !quote; i++) {
+            char c = v.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            w.write(v);
+            return;
+        }
+        w.write('"');
+        w.write(v.replace("\"", "\"\""));
+        w.write('"');
+    }
+
+    private String respondentValue(Respondent r) {
+        return switch (r.getType()) {
+            case ANONYMOUS -> "";
+            case USER -> String.valueOf(r.getUserId());
+            case EMAIL -> r.getEmail();
+            case CODE -> r.getCode();
+        };
+    }
+
+    private String instant(Instant i) {
+        return i == null ? "" : i.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.executor;
+
+import com.example.encuestas_api.reports.application.port.in.RunExportJobUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportJobQueuePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+@Component
+public class ExecutorExportJobQueueAdapter implements ExportJobQueuePort {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutorExportJobQueueAdapter.class);
+
+    private final ExecutorService executor;
+    private final RunExportJobUseCase runJob;
+
+    // ids ya entregados al pool: evita meter el mismo job varias veces en la cola
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ExecutorExportJobQueueAdapter(@Qualifier("exportJobExecutor") ExecutorService executor,
+                                         RunExportJobUseCase runJob) {
+        this.executor = executor;
+        this.runJob = runJob;
+    }
+
+    @Override
+    public boolean submit(String jobId) {
+        if (!inFlight.add(jobId)) return true;
+        try {
+            executor.execute(() -> {
+                try {
+                    runJob.handle(jobId);
+                } catch (RuntimeException ex) {
+                    log.warn("Export job {} abortado: {}", jobId, ex.getMessage());
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(jobId);
+            return false;
+        }
+    }
+}
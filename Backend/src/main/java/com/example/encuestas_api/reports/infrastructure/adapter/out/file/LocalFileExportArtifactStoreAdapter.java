@@ -0,0 +1,72 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.file;
+
+import com.example.encuestas_api.reports.application.dto.ExportWriter;
+import com.example.encuestas_api.reports.application.dto.StoredArtifact;
+import com.example.encuestas_api.reports.application.port.out.ExportArtifactStorePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Guarda los artefactos en un directorio local. La location es solo el nombre del
+ * fichero, resuelto siempre contra el directorio base.
+ */
+@Component
+public class LocalFileExportArtifactStoreAdapter implements ExportArtifactStorePort {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalFileExportArtifactStoreAdapter.class);
+
+    private final Path baseDir;
+
+    public LocalFileExportArtifactStoreAdapter(@Value("${reports.export.dir:}") String dir) {
+        this.baseDir = (dir == null || dir.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "encuestas-exports")
+                : Path.of(dir)).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public StoredArtifact write(String name, ExportWriter writer) throws IOException {
+        Path target = resolve(name);
+        Files.createDirectories(baseDir);
+        // se escribe a .part y se mueve al final: nunca se sirve un fichero a medias
+        Path tmp = baseDir.resolve(name + ".part");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+            writer.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new StoredArtifact(name, Files.size(target));
+    }
+
+    @Override
+    public void copyTo(String location, OutputStream out) throws IOException {
+        Files.copy(resolve(location), out);
+    }
+
+    @Override
+    public void delete(String location) {
+        try {
+            Files.deleteIfExists(resolve(location));
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el artefacto {}: {}", location, e.getMessage());
+        }
+    }
+
+    private Path resolve(String name) {
+        Path p = baseDir.resolve(name).normalize();
+        if (!p.getParent().equals(baseDir)) {
+            throw new IllegalArgumentException("Nombre de artefacto invalido: " + name);
+        }
+        return p;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity;
+
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "report_export_jobs",
+        uniqueConstraints = {
+                // solo se rellena mientras el job esta QUEUED/RUNNING: dos peticiones iguales no pueden convivir
+                @UniqueConstraint(name = ExportJobEntity.ACTIVE_KEY_CONSTRAINT, columnNames = {"active_key"})
+        },
+        indexes = {
+                @Index(name = "idx_report_export_status_expires", columnList = "status, expires_at"),
+                @Index(name = "idx_report_export_status_lease", columnList = "status, lease_expires_at")
+        })
+public class ExportJobEntity {
+
+    public static final String ACTIVE_KEY_CONSTRAINT = "uk_report_export_active_key";
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExportTarget target;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ExportFormat format;
+
+    @Column(name = "include_drafts", nullable = false)
+    private boolean includeDrafts;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ExportJobStatus status;
+
+    @Column(nullable = false)
+    private int progress;
+
+    @Column(name = "active_key", length = 120)
+    private String activeKey;
+
+    @Column(length = 200)
+    private String filename;
+
+    @Column(name = "content_type", length = 120)
+    private String contentType;
+
+    @Column(name = "artifact_location", length = 500)
+    private String artifactLocation;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    // worker que lo ejecuta y hasta cuando; solo con status RUNNING
+    @Column(name = "lease_owner", length = 80)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    public String getId() { return id; } public void setId(String id) { this.id = id; }
+    public ExportTarget getTarget() { return target; } public void setTarget(ExportTarget target) { this.target = target; }
+    public Long getTargetId() { return targetId; } public void setTargetId(Long targetId) { this.targetId = targetId; }
+    public ExportFormat getFormat() { return format; } public void setFormat(ExportFormat format) { this.format = format; }
+    public boolean isIncludeDrafts() { return includeDrafts; } public void setIncludeDrafts(boolean includeDrafts) { this.includeDrafts = includeDrafts; }
+    public ExportJobStatus getStatus() { return status; } public void setStatus(ExportJobStatus status) { this.status = status; }
+    public int getProgress() { return progress; } public void setProgress(int progress) { this.progress = progress; }
+    public String getActiveKey() { return activeKey; } public void setActiveKey(String activeKey) { this.activeKey = activeKey; }
+    public String getFilename() { return filename; } public void setFilename(String filename) { this.filename = filename; }
+    public String getContentType() { return contentType; } public void setContentType(String contentType) { this.contentType = contentType; }
+    public String getArtifactLocation() { return artifactLocation; } public void setArtifactLocation(String artifactLocation) { this.artifactLocation = artifactLocation; }
+    public long getSizeBytes() { return sizeBytes; } public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+    public String getError() { return error; } public void setError(String error) { this.error = error; }
+    public Instant getCreatedAt() { return createdAt; } public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+    public Instant getStartedAt() { return startedAt; } public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+    public Instant getFinishedAt() { return finishedAt; } public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+    public Instant getExpiresAt() { return expiresAt; } public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+    public String getLeaseOwner() { return leaseOwner; } public void setLeaseOwner(String leaseOwner) { this.leaseOwner = leaseOwner; }
+    public Instant getLeaseExpiresAt() { return leaseExpiresAt; } public void setLeaseExpiresAt(Instant leaseExpiresAt) { this.leaseExpiresAt = leaseExpiresAt; }
+}
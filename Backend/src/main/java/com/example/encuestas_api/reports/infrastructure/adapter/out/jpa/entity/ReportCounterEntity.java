@@ -0,0 +1,46 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity;
+
+import com.example.encuestas_api.reports.domain.valueobject.ReportCounterMetric;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "report_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_report_counter_key",
+                columnNames = {"form_id", "question_id", "metric", "key1", "key2"})
+})
+public class ReportCounterEntity {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "form_id", nullable = false)
+    private Long formId;
+
+    @Column(name = "question_id", nullable = false)
+    private Long questionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReportCounterMetric metric;
+
+    @Column(nullable = false)
+    private Long key1;
+
+    @Column(nullable = false)
+    private Long key2;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    @Column(name = "first_submission_id")
+    private Long firstSubmissionId;
+
+    public Long getId() { return id; }
+    public Long getFormId() { return formId; } public void setFormId(Long formId) { this.formId = formId; }
+    public Long getQuestionId() { return questionId; } public void setQuestionId(Long questionId) { this.questionId = questionId; }
+    public ReportCounterMetric getMetric() { return metric; } public void setMetric(ReportCounterMetric metric) { this.metric = metric; }
+    public Long getKey1() { return key1; } public void setKey1(Long key1) { this.key1 = key1; }
+    public Long getKey2() { return key2; } public void setKey2(Long key2) { this.key2 = key2; }
+    public long getValue() { return value; } public void setValue(long value) { this.value = value; }
+    public Long getFirstSubmissionId() { return firstSubmissionId; } public void setFirstSubmissionId(Long firstSubmissionId) { this.firstSubmissionId = firstSubmissionId; }
+}
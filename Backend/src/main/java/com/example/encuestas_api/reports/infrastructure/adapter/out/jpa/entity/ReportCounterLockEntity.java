@@ -0,0 +1,19 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Fila de bloqueo por formulario. Todo cambio de contadores la toma con SELECT ... FOR UPDATE,
+ * asi los submits concurrentes no chocan en uk_report_counter_key ni reconstruyen dos veces.
+ */
+@Entity
+@Table(name = "report_counter_locks")
+public class ReportCounterLockEntity {
+
+    @Id
+    @Column(name = "form_id")
+    private Long formId;
+
+    public Long getFormId() { return formId; }
+    public void setFormId(Long formId) { this.formId = formId; }
+}
@@ -0,0 +1,229 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.exception.ActiveExportJobExistsException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity.ExportJobEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+@Transactional
+public class ExportJobJpaAdapter implements ExportJobRepositoryPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public ExportJob save(ExportJob job) {
+        ExportJobEntity e = em.find(ExportJobEntity.class, job.getId());
+        if (e == null) {
+            e = new ExportJobEntity();
+            e.setId(job.getId());
+            copy(job, e);
+            try {
+                em.persist(e);
+                em.flush();
+            } catch (PersistenceException ex) {
+                // la unique sobre active_key es la que deduplica entre instancias; cualquier otro fallo sigue su camino
+                if (e.getActiveKey() != null && violatesActiveKey(ex)) {
+                    throw new ActiveExportJobExistsException(e.getActiveKey(), ex);
+                }
+                throw ex;
+            }
+            return toDomain(e);
+        }
+        copy(job, e);
+        em.flush();
+        return toDomain(e);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ExportJob> findById(String jobId) {
+        return Optional.ofNullable(em.find(ExportJobEntity.class, jobId)).map(this::toDomain);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ExportJob> findActiveByDedupKey(String dedupKey) {
+        return em.createQuery("""
+                select j from ExportJobEntity j
+                where j.activeKey = :k
+                """, ExportJobEntity.class)
+                .setParameter("k", dedupKey)
+                .getResultStream()
+                .findFirst()
+                .map(this::toDomain);
+    }
+
+    @Override
+    public boolean claim(String jobId, String owner, Instant now, Instant leaseUntil) {
+        int updated = em.createQuery("""
+                update ExportJobEntity j
+                set j.status = :running, j.startedAt = :now, j.progress = 0,
+                    j.leaseOwner = :owner, j.leaseExpiresAt = :until
+                where j.id = :id and j.status = :queued
+                """)
+                .setParameter("running", ExportJobStatus.RUNNING)
+                .setParameter("queued", ExportJobStatus.QUEUED)
+                .setParameter("now", now)
+                .setParameter("owner", owner)
+                .setParameter("until", leaseUntil)
+                .setParameter("id", jobId)
+                .executeUpdate();
+        return updated == 1;
+    }
+
+    @Override
+    public int renewLeases(Collection<String> jobIds, String owner, Instant leaseUntil) {
+        if (jobIds.isEmpty()) return 0;
+        return em.createQuery("""
+                update ExportJobEntity j
+                set j.leaseExpiresAt = :until
+                where j.id in :ids and j.status = :running and j.leaseOwner = :owner
+                """)
+                .setParameter("until", leaseUntil)
+                .setParameter("ids", jobIds)
+                .setParameter("running", ExportJobStatus.RUNNING)
+                .setParameter("owner", owner)
+                .executeUpdate();
+    }
+
+    @Override
+    public boolean finish(ExportJob job, String owner) {
+        // bloqueo de fila: un requeue concurrente no puede colarse entre la comprobacion y el update
+        ExportJobEntity e = em.find(ExportJobEntity.class, job.getId(), LockModeType.PESSIMISTIC_WRITE);
+        if (e == null || e.getStatus() != ExportJobStatus.RUNNING || !owner.equals(e.getLeaseOwner())) return false;
+        copy(job, e);
+        e.setLeaseOwner(null);
+        e.setLeaseExpiresAt(null);
+        em.flush();
+        return true;
+    }
+
+    @Override
+    public void updateProgress(String jobId, int progress) {
+        em.createQuery("""
+                update ExportJobEntity j
+                set j.progress = :p
+                where j.id = :id and j.status = :running
+                """)
+                .setParameter("p", Math.max(0, Math.min(100, progress)))
+                .setParameter("running", ExportJobStatus.RUNNING)
+                .setParameter("id", jobId)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findQueuedIds(int limit) {
+        return em.createQuery("""
+                select j.id from ExportJobEntity j
+                where j.status = :queued
+                order by j.createdAt asc
+                """, String.class)
+                .setParameter("queued", ExportJobStatus.QUEUED)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int requeueExpired(Instant now) {
+        return em.createQuery("""
+                update ExportJobEntity j
+                set j.status = :queued, j.progress = 0, j.startedAt = null,
+                    j.leaseOwner = null, j.leaseExpiresAt = null
+                where j.status = :running and (j.leaseExpiresAt is null or j.leaseExpiresAt <= :now)
+                """)
+                .setParameter("queued", ExportJobStatus.QUEUED)
+                .setParameter("running", ExportJobStatus.RUNNING)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    public int requeueOwnedBy(String ownerPrefix) {
+        return em.createQuery("""
+                update ExportJobEntity j
+                set j.status = :queued, j.progress = 0, j.startedAt = null,
+                    j.leaseOwner = null, j.leaseExpiresAt = null
+                where j.status = :running and substring(j.leaseOwner, 1, :len) = :prefix
+                """)
+                .setParameter("queued", ExportJobStatus.QUEUED)
+                .setParameter("running", ExportJobStatus.RUNNING)
+                .setParameter("len", ownerPrefix.length())
+                .setParameter("prefix", ownerPrefix)
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExportJob> findExpired(Instant now, int limit) {
+        return em.createQuery("""
+                select j from ExportJobEntity j
+                where j.status in :st and j.expiresAt <= :now
+                order by j.expiresAt asc
+                """, ExportJobEntity.class)
+                .setParameter("st", List.of(ExportJobStatus.DONE, ExportJobStatus.FAILED))
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .getResultList()
+                .stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    private void copy(ExportJob j, ExportJobEntity e) {
+        e.setTarget(j.getTarget());
+        e.setTargetId(j.getTargetId());
+        e.setFormat(j.getFormat());
+        e.setIncludeDrafts(j.isIncludeDrafts());
+        e.setStatus(j.getStatus());
+        e.setProgress(j.getProgress());
+        e.setActiveKey(j.getStatus().isActive() ? j.dedupKey() : null);
+        e.setFilename(j.getFilename());
+        e.setContentType(j.getContentType());
+        e.setArtifactLocation(j.getArtifactLocation());
+        e.setSizeBytes(j.getSizeBytes());
+        e.setError(truncate(j.getError(), 1000));
+        e.setCreatedAt(j.getCreatedAt());
+        e.setStartedAt(j.getStartedAt());
+        e.setFinishedAt(j.getFinishedAt());
+        e.setExpiresAt(j.getExpiresAt());
+    }
+
+    private ExportJob toDomain(ExportJobEntity e) {
+        return new ExportJob(e.getId(), e.getTarget(), e.getTargetId(), e.getFormat(), e.isIncludeDrafts(),
+                e.getStatus(), e.getProgress(), e.getFilename(), e.getContentType(),
+                e.getArtifactLocation(), e.getSizeBytes(), e.getError(),
+                e.getCreatedAt(), e.getStartedAt(), e.getFinishedAt(), e.getExpiresAt());
+    }
+
+    private String truncate(String s, int max) {
+        return s == null || s.length() <= max ? s : s.substring(0, max);
+    }
+
+    // cada motor decora el nombre a su manera (esquema, sufijo de indice, mayusculas)
+    private static boolean violatesActiveKey(Throwable t) {
+        for (; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve) {
+                String name = cve.getConstraintName();
+                return name != null && name.toLowerCase(Locale.ROOT).contains(ExportJobEntity.ACTIVE_KEY_CONSTRAINT);
+            }
+        }
+        return false;
+    }
+}
@@ -2,14 +2,25 @@ package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.reposit
 
 import com.example.encuestas_api.reports.application.port.out.ListFormSubmissionsPort;
 import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ChoiceAnswerEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.MatchingAnswerEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionAnswerEntity;
 import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TextAnswerEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TrueFalseAnswerEntity;
 import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.mapper.ResponsesJpaMapper;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Component
 @Transactional(readOnly = true)
@@ -18,19 +29,138 @@ public class ListFormSubmissionsAdapter implements ListFormSubmissionsPort {
     @PersistenceContext
     private EntityManager em;
 
+    @Value("${reports.stream.fetch_size:500}")
+    private int fetchSize;
+
+    @Value("${reports.stream.window_size:200}")
+    private int windowSize;
+
+    /**
+     * Cursor sobre las columnas de las submissions y, por cada ventana de window_size filas,
+     * una consulta IN por tipo de respuesta. Asi no hay una consulta por submission ni por respuesta.
+     * <p>
+     * Se leen proyecciones y no entidades: esto corre tambien dentro de las transacciones de envio y
+     * borrado, y no debe cargar, soltar ni tocar entidades que el llamador tenga en su contexto.
+     * <p>
+     * En MySQL el fetch size solo se respeta con useCursorFetch=true en la URL; el modo streaming
+     * (fetch size Integer.MIN_VALUE) no sirve aqui porque bloquea la conexion y las consultas de
+     * cada ventana van por la misma.
+     */
     @Override
-    public List<Submission> findByFormId(Long formId) {
-        List<SubmissionEntity> entities = em.createQuery("""
-                select s
+    public void forEachByFormId(Long formId, boolean includeDrafts, Consumer<Submission> action) {
+        var q = em.createQuery("""
+                select s.id, s.formId, s.respondentType, s.respondentUserId, s.respondentEmail, s.respondentCode,
+                       s.sourceIp, s.status, s.createdAt, s.updatedAt, s.submittedAt
                 from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity s
                 where s.formId = :fid
+                  and (:all = true or s.status = 'SUBMITTED')
                 order by s.id asc
-                """, SubmissionEntity.class)
+                """, Object[].class)
                 .setParameter("fid", formId)
+                .setParameter("all", includeDrafts)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        int size = Math.max(1, windowSize);
+        List<SubmissionEntity> window = new ArrayList<>(size);
+        try (Stream<Object[]> rows = q.getResultStream()) {
+            rows.forEach(r -> {
+                window.add(submissionOf(r));
+                if (window.size() == size) emit(window, action);
+            });
+        }
+        emit(window, action);
+    }
+
+    // copia sin gestionar: solo sirve de entrada para el mapper
+    private static SubmissionEntity submissionOf(Object[] r) {
+        var e = new SubmissionEntity();
+        e.setId((Long) r[0]);
+        e.setFormId((Long) r[1]);
+        e.setRespondentType((SubmissionEntity.RespondentType) r[2]);
+        e.setRespondentUserId((Long) r[3]);
+        e.setRespondentEmail((String) r[4]);
+        e.setRespondentCode((String) r[5]);
+        e.setSourceIp((String) r[6]);
+        e.setStatus((String) r[7]);
+        e.setCreatedAt((Instant) r[8]);
+        e.setUpdatedAt((Instant) r[9]);
+        e.setSubmittedAt((Instant) r[10]);
+        return e;
+    }
+
+    private void emit(List<SubmissionEntity> window, Consumer<Submission> action) {
+        if (window.isEmpty()) return;
+        Map<Long, List<SubmissionAnswerEntity>> answers = answersOf(window.stream().map(SubmissionEntity::getId).toList());
+        for (SubmissionEntity e : window) {
+            e.setAnswers(answers.getOrDefault(e.getId(), new ArrayList<>()));
+            action.accept(ResponsesJpaMapper.toDomain(e));
+        }
+        window.clear();
+    }
+
+    private Map<Long, List<SubmissionAnswerEntity>> answersOf(List<Long> submissionIds) {
+        // por id de respuesta, para devolverlas en el orden en que se guardaron
+        SortedMap<Long, SubmissionAnswerEntity> byId = new TreeMap<>();
+        Map<Long, Long> submissionOf = new HashMap<>();
+
+        for (Object[] r : rows("""
+                select a.id, a.submission.id, a.questionId, a.questionVersion, a.value
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TrueFalseAnswerEntity a
+                where a.submission.id in :ids
+                """, submissionIds)) {
+            var a = answer(byId, submissionOf, r, TrueFalseAnswerEntity::new);
+            a.setValue((Boolean) r[4]);
+        }
+        for (Object[] r : rows("""
+                select a.id, a.submission.id, a.questionId, a.questionVersion, a.text
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TextAnswerEntity a
+                where a.submission.id in :ids
+                """, submissionIds)) {
+            var a = answer(byId, submissionOf, r, TextAnswerEntity::new);
+            a.setText((String) r[4]);
+        }
+        // una fila por opcion elegida (o una con null si no hay ninguna)
+        for (Object[] r : rows("""
+                select a.id, a.submission.id, a.questionId, a.questionVersion, o
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ChoiceAnswerEntity a
+                left join a.selectedOptionIds o
+                where a.submission.id in :ids
+                """, submissionIds)) {
+            var a = answer(byId, submissionOf, r, ChoiceAnswerEntity::new);
+            if (r[4] != null) a.getSelectedOptionIds().add((Long) r[4]);
+        }
+        for (Object[] r : rows("""
+                select a.id, a.submission.id, a.questionId, a.questionVersion, p.leftId, p.rightId
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.MatchingAnswerEntity a
+                left join a.pairs p
+                where a.submission.id in :ids
+                """, submissionIds)) {
+            var a = answer(byId, submissionOf, r, MatchingAnswerEntity::new);
+            if (r[4] != null) a.getPairs().add(new MatchingAnswerEntity.PairEmb((Long) r[4], (Long) r[5]));
+        }
+
+        Map<Long, List<SubmissionAnswerEntity>> bySubmission = new HashMap<>();
+        byId.forEach((id, a) -> bySubmission.computeIfAbsent(submissionOf.get(id), k -> new ArrayList<>()).add(a));
+        return bySubmission;
+    }
+
+    private List<Object[]> rows(String jpql, List<Long> submissionIds) {
+        return em.createQuery(jpql, Object[].class)
+                .setParameter("ids", submissionIds)
                 .getResultList();
+    }
 
-        return entities.stream()
-                .map(ResponsesJpaMapper::toDomain)
-                .toList();
+    @SuppressWarnings("unchecked")
+    private static <T extends SubmissionAnswerEntity> T answer(Map<Long, SubmissionAnswerEntity> byId,
+                                                               Map<Long, Long> submissionOf,
+                                                               Object[] r, Supplier<T> factory) {
+        Long id = (Long) r[0];
+        return (T) byId.computeIfAbsent(id, k -> {
+            T a = factory.get();
+            a.setQuestionId((Long) r[2]);
+            a.setQuestionVersion((Integer) r[3]);
+            submissionOf.put(k, (Long) r[1]);
+            return a;
+        });
     }
 }
@@ -0,0 +1,129 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.application.port.out.ReportAggregationPort;
+import com.example.encuestas_api.reports.domain.service.TextAnswerContent;
+import com.example.encuestas_api.reports.domain.valueobject.FormAggregates;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+@Transactional(readOnly = true)
+public class ReportAggregationJpaAdapter implements ReportAggregationPort {
+
+    private static final List<String> SUBMITTED_ONLY = List.of("SUBMITTED");
+    private static final List<String> ALL_STATUSES = List.of("DRAFT", "SUBMITTED");
+    // replace(replace(a.text, :blank0, ''), :blank1, '')...
+    private static final String WITHOUT_BLANKS = withoutBlanks("a.text");
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public FormAggregates aggregate(Long formId, boolean includeDrafts) {
+        var statuses = includeDrafts ? ALL_STATUSES : SUBMITTED_ONLY;
+        var b = new FormAggregates.Builder();
+
+        Object[] totals = em.createQuery("""
+                select count(s), sum(case when s.status = 'SUBMITTED' then 1 else 0 end)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity s
+                where s.formId = :fid and s.status in :st
+                """, Object[].class)
+                .setParameter("fid", formId)
+                .setParameter("st", statuses)
+                .getSingleResult();
+        long total = asLong(totals[0]);
+        b.totals(total, asLong(totals[1]), total);
+        if (total == 0) return b.build();
+
+        rows("""
+                select a.questionId, count(a)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ChoiceAnswerEntity a
+                join a.submission s
+                where s.formId = :fid and s.status in :st
+                group by a.questionId
+                """, formId, statuses)
+                .forEach(r -> b.choiceAnswered((Long) r[0], asLong(r[1])));
+
+        rows("""
+                select a.questionId, o, count(o)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ChoiceAnswerEntity a
+                join a.submission s
+                join a.selectedOptionIds o
+                where s.formId = :fid and s.status in :st
+                group by a.questionId, o
+                """, formId, statuses)
+                .forEach(r -> b.choiceSelection((Long) r[0], (Long) r[1], asLong(r[2])));
+
+        rows("""
+                select a.questionId, a.value, count(a)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TrueFalseAnswerEntity a
+                join a.submission s
+                where s.formId = :fid and s.status in :st
+                group by a.questionId, a.value
+                """, formId, statuses)
+                .forEach(r -> b.trueFalse((Long) r[0], (Boolean) r[1], asLong(r[2])));
+
+        // mismos espacios que TextAnswerContent: trim() de SQL solo quita ' ' y dejaria contar "\n"
+        var text = em.createQuery("""
+                select a.questionId, count(a)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TextAnswerEntity a
+                join a.submission s
+                where s.formId = :fid and s.status in :st
+                  and a.text is not null and length(%s) > 0
+                group by a.questionId
+                """.formatted(WITHOUT_BLANKS), Object[].class)
+                .setParameter("fid", formId)
+                .setParameter("st", statuses);
+        for (int i = 0; i < TextAnswerContent.BLANKS.size(); i++) {
+            text.setParameter("blank" + i, TextAnswerContent.BLANKS.get(i));
+        }
+        text.getResultList().forEach(r -> b.textAnswered((Long) r[0], asLong(r[1])));
+
+        rows("""
+                select a.questionId, count(distinct a.id)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.MatchingAnswerEntity a
+                join a.submission s
+                join a.pairs p
+                where s.formId = :fid and s.status in :st
+                group by a.questionId
+                """, formId, statuses)
+                .forEach(r -> b.matchingAnswered((Long) r[0], asLong(r[1])));
+
+        // orden de primera aparicion: misma secuencia que recorrer las submissions por id
+        rows("""
+                select a.questionId, p.leftId, p.rightId, count(p)
+                from com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.MatchingAnswerEntity a
+                join a.submission s
+                join a.pairs p
+                where s.formId = :fid and s.status in :st
+                group by a.questionId, p.leftId, p.rightId
+                order by a.questionId, min(s.id), p.leftId, p.rightId
+                """, formId, statuses)
+                .forEach(r -> b.matchingPair((Long) r[0], (Long) r[1], (Long) r[2], asLong(r[3])));
+
+        return b.build();
+    }
+
+    private List<Object[]> rows(String jpql, Long formId, List<String> statuses) {
+        return em.createQuery(jpql, Object[].class)
+                .setParameter("fid", formId)
+                .setParameter("st", statuses)
+                .getResultList();
+    }
+
+    private static String withoutBlanks(String column) {
+        String expr = column;
+        for (int i = 0; i < TextAnswerContent.BLANKS.size(); i++) {
+            expr = "replace(" + expr + ", :blank" + i + ", '')";
+        }
+        return expr;
+    }
+
+    private static long asLong(Object o) {
+        return o == null ? 0L : ((Number) o).longValue();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity.ReportCounterLockEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Crea la fila de bloqueo del formulario en su propia transaccion: si otra instancia la crea
+ * a la vez, la clave duplicada no tumba el submit del llamador.
+ */
+@Component
+public class ReportCounterLockInitializer {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createIfMissing(Long formId) {
+        if (em.find(ReportCounterLockEntity.class, formId) != null) return;
+        ReportCounterLockEntity l = new ReportCounterLockEntity();
+        l.setFormId(formId);
+        em.persist(l);
+        em.flush();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.application.port.out.ReportCountersPort;
+import com.example.encuestas_api.reports.domain.model.ReportCounter;
+import com.example.encuestas_api.reports.domain.valueobject.ReportCounterMetric;
+import com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity.ReportCounterEntity;
+import com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.entity.ReportCounterLockEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+@Transactional
+public class ReportCountersJpaAdapter implements ReportCountersPort {
+
+    // orden fijo de actualizacion para que dos submits concurrentes no se bloqueen mutuamente
+    private static final Comparator<ReportCounter> LOCK_ORDER =
+            Comparator.comparing(ReportCounter::getQuestionId)
+                    .thenComparing(ReportCounter::getMetric)
+                    .thenComparing(ReportCounter::getKey1)
+                    .thenComparing(ReportCounter::getKey2);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final ReportCounterLockInitializer lockInitializer;
+
+    public ReportCountersJpaAdapter(ReportCounterLockInitializer lockInitializer) {
+        this.lockInitializer = lockInitializer;
+    }
+
+    @Override
+    public void lockForm(Long formId) {
+        if (em.find(ReportCounterLockEntity.class, formId, LockModeType.PESSIMISTIC_WRITE) != null) return;
+        try {
+            lockInitializer.createIfMissing(formId);
+        } catch (PersistenceException | DataIntegrityViolationException concurrentInsert) {
+            // otro hilo u otra instancia la creo a la vez: ya existe
+        }
+        em.find(ReportCounterLockEntity.class, formId, LockModeType.PESSIMISTIC_WRITE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReportCounter> loadByFormId(Long formId) {
+        var rows = em.createQuery("""
+                select c from ReportCounterEntity c
+                where c.formId = :fid
+                order by c.id asc
+                """, ReportCounterEntity.class)
+                .setParameter("fid", formId)
+                .getResultList();
+        // add() usa updates masivos: no dejar instancias gestionadas que queden desactualizadas
+        rows.forEach(em::detach);
+        return rows.stream().map(ReportCountersJpaAdapter::toDomain).toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isInitialized(Long formId) {
+        Long n = em.createQuery("""
+                select count(c) from ReportCounterEntity c
+                where c.formId = :fid and c.metric = :m
+                """, Long.class)
+                .setParameter("fid", formId)
+                .setParameter("m", ReportCounterMetric.SUBMITTED)
+                .getSingleResult();
+        return n != null && n > 0;
+    }
+
+    @Override
+    public void add(Long formId, Collection<ReportCounter> counters, int delta) {
+        var sorted = counters.stream().sorted(LOCK_ORDER).toList();
+        for (ReportCounter c : sorted) {
+            long inc = c.getValue() * delta;
+            int updated = em.createQuery("""
+                    update ReportCounterEntity c
+                    set c.value = c.value + :inc,
+                        c.firstSubmissionId = case
+                            when c.firstSubmissionId is null or c.firstSubmissionId > :sid then :sid
+                            else c.firstSubmissionId end
+                    where c.formId = :fid and c.questionId = :qid and c.metric = :m
+                      and c.key1 = :k1 and c.key2 = :k2
+                    """)
+                    .setParameter("inc", inc)
+                    .setParameter("sid", delta > 0 ? c.getFirstSubmissionId() : Long.MAX_VALUE)
+                    .setParameter("fid", formId)
+                    .setParameter("qid", c.getQuestionId())
+                    .setParameter("m", c.getMetric())
+                    .setParameter("k1", c.getKey1())
+                    .setParameter("k2", c.getKey2())
+                    .executeUpdate();
+            // sin carrera: el llamador tiene la fila de bloqueo del formulario (lockForm)
+            if (updated == 0) {
+                var e = toEntity(formId, c, inc);
+                em.persist(e);
+                em.flush();
+                em.detach(e);
+            }
+        }
+    }
+
+    @Override
+    public void replace(Long formId, Collection<ReportCounter> counters) {
+        em.createQuery("delete from ReportCounterEntity c where c.formId = :fid")
+                .setParameter("fid", formId)
+                .executeUpdate();
+        var entities = counters.stream().map(c -> toEntity(formId, c, c.getValue())).toList();
+        entities.forEach(em::persist);
+        em.flush();
+        entities.forEach(em::detach);
+    }
+
+    private static ReportCounterEntity toEntity(Long formId, ReportCounter c, long value) {
+        var e = new ReportCounterEntity();
+        e.setFormId(formId);
+        e.setQuestionId(c.getQuestionId());
+        e.setMetric(c.getMetric());
+        e.setKey1(c.getKey1());
+        e.setKey2(c.getKey2());
+        e.setValue(value);
+        e.setFirstSubmissionId(c.getFirstSubmissionId());
+        return e;
+    }
+
+    private static ReportCounter toDomain(ReportCounterEntity e) {
+        return new ReportCounter(e.getFormId(), e.getQuestionId(), e.getMetric(),
+                e.getKey1(), e.getKey2(), e.getValue(), e.getFirstSubmissionId());
+    }
+}
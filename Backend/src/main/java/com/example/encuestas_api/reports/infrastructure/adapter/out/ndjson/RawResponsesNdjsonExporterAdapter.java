@@ -0,0 +1,91 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.ndjson;
+
+import com.example.encuestas_api.reports.application.dto.RawSubmissionSource;
+import com.example.encuestas_api.reports.application.port.out.RawResponsesNdjsonExporterPort;
+import com.example.encuestas_api.reports.domain.service.RawAnswerFormatter;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+@Component
+public class RawResponsesNdjsonExporterAdapter implements RawResponsesNdjsonExporterPort {
+
+    // sin separador automatico entre objetos raiz: cada fila termina con su propio salto de linea
+    private static final JsonFactory JSON = new JsonFactory().setRootValueSeparator(null);
+
+    @Override
+    public void export(List<QuestionSnapshot> columns, RawSubmissionSource source, OutputStream out) {
+        try (JsonGenerator g = JSON.createGenerator(out, JsonEncoding.UTF8)) {
+            g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            source.forEach(s -> {
+                try {
+                    writeRow(g, columns, s);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            throw new RuntimeException("Error generating NDJSON raw responses", e);
+        }
+    }
+
+    private void writeRow(JsonGenerator g, List<QuestionSnapshot> columns, Submission s) throws IOException {
+        Respondent r = s.getRespondent();
+        g.writeStartObject();
+        g.writeNumberField("submissionId", s.getId());
+        g.writeStringField("status", s.getStatus().name());
+        g.writeObjectFieldStart("respondent");
+        g.writeStringField("type", r.getType().name());
+        switch (r.getType()) {
+            case USER -> g.writeNumberField("userId", r.getUserId());
+            case EMAIL -> g.writeStringField("email", r.getEmail());
+            case CODE -> g.writeStringField("code", r.getCode());
+            case ANONYMOUS -> { }
+        }
+        g.writeEndObject();
+        g.writeStringField("createdAt", s.getCreatedAt() == null ? null : s.getCreatedAt().toString());
+        g.writeStringField("submittedAt", s.getSubmittedAt() == null ? null : s.getSubmittedAt().toString());
+
+        g.writeObjectFieldStart("answers");
+        for (QuestionSnapshot q : columns) {
+            g.writeFieldName(String.valueOf(q.getQuestionId()));
+            writeAnswer(g, q, s.findAnswer(q.getQuestionId()).orElse(null));
+        }
+        g.writeEndObject();
+        g.writeEndObject();
+        g.writeRaw('\n');
+    }
+
+    private void writeAnswer(JsonGenerator g, QuestionSnapshot q, SubmissionAnswer answer) throws IOException {
+        if (answer instanceof ChoiceAnswer ca) {
+            g.writeStartArray();
+            for (Long id : RawAnswerFormatter.selectedOptions(ca, q)) g.writeNumber(id);
+            g.writeEndArray();
+        } else if (answer instanceof TrueFalseAnswer tf) {
+            g.writeBoolean(tf.isValue());
+        } else if (answer instanceof TextAnswer ta) {
+            g.writeString(ta.getText());
+        } else if (answer instanceof MatchingAnswer ma) {
+            g.writeStartArray();
+            for (MatchingPair p : RawAnswerFormatter.sortedPairs(ma)) {
+                g.writeStartObject();
+                g.writeNumberField("left", p.getLeftId());
+                g.writeNumberField("right", p.getRightId());
+                g.writeEndObject();
+            }
+            g.writeEndArray();
+        } else {
+            g.writeNull();
+        }
+    }
+}
@@ -8,16 +8,17 @@ import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 @Component
 public class CampaignReportPdfExporterAdapter implements CampaignReportPdfExporterPort {
 
     @Override
-    public byte[] export(CampaignReport cr) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public void export(CampaignReport cr, OutputStream out) {
+        try {
             Document doc = new Document(PageSize.A4.rotate(), 36,36,36,36);
-            PdfWriter.getInstance(doc, out);
+            PdfWriter writer = PdfWriter.getInstance(doc, out);
+            writer.setCloseStream(false);
             doc.open();
 
             Font title = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
@@ -55,7 +56,6 @@ public class CampaignReportPdfExporterAdapter implements CampaignReportPdfExport
             doc.add(forms);
 
             doc.close();
-            return out.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Error generating PDF CampaignReport", e);
         }
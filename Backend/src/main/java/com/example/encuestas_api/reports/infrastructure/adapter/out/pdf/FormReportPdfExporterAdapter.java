@@ -9,16 +9,17 @@ import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 @Component
 public class FormReportPdfExporterAdapter implements FormReportPdfExporterPort {
 
     @Override
-    public byte[] export(FormReport r) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public void export(FormReport r, OutputStream out) {
+        try {
             Document doc = new Document(PageSize.A4, 36, 36, 36, 36);
-            PdfWriter.getInstance(doc, out);
+            PdfWriter writer = PdfWriter.getInstance(doc, out);
+            writer.setCloseStream(false);
             doc.open();
 
             Font title = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 16);
@@ -73,7 +74,6 @@ public class FormReportPdfExporterAdapter implements FormReportPdfExporterPort {
             doc.add(qt);
 
             doc.close();
-            return out.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Error generating PDF FormReport", e);
         }
@@ -4,17 +4,25 @@ import com.example.encuestas_api.reports.application.port.out.CampaignReportXlsx
 import com.example.encuestas_api.reports.domain.model.CampaignReport;
 import com.example.encuestas_api.reports.domain.model.FormReport;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 @Component
 public class CampaignReportXlsxExporterAdapter implements CampaignReportXlsxExporterPort {
 
+    // filas en memoria por hoja; el resto se vuelca a disco
+    private static final int ROW_WINDOW = 100;
+    // anchos fijos en caracteres: autoSizeColumn recorre todas las filas
+    private static final int[] SUMMARY_WIDTHS = {22, 32};
+    private static final int[] FORM_WIDTHS = {12, 12, 12, 12, 16};
+
     @Override
-    public byte[] export(CampaignReport cr) {
-        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public void export(CampaignReport cr, OutputStream out) {
+        SXSSFWorkbook wb = new SXSSFWorkbook(ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+        try {
             CellStyle bold = wb.createCellStyle();
             Font f = wb.createFont(); f.setBold(true); bold.setFont(f);
 
@@ -27,9 +35,10 @@ public class CampaignReportXlsxExporterAdapter implements CampaignReportXlsxExpo
             row = writeRow(summary,row,null,"Drafts", String.valueOf(cr.getDraftCount()));
             row = writeRow(summary,row,null,"Completion rate", String.format(java.util.Locale.US,"%.4f", cr.getCompletionRate()));
             row = writeRow(summary,row,null,"Generated at", cr.getGeneratedAt()==null?"":cr.getGeneratedAt().toString());
-            summary.autoSizeColumn(0); summary.autoSizeColumn(1);
+            setWidths(summary, SUMMARY_WIDTHS);
 
             Sheet forms = wb.createSheet("Forms");
+            setWidths(forms, FORM_WIDTHS);
             Row h = forms.createRow(0);
             h.createCell(0).setCellValue("form_id");
             h.createCell(1).setCellValue("total");
@@ -45,15 +54,19 @@ public class CampaignReportXlsxExporterAdapter implements CampaignReportXlsxExpo
                 r.createCell(3).setCellValue(fr.getDraftCount());
                 r.createCell(4).setCellValue(String.format(java.util.Locale.US,"%.4f", fr.getCompletionRate()));
             }
-            for (int c=0;c<=4;c++) forms.autoSizeColumn(c);
 
             wb.write(out);
-            return out.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Error generating XLSX CampaignReport", e);
+        } finally {
+            wb.dispose();
         }
     }
 
+    private void setWidths(Sheet s, int[] widths) {
+        for (int c = 0; c < widths.length; c++) s.setColumnWidth(c, widths[c] * 256);
+    }
+
     private int writeRow(Sheet s, int r, CellStyle bold, String k, String v) {
         Row row = s.createRow(r++);
         Cell c0 = row.createCell(0);
@@ -4,17 +4,25 @@ import com.example.encuestas_api.reports.application.port.out.FormReportXlsxExpo
 import com.example.encuestas_api.reports.domain.model.*;
 import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 
 @Component
 public class FormReportXlsxExporterAdapter implements FormReportXlsxExporterPort {
 
+    // filas en memoria por hoja; el resto se vuelca a disco
+    private static final int ROW_WINDOW = 100;
+    // anchos fijos en caracteres: autoSizeColumn recorre todas las filas
+    private static final int[] SUMMARY_WIDTHS = {22, 32};
+    private static final int[] QUESTION_WIDTHS = {14, 12, 12, 12, 80};
+
     @Override
-    public byte[] export(FormReport r) {
-        try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public void export(FormReport r, OutputStream out) {
+        SXSSFWorkbook wb = new SXSSFWorkbook(ROW_WINDOW);
+        wb.setCompressTempFiles(true);
+        try {
             CellStyle bold = wb.createCellStyle();
             Font f = wb.createFont(); f.setBold(true); bold.setFont(f);
 
@@ -26,9 +34,10 @@ public class FormReportXlsxExporterAdapter implements FormReportXlsxExporterPort
             row = writeRow(summary, row, null, "Drafts", String.valueOf(r.getDraftCount()));
             row = writeRow(summary, row, null, "Completion rate", String.format(java.util.Locale.US, "%.4f", r.getCompletionRate()));
             row = writeRow(summary, row, null, "Generated at", r.getGeneratedAt()==null?"":r.getGeneratedAt().toString());
-            summary.autoSizeColumn(0); summary.autoSizeColumn(1);
+            setWidths(summary, SUMMARY_WIDTHS);
 
             Sheet qsheet = wb.createSheet("Questions");
+            setWidths(qsheet, QUESTION_WIDTHS);
             int rix = 0;
             Row header = qsheet.createRow(rix++);
             header.createCell(0).setCellValue("question_id");
@@ -69,15 +78,19 @@ public class FormReportXlsxExporterAdapter implements FormReportXlsxExporterPort
                 }
                 rr.createCell(4).setCellValue(extra);
             }
-            for (int c=0;c<=4;c++) qsheet.autoSizeColumn(c);
 
             wb.write(out);
-            return out.toByteArray();
         } catch (Exception e) {
             throw new RuntimeException("Error generating XLSX FormReport", e);
+        } finally {
+            wb.dispose();
         }
     }
 
+    private void setWidths(Sheet s, int[] widths) {
+        for (int c = 0; c < widths.length; c++) s.setColumnWidth(c, widths[c] * 256);
+    }
+
     private int writeRow(Sheet s, int r, CellStyle bold, String k, String v) {
         Row row = s.createRow(r++);
         Cell c0 = row.createCell(0);
@@ -0,0 +1,51 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.scheduler;
+
+import com.example.encuestas_api.reports.application.port.in.PurgeExpiredExportJobsUseCase;
+import com.example.encuestas_api.reports.application.port.in.ResumeExportJobsUseCase;
+import com.example.encuestas_api.reports.application.port.in.RunExportJobUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ExportJobsMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportJobsMaintenanceJob.class);
+
+    private final ResumeExportJobsUseCase resume;
+    private final PurgeExpiredExportJobsUseCase purge;
+    private final RunExportJobUseCase run;
+
+    public ExportJobsMaintenanceJob(ResumeExportJobsUseCase resume, PurgeExpiredExportJobsUseCase purge,
+                                    RunExportJobUseCase run) {
+        this.resume = resume;
+        this.purge = purge;
+        this.run = run;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverAfterRestart() {
+        int n = resume.handle(true);
+        if (n > 0) log.info("Reanudados {} export jobs pendientes", n);
+    }
+
+    @Scheduled(fixedDelayString = "${reports.export.resume_ms:30000}", initialDelay = 30000)
+    public void resumeQueued() {
+        resume.handle(false);
+    }
+
+    // bastante por debajo de reports.export.lease_ms: un heartbeat perdido no debe bastar para perder la lease
+    @Scheduled(fixedDelayString = "${reports.export.heartbeat_ms:30000}", initialDelay = 30000)
+    public void renewLeases() {
+        run.renewLeases();
+    }
+
+    @Scheduled(fixedDelayString = "${reports.export.purge_ms:300000}", initialDelay = 60000)
+    public void purgeExpired() {
+        int n = purge.handle();
+        if (n > 0) log.info("Purgados {} export jobs expirados", n);
+    }
+}
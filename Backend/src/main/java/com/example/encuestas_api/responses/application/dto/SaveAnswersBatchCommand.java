@@ -0,0 +1,23 @@
+package com.example.encuestas_api.responses.application.dto;
+
+import java.util.List;
+import java.util.Set;
+
+public record SaveAnswersBatchCommand(
+        Long submissionId,
+        List<Item> answers
+) {
+    public enum AnswerType { CHOICE, TRUE_FALSE, TEXT, MATCHING }
+
+    /** Respuesta heterogenea: solo se leen los campos que corresponden a type. */
+    public record Item(
+            AnswerType type,
+            Long questionId,
+            Set<Long> selectedOptionIds,
+            Boolean value,
+            String text,
+            List<Pair> pairs
+    ) {}
+
+    public record Pair(Long leftId, Long rightId) {}
+}
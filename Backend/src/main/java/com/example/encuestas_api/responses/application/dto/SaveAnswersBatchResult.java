@@ -0,0 +1,23 @@
+package com.example.encuestas_api.responses.application.dto;
+
+import com.example.encuestas_api.responses.domain.model.Submission;
+
+import java.util.List;
+
+public record SaveAnswersBatchResult(
+        Submission submission,
+        List<AnswerResult> results
+) {
+    /** Resultado por respuesta, en el mismo orden del lote. */
+    public record AnswerResult(Long questionId, boolean saved, List<AnswerError> errors) {
+        public static AnswerResult saved(Long questionId) {
+            return new AnswerResult(questionId, true, List.of());
+        }
+
+        public static AnswerResult rejected(Long questionId, List<AnswerError> errors) {
+            return new AnswerResult(questionId, false, List.copyOf(errors));
+        }
+    }
+
+    public record AnswerError(String code, String message) {}
+}
@@ -0,0 +1,6 @@
+package com.example.encuestas_api.responses.application.port.in;
+
+public interface FlushDraftAnswersUseCase {
+    /** @param all true para vaciar todo el buffer (apagado), false solo lo vencido */
+    int handle(boolean all);
+}
@@ -0,0 +1,5 @@
+package com.example.encuestas_api.responses.application.port.in;
+
+public interface ReleaseExpiredQuotaReservationsUseCase {
+    int handle();
+}
@@ -0,0 +1,8 @@
+package com.example.encuestas_api.responses.application.port.in;
+
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchCommand;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchResult;
+
+public interface SaveAnswersBatchUseCase {
+    SaveAnswersBatchResult handle(SaveAnswersBatchCommand cmd);
+}
@@ -0,0 +1,31 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+import com.example.encuestas_api.responses.domain.model.Submission;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Buffer write-behind de respuestas en borrador (formularios con autoSave).
+ * Agrupa por submission los cambios pendientes y los escribe de una vez.
+ */
+public interface DraftAnswerBufferPort {
+
+    /** Estado en buffer de la submission, si tiene cambios pendientes. */
+    Optional<Submission> find(Long submissionId);
+
+    boolean contains(Long submissionId);
+
+    /** Deja en buffer el estado y las preguntas modificadas; false si no se acepta y hay que escribir directo. */
+    boolean stage(Submission submission, Collection<Long> questionIds);
+
+    /** Escribe ya los cambios pendientes de la submission (por ejemplo antes de enviarla). */
+    void flush(Long submissionId);
+
+    void discard(Long submissionId);
+
+    /** Escribe las submissions cuyo cambio pendiente mas antiguo supera la edad maxima. */
+    int flushDue();
+
+    int flushAll();
+}
@@ -0,0 +1,9 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+/** Version de la estructura del formulario (preguntas, opciones, matching), guardada en la fila del formulario. */
+public interface FormStructureVersionPort {
+    long current(Long formId);
+
+    /** Se incrementa en la transaccion de la mutacion: los demas nodos la ven al hacer commit. */
+    void increment(Long formId);
+}
@@ -12,6 +12,7 @@ public interface LoadFormPoliciesPort {
             Long formId,
             boolean anonymousAllowed,
             boolean allowEditBeforeSubmit,
+            boolean autoSave,
             Instant openAt,
             Instant closeAt,
             ResponseLimitMode limitMode,
@@ -0,0 +1,9 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+
+import java.util.function.Consumer;
+
+public interface LoadSubmittedRespondentsPort {
+    void forEachSubmittedRespondent(Long formId, Consumer<Respondent> action);
+}
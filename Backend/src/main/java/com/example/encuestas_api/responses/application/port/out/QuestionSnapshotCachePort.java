@@ -0,0 +1,17 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+
+import java.util.Map;
+import java.util.Optional;
+
+public interface QuestionSnapshotCachePort {
+    /** Solo devuelve la entrada si se construyo con esa version de {@link FormStructureVersionPort}. */
+    Optional<Map<Long, QuestionSnapshot>> get(Long formId, long version);
+
+    /** No reemplaza una entrada construida con una version mas nueva. */
+    void put(Long formId, long version, Map<Long, QuestionSnapshot> snapshots);
+
+    /** Libera la entrada local; los demas nodos la descartan al comparar la version. */
+    void evict(Long formId);
+}
@@ -0,0 +1,30 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+import java.time.Instant;
+
+/**
+ * Cupo LIMITED_N por formulario: se reserva un hueco al empezar y se confirma al enviar.
+ * Las reservas de borradores abandonados caducan y devuelven el hueco.
+ */
+public interface ResponseQuotaPort {
+
+    /** Ocupa un hueco si reservados + enviados no llegan al limite. */
+    boolean reserve(Long formId, int limit);
+
+    /** Asocia la reserva recien tomada a la submission creada, con su caducidad. */
+    void attach(Long formId, Long submissionId, Instant expiresAt);
+
+    /**
+     * Pasa la reserva de la submission a confirmada; si ya caduco intenta ocupar un hueco libre.
+     * @return enviados tras confirmar, o -1 si no queda cupo
+     */
+    long commit(Long formId, Long submissionId, int limit);
+
+    /** Libera la reserva de un borrador (si la tiene). */
+    void release(Long submissionId);
+
+    /** Devuelve el hueco de una submission enviada que se elimina. */
+    void uncommit(Long formId);
+
+    int releaseExpired(Instant now, int limit);
+}
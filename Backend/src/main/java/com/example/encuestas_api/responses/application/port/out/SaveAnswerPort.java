@@ -0,0 +1,13 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+import com.example.encuestas_api.responses.domain.model.Submission;
+
+import java.util.Collection;
+
+public interface SaveAnswerPort {
+    /** Persiste solo la respuesta de questionId (alta, cambio o baja) sin tocar las demas. */
+    Submission saveAnswer(Submission submission, Long questionId);
+
+    /** Igual que saveAnswer pero para varias preguntas sobre una sola carga de la submission. */
+    Submission saveAnswers(Submission submission, Collection<Long> questionIds);
+}
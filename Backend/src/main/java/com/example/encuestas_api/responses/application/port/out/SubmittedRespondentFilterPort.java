@@ -0,0 +1,12 @@
+package com.example.encuestas_api.responses.application.port.out;
+
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+
+/**
+ * Filtro aproximado de respondentes que ya enviaron un formulario. false es definitivo
+ * (nunca envio); true obliga a confirmar con la consulta exacta.
+ */
+public interface SubmittedRespondentFilterPort {
+    boolean mightHaveSubmitted(Long formId, Respondent respondent);
+    void recordSubmitted(Long formId, Respondent respondent);
+}
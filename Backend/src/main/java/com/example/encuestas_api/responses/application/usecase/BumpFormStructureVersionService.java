@@ -0,0 +1,26 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.responses.application.port.in.BumpFormStructureVersionUseCase;
+import com.example.encuestas_api.responses.application.port.out.FormStructureVersionPort;
+import com.example.encuestas_api.responses.application.port.out.QuestionSnapshotCachePort;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BumpFormStructureVersionService implements BumpFormStructureVersionUseCase {
+
+    private final FormStructureVersionPort versions;
+    private final QuestionSnapshotCachePort cache;
+
+    public BumpFormStructureVersionService(FormStructureVersionPort versions, QuestionSnapshotCachePort cache) {
+        this.versions = versions;
+        this.cache = cache;
+    }
+
+    @Override
+    public void handle(Long formId) {
+        if (formId == null) return;
+        // corre en la transaccion de la mutacion: hasta el commit todos siguen viendo la version anterior
+        versions.increment(formId);
+        cache.evict(formId);
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.encuestas_api.responses.application.usecase;
 
+import com.example.encuestas_api.reports.application.port.in.UpdateReportCountersUseCase;
 import com.example.encuestas_api.responses.application.port.in.DeleteSubmissionUseCase;
 import com.example.encuestas_api.responses.application.port.out.DeleteSubmissionPort;
+import com.example.encuestas_api.responses.application.port.out.DraftAnswerBufferPort;
+import com.example.encuestas_api.responses.application.port.out.FindSubmissionPort;
+import com.example.encuestas_api.responses.application.port.out.LoadFormPoliciesPort;
+import com.example.encuestas_api.responses.application.port.out.ResponseQuotaPort;
+import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,13 +16,42 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteSubmissionService implements DeleteSubmissionUseCase {
 
     private final DeleteSubmissionPort deletePort;
+    private final FindSubmissionPort findPort;
+    private final DraftAnswerBufferPort draftBuffer;
+    private final LoadFormPoliciesPort policiesPort;
+    private final ResponseQuotaPort quotaPort;
+    private final UpdateReportCountersUseCase reportCounters;
 
-    public DeleteSubmissionService(DeleteSubmissionPort deletePort) {
+    public DeleteSubmissionService(DeleteSubmissionPort deletePort,
+                                   FindSubmissionPort findPort,
+                                   DraftAnswerBufferPort draftBuffer,
+                                   LoadFormPoliciesPort policiesPort,
+                                   ResponseQuotaPort quotaPort,
+                                   UpdateReportCountersUseCase reportCounters) {
         this.deletePort = deletePort;
+        this.findPort = findPort;
+        this.draftBuffer = draftBuffer;
+        this.policiesPort = policiesPort;
+        this.quotaPort = quotaPort;
+        this.reportCounters = reportCounters;
     }
 
     @Override
     public void handle(Long id) {
+        draftBuffer.discard(id);
+        var existing = findPort.findById(id);
         deletePort.deleteById(id);
+        existing.ifPresent(s -> {
+            if (s.getStatus() == SubmissionStatus.SUBMITTED) {
+                reportCounters.handle(s, -1);
+                // solo el envio con LIMITED_N ocupa cupo (ver SubmitSubmissionService)
+                var p = policiesPort.getPolicies(s.getFormId());
+                if (p.limitMode() == LoadFormPoliciesPort.ResponseLimitMode.LIMITED_N && p.limitedN() != null) {
+                    quotaPort.uncommit(s.getFormId());
+                }
+            } else {
+                quotaPort.release(s.getId());
+            }
+        });
     }
 }
@@ -0,0 +1,49 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.responses.application.port.out.DraftAnswerBufferPort;
+import com.example.encuestas_api.responses.application.port.out.FindSubmissionPort;
+import com.example.encuestas_api.responses.application.port.out.LoadFormPoliciesPort;
+import com.example.encuestas_api.responses.application.port.out.SaveAnswerPort;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Lectura y escritura de respuestas en borrador compartida por los casos de uso de respuestas.
+ * Si el formulario tiene autoSave los cambios van al buffer write-behind; si no, se escriben directo.
+ */
+@Component
+public class DraftSubmissionStore {
+
+    private final FindSubmissionPort findPort;
+    private final SaveAnswerPort savePort;
+    private final DraftAnswerBufferPort buffer;
+    private final LoadFormPoliciesPort policiesPort;
+
+    public DraftSubmissionStore(FindSubmissionPort findPort,
+                                SaveAnswerPort savePort,
+                                DraftAnswerBufferPort buffer,
+                                LoadFormPoliciesPort policiesPort) {
+        this.findPort = findPort;
+        this.savePort = savePort;
+        this.buffer = buffer;
+        this.policiesPort = policiesPort;
+    }
+
+    /** Devuelve el estado en buffer si lo hay, para que las lecturas vean lo aun no escrito. */
+    public Submission load(Long submissionId) {
+        return buffer.find(submissionId)
+                .or(() -> findPort.findById(submissionId))
+                .orElseThrow(() -> new IllegalArgumentException("Submission no encontrada"));
+    }
+
+    public Submission saveAnswers(Submission s, Collection<Long> questionIds) {
+        // si ya hay cambios en buffer se sigue usando aunque luego cambie la politica, para no escribir fuera de orden
+        boolean buffered = s.getStatus() == SubmissionStatus.DRAFT
+                && (buffer.contains(s.getId()) || policiesPort.getPolicies(s.getFormId()).autoSave())
+                && buffer.stage(s, questionIds);
+        return buffered ? s : savePort.saveAnswers(s, questionIds);
+    }
+}
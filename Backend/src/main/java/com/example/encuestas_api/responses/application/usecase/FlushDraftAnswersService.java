@@ -0,0 +1,21 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.responses.application.port.in.FlushDraftAnswersUseCase;
+import com.example.encuestas_api.responses.application.port.out.DraftAnswerBufferPort;
+import org.springframework.stereotype.Service;
+
+/** Sin transaccion propia: cada submission se escribe en la suya para que un fallo no arrastre al resto. */
+@Service
+public class FlushDraftAnswersService implements FlushDraftAnswersUseCase {
+
+    private final DraftAnswerBufferPort buffer;
+
+    public FlushDraftAnswersService(DraftAnswerBufferPort buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public int handle(boolean all) {
+        return all ? buffer.flushAll() : buffer.flushDue();
+    }
+}
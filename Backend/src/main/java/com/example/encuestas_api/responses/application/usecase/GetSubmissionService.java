@@ -1,7 +1,6 @@
 package com.example.encuestas_api.responses.application.usecase;
 
 import com.example.encuestas_api.responses.application.port.in.GetSubmissionUseCase;
-import com.example.encuestas_api.responses.application.port.out.FindSubmissionPort;
 import com.example.encuestas_api.responses.domain.model.Submission;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,15 +9,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class GetSubmissionService implements GetSubmissionUseCase {
 
-    private final FindSubmissionPort findPort;
+    private final DraftSubmissionStore drafts;
 
-    public GetSubmissionService(FindSubmissionPort findPort) {
-        this.findPort = findPort;
+    public GetSubmissionService(DraftSubmissionStore drafts) {
+        this.drafts = drafts;
     }
 
     @Override
     public Submission handle(Long id) {
-        return findPort.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Submission no encontrada"));
+        return drafts.load(id);
     }
 }
@@ -0,0 +1,32 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.responses.application.port.in.ReleaseExpiredQuotaReservationsUseCase;
+import com.example.encuestas_api.responses.application.port.out.ResponseQuotaPort;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+
+/** Devuelve al cupo los huecos de borradores abandonados; cada lote va en su propia transaccion. */
+@Service
+public class ReleaseExpiredQuotaReservationsService implements ReleaseExpiredQuotaReservationsUseCase {
+
+    private static final int BATCH = 200;
+
+    private final ResponseQuotaPort quotaPort;
+    private final Clock clock;
+
+    public ReleaseExpiredQuotaReservationsService(ResponseQuotaPort quotaPort, Clock clock) {
+        this.quotaPort = quotaPort;
+        this.clock = clock;
+    }
+
+    @Override
+    public int handle() {
+        int released = 0;
+        while (true) {
+            int n = quotaPort.releaseExpired(clock.instant(), BATCH);
+            released += n;
+            if (n < BATCH) return released;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchCommand;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchResult;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchResult.AnswerError;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchResult.AnswerResult;
+import com.example.encuestas_api.responses.application.port.in.SaveAnswersBatchUseCase;
+import com.example.encuestas_api.responses.application.port.out.BuildQuestionSnapshotsPort;
+import com.example.encuestas_api.responses.domain.exception.InvalidAnswerException;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.service.SubmissionValidator;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Guarda una pagina de respuestas con una sola carga de la submission y una sola escritura.
+ * Las respuestas invalidas se rechazan una a una sin afectar al resto del lote.
+ */
+@Service
+@Transactional
+public class SaveAnswersBatchService implements SaveAnswersBatchUseCase {
+
+    private final DraftSubmissionStore drafts;
+    private final BuildQuestionSnapshotsPort snapshotsPort;
+
+    public SaveAnswersBatchService(DraftSubmissionStore drafts,
+                                   BuildQuestionSnapshotsPort snapshotsPort) {
+        this.drafts = drafts;
+        this.snapshotsPort = snapshotsPort;
+    }
+
+    @Override
+    public SaveAnswersBatchResult handle(SaveAnswersBatchCommand cmd) {
+        Objects.requireNonNull(cmd, "cmd");
+        Submission s = drafts.load(cmd.submissionId());
+        Map<Long, QuestionSnapshot> snapshots = snapshotsPort.byFormId(s.getFormId());
+
+        List<AnswerResult> results = new ArrayList<>(cmd.answers().size());
+        Set<Long> applied = new LinkedHashSet<>();
+        for (SaveAnswersBatchCommand.Item item : cmd.answers()) {
+            List<InvalidAnswerException> errors;
+            SubmissionAnswer answer = null;
+            try {
+                answer = toAnswer(item);
+                errors = SubmissionValidator.validateDraftAnswer(answer, snapshots);
+            } catch (InvalidAnswerException ex) {
+                errors = List.of(ex);
+            }
+
+            if (!errors.isEmpty()) {
+                results.add(AnswerResult.rejected(item.questionId(),
+                        errors.stream().map(e -> new AnswerError(e.getCode(), e.getMessage())).toList()));
+                continue;
+            }
+            s.addOrReplaceAnswer(answer);
+            applied.add(item.questionId());
+            results.add(AnswerResult.saved(item.questionId()));
+        }
+
+        Submission saved = applied.isEmpty() ? s : drafts.saveAnswers(s, applied);
+        return new SaveAnswersBatchResult(saved, results);
+    }
+
+    private static SubmissionAnswer toAnswer(SaveAnswersBatchCommand.Item item) {
+        if (item.type() == null || item.questionId() == null) {
+            throw new InvalidAnswerException(item.questionId(), "invalid_item", "Tipo y pregunta son obligatorios");
+        }
+        return switch (item.type()) {
+            case CHOICE -> new ChoiceAnswer(item.questionId(), null, item.selectedOptionIds());
+            case TRUE_FALSE -> {
+                if (item.value() == null) {
+                    throw new InvalidAnswerException(item.questionId(), "invalid_item", "Valor requerido para TRUE/FALSE");
+                }
+                yield new TrueFalseAnswer(item.questionId(), null, item.value());
+            }
+            case TEXT -> new TextAnswer(item.questionId(), null, item.text());
+            case MATCHING -> {
+                List<MatchingPair> pairs = new ArrayList<>();
+                if (item.pairs() != null) {
+                    for (SaveAnswersBatchCommand.Pair p : item.pairs()) {
+                        if (p.leftId() == null || p.rightId() == null) {
+                            throw new InvalidAnswerException(item.questionId(), "invalid_item", "Emparejamiento incompleto");
+                        }
+                        pairs.add(new MatchingPair(p.leftId(), p.rightId()));
+                    }
+                }
+                yield new MatchingAnswer(item.questionId(), null, pairs);
+            }
+        };
+    }
+}
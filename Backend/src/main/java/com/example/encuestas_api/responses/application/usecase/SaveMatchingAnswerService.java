@@ -2,8 +2,6 @@ package com.example.encuestas_api.responses.application.usecase;
 
 import com.example.encuestas_api.responses.application.dto.SaveMatchingAnswerCommand;
 import com.example.encuestas_api.responses.application.port.in.SaveMatchingAnswerUseCase;
-import com.example.encuestas_api.responses.application.port.out.FindSubmissionPort;
-import com.example.encuestas_api.responses.application.port.out.SaveSubmissionPort;
 import com.example.encuestas_api.responses.domain.model.MatchingAnswer;
 import com.example.encuestas_api.responses.domain.model.MatchingPair;
 import com.example.encuestas_api.responses.domain.model.Submission;
@@ -17,18 +15,15 @@ import java.util.List;
 @Transactional
 public class SaveMatchingAnswerService implements SaveMatchingAnswerUseCase {
 
-    private final FindSubmissionPort findPort;
-    private final SaveSubmissionPort savePort;
+    private final DraftSubmissionStore drafts;
 
-    public SaveMatchingAnswerService(FindSubmissionPort findPort, SaveSubmissionPort savePort) {
-        this.findPort = findPort;
-        this.savePort = savePort;
+    public SaveMatchingAnswerService(DraftSubmissionStore drafts) {
+        this.drafts = drafts;
     }
 
     @Override
     public Submission handle(SaveMatchingAnswerCommand cmd) {
-        Submission s = findPort.findById(cmd.submissionId())
-                .orElseThrow(() -> new IllegalArgumentException("Submission no encontrada"));
+        Submission s = drafts.load(cmd.submissionId());
 
         List<MatchingPair> pairs = new ArrayList<>();
         if (cmd.pairs() != null) {
@@ -38,6 +33,6 @@ public class SaveMatchingAnswerService implements SaveMatchingAnswerUseCase {
         }
 
         s.addOrReplaceAnswer(new MatchingAnswer(cmd.questionId(), null, pairs));
-        return savePort.save(s);
+        return drafts.saveAnswers(s, List.of(cmd.questionId()));
     }
 }
@@ -6,9 +6,11 @@ import com.example.encuestas_api.responses.application.port.in.StartSubmissionUs
 import com.example.encuestas_api.responses.application.port.out.*;
 import com.example.encuestas_api.responses.domain.model.Submission;
 import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Objects;
 
@@ -20,16 +22,22 @@ public class StartSubmissionService implements StartSubmissionUseCase {
     private final SaveSubmissionPort savePort;
     private final LoadFormPoliciesPort policiesPort;
     private final ExistsSubmittedByRespondentPort existsPort;
-    private final CountSubmittedByFormPort countPort;
+    private final SubmittedRespondentFilterPort respondentFilter;
+    private final ResponseQuotaPort quotaPort;
+    private final Duration reservationTtl;
 
     public StartSubmissionService(SaveSubmissionPort savePort,
                                   LoadFormPoliciesPort policiesPort,
                                   ExistsSubmittedByRespondentPort existsPort,
-                                  CountSubmittedByFormPort countPort) {
+                                  SubmittedRespondentFilterPort respondentFilter,
+                                  ResponseQuotaPort quotaPort,
+                                  @Value("${responses.quota.reservation_ttl_minutes:60}") long reservationTtlMinutes) {
         this.savePort = savePort;
         this.policiesPort = policiesPort;
         this.existsPort = existsPort;
-        this.countPort = countPort;
+        this.respondentFilter = respondentFilter;
+        this.quotaPort = quotaPort;
+        this.reservationTtl = Duration.ofMinutes(Math.max(1, reservationTtlMinutes));
     }
 
     @Override
@@ -51,25 +59,41 @@ public class StartSubmissionService implements StartSubmissionUseCase {
             case CODE  -> Respondent.code(cmd.code());
         };
 
+        boolean reserved = false;
         switch (p.limitMode()) {
             case ONE_PER_RESPONDENT -> {
-                if (respondent.getUserId() != null && existsPort.existsSubmittedByFormAndUser(cmd.formId(), respondent.getUserId()))
-                    throw new ResponsePolicyViolationException("Ya existe una respuesta enviada por este usuario");
-                if (respondent.getEmail() != null && existsPort.existsSubmittedByFormAndEmail(cmd.formId(), respondent.getEmail()))
-                    throw new ResponsePolicyViolationException("Ya existe una respuesta enviada para este email");
-                if (respondent.getCode() != null && existsPort.existsSubmittedByFormAndCode(cmd.formId(), respondent.getCode()))
-                    throw new ResponsePolicyViolationException("Ya existe una respuesta enviada para este código");
+                // el filtro descarta sin ir a la base de datos a quien seguro no ha enviado
+                if (respondentFilter.mightHaveSubmitted(cmd.formId(), respondent)) checkNotSubmitted(cmd.formId(), respondent);
             }
             case LIMITED_N -> {
-                long count = countPort.countSubmittedByForm(cmd.formId());
-                if (p.limitedN() != null && count >= p.limitedN())
-                    throw new ResponsePolicyViolationException("Se alcanzó el límite de respuestas permitidas");
+                // reserva atomica de un hueco; se confirma al enviar o caduca si el borrador se abandona
+                if (p.limitedN() != null) {
+                    if (!quotaPort.reserve(cmd.formId(), p.limitedN()))
+                        throw new ResponsePolicyViolationException("Se alcanzó el límite de respuestas permitidas");
+                    reserved = true;
+                }
             }
             case UNLIMITED -> {}
         }
 
         Submission s = new Submission(cmd.formId(), respondent);
         s.setSourceIp(cmd.sourceIp());
-        return savePort.save(s);
+        Submission saved = savePort.save(s);
+        if (reserved) quotaPort.attach(cmd.formId(), saved.getId(), now.plus(reservationTtl));
+        return saved;
+    }
+
+    private void checkNotSubmitted(Long formId, Respondent respondent) {
+        checkNotSubmitted(existsPort, formId, respondent);
+    }
+
+    /** Consulta exacta; tambien la usa el submit, que es donde se cierra la carrera entre dos starts. */
+    static void checkNotSubmitted(ExistsSubmittedByRespondentPort existsPort, Long formId, Respondent respondent) {
+        if (respondent.getUserId() != null && existsPort.existsSubmittedByFormAndUser(formId, respondent.getUserId()))
+            throw new ResponsePolicyViolationException("Ya existe una respuesta enviada por este usuario");
+        if (respondent.getEmail() != null && existsPort.existsSubmittedByFormAndEmail(formId, respondent.getEmail()))
+            throw new ResponsePolicyViolationException("Ya existe una respuesta enviada para este email");
+        if (respondent.getCode() != null && existsPort.existsSubmittedByFormAndCode(formId, respondent.getCode()))
+            throw new ResponsePolicyViolationException("Ya existe una respuesta enviada para este código");
     }
 }
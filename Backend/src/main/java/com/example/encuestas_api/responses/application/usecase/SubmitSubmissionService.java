@@ -4,6 +4,7 @@ import com.example.encuestas_api.notifications.application.port.in.OnResponseLim
 import com.example.encuestas_api.notifications.application.port.in.OnSubmissionSubmittedUseCase;
 import com.example.encuestas_api.notifications.domain.event.ResponseLimitReachedEvent;
 import com.example.encuestas_api.notifications.domain.event.SubmissionSubmittedEvent;
+import com.example.encuestas_api.reports.application.port.in.UpdateReportCountersUseCase;
 import com.example.encuestas_api.responses.application.dto.SubmitSubmissionCommand;
 import com.example.encuestas_api.responses.application.exception.ResponsePolicyViolationException;
 import com.example.encuestas_api.responses.application.exception.SubmissionValidationException;
@@ -14,6 +15,8 @@ import com.example.encuestas_api.responses.domain.service.SubmissionValidator;
 import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.util.Map;
@@ -24,30 +27,43 @@ public class SubmitSubmissionService implements SubmitSubmissionUseCase {
 
     private final FindSubmissionPort findPort;
     private final SaveSubmissionPort savePort;
+    private final DraftAnswerBufferPort draftBuffer;
     private final BuildQuestionSnapshotsPort snapshotsPort;
     private final LoadFormPoliciesPort policiesPort;
-    private final CountSubmittedByFormPort countPort;
+    private final ResponseQuotaPort quotaPort;
+    private final SubmittedRespondentFilterPort respondentFilter;
+    private final ExistsSubmittedByRespondentPort existsPort;
     private final OnSubmissionSubmittedUseCase onSubmitted;
     private final OnResponseLimitReachedUseCase onResponseLimitReached;
+    private final UpdateReportCountersUseCase reportCounters;
 
     public SubmitSubmissionService(FindSubmissionPort findPort,
                                    SaveSubmissionPort savePort,
+                                   DraftAnswerBufferPort draftBuffer,
                                    BuildQuestionSnapshotsPort snapshotsPort,
                                    LoadFormPoliciesPort policiesPort,
-                                   CountSubmittedByFormPort countPort,
+                                   ResponseQuotaPort quotaPort,
+                                   SubmittedRespondentFilterPort respondentFilter,
+                                   ExistsSubmittedByRespondentPort existsPort,
                                    OnSubmissionSubmittedUseCase onSubmitted,
-                                   OnResponseLimitReachedUseCase onResponseLimitReached) {
+                                   OnResponseLimitReachedUseCase onResponseLimitReached,
+                                   UpdateReportCountersUseCase reportCounters) {
         this.findPort = findPort;
         this.savePort = savePort;
+        this.draftBuffer = draftBuffer;
         this.snapshotsPort = snapshotsPort;
         this.policiesPort = policiesPort;
-        this.countPort = countPort;
+        this.quotaPort = quotaPort;
+        this.respondentFilter = respondentFilter;
+        this.existsPort = existsPort;
         this.onSubmitted = onSubmitted;
         this.onResponseLimitReached = onResponseLimitReached;
+        this.reportCounters = reportCounters;
     }
 
     @Override
     public Submission handle(SubmitSubmissionCommand cmd) {
+        draftBuffer.flush(cmd.submissionId()); // los autosaves pendientes se escriben en esta misma transaccion
         Submission s = findPort.findById(cmd.submissionId())
                 .orElseThrow(() -> new IllegalArgumentException("Submission no encontrada"));
 
@@ -67,13 +83,23 @@ public class SubmitSubmissionService implements SubmitSubmissionUseCase {
 
         if (!errors.isEmpty()) throw new SubmissionValidationException(errors);
 
-        if (p.limitMode() == LoadFormPoliciesPort.ResponseLimitMode.LIMITED_N) {
-            onResponseLimitReached.handle(new ResponseLimitReachedEvent(s.getFormId(), p.limitedN(), Instant.now()));
-            throw new ResponsePolicyViolationException("Se alcanzó el límite de respuestas permitidas");
+        if (p.limitMode() == LoadFormPoliciesPort.ResponseLimitMode.ONE_PER_RESPONDENT) {
+            // el filtro del start es local al nodo y dos starts pueden cruzarse: aqui siempre consulta exacta
+            StartSubmissionService.checkNotSubmitted(existsPort, s.getFormId(), s.getRespondent());
+        }
+
+        if (p.limitMode() == LoadFormPoliciesPort.ResponseLimitMode.LIMITED_N && p.limitedN() != null) {
+            long committed = quotaPort.commit(s.getFormId(), s.getId(), p.limitedN());
+            if (committed < 0) throw new ResponsePolicyViolationException("Se alcanzó el límite de respuestas permitidas");
+            if (committed == p.limitedN()) {
+                onResponseLimitReached.handle(new ResponseLimitReachedEvent(s.getFormId(), p.limitedN(), Instant.now()));
+            }
         }
 
         s.markSubmitted();
         Submission saved = savePort.save(s);
+        recordRespondent(saved);
+        reportCounters.handle(saved, 1);
         onSubmitted.handle(new SubmissionSubmittedEvent(
                 saved.getId(),
                 saved.getFormId(),
@@ -82,4 +108,19 @@ public class SubmitSubmissionService implements SubmitSubmissionUseCase {
         ));
         return saved;
     }
+
+    private void recordRespondent(Submission saved) {
+        Long formId = saved.getFormId();
+        var respondent = saved.getRespondent();
+        respondentFilter.recordSubmitted(formId, respondent);
+        // un filtro construido antes del commit no ve esta fila: se vuelve a anotar tras confirmar
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    respondentFilter.recordSubmitted(formId, respondent);
+                }
+            });
+        }
+    }
 }
@@ -52,6 +52,19 @@ public class Submission {
         touch();
     }
 
+    /** Copia independiente del agregado; las respuestas son inmutables y se comparten. */
+    public Submission copy() {
+        Submission c = new Submission(formId, respondent);
+        c.id = id;
+        c.sourceIp = sourceIp;
+        c.status = status;
+        c.createdAt = createdAt;
+        c.updatedAt = updatedAt;
+        c.submittedAt = submittedAt;
+        c.answers.putAll(answers);
+        return c;
+    }
+
     private void ensureEditable() {
         if (this.status == SubmissionStatus.SUBMITTED) {
             throw new EditNotAllowedException("No se puede editar una submission enviada");
@@ -23,26 +23,45 @@ public final class SubmissionValidator {
         }
 
         for (SubmissionAnswer ans : submission.getAnswers()) {
-            QuestionSnapshot q = snapshotByQuestionId.get(ans.getQuestionId());
-            if (q == null) {
-                errors.add(new InvalidAnswerException(ans.getQuestionId(), "unknown",
-                        "Pregunta desconocida o fuera del formulario"));
-                continue;
-            }
-
-            switch (q.getKind()) {
-                case CHOICE -> validateChoice(ans, q, errors);
-                case TRUE_FALSE -> validateTrueFalse(ans, q, errors);
-                case TEXT -> validateText(ans, q, errors);
-                case MATCHING -> validateMatching(ans, q, errors);
-                default -> errors.add(new InvalidAnswerException(q.getQuestionId(), "unsupported",
-                        "Tipo de pregunta no soportado"));
-            }
+            validateAnswer(ans, snapshotByQuestionId, errors);
         }
 
         return errors;
     }
 
+    /**
+     * Valida una respuesta suelta mientras la submission sigue en borrador: una respuesta vacia
+     * en una pregunta requerida no es error todavia, eso se exige al enviar.
+     */
+    public static List<InvalidAnswerException> validateDraftAnswer(
+            SubmissionAnswer answer,
+            Map<Long, QuestionSnapshot> snapshotByQuestionId
+    ) {
+        List<InvalidAnswerException> errors = new ArrayList<>();
+        validateAnswer(answer, snapshotByQuestionId, errors);
+        errors.removeIf(e -> "required".equals(e.getCode()));
+        return errors;
+    }
+
+    private static void validateAnswer(SubmissionAnswer ans, Map<Long, QuestionSnapshot> snapshotByQuestionId,
+                                       List<InvalidAnswerException> errors) {
+        QuestionSnapshot q = snapshotByQuestionId.get(ans.getQuestionId());
+        if (q == null) {
+            errors.add(new InvalidAnswerException(ans.getQuestionId(), "unknown",
+                    "Pregunta desconocida o fuera del formulario"));
+            return;
+        }
+
+        switch (q.getKind()) {
+            case CHOICE -> validateChoice(ans, q, errors);
+            case TRUE_FALSE -> validateTrueFalse(ans, q, errors);
+            case TEXT -> validateText(ans, q, errors);
+            case MATCHING -> validateMatching(ans, q, errors);
+            default -> errors.add(new InvalidAnswerException(q.getQuestionId(), "unsupported",
+                    "Tipo de pregunta no soportado"));
+        }
+    }
+
     private static void validateChoice(SubmissionAnswer ans, QuestionSnapshot q, List<InvalidAnswerException> errors) {
         if (!(ans instanceof ChoiceAnswer ca)) {
             errors.add(new InvalidAnswerException(q.getQuestionId(), "type_mismatch",
@@ -20,6 +20,7 @@ public class ResponsesController {
     private final SaveTrueFalseAnswerUseCase saveTFUC;
     private final SaveTextAnswerUseCase saveTextUC;
     private final SaveMatchingAnswerUseCase saveMatchUC;
+    private final SaveAnswersBatchUseCase saveBatchUC;
     private final RemoveAnswerUseCase removeUC;
     private final SubmitSubmissionUseCase submitUC;
     private final GetSubmissionUseCase getUC;
@@ -31,13 +32,15 @@ public class ResponsesController {
                                SaveTrueFalseAnswerUseCase saveTFUC,
                                SaveTextAnswerUseCase saveTextUC,
                                SaveMatchingAnswerUseCase saveMatchUC,
+                               SaveAnswersBatchUseCase saveBatchUC,
                                RemoveAnswerUseCase removeUC,
                                SubmitSubmissionUseCase submitUC,
                                GetSubmissionUseCase getUC,
                                ListSubmissionsUseCase listUC,
                                DeleteSubmissionUseCase deleteUC) {
         this.startUC = startUC; this.saveChoiceUC = saveChoiceUC; this.saveTFUC = saveTFUC;
-        this.saveTextUC = saveTextUC; this.saveMatchUC = saveMatchUC; this.removeUC = removeUC;
+        this.saveTextUC = saveTextUC; this.saveMatchUC = saveMatchUC; this.saveBatchUC = saveBatchUC;
+        this.removeUC = removeUC;
         this.submitUC = submitUC; this.getUC = getUC; this.listUC = listUC; this.deleteUC = deleteUC;
     }
 
@@ -102,6 +105,13 @@ public class ResponsesController {
         return ResponseEntity.ok(ResponsesRestMapper.toResponse(s));
     }
 
+    @PostMapping("/api/submissions/{id}/answers:batch")
+    public ResponseEntity<SaveAnswersBatchResponse> saveBatch(@PathVariable Long id,
+                                                              @Valid @RequestBody SaveAnswersBatchRequest req) {
+        var result = saveBatchUC.handle(ResponsesRestMapper.toCommand(id, req));
+        return ResponseEntity.ok(ResponsesRestMapper.toResponse(result));
+    }
+
     @DeleteMapping("/api/submissions/{id}/answers/{questionId}")
     public ResponseEntity<SubmissionResponse> removeAnswer(@PathVariable Long id,
                                                            @PathVariable Long questionId) {
@@ -0,0 +1,26 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.in.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.Set;
+
+public record SaveAnswersBatchRequest(
+        @NotEmpty @Size(max = 200) List<@Valid @NotNull Item> answers
+) {
+    public enum AnswerType { CHOICE, TRUE_FALSE, TEXT, MATCHING }
+
+    public record Item(
+            @NotNull AnswerType type,
+            @NotNull Long questionId,
+            Set<Long> selectedOptionIds,
+            Boolean value,
+            String text,
+            List<Pair> pairs
+    ) {}
+
+    public record Pair(Long leftId, Long rightId) {}
+}
@@ -0,0 +1,14 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+public record SaveAnswersBatchResponse(
+        SubmissionResponse submission,
+        int savedCount,
+        int rejectedCount,
+        List<AnswerResult> results
+) {
+    public record AnswerResult(Long questionId, boolean saved, List<AnswerError> errors) {}
+
+    public record AnswerError(String code, String message) {}
+}
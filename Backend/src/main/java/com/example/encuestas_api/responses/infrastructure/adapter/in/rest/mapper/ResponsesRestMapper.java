@@ -36,6 +36,28 @@ public final class ResponsesRestMapper {
         return new SaveMatchingAnswerCommand(submissionId, r.questionId(), pairs);
     }
 
+    public static SaveAnswersBatchCommand toCommand(Long submissionId, SaveAnswersBatchRequest r) {
+        var items = r.answers().stream().map(a -> new SaveAnswersBatchCommand.Item(
+                SaveAnswersBatchCommand.AnswerType.valueOf(a.type().name()),
+                a.questionId(),
+                a.selectedOptionIds(),
+                a.value(),
+                a.text(),
+                a.pairs() == null ? null
+                        : a.pairs().stream().map(p -> new SaveAnswersBatchCommand.Pair(p.leftId(), p.rightId())).toList()
+        )).toList();
+        return new SaveAnswersBatchCommand(submissionId, items);
+    }
+
+    public static SaveAnswersBatchResponse toResponse(SaveAnswersBatchResult r) {
+        var results = r.results().stream().map(a -> new SaveAnswersBatchResponse.AnswerResult(
+                a.questionId(), a.saved(),
+                a.errors().stream().map(e -> new SaveAnswersBatchResponse.AnswerError(e.code(), e.message())).toList()
+        )).toList();
+        int saved = (int) results.stream().filter(SaveAnswersBatchResponse.AnswerResult::saved).count();
+        return new SaveAnswersBatchResponse(toResponse(r.submission()), saved, results.size() - saved, results);
+    }
+
     public static SubmissionResponse toResponse(Submission s) {
         String repr = switch (s.getRespondent().getType()) {
             case ANONYMOUS -> "ANONYMOUS";
@@ -0,0 +1,211 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.buffer;
+
+import com.example.encuestas_api.responses.application.port.out.DraftAnswerBufferPort;
+import com.example.encuestas_api.responses.application.port.out.SaveAnswerPort;
+import com.example.encuestas_api.responses.domain.exception.EditNotAllowedException;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Buffer local al proceso con una entrada por submission: el ultimo estado y las preguntas
+ * tocadas desde la ultima escritura. Cada autosave reemplaza el estado (coalescencia) y la
+ * entrada se escribe con un solo saveAnswers al vencer max_age_ms, al llegar a
+ * max_pending_answers, al enviar la submission o al apagar. Ante una caida se pierden
+ * como mucho max_age_ms (mas un tick del job) de autosaves por submission.
+ * <p>
+ * Si la escritura ocurre dentro de una transaccion (submit, o un autosave que llega al
+ * limite) la entrada no se suelta hasta el commit; si la transaccion se deshace, las
+ * preguntas escritas vuelven a quedar pendientes. Lo mismo vale para discard.
+ * <p>
+ * El buffer es local al nodo: si los autosaves llegan a un nodo y el submit a otro, el
+ * submit no ve esas respuestas y el autosave tardio se descarta. Por eso viene desactivado
+ * y solo debe activarse con una instancia o con enrutado sticky por submission.
+ */
+@Component
+public class InMemoryDraftAnswerBufferAdapter implements DraftAnswerBufferPort {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryDraftAnswerBufferAdapter.class);
+
+    private static final class Entry {
+        final long stagedAt;
+        final Set<Long> dirty = new LinkedHashSet<>();
+        // escritas en una transaccion que aun no confirmo
+        final Set<Long> writing = new LinkedHashSet<>();
+        Submission submission;
+        boolean removed;
+
+        Entry(long stagedAt) { this.stagedAt = stagedAt; }
+    }
+
+    private final SaveAnswerPort savePort;
+    private final Clock clock;
+    private final boolean enabled;
+    private final long maxAgeMs;
+    private final int maxPendingAnswers;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public InMemoryDraftAnswerBufferAdapter(SaveAnswerPort savePort,
+                                            Clock clock,
+                                            @Value("${responses.autosave.enabled:false}") boolean enabled,
+                                            @Value("${responses.autosave.max_age_ms:5000}") long maxAgeMs,
+                                            @Value("${responses.autosave.max_pending_answers:50}") int maxPendingAnswers,
+                                            @Value("${responses.autosave.max_entries:10000}") int maxEntries) {
+        this.savePort = savePort;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxAgeMs = Math.max(0, maxAgeMs);
+        this.maxPendingAnswers = Math.max(1, maxPendingAnswers);
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    @Override
+    public Optional<Submission> find(Long submissionId) {
+        Entry e = entries.get(submissionId);
+        if (e == null) return Optional.empty();
+        synchronized (e) {
+            return e.removed ? Optional.empty() : Optional.of(e.submission.copy());
+        }
+    }
+
+    @Override
+    public boolean contains(Long submissionId) {
+        return entries.containsKey(submissionId);
+    }
+
+    @Override
+    public boolean stage(Submission submission, Collection<Long> questionIds) {
+        Long id = submission.getId();
+        while (true) {
+            Entry e = entries.get(id);
+            if (e == null) {
+                // una entrada existente se sigue usando siempre; solo se rechazan entradas nuevas
+                if (!enabled || entries.size() >= maxEntries) return false;
+                Entry created = new Entry(clock.millis());
+                e = entries.putIfAbsent(id, created);
+                if (e == null) e = created;
+            }
+            synchronized (e) {
+                if (e.removed) continue; // se escribio mientras tanto: empezar una entrada nueva
+                e.submission = submission.copy();
+                e.dirty.addAll(questionIds);
+                if (e.dirty.size() >= maxPendingAnswers) write(id, e);
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void flush(Long submissionId) {
+        Entry e = entries.get(submissionId);
+        if (e == null) return;
+        synchronized (e) {
+            if (!e.removed && !e.dirty.isEmpty()) write(submissionId, e);
+        }
+    }
+
+    @Override
+    public void discard(Long submissionId) {
+        // dentro de una transaccion (borrado) se suelta al confirmar: un rollback conserva los autosaves
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    drop(submissionId);
+                }
+            });
+            return;
+        }
+        drop(submissionId);
+    }
+
+    private void drop(Long submissionId) {
+        Entry e = entries.remove(submissionId);
+        if (e == null) return;
+        synchronized (e) {
+            e.removed = true;
+        }
+    }
+
+    @Override
+    public int flushDue() {
+        long now = clock.millis();
+        int n = 0;
+        for (Map.Entry<Long, Entry> me : entries.entrySet()) {
+            if (now - me.getValue().stagedAt >= maxAgeMs && tryFlush(me.getKey(), me.getValue())) n++;
+        }
+        return n;
+    }
+
+    @Override
+    public int flushAll() {
+        int n = 0;
+        for (Map.Entry<Long, Entry> me : entries.entrySet()) {
+            if (tryFlush(me.getKey(), me.getValue())) n++;
+        }
+        return n;
+    }
+
+    private boolean tryFlush(Long id, Entry e) {
+        synchronized (e) {
+            if (e.removed || e.dirty.isEmpty()) return false;
+            try {
+                write(id, e);
+                return true;
+            } catch (IllegalArgumentException | EditNotAllowedException ex) {
+                // la submission ya no existe o ya se envio: no tiene sentido reintentar
+                log.warn("Descartando autosave pendiente de submission {}: {}", id, ex.getMessage());
+                e.removed = true;
+                entries.remove(id, e);
+            } catch (RuntimeException ex) {
+                log.warn("No se pudo escribir el autosave de submission {}, se reintenta: {}", id, ex.getMessage());
+            }
+            return false;
+        }
+    }
+
+    // se llama con el lock de la entrada tomado
+    private void write(Long id, Entry e) {
+        Set<Long> written = new LinkedHashSet<>(e.dirty);
+        savePort.saveAnswers(e.submission, written);
+        e.dirty.clear();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(id, e);
+            return;
+        }
+        e.writing.addAll(written);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (e) {
+                    e.writing.removeAll(written);
+                    if (e.removed) return;
+                    // rollback: lo escrito no llego a la base, vuelve a quedar pendiente
+                    if (status != STATUS_COMMITTED) e.dirty.addAll(written);
+                    release(id, e);
+                }
+            }
+        });
+    }
+
+    // la entrada se suelta solo cuando no queda nada pendiente ni por confirmar
+    private void release(Long id, Entry e) {
+        if (!e.dirty.isEmpty() || !e.writing.isEmpty()) return;
+        e.removed = true;
+        entries.remove(id, e);
+    }
+}
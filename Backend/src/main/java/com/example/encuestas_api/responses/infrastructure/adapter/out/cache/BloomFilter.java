@@ -0,0 +1,105 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de tamano fijo y seguro entre hilos (los bits se ponen con CAS).
+ * Usa doble hashing sobre un FNV-1a de 64 bits: k posiciones a partir de dos hashes.
+ */
+final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final long capacity;
+    private final AtomicLong inserted = new AtomicLong();
+
+    private BloomFilter(long bits, int hashes, long capacity) {
+        this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        this.bits = bits;
+        this.hashes = hashes;
+        this.capacity = capacity;
+    }
+
+    /** Dimensiona para expected elementos con la probabilidad de falso positivo fpp, sin pasar de maxBits. */
+    static BloomFilter create(long expected, double fpp, long maxBits) {
+        long n = Math.max(1, expected);
+        double p = Math.min(0.5, Math.max(1e-9, fpp));
+        long m = (long) Math.ceil(-n * Math.log(p) / (LN2 * LN2));
+        m = Math.max(64, Math.min(m, Math.max(64, maxBits)));
+        int k = (int) Math.max(1, Math.min(16, Math.round((double) m / n * LN2)));
+        // si el tope de bits recorta el filtro, la capacidad real para ese fpp es menor
+        long capacity = Math.min(n, (long) (m * LN2 * LN2 / -Math.log(p)));
+        return new BloomFilter(m, k, capacity);
+    }
+
+    /** true si la clave era nueva (algun bit cambio). */
+    boolean put(String key) {
+        long h1 = fnv1a(key);
+        long h2 = mix(h1) | 1L;
+        boolean changed = false;
+        for (int i = 0; i < hashes; i++) {
+            changed |= set(Math.floorMod(h1 + i * h2, bits));
+        }
+        if (changed) inserted.incrementAndGet();
+        return changed;
+    }
+
+    boolean mightContain(String key) {
+        long h1 = fnv1a(key);
+        long h2 = mix(h1) | 1L;
+        for (int i = 0; i < hashes; i++) {
+            if (!get(Math.floorMod(h1 + i * h2, bits))) return false;
+        }
+        return true;
+    }
+
+    /** Con mas elementos que la capacidad la tasa de falsos positivos ya supera la configurada. */
+    boolean isSaturated() {
+        return inserted.get() > capacity;
+    }
+
+    long capacity() { return capacity; }
+    long bits() { return bits; }
+    int hashes() { return hashes; }
+    long inserted() { return inserted.get(); }
+
+    private boolean set(long bit) {
+        int i = (int) (bit >>> 6);
+        long mask = 1L << (bit & 63);
+        while (true) {
+            long cur = words.get(i);
+            if ((cur & mask) != 0) return false;
+            if (words.compareAndSet(i, cur, cur | mask)) return true;
+        }
+    }
+
+    private boolean get(long bit) {
+        return (words.get((int) (bit >>> 6)) & (1L << (bit & 63))) != 0;
+    }
+
+    private static long fnv1a(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            h ^= c & 0xff;
+            h *= 0x100000001b3L;
+            h ^= c >>> 8;
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // finalizador de murmur3: el segundo hash debe ser independiente del primero
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
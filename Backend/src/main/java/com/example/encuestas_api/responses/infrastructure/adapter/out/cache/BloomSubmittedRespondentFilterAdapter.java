@@ -0,0 +1,136 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.responses.application.port.out.CountSubmittedByFormPort;
+import com.example.encuestas_api.responses.application.port.out.LoadSubmittedRespondentsPort;
+import com.example.encuestas_api.responses.application.port.out.SubmittedRespondentFilterPort;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Un filtro de Bloom por formulario con los respondentes que ya enviaron. Se construye
+ * desde la base de datos la primera vez que se consulta el formulario y se rehace al doble
+ * de tamano cuando se llena. Si el formulario no cabe en max_bits con el fpp pedido, el
+ * filtro se desactiva para ese formulario y siempre se hace la consulta exacta.
+ * <p>
+ * El filtro es local a la instancia y un envio hecho en otro nodo no lo actualiza, por eso
+ * viene desactivado: solo conviene con una unica instancia. Aun activado, el submit vuelve
+ * a comprobar contra la base de datos antes de marcar el envio.
+ */
+@Component
+public class BloomSubmittedRespondentFilterAdapter implements SubmittedRespondentFilterPort {
+
+    static final long MIN_CAPACITY = 1024;
+
+    private static final class Entry {
+        volatile BloomFilter filter; // null hasta construirlo
+        volatile boolean overflow;   // no cabe en max_bits: siempre consulta exacta
+        volatile long lastAccess;
+    }
+
+    private final LoadSubmittedRespondentsPort loader;
+    private final CountSubmittedByFormPort countPort;
+    private final boolean enabled;
+    private final int maxForms;
+    private final long maxBits;
+    private final double fpp;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong tick = new AtomicLong();
+
+    public BloomSubmittedRespondentFilterAdapter(LoadSubmittedRespondentsPort loader,
+                                                 CountSubmittedByFormPort countPort,
+                                                 @Value("${responses.respondent_filter.enabled:false}") boolean enabled,
+                                                 @Value("${responses.respondent_filter.max_forms:256}") int maxForms,
+                                                 @Value("${responses.respondent_filter.max_bits:4194304}") long maxBits,
+                                                 @Value("${responses.respondent_filter.fpp:0.01}") double fpp) {
+        this.loader = loader;
+        this.countPort = countPort;
+        this.enabled = enabled;
+        this.maxForms = Math.max(1, maxForms);
+        this.maxBits = Math.max(64, maxBits);
+        this.fpp = fpp;
+    }
+
+    @Override
+    public boolean mightHaveSubmitted(Long formId, Respondent respondent) {
+        List<String> keys = keys(respondent);
+        if (keys.isEmpty()) return false;
+        if (!enabled) return true;
+
+        Entry e = entries.computeIfAbsent(formId, k -> new Entry());
+        e.lastAccess = tick.incrementAndGet();
+        BloomFilter f = e.filter;
+        if (!e.overflow && (f == null || f.isSaturated())) {
+            synchronized (e) {
+                f = e.filter;
+                if (!e.overflow && (f == null || f.isSaturated())) f = build(formId, e);
+            }
+            if (entries.size() > maxForms) evictOldest();
+        }
+        if (e.overflow || f == null) return true;
+
+        for (String key : keys) {
+            if (f.mightContain(key)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void recordSubmitted(Long formId, Respondent respondent) {
+        if (!enabled) return;
+        List<String> keys = keys(respondent);
+        if (keys.isEmpty()) return;
+        Entry e = entries.get(formId);
+        if (e == null) return; // se construira desde la base de datos cuando se consulte
+        // el lock espera a una construccion en curso para no escribir en el filtro que se descarta
+        synchronized (e) {
+            BloomFilter f = e.filter;
+            if (f != null) keys.forEach(f::put);
+        }
+    }
+
+    private BloomFilter build(Long formId, Entry e) {
+        long submitted = countPort.countSubmittedByForm(formId);
+        BloomFilter f = BloomFilter.create(Math.max(MIN_CAPACITY, submitted * 2), fpp, maxBits);
+        if (f.capacity() <= submitted) {
+            e.filter = null;
+            e.overflow = true;
+            return null;
+        }
+        loader.forEachSubmittedRespondent(formId, r -> keys(r).forEach(f::put));
+        e.filter = f;
+        return f;
+    }
+
+    // se normaliza hacia mas coincidencias: la base de datos puede comparar sin mayusculas ni espacios
+    static List<String> keys(Respondent r) {
+        List<String> keys = new ArrayList<>(1);
+        if (r == null) return keys;
+        if (r.getUserId() != null) keys.add("U:" + r.getUserId());
+        if (r.getEmail() != null) keys.add("E:" + r.getEmail().strip().toLowerCase(Locale.ROOT));
+        if (r.getCode() != null) keys.add("C:" + r.getCode().strip().toLowerCase(Locale.ROOT));
+        return keys;
+    }
+
+    private void evictOldest() {
+        while (entries.size() > maxForms) {
+            Long oldest = null;
+            long min = Long.MAX_VALUE;
+            for (var e : entries.entrySet()) {
+                if (e.getValue().lastAccess < min) {
+                    min = e.getValue().lastAccess;
+                    oldest = e.getKey();
+                }
+            }
+            if (oldest == null) return;
+            entries.remove(oldest);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.responses.application.port.out.QuestionSnapshotCachePort;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Una entrada por formulario con la version con la que se construyo; la version actual la
+ * da la fila del formulario, asi que una mutacion hecha en otro nodo invalida esta entrada
+ * sin avisos. Las lecturas no bloquean. Al superar el limite se descarta la entrada usada
+ * hace mas tiempo (solo ocurre en un fallo de cache).
+ */
+@Component
+public class InMemoryQuestionSnapshotCacheAdapter implements QuestionSnapshotCachePort {
+
+    private static final class Entry {
+        final long version;
+        final Map<Long, QuestionSnapshot> snapshots;
+        volatile long lastAccess;
+
+        Entry(long version, Map<Long, QuestionSnapshot> snapshots, long lastAccess) {
+            this.version = version;
+            this.snapshots = snapshots;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong tick = new AtomicLong();
+
+    public InMemoryQuestionSnapshotCacheAdapter(@Value("${responses.snapshot_cache.enabled:true}") boolean enabled,
+                                                @Value("${responses.snapshot_cache.max_entries:1000}") int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    @Override
+    public Optional<Map<Long, QuestionSnapshot>> get(Long formId, long version) {
+        if (!enabled) return Optional.empty();
+        Entry e = entries.get(formId);
+        if (e == null || e.version != version) return Optional.empty();
+        e.lastAccess = tick.incrementAndGet();
+        return Optional.of(e.snapshots);
+    }
+
+    @Override
+    public void put(Long formId, long version, Map<Long, QuestionSnapshot> snapshots) {
+        if (!enabled) return;
+        // copia inmutable en orden de posicion; QuestionSnapshot ya es inmutable
+        var copy = Collections.unmodifiableMap(new LinkedHashMap<>(snapshots));
+        entries.compute(formId, (k, prev) ->
+                prev != null && prev.version > version ? prev : new Entry(version, copy, tick.incrementAndGet()));
+        if (entries.size() > maxEntries) evictOldest();
+    }
+
+    @Override
+    public void evict(Long formId) {
+        entries.remove(formId);
+    }
+
+    private void evictOldest() {
+        while (entries.size() > maxEntries) {
+            Long oldest = null;
+            long min = Long.MAX_VALUE;
+            for (var e : entries.entrySet()) {
+                if (e.getValue().lastAccess < min) {
+                    min = e.getValue().lastAccess;
+                    oldest = e.getKey();
+                }
+            }
+            if (oldest == null) return;
+            entries.remove(oldest);
+        }
+    }
+}
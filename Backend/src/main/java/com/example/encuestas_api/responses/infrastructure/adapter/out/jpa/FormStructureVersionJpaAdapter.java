@@ -0,0 +1,46 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.forms.infrastructure.adapter.out.jpa.entity.FormEntity;
+import com.example.encuestas_api.responses.application.port.out.FormStructureVersionPort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * La version vive en {@code forms.structure_version} para que todos los nodos comparen contra
+ * el mismo valor. Leerla cuesta una consulta por clave primaria frente a las tres o cuatro
+ * que hace cargar los snapshots.
+ */
+@Component
+@Transactional
+public class FormStructureVersionJpaAdapter implements FormStructureVersionPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    @Transactional(readOnly = true)
+    public long current(Long formId) {
+        var rows = em.createQuery("""
+                select f.structureVersion
+                from FormEntity f
+                where f.id = :fid
+                """, Long.class)
+                .setParameter("fid", formId)
+                .getResultList();
+        return rows.isEmpty() ? 0L : rows.get(0);
+    }
+
+    @Override
+    public void increment(Long formId) {
+        // update atomico: dos mutaciones concurrentes no pierden incrementos
+        em.createQuery("""
+                update FormEntity f
+                set f.structureVersion = f.structureVersion + 1
+                where f.id = :fid
+                """)
+                .setParameter("fid", formId)
+                .executeUpdate();
+    }
+}
@@ -31,6 +31,7 @@ public class LoadFormPoliciesAdapter implements LoadFormPoliciesPort {
                 f.getId(),
                 f.isAnonymousMode(),
                 f.isAllowEditBeforeSubmit(),
+                f.isAutoSave(),
                 f.getOpenAt(),
                 f.getCloseAt(),
                 mapped,
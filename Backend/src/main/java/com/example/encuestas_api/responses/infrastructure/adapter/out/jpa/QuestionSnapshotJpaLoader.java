@@ -0,0 +1,123 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.questions.domain.model.QuestionType;
+import com.example.encuestas_api.questions.domain.model.TextMode;
+import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.QuestionEntity;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+/**
+ * Construye los snapshots de un formulario con un numero fijo de consultas: las preguntas
+ * y, solo si hacen falta, una para opciones y otra por lado de matching, todas con
+ * {@code questionId in (...)}. Lo usan tanto responses como reports.
+ */
+@Component
+@Transactional(readOnly = true)
+public class QuestionSnapshotJpaLoader {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    public Map<Long, QuestionSnapshot> byFormId(Long formId) {
+        List<QuestionEntity> questions = em.createQuery("""
+                select q
+                from QuestionEntity q
+                where q.formId = :fid
+                order by q.position asc
+                """, QuestionEntity.class)
+                .setParameter("fid", formId)
+                .getResultList();
+
+        List<Long> choiceIds = idsOfType(questions, QuestionType.CHOICE);
+        List<Long> matchingIds = idsOfType(questions, QuestionType.MATCHING);
+
+        Map<Long, List<Long>> options = choiceIds.isEmpty() ? Map.of() : group("""
+                select o.questionId, o.id
+                from OptionEntity o
+                where o.questionId in :ids
+                order by o.questionId, o.position asc
+                """, choiceIds);
+        Map<Long, List<Long>> left = matchingIds.isEmpty() ? Map.of() : group("""
+                select m.questionId, m.id
+                from MatchingLeftEntity m
+                where m.questionId in :ids
+                order by m.questionId, m.id asc
+                """, matchingIds);
+        Map<Long, List<Long>> right = matchingIds.isEmpty() ? Map.of() : group("""
+                select m.questionId, m.id
+                from MatchingRightEntity m
+                where m.questionId in :ids
+                order by m.questionId, m.id asc
+                """, matchingIds);
+
+        Map<Long, QuestionSnapshot> snapshots = new LinkedHashMap<>();
+        for (QuestionEntity q : questions) {
+            QuestionSnapshot.Builder b = new QuestionSnapshot.Builder()
+                    .questionId(q.getId())
+                    .required(q.isRequired())
+                    .kind(mapKind(q.getType()));
+
+            switch (q.getType()) {
+                case CHOICE -> b.choice(
+                        mapSelectionMode(q.getSelectionMode()),
+                        q.getMinSelections(),
+                        q.getMaxSelections(),
+                        options.getOrDefault(q.getId(), List.of()));
+                case TEXT -> b.text(
+                        mapTextMode(q.getTextMode()),
+                        q.getMinLength(),
+                        q.getMaxLength());
+                case MATCHING -> b.matching(
+                        left.getOrDefault(q.getId(), List.of()),
+                        right.getOrDefault(q.getId(), List.of()));
+                case TRUE_FALSE -> { }
+            }
+            snapshots.put(q.getId(), b.build());
+        }
+        return snapshots;
+    }
+
+    private List<Long> idsOfType(List<QuestionEntity> questions, QuestionType type) {
+        List<Long> ids = new ArrayList<>();
+        for (QuestionEntity q : questions) {
+            if (q.getType() == type) ids.add(q.getId());
+        }
+        return ids;
+    }
+
+    private Map<Long, List<Long>> group(String jpql, List<Long> questionIds) {
+        Map<Long, List<Long>> out = new HashMap<>();
+        for (Object[] row : em.createQuery(jpql, Object[].class)
+                .setParameter("ids", questionIds)
+                .getResultList()) {
+            out.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+        return out;
+    }
+
+    private QuestionKind mapKind(QuestionType t) {
+        return switch (t) {
+            case CHOICE     -> QuestionKind.CHOICE;
+            case TRUE_FALSE -> QuestionKind.TRUE_FALSE;
+            case TEXT       -> QuestionKind.TEXT;
+            case MATCHING   -> QuestionKind.MATCHING;
+        };
+    }
+
+    private SelectionMode mapSelectionMode(String mode) {
+        if (mode == null) return SelectionMode.SINGLE;
+        return "MULTI".equalsIgnoreCase(mode) ? SelectionMode.MULTI : SelectionMode.SINGLE;
+    }
+
+    private TextMode mapTextMode(String mode) {
+        if (mode == null) return TextMode.SHORT;
+        return "LONG".equalsIgnoreCase(mode) ? TextMode.LONG : TextMode.SHORT;
+    }
+}
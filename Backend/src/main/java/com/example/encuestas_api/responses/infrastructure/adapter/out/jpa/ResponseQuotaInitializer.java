@@ -0,0 +1,37 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ResponseQuotaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Crea la fila de cupo la primera vez que se usa, partiendo de las submissions ya enviadas.
+ * Va en su propia transaccion para que un alta concurrente (clave duplicada) no tumbe la del llamador.
+ */
+@Component
+public class ResponseQuotaInitializer {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createIfMissing(Long formId) {
+        if (em.find(ResponseQuotaEntity.class, formId) != null) return;
+        Long submitted = em.createQuery("""
+                select count(s) from SubmissionEntity s
+                where s.formId = :formId and s.status = :status
+                """, Long.class)
+                .setParameter("formId", formId)
+                .setParameter("status", SubmissionStatus.SUBMITTED.name())
+                .getSingleResult();
+        ResponseQuotaEntity q = new ResponseQuotaEntity();
+        q.setFormId(formId);
+        q.setCommitted(submitted.intValue());
+        em.persist(q);
+        em.flush();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.responses.application.port.out.ResponseQuotaPort;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.QuotaReservationEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ResponseQuotaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Cada operacion es un update condicional sobre la fila del formulario: la base de datos
+ * serializa los incrementos y nunca deja pasar reserved + committed por encima del limite.
+ */
+@Component
+@Transactional
+public class ResponseQuotaJpaAdapter implements ResponseQuotaPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    private final ResponseQuotaInitializer initializer;
+
+    public ResponseQuotaJpaAdapter(ResponseQuotaInitializer initializer) {
+        this.initializer = initializer;
+    }
+
+    @Override
+    public boolean reserve(Long formId, int limit) {
+        if (takeSlot(formId, limit, "reserved")) return true;
+        return ensureRow(formId) && takeSlot(formId, limit, "reserved");
+    }
+
+    @Override
+    public void attach(Long formId, Long submissionId, Instant expiresAt) {
+        QuotaReservationEntity r = new QuotaReservationEntity();
+        r.setSubmissionId(submissionId);
+        r.setFormId(formId);
+        r.setExpiresAt(expiresAt);
+        em.persist(r);
+    }
+
+    @Override
+    public long commit(Long formId, Long submissionId, int limit) {
+        boolean held = em.createQuery("delete from QuotaReservationEntity r where r.submissionId = :id")
+                .setParameter("id", submissionId)
+                .executeUpdate() == 1;
+        if (held) {
+            em.createQuery("""
+                    update ResponseQuotaEntity q
+                    set q.reserved = q.reserved - 1, q.committed = q.committed + 1
+                    where q.formId = :formId
+                    """)
+                    .setParameter("formId", formId)
+                    .executeUpdate();
+        } else {
+            // sin reserva (caducada o anterior al cupo): solo entra si queda un hueco libre
+            boolean taken = takeSlot(formId, limit, "committed") || (ensureRow(formId) && takeSlot(formId, limit, "committed"));
+            if (!taken) return -1;
+        }
+        return em.createQuery("select q.committed from ResponseQuotaEntity q where q.formId = :formId", Integer.class)
+                .setParameter("formId", formId)
+                .getSingleResult();
+    }
+
+    @Override
+    public void release(Long submissionId) {
+        List<Long> formIds = em.createQuery(
+                        "select r.formId from QuotaReservationEntity r where r.submissionId = :id", Long.class)
+                .setParameter("id", submissionId)
+                .getResultList();
+        if (formIds.isEmpty()) return;
+        int deleted = em.createQuery("delete from QuotaReservationEntity r where r.submissionId = :id")
+                .setParameter("id", submissionId)
+                .executeUpdate();
+        if (deleted == 1) releaseReserved(formIds.get(0));
+    }
+
+    @Override
+    public void uncommit(Long formId) {
+        em.createQuery("""
+                update ResponseQuotaEntity q
+                set q.committed = q.committed - 1
+                where q.formId = :formId and q.committed > 0
+                """)
+                .setParameter("formId", formId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int releaseExpired(Instant now, int limit) {
+        List<QuotaReservationEntity> expired = em.createQuery("""
+                select r from QuotaReservationEntity r
+                where r.expiresAt < :now
+                order by r.expiresAt asc
+                """, QuotaReservationEntity.class)
+                .setParameter("now", now)
+                .setMaxResults(limit)
+                .getResultList();
+
+        int released = 0;
+        for (QuotaReservationEntity r : expired) {
+            // la condicion de caducidad se repite: un commit concurrente pudo llevarse la reserva
+            int deleted = em.createQuery("""
+                    delete from QuotaReservationEntity r
+                    where r.submissionId = :id and r.expiresAt < :now
+                    """)
+                    .setParameter("id", r.getSubmissionId())
+                    .setParameter("now", now)
+                    .executeUpdate();
+            if (deleted == 1) {
+                releaseReserved(r.getFormId());
+                released++;
+            }
+        }
+        return released;
+    }
+
+    private boolean takeSlot(Long formId, int limit, String column) {
+        return em.createQuery("""
+                update ResponseQuotaEntity q
+                set q.%1$s = q.%1$s + 1
+                where q.formId = :formId and q.reserved + q.committed < :limit
+                """.formatted(column))
+                .setParameter("formId", formId)
+                .setParameter("limit", limit)
+                .executeUpdate() == 1;
+    }
+
+    private void releaseReserved(Long formId) {
+        em.createQuery("""
+                update ResponseQuotaEntity q
+                set q.reserved = q.reserved - 1
+                where q.formId = :formId and q.reserved > 0
+                """)
+                .setParameter("formId", formId)
+                .executeUpdate();
+    }
+
+    /** true si la fila no existia y se acaba de crear (hay que reintentar); false si ya estaba. */
+    private boolean ensureRow(Long formId) {
+        Long rows = em.createQuery("select count(q) from ResponseQuotaEntity q where q.formId = :formId", Long.class)
+                .setParameter("formId", formId)
+                .getSingleResult();
+        if (rows > 0) return false;
+        try {
+            initializer.createIfMissing(formId);
+        } catch (PersistenceException | DataIntegrityViolationException concurrentInsert) {
+            // otro hilo u otra instancia la creo a la vez: ya existe
+        }
+        return true;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
 
 import com.example.encuestas_api.common.dto.PagedResult;
+import com.example.encuestas_api.reports.application.port.in.InvalidateReportCacheUseCase;
 import com.example.encuestas_api.responses.application.port.out.*;
+import com.example.encuestas_api.responses.domain.exception.EditNotAllowedException;
 import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.model.SubmissionAnswer;
 import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionAnswerEntity;
 import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
 import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.mapper.ResponsesJpaMapper;
 import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.repository.SubmissionJpaRepository;
@@ -11,12 +15,17 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Component
 @Transactional
 public class SubmissionRepositoryAdapter implements
         SaveSubmissionPort,
+        SaveAnswerPort,
         FindSubmissionPort,
         SearchSubmissionsPort,
         DeleteSubmissionPort,
@@ -24,16 +33,79 @@ public class SubmissionRepositoryAdapter implements
         CountSubmittedByFormPort {
 
     private final SubmissionJpaRepository repo;
+    private final InvalidateReportCacheUseCase reportCache;
 
-    public SubmissionRepositoryAdapter(SubmissionJpaRepository repo) {
+    public SubmissionRepositoryAdapter(SubmissionJpaRepository repo,
+                                       InvalidateReportCacheUseCase reportCache) {
         this.repo = repo;
+        this.reportCache = reportCache;
     }
 
     @Override
     public Submission save(Submission submission) {
-        SubmissionEntity e = ResponsesJpaMapper.toEntity(submission);
-        var saved = repo.save(e);
-        return ResponsesJpaMapper.toDomain(saved);
+        SubmissionEntity current = submission.getId() == null ? null : repo.findById(submission.getId()).orElse(null);
+        if (current == null) {
+            var saved = repo.save(ResponsesJpaMapper.toEntity(submission));
+            reportCache.handle(saved.getFormId());
+            return ResponsesJpaMapper.toDomain(saved);
+        }
+
+        // submission existente: se sincroniza sobre la entidad gestionada en vez de reconstruir todas las respuestas
+        current.setSourceIp(submission.getSourceIp());
+        current.setStatus(submission.getStatus().name());
+        current.setUpdatedAt(submission.getUpdatedAt());
+        current.setSubmittedAt(submission.getSubmittedAt());
+
+        Set<Long> questionIds = new HashSet<>();
+        submission.getAnswers().forEach(a -> questionIds.add(a.getQuestionId()));
+        current.getAnswers().removeIf(ae -> !questionIds.contains(ae.getQuestionId()));
+        for (SubmissionAnswer a : submission.getAnswers()) {
+            syncAnswer(current, a.getQuestionId(), a);
+        }
+
+        reportCache.handle(current.getFormId());
+        return ResponsesJpaMapper.toDomain(current);
+    }
+
+    @Override
+    public Submission saveAnswer(Submission submission, Long questionId) {
+        return saveAnswers(submission, List.of(questionId));
+    }
+
+    @Override
+    public Submission saveAnswers(Submission submission, Collection<Long> questionIds) {
+        SubmissionEntity e = repo.findById(submission.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Submission no encontrada"));
+        // un autosave en buffer de otro nodo puede llegar despues del submit: no se toca lo enviado
+        if (!SubmissionStatus.DRAFT.name().equals(e.getStatus())) {
+            throw new EditNotAllowedException("No se puede editar una submission enviada");
+        }
+        e.setUpdatedAt(submission.getUpdatedAt());
+        for (Long questionId : questionIds) {
+            syncAnswer(e, questionId, submission.findAnswer(questionId).orElse(null));
+        }
+        reportCache.handle(e.getFormId());
+        return ResponsesJpaMapper.toDomain(e);
+    }
+
+    /** Upsert por (submission_id, question_id): actualiza en sitio, reemplaza si cambio el tipo o borra si answer es null. */
+    private void syncAnswer(SubmissionEntity e, Long questionId, SubmissionAnswer answer) {
+        SubmissionAnswerEntity current = null;
+        for (SubmissionAnswerEntity ae : e.getAnswers()) {
+            if (questionId.equals(ae.getQuestionId())) { current = ae; break; }
+        }
+        if (current != null && answer != null && ResponsesJpaMapper.updateAnswerEntity(current, answer)) return;
+
+        if (current != null) {
+            e.getAnswers().remove(current);
+            // Hibernate ejecuta los inserts antes que los deletes: sin flush chocaria con la unica (submission_id, question_id)
+            if (answer != null) repo.flush();
+        }
+        if (answer != null) {
+            SubmissionAnswerEntity ae = ResponsesJpaMapper.toAnswerEntity(answer);
+            ae.setSubmission(e);
+            e.getAnswers().add(ae);
+        }
     }
 
     @Override
@@ -60,7 +132,10 @@ public class SubmissionRepositoryAdapter implements
 
     @Override
     public void deleteById(Long id) {
-        repo.deleteById(id);
+        repo.findById(id).ifPresent(e -> {
+            repo.delete(e);
+            reportCache.handle(e.getFormId());
+        });
     }
 
     @Override
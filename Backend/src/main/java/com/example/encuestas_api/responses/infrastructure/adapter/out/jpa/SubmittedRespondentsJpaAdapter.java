@@ -0,0 +1,57 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.responses.application.port.out.LoadSubmittedRespondentsPort;
+import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+@Transactional(readOnly = true)
+public class SubmittedRespondentsJpaAdapter implements LoadSubmittedRespondentsPort {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${responses.respondent_filter.fetch_size:1000}")
+    private int fetchSize;
+
+    @Override
+    public void forEachSubmittedRespondent(Long formId, Consumer<Respondent> action) {
+        // solo las columnas del respondente: no se cargan entidades ni respuestas
+        var q = em.createQuery("""
+                select s.respondentType, s.respondentUserId, s.respondentEmail, s.respondentCode
+                from SubmissionEntity s
+                where s.formId = :fid and s.status = :status and s.respondentType <> :anonymous
+                """, Object[].class)
+                .setParameter("fid", formId)
+                .setParameter("status", SubmissionStatus.SUBMITTED.name())
+                .setParameter("anonymous", SubmissionEntity.RespondentType.ANONYMOUS)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        try (Stream<Object[]> rows = q.getResultStream()) {
+            rows.forEach(row -> {
+                Respondent r = toRespondent((SubmissionEntity.RespondentType) row[0], (Long) row[1], (String) row[2], (String) row[3]);
+                if (r != null) action.accept(r);
+            });
+        }
+    }
+
+    private static Respondent toRespondent(SubmissionEntity.RespondentType type, Long userId, String email, String code) {
+        // filas incompletas (datos antiguos) se ignoran: la consulta exacta tampoco las encontraria
+        return switch (type) {
+            case USER -> userId == null ? null : Respondent.user(userId);
+            case EMAIL -> email == null || email.isBlank() ? null : Respondent.email(email);
+            case CODE -> code == null || code.isBlank() ? null : Respondent.code(code);
+            case ANONYMOUS -> null;
+        };
+    }
+}
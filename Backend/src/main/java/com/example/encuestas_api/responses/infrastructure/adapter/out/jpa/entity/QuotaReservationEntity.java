@@ -0,0 +1,30 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "response_quota_reservations",
+        indexes = {
+                @Index(name = "idx_quota_reservations_expires", columnList = "expires_at")
+        })
+public class QuotaReservationEntity {
+
+    @Id
+    @Column(name = "submission_id")
+    private Long submissionId;
+
+    @Column(name = "form_id", nullable = false)
+    private Long formId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    public Long getSubmissionId() { return submissionId; }
+    public void setSubmissionId(Long submissionId) { this.submissionId = submissionId; }
+    public Long getFormId() { return formId; }
+    public void setFormId(Long formId) { this.formId = formId; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
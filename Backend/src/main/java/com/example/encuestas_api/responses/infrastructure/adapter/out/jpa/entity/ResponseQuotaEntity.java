@@ -0,0 +1,29 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Contador de cupo LIMITED_N por formulario. Se modifica solo con updates condicionales
+ * (reserved + committed < limite), asi la fila es la unica fuente de verdad y no hace falta COUNT.
+ */
+@Entity
+@Table(name = "response_quotas")
+public class ResponseQuotaEntity {
+
+    @Id
+    @Column(name = "form_id")
+    private Long formId;
+
+    @Column(name = "reserved", nullable = false)
+    private int reserved;
+
+    @Column(name = "committed", nullable = false)
+    private int committed;
+
+    public Long getFormId() { return formId; }
+    public void setFormId(Long formId) { this.formId = formId; }
+    public int getReserved() { return reserved; }
+    public void setReserved(int reserved) { this.reserved = reserved; }
+    public int getCommitted() { return committed; }
+    public void setCommitted(int committed) { this.committed = committed; }
+}
@@ -3,7 +3,9 @@ package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entit
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "submission_answers")
+@Table(name = "submission_answers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_submission_answers_question",
+                columnNames = {"submission_id", "question_id"}))
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class SubmissionAnswerEntity {
 
@@ -7,7 +7,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "submissions")
+@Table(name = "submissions",
+        indexes = {
+                // consultas exactas de ONE_PER_RESPONDENT y recuento de enviadas por formulario
+                @Index(name = "idx_submissions_form_status_user", columnList = "form_id, status, respondent_user_id"),
+                @Index(name = "idx_submissions_form_status_email", columnList = "form_id, status, respondent_email"),
+                @Index(name = "idx_submissions_form_status_code", columnList = "form_id, status, respondent_code")
+        })
 public class SubmissionEntity {
 
     public enum RespondentType { ANONYMOUS, USER, EMAIL, CODE }
@@ -6,6 +6,7 @@ import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public final class ResponsesJpaMapper {
@@ -38,7 +39,7 @@ public final class ResponsesJpaMapper {
         return e;
     }
 
-    private static SubmissionAnswerEntity toAnswerEntity(SubmissionAnswer a) {
+    public static SubmissionAnswerEntity toAnswerEntity(SubmissionAnswer a) {
         if (a instanceof ChoiceAnswer ca) {
             var e = new ChoiceAnswerEntity();
             e.setQuestionId(ca.getQuestionId());
@@ -72,6 +73,38 @@ public final class ResponsesJpaMapper {
         throw new IllegalArgumentException("Tipo de respuesta no soportado: " + a.getClass());
     }
 
+    /**
+     * Copia la respuesta sobre una entidad ya persistida. Devuelve false si el tipo no coincide
+     * y la entidad debe reemplazarse. Solo modifica lo que cambia para que Hibernate no reescriba filas iguales.
+     */
+    public static boolean updateAnswerEntity(SubmissionAnswerEntity target, SubmissionAnswer a) {
+        if (a instanceof ChoiceAnswer ca && target instanceof ChoiceAnswerEntity ce) {
+            ce.getSelectedOptionIds().retainAll(ca.getSelectedOptionIds());
+            ce.getSelectedOptionIds().addAll(ca.getSelectedOptionIds());
+        } else if (a instanceof TrueFalseAnswer tf && target instanceof TrueFalseAnswerEntity te) {
+            te.setValue(tf.isValue());
+        } else if (a instanceof TextAnswer ta && target instanceof TextAnswerEntity tx) {
+            tx.setText(ta.getText());
+        } else if (a instanceof MatchingAnswer ma && target instanceof MatchingAnswerEntity me) {
+            if (!samePairs(me.getPairs(), ma.getPairs())) {
+                me.getPairs().clear();
+                ma.getPairs().forEach(p -> me.getPairs().add(new MatchingAnswerEntity.PairEmb(p.getLeftId(), p.getRightId())));
+            }
+        } else {
+            return false;
+        }
+        target.setQuestionVersion(a.getQuestionVersion());
+        return true;
+    }
+
+    // la coleccion de pares es un bag sin orden persistido: se compara como multiconjunto
+    private static boolean samePairs(List<MatchingAnswerEntity.PairEmb> current, List<MatchingPair> wanted) {
+        if (current.size() != wanted.size()) return false;
+        var a = current.stream().map(p -> p.getLeftId() + ":" + p.getRightId()).sorted().toList();
+        var b = wanted.stream().map(p -> p.getLeftId() + ":" + p.getRightId()).sorted().toList();
+        return a.equals(b);
+    }
+
     public static Submission toDomain(SubmissionEntity e) {
         Respondent r = switch (e.getRespondentType()) {
             case ANONYMOUS -> Respondent.anonymous();
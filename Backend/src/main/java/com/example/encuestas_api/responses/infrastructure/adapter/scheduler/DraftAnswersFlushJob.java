@@ -0,0 +1,33 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.scheduler;
+
+import com.example.encuestas_api.responses.application.port.in.FlushDraftAnswersUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DraftAnswersFlushJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DraftAnswersFlushJob.class);
+
+    private final FlushDraftAnswersUseCase flush;
+
+    public DraftAnswersFlushJob(FlushDraftAnswersUseCase flush) {
+        this.flush = flush;
+    }
+
+    @Scheduled(fixedDelayString = "${responses.autosave.tick_ms:1000}", initialDelay = 1000)
+    public void flushDue() {
+        flush.handle(false);
+    }
+
+    // el evento se publica antes de destruir los beans, el datasource sigue disponible
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        int n = flush.handle(true);
+        if (n > 0) log.info("Escritos {} autosaves pendientes antes de apagar", n);
+    }
+}
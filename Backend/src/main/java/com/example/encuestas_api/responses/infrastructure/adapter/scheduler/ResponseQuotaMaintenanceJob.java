@@ -0,0 +1,25 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.scheduler;
+
+import com.example.encuestas_api.responses.application.port.in.ReleaseExpiredQuotaReservationsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ResponseQuotaMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseQuotaMaintenanceJob.class);
+
+    private final ReleaseExpiredQuotaReservationsUseCase release;
+
+    public ResponseQuotaMaintenanceJob(ReleaseExpiredQuotaReservationsUseCase release) {
+        this.release = release;
+    }
+
+    @Scheduled(fixedDelayString = "${responses.quota.release_ms:60000}", initialDelay = 60000)
+    public void releaseExpired() {
+        int n = release.handle();
+        if (n > 0) log.info("Liberadas {} reservas de cupo caducadas", n);
+    }
+}
@@ -12,6 +12,7 @@ import com.example.encuestas_api.campaigns.domain.model.Campaign;
 import com.example.encuestas_api.campaigns.domain.model.CampaignMember;
 import com.example.encuestas_api.campaigns.domain.model.CampaignMemberRole;
 import com.example.encuestas_api.campaigns.domain.valueobject.CampaignName;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -54,6 +55,9 @@ class AddCampaignMemberServiceTest {
     @Mock
     private Clock clock;
 
+    @Mock
+    private InvalidateRecipientDirectoryUseCase recipientDirectory;
+
     @InjectMocks
     private AddCampaignMemberService addCampaignMemberService;
 
@@ -190,7 +194,8 @@ class AddCampaignMemberServiceTest {
             loadMemberPort,
             saveMemberPort,
             null, // null checkUserExists
-            fixedClock
+            fixedClock,
+            recipientDirectory
         );
         
         when(loadCampaignPort.loadById(campaignId)).thenReturn(Optional.of(testCampaign));
@@ -411,7 +416,8 @@ class AddCampaignMemberServiceTest {
                 loadMemberPort,
                 saveMemberPort,
                 null, // null checkUserExists
-                fixedClock
+                fixedClock,
+                recipientDirectory
             );
             
             when(loadCampaignPort.loadById(campaignId)).thenReturn(Optional.of(testCampaign));
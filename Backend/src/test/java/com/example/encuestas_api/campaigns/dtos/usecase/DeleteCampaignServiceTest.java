@@ -2,6 +2,7 @@ package com.example.encuestas_api.campaigns.dtos.usecase;
 
 import com.example.encuestas_api.campaigns.application.port.out.DeleteCampaignPort;
 import com.example.encuestas_api.campaigns.application.usecase.DeleteCampaignService;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +23,9 @@ public class DeleteCampaignServiceTest {
     
     @Mock
     private DeleteCampaignPort deletePort;
+
+    @Mock
+    private InvalidateRecipientDirectoryUseCase recipientDirectory;
     
     @InjectMocks
     private DeleteCampaignService deleteCampaignService;
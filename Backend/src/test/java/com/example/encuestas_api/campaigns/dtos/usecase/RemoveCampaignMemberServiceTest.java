@@ -2,6 +2,7 @@ package com.example.encuestas_api.campaigns.dtos.usecase;
 
 import com.example.encuestas_api.campaigns.application.port.out.DeleteCampaignMemberPort;
 import com.example.encuestas_api.campaigns.application.usecase.RemoveCampaignMemberService;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,6 +23,9 @@ public class RemoveCampaignMemberServiceTest {
     
     @Mock
     private DeleteCampaignMemberPort deletePort;
+
+    @Mock
+    private InvalidateRecipientDirectoryUseCase recipientDirectory;
     
     @InjectMocks
     private RemoveCampaignMemberService removeCampaignMemberService;
@@ -47,6 +51,7 @@ public class RemoveCampaignMemberServiceTest {
             ).doesNotThrowAnyException();
             
             verify(deletePort).deleteByCampaignIdAndUserId(CAMPAIGN_ID, USER_ID);
+            verify(recipientDirectory).handle(CAMPAIGN_ID, null);
         }
         
         @Test
@@ -2,6 +2,7 @@ package com.example.encuestas_api.forms.applicaction.usecase;
 
 import com.example.encuestas_api.forms.application.port.out.DeleteFormPort;
 import com.example.encuestas_api.forms.application.usecase.DeleteFormService;
+import com.example.encuestas_api.notifications.application.port.in.InvalidateRecipientDirectoryUseCase;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,6 +16,9 @@ class DeleteFormServiceTest {
     @Mock
     private DeleteFormPort deleteFormPort;
 
+    @Mock
+    private InvalidateRecipientDirectoryUseCase recipientDirectory;
+
     @InjectMocks
     private DeleteFormService service;
 
@@ -28,6 +32,7 @@ class DeleteFormServiceTest {
 
         // Assert
         verify(deleteFormPort).deleteById(formId);
+        verify(recipientDirectory).handle(null, formId);
     }
 
     @Test
@@ -0,0 +1,346 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.dto.DispatchPendingCommand;
+import com.example.encuestas_api.notifications.application.dto.DispatcherStats;
+import com.example.encuestas_api.notifications.application.port.out.*;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.service.NotificationRetryPolicy;
+import com.example.encuestas_api.notifications.domain.valueobject.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DispatchPendingNotificationsService Tests")
+class DispatchPendingNotificationsServiceTest {
+
+    @Mock
+    private FindPendingNotificationsPort findPort;
+    @Mock
+    private ClaimNotificationsPort claimPort;
+    @Mock
+    private SendEmailPort emailPort;
+    @Mock
+    private SendWebhookPort webhookPort;
+    @Mock
+    private SendInAppPort inAppPort;
+
+    private final Map<Long, Notification> pending = new ConcurrentHashMap<>();
+    private final Map<Long, String> owners = new ConcurrentHashMap<>();
+    private final List<Long> completed = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger fetches = new AtomicInteger();
+    private ExecutorService executor;
+    private NotificationDispatchMetrics metrics;
+    private NotificationRetryPolicy retryPolicy;
+    private Answer<List<Notification>> database;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        metrics = new NotificationDispatchMetrics();
+        retryPolicy = new NotificationRetryPolicy(Map.of(
+                Channel.EMAIL, Duration.ofSeconds(30),
+                Channel.WEBHOOK, Duration.ofSeconds(10),
+                Channel.IN_APP, Duration.ofSeconds(5)), Duration.ofHours(1), 3, () -> 0.5);
+        // base de datos simulada: claim toma por id lo que sigue PENDING, ya vencido, sin lease y del canal pedido
+        database = inv -> {
+            fetches.incrementAndGet();
+            String owner = inv.getArgument(0);
+            Channel channel = inv.getArgument(1);
+            Instant now = inv.getArgument(2);
+            int limit = inv.getArgument(4);
+            synchronized (owners) {
+                List<Notification> batch = pending.values().stream()
+                        .filter(n -> due(n, now) && !owners.containsKey(n.getId()))
+                        .filter(n -> channel == null || n.getChannel() == channel)
+                        .sorted(Comparator.comparing(Notification::getId))
+                        .limit(limit)
+                        .toList();
+                batch.forEach(n -> owners.put(n.getId(), owner));
+                return batch;
+            }
+        };
+        lenient().when(claimPort.claim(anyString(), any(), any(), any(), anyInt())).thenAnswer(database);
+        lenient().when(claimPort.complete(any(), anyString(), any())).thenAnswer(inv -> {
+            Notification n = inv.getArgument(0);
+            completed.add(n.getId());
+            return inv.getArgument(1).equals(owners.remove(n.getId()));
+        });
+        lenient().when(findPort.countPending(any())).thenAnswer(inv ->
+                pending.values().stream().filter(n -> due(n, inv.getArgument(0))).count());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Debe respetar el limite de concurrencia de cada canal")
+    void shouldRespectPerChannelConcurrency() throws Exception {
+        // Given
+        for (long i = 1; i <= 60; i++) add(i, i % 2 == 0 ? Channel.EMAIL : Channel.WEBHOOK);
+        ConcurrencyProbe email = new ConcurrencyProbe();
+        ConcurrencyProbe webhook = new ConcurrencyProbe();
+        doAnswer(inv -> email.run()).when(emailPort).send(any(), any());
+        doAnswer(inv -> webhook.run()).when(webhookPort).send(any(), any());
+        var service = service(100, 2, 5, 1);
+
+        // When
+        int dispatched = service.handle(new DispatchPendingCommand(20, null));
+
+        // Then
+        assertThat(dispatched).isEqualTo(60);
+        assertThat(email.max.get()).isLessThanOrEqualTo(2).isGreaterThan(1);
+        assertThat(webhook.max.get()).isLessThanOrEqualTo(5).isGreaterThan(2);
+        assertThat(pending.values()).allMatch(n -> n.getStatus() == DeliveryStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("Un canal lento no debe acaparar la ventana de los demas canales")
+    void shouldNotStarveFastChannelsBehindSlowEmail() throws Exception {
+        // Given: los emails tienen ids menores y se reclamarian primero en un claim global
+        for (long i = 1; i <= 40; i++) add(i, Channel.EMAIL);
+        for (long i = 41; i <= 80; i++) add(i, Channel.WEBHOOK);
+        AtomicInteger emailsSent = new AtomicInteger();
+        AtomicInteger emailsWhenWebhooksDone = new AtomicInteger(-1);
+        AtomicInteger webhooksSent = new AtomicInteger();
+        doAnswer(inv -> {
+            Thread.sleep(20);
+            emailsSent.incrementAndGet();
+            return null;
+        }).when(emailPort).send(any(), any());
+        doAnswer(inv -> {
+            if (webhooksSent.incrementAndGet() == 40) emailsWhenWebhooksDone.set(emailsSent.get());
+            return null;
+        }).when(webhookPort).send(any(), any());
+        var service = service(10, 1, 4, 1);
+
+        // When
+        int dispatched = service.handle(new DispatchPendingCommand(10, null));
+
+        // Then: los webhooks terminan mientras el email sigue atascado en su propia ventana
+        assertThat(dispatched).isEqualTo(80);
+        assertThat(emailsWhenWebhooksDone.get()).isBetween(0, 20);
+        verify(claimPort, never()).claim(anyString(), isNull(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Nunca debe reclamar mas filas que permisos libres tiene el canal")
+    void shouldClaimOnlyFreePermits() throws Exception {
+        // Given
+        for (long i = 1; i <= 30; i++) add(i, Channel.EMAIL);
+        List<Integer> emailLimits = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(inv -> {
+            emailLimits.add(inv.getArgument(4));
+            return database.answer(inv);
+        }).when(claimPort).claim(anyString(), eq(Channel.EMAIL), any(), any(), anyInt());
+        doAnswer(inv -> {
+            Thread.sleep(5);
+            return null;
+        }).when(emailPort).send(any(), any());
+        var service = service(100, 3, 4, 4);
+
+        // When
+        int dispatched = service.handle(new DispatchPendingCommand(20, null));
+
+        // Then: con 3 permisos ningun lote pasa de 3 y nada espera turno con la lease corriendo
+        assertThat(dispatched).isEqualTo(30);
+        assertThat(emailLimits).isNotEmpty().allMatch(limit -> limit <= 3);
+        assertThat(pending.values()).allMatch(n -> n.getStatus() == DeliveryStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("Si la lease caduca antes de enviar la notificacion no debe enviarse")
+    void shouldSkipRowsWhoseLeaseExpiredBeforeSending() throws Exception {
+        // Given: el reloj salta mas alla de la lease justo despues del claim (pausa larga del nodo)
+        add(1L, Channel.WEBHOOK);
+        MutableClock clock = new MutableClock();
+        doAnswer(inv -> {
+            List<Notification> batch = database.answer(inv);
+            clock.advance(Duration.ofMinutes(5));
+            return batch;
+        }).when(claimPort).claim(anyString(), eq(Channel.WEBHOOK), any(), any(), anyInt());
+        var service = service(clock, 100, 4, 4, 4);
+
+        // When
+        service.handle(new DispatchPendingCommand(10, null));
+
+        // Then: ni se envia ni se guarda; la lease caducada la devuelve a PENDING en el siguiente reclaim
+        verify(webhookPort, never()).send(any(), any());
+        verify(claimPort, never()).complete(any(), anyString(), any());
+        assertThat(pending.get(1L).getStatus()).isEqualTo(DeliveryStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("Debe seguir drenando mientras haya backlog sin enviar dos veces")
+    void shouldDrainBacklogWithoutDuplicates() throws Exception {
+        // Given
+        for (long i = 1; i <= 250; i++) add(i, Channel.IN_APP);
+        doAnswer(inv -> {
+            Thread.sleep(1);
+            return null;
+        }).when(inAppPort).send(any(), any());
+        var service = service(40, 1, 1, 8);
+
+        // When
+        int dispatched = service.handle(new DispatchPendingCommand(25, null));
+
+        // Then
+        assertThat(dispatched).isEqualTo(250);
+        assertThat(completed).hasSize(250).doesNotHaveDuplicates();
+        assertThat(fetches.get()).isGreaterThan(10); // varios lotes en una sola pasada
+    }
+
+    @Test
+    @DisplayName("Los fallos se programan para reintento y cuentan en las metricas")
+    void shouldScheduleRetryOnFailureAndReportMetrics() throws Exception {
+        // Given
+        add(1L, Channel.EMAIL);
+        add(2L, Channel.EMAIL);
+        add(3L, Channel.WEBHOOK);
+        doThrow(new IllegalStateException("smtp caido")).when(emailPort).send(same(pending.get(1L).getRecipient()), any());
+        var service = service(100, 4, 4, 4);
+
+        // When
+        Instant before = Instant.now();
+        service.handle(new DispatchPendingCommand(10, null));
+
+        // Then
+        Notification failed = pending.get(1L);
+        assertThat(failed.getStatus()).isEqualTo(DeliveryStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("smtp caido");
+        // base de email 30 s con jitter fijo al 50 %: entre 15 y 30 s
+        assertThat(failed.getNextAttemptAt()).isBetween(before.plusSeconds(15), Instant.now().plusSeconds(30));
+        assertThat(pending.get(2L).getStatus()).isEqualTo(DeliveryStatus.SENT);
+        DispatcherStats stats = metrics.snapshot();
+        assertThat(stats.channels().get(Channel.EMAIL).sent()).isEqualTo(1);
+        assertThat(stats.channels().get(Channel.EMAIL).failed()).isEqualTo(1);
+        assertThat(stats.channels().get(Channel.WEBHOOK).sent()).isEqualTo(1);
+        assertThat(stats.channels().get(Channel.EMAIL).limit()).isEqualTo(4);
+        assertThat(stats.lastRunDispatched()).isEqualTo(3);
+        assertThat(stats.queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Al agotar los intentos la notificacion queda como dead letter")
+    void shouldDeadLetterAfterMaxAttempts() throws Exception {
+        // Given
+        add(1L, Channel.WEBHOOK);
+        Notification n = pending.get(1L);
+        n.scheduleRetry(Instant.now().minusSeconds(1), "timeout");
+        n.scheduleRetry(Instant.now().minusSeconds(1), "timeout");
+        doThrow(new IllegalStateException("500 del receptor")).when(webhookPort).send(any(), any());
+        var service = service(100, 4, 4, 4);
+
+        // When
+        service.handle(new DispatchPendingCommand(10, null));
+
+        // Then
+        assertThat(n.getStatus()).isEqualTo(DeliveryStatus.DEAD);
+        assertThat(n.getAttempts()).isEqualTo(3);
+        assertThat(n.getNextAttemptAt()).isNull();
+        assertThat(n.getLastError()).contains("500 del receptor");
+        assertThat(completed).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("Dos nodos despachando a la vez no deben enviar dos veces la misma notificacion")
+    void shouldNotDuplicateAcrossNodes() throws Exception {
+        // Given
+        for (long i = 1; i <= 200; i++) add(i, Channel.WEBHOOK);
+        List<Long> delivered = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(inv -> {
+            Recipient r = inv.getArgument(0);
+            delivered.add(Long.valueOf(r.getWebhook().substring(r.getWebhook().lastIndexOf('/') + 1)));
+            return null;
+        }).when(webhookPort).send(any(), any());
+        var nodeA = service(50, 4, 4, 4);
+        var nodeB = service(50, 4, 4, 4);
+
+        // When
+        var a = executor.submit(() -> nodeA.handle(new DispatchPendingCommand(10, null)));
+        var b = executor.submit(() -> nodeB.handle(new DispatchPendingCommand(10, null)));
+        int total = a.get() + b.get();
+
+        // Then
+        assertThat(total).isEqualTo(200);
+        assertThat(delivered).hasSize(200).doesNotHaveDuplicates();
+        verify(claimPort, atLeast(2)).reclaimExpired(any());
+    }
+
+    private DispatchPendingNotificationsService service(int maxInFlight, int email, int webhook, int inApp) {
+        return service(Clock.systemUTC(), maxInFlight, email, webhook, inApp);
+    }
+
+    private DispatchPendingNotificationsService service(Clock clock, int maxInFlight, int email, int webhook, int inApp) {
+        return new DispatchPendingNotificationsService(findPort, claimPort, emailPort, webhookPort, inAppPort,
+                executor, metrics, retryPolicy, clock, maxInFlight, 30_000, 60_000, "test", email, webhook, inApp);
+    }
+
+    private static boolean due(Notification n, Instant now) {
+        return n.getStatus() == DeliveryStatus.PENDING && !n.getNextAttemptAt().isAfter(now);
+    }
+
+    private void add(Long id, Channel ch) {
+        Recipient r = switch (ch) {
+            case EMAIL -> Recipient.email("u" + id + "@mail.com");
+            case WEBHOOK -> Recipient.webhook("http://localhost/hook/" + id);
+            case IN_APP -> Recipient.user(id);
+        };
+        Notification n = new Notification(NotificationType.SUBMISSION_RECEIVED, ch, r,
+                new Message("s", "b"), Instant.now().minusSeconds(1), Map.of());
+        n.setId(id);
+        pending.put(id, n);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Duration offset = Duration.ZERO;
+
+        void advance(Duration d) { offset = offset.plus(d); }
+
+        @Override
+        public ZoneId getZone() { return ZoneOffset.UTC; }
+
+        @Override
+        public Clock withZone(ZoneId zone) { return this; }
+
+        @Override
+        public Instant instant() { return Instant.now().plus(offset); }
+    }
+
+    private static final class ConcurrencyProbe {
+        final AtomicInteger current = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+
+        Object run() throws InterruptedException {
+            int now = current.incrementAndGet();
+            max.accumulateAndGet(now, Math::max);
+            Thread.sleep(20);
+            current.decrementAndGet();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.dto.EnqueueCampaignRemindersCommand;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort.Checkpoint;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort.Due;
+import com.example.encuestas_api.notifications.application.port.out.LoadRecipientDirectoryPort;
+import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnqueueCampaignRemindersService Tests")
+class EnqueueCampaignRemindersServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final LocalDate TARGET = TODAY.plusDays(1);
+
+    @Mock
+    private CampaignReminderPort reminders;
+    @Mock
+    private LoadRecipientDirectoryPort directory;
+    @Mock
+    private SaveNotificationPort savePort;
+    @Mock
+    private Clock clock;
+
+    private final List<List<Notification>> chunks = new ArrayList<>();
+    private EnqueueCampaignRemindersService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC));
+        lenient().when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        lenient().when(savePort.saveAll(any())).thenAnswer(inv -> {
+            List<Notification> chunk = new ArrayList<>(inv.getArgument(0));
+            chunks.add(chunk);
+            return chunk;
+        });
+        // miembros 1..250 paginados por userId
+        lenient().when(directory.findMemberUserIds(eq(7L), any(), anyInt())).thenAnswer(inv -> {
+            Long after = inv.getArgument(1);
+            int limit = inv.getArgument(2);
+            return LongStream.rangeClosed(after == null ? 1 : after + 1, 250).limit(limit).boxed().toList();
+        });
+        service = new EnqueueCampaignRemindersService(reminders, directory, savePort,
+                TransactionOperations.withoutTransaction(), clock, 100);
+    }
+
+    @Test
+    @DisplayName("Debe encolar por trozos avanzando el punto de control en cada uno")
+    void shouldEnqueueInChunksWithCheckpoints() {
+        // Given
+        Due due = new Due(7L, NotificationType.CAMPAIGN_STARTS_TOMORROW);
+        Checkpoint cp = new Checkpoint(1L, 7L, due.type(), TARGET, 1, null, 0);
+        when(reminders.findUnfinished(TODAY)).thenReturn(List.of());
+        when(reminders.findDue(TARGET)).thenReturn(List.of(due));
+        when(reminders.open(due, TARGET, 1)).thenReturn(Optional.of(cp));
+        when(reminders.advance(any(), any(), anyInt())).thenReturn(true);
+
+        // When
+        int created = service.handle(new EnqueueCampaignRemindersCommand(TARGET, 1));
+
+        // Then
+        assertThat(created).isEqualTo(250);
+        assertThat(chunks).extracting(List::size).containsExactly(100, 100, 50);
+        assertThat(chunks.get(0).get(0).getRecipient().getUserId()).isEqualTo(1L);
+        assertThat(chunks.get(0).get(0).getMessage().getBody()).isEqualTo("La campaña 7 inicia en 1 día(s).");
+        verify(reminders).advance(cp, 100L, 100);
+        verify(reminders).advance(cp.advancedTo(100L, 100), 200L, 100);
+        verify(reminders).advance(cp.advancedTo(100L, 100).advancedTo(200L, 100), 250L, 50);
+        verify(reminders).finish(argThat(c -> c.lastUserId() == 250L && c.enqueued() == 250));
+    }
+
+    @Test
+    @DisplayName("Debe retomar desde el ultimo miembro confirmado sin reenviar a los anteriores")
+    void shouldResumeFromCheckpoint() {
+        // Given
+        Checkpoint cp = new Checkpoint(1L, 7L, NotificationType.CAMPAIGN_ENDS_TOMORROW, TARGET, 1, 200L, 200);
+        when(reminders.findUnfinished(TODAY)).thenReturn(List.of(cp));
+        when(reminders.advance(any(), any(), anyInt())).thenReturn(true);
+
+        // When
+        int created = service.handle(new EnqueueCampaignRemindersCommand(null, 1));
+
+        // Then
+        assertThat(created).isEqualTo(50);
+        assertThat(chunks).hasSize(1);
+        assertThat(chunks.get(0).get(0).getRecipient().getUserId()).isEqualTo(201L);
+        verify(reminders, never()).findDue(any());
+        verify(reminders).finish(argThat(c -> c.enqueued() == 250));
+    }
+
+    @Test
+    @DisplayName("Si otro nodo avanzo el punto de control no debe guardar ese trozo")
+    void shouldStopWhenAnotherNodeAdvanced() {
+        // Given
+        Checkpoint cp = new Checkpoint(1L, 7L, NotificationType.CAMPAIGN_STARTS_TOMORROW, TARGET, 1, null, 0);
+        when(reminders.findUnfinished(TODAY)).thenReturn(List.of(cp));
+        when(reminders.advance(any(), any(), anyInt())).thenReturn(false);
+
+        // When
+        int created = service.handle(new EnqueueCampaignRemindersCommand(null, 1));
+
+        // Then
+        assertThat(created).isZero();
+        verify(savePort, never()).saveAll(any());
+        verify(reminders, never()).finish(any());
+    }
+}
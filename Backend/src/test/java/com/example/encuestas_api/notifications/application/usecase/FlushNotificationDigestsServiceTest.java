@@ -0,0 +1,128 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.out.LoadPreferencesPort;
+import com.example.encuestas_api.notifications.application.port.out.LoadTemplatePort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort.PendingDigest;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDispatchTriggerPort;
+import com.example.encuestas_api.notifications.application.port.out.SaveNotificationPort;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import com.example.encuestas_api.notifications.domain.valueobject.DigestMode;
+import com.example.encuestas_api.notifications.domain.valueobject.NotificationPreference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FlushNotificationDigestsService Tests")
+class FlushNotificationDigestsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T15:00:30Z");
+
+    @Mock
+    private NotificationDigestPort digests;
+    @Mock
+    private LoadPreferencesPort prefsPort;
+    @Mock
+    private LoadTemplatePort templatePort;
+    @Mock
+    private SaveNotificationPort savePort;
+    @Mock
+    private NotificationDispatchTriggerPort dispatcher;
+    @Mock
+    private Clock clock;
+
+    private final List<Notification> saved = new ArrayList<>();
+    private FlushNotificationDigestsService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(NOW);
+        lenient().when(templatePort.loadByCode(anyString())).thenReturn(Optional.empty());
+        lenient().when(savePort.saveAll(any())).thenAnswer(inv -> {
+            saved.addAll(inv.getArgument(0));
+            return List.copyOf(saved);
+        });
+        service = new FlushNotificationDigestsService(digests, prefsPort, templatePort, savePort, dispatcher,
+                TransactionOperations.withoutTransaction(), clock, 100);
+    }
+
+    @Test
+    @DisplayName("Debe enviar un resumen con la cuenta por cada canal del usuario")
+    void shouldEmitOneDigestPerChannel() {
+        // Given
+        PendingDigest d = digest(1L, 10L, NotificationType.SUBMISSION_RECEIVED, 37);
+        when(digests.findDue(NOW, 100)).thenReturn(List.of(d));
+        when(digests.take(d)).thenReturn(true);
+        when(prefsPort.loadByUserIds(Set.of(10L))).thenReturn(Map.of(10L, new NotificationPreference(10L,
+                Set.of(NotificationType.SUBMISSION_RECEIVED), Set.of(Channel.EMAIL, Channel.IN_APP), null, DigestMode.WINDOW)));
+
+        // When
+        int flushed = service.handle();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(saved).hasSize(2).extracting(Notification::getChannel)
+                .containsExactlyInAnyOrder(Channel.EMAIL, Channel.IN_APP);
+        assertThat(saved.get(0).getMessage().getSubject()).isEqualTo("37 respuesta(s) nuevas en el formulario 5");
+        assertThat(saved.get(0).getRecipient().getUserId()).isEqualTo(10L);
+        verify(dispatcher).requestDispatch();
+    }
+
+    @Test
+    @DisplayName("El resumen diario debe salir como DAILY_SUMMARY")
+    void shouldUseDailySummaryType() {
+        // Given
+        PendingDigest d = digest(2L, 11L, NotificationType.DAILY_SUMMARY, 4);
+        when(digests.findDue(NOW, 100)).thenReturn(List.of(d));
+        when(digests.take(d)).thenReturn(true);
+        when(prefsPort.loadByUserIds(Set.of(11L))).thenReturn(Map.of());
+
+        // When
+        service.handle();
+
+        // Then
+        assertThat(saved).isNotEmpty().allMatch(n -> n.getType() == NotificationType.DAILY_SUMMARY);
+        assertThat(saved.get(0).getMessage().getSubject()).isEqualTo("Resumen diario del formulario 5");
+        verify(templatePort).loadByCode("daily_summary");
+    }
+
+    @Test
+    @DisplayName("No debe enviar los cubos que otro nodo ya tomo ni los de usuarios silenciados")
+    void shouldSkipTakenAndMutedDigests() {
+        // Given
+        PendingDigest taken = digest(1L, 10L, NotificationType.SUBMISSION_RECEIVED, 3);
+        PendingDigest muted = digest(2L, 12L, NotificationType.SUBMISSION_RECEIVED, 5);
+        when(digests.findDue(NOW, 100)).thenReturn(List.of(taken, muted));
+        when(digests.take(taken)).thenReturn(false);
+        when(digests.take(muted)).thenReturn(true);
+        when(prefsPort.loadByUserIds(Set.of(10L, 12L))).thenReturn(Map.of(12L, new NotificationPreference(12L,
+                Set.of(NotificationType.SUBMISSION_RECEIVED), Set.of(Channel.EMAIL), NOW.plusSeconds(3600), DigestMode.WINDOW)));
+
+        // When
+        int flushed = service.handle();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(saved).isEmpty();
+        verify(dispatcher, never()).requestDispatch();
+    }
+
+    private static PendingDigest digest(Long id, Long userId, NotificationType type, int count) {
+        return new PendingDigest(id, userId, 5L, type, count, NOW.minusSeconds(3000), NOW.minusSeconds(60));
+    }
+}
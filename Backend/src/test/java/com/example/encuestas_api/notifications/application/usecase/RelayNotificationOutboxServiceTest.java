@@ -0,0 +1,109 @@
+package com.example.encuestas_api.notifications.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.in.ProcessOutboxEventUseCase;
+import com.example.encuestas_api.notifications.application.port.out.NotificationDispatchTriggerPort;
+import com.example.encuestas_api.notifications.application.port.out.NotificationOutboxPort;
+import com.example.encuestas_api.notifications.domain.model.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RelayNotificationOutboxService Tests")
+class RelayNotificationOutboxServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private NotificationOutboxPort outbox;
+    @Mock
+    private ProcessOutboxEventUseCase process;
+    @Mock
+    private NotificationDispatchTriggerPort dispatcher;
+
+    private RelayNotificationOutboxService relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new RelayNotificationOutboxService(outbox, process, dispatcher, Clock.fixed(NOW, ZoneOffset.UTC), 2, 5, 3);
+    }
+
+    @Test
+    @DisplayName("Debe vaciar el outbox por lotes hasta encontrar un lote incompleto")
+    void shouldDrainInBatches() {
+        // Given
+        when(outbox.findDue(NOW, 3, 2))
+                .thenReturn(List.of(event(1L, 0), event(2L, 0)))
+                .thenReturn(List.of(event(3L, 0)));
+        when(process.handle(anyLong())).thenReturn(true);
+
+        // When
+        int processed = relay.handle();
+
+        // Then
+        assertThat(processed).isEqualTo(3);
+        verify(outbox, times(2)).findDue(NOW, 3, 2);
+        verify(outbox, never()).recordFailure(anyLong(), any(), any());
+        verify(dispatcher).requestDispatch();
+    }
+
+    @Test
+    @DisplayName("Un evento que falla debe reprogramarse sin frenar a los demas")
+    void shouldRecordFailureAndContinue() {
+        // Given
+        when(outbox.findDue(NOW, 3, 2)).thenReturn(List.of(event(1L, 2), event(2L, 0)), List.of());
+        when(process.handle(1L)).thenThrow(new IllegalStateException("plantilla rota"));
+        when(process.handle(2L)).thenReturn(true);
+
+        // When
+        int processed = relay.handle();
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        verify(outbox).recordFailure(1L, "plantilla rota", NOW.plusSeconds(20));
+        verify(process).handle(2L);
+    }
+
+    @Test
+    @DisplayName("Un evento que ya tomo otro relay no debe contarse")
+    void shouldSkipEventsTakenElsewhere() {
+        // Given
+        when(outbox.findDue(NOW, 3, 2)).thenReturn(List.of(event(1L, 0)));
+        when(process.handle(1L)).thenReturn(false);
+
+        // When / Then
+        assertThat(relay.handle()).isZero();
+        verify(outbox, never()).recordFailure(anyLong(), any(), any());
+        verifyNoInteractions(dispatcher);
+    }
+
+    @Test
+    @DisplayName("No debe dar mas pasadas que max_batches por ejecucion")
+    void shouldStopAfterMaxBatches() {
+        // Given
+        when(outbox.findDue(NOW, 3, 2)).thenReturn(List.of(event(1L, 0), event(2L, 0)));
+        when(process.handle(anyLong())).thenReturn(true);
+
+        // When
+        relay.handle();
+
+        // Then
+        verify(outbox, times(5)).findDue(NOW, 3, 2);
+    }
+
+    private OutboxEvent event(Long id, int attempts) {
+        return new OutboxEvent(id, OutboxEvent.SUBMISSION_SUBMITTED, 100L + id, 7L, "r", NOW, attempts);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.encuestas_api.notifications.domain.service;
+
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import com.example.encuestas_api.notifications.domain.valueobject.DigestMode;
+import com.example.encuestas_api.notifications.domain.valueobject.NotificationPreference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationDigestPolicy Tests")
+class NotificationDigestPolicyTest {
+
+    private final NotificationDigestPolicy policy = new NotificationDigestPolicy(
+            Duration.ofHours(1), LocalTime.of(8, 0), ZoneId.of("America/La_Paz"));
+
+    @Test
+    @DisplayName("Las respuestas de la misma hora deben caer en el mismo cubo")
+    void shouldAlignWindowBuckets() {
+        // Given
+        NotificationPreference pref = pref(DigestMode.WINDOW);
+
+        // When
+        var first = policy.bucketFor(pref, NotificationType.SUBMISSION_RECEIVED, Instant.parse("2026-03-10T14:05:00Z"));
+        var second = policy.bucketFor(pref, NotificationType.SUBMISSION_RECEIVED, Instant.parse("2026-03-10T14:59:59Z"));
+        var next = policy.bucketFor(pref, NotificationType.SUBMISSION_RECEIVED, Instant.parse("2026-03-10T15:00:00Z"));
+
+        // Then
+        assertThat(first).get().isEqualTo(second.get());
+        assertThat(first.get().flushAt()).isEqualTo(Instant.parse("2026-03-10T15:00:00Z"));
+        assertThat(first.get().summaryType()).isEqualTo(NotificationType.SUBMISSION_RECEIVED);
+        assertThat(next.get().flushAt()).isEqualTo(Instant.parse("2026-03-10T16:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("El resumen diario debe salir a la hora configurada en la zona configurada")
+    void shouldScheduleDailySummary() {
+        // Given: 08:00 en La Paz son las 12:00 UTC
+        NotificationPreference pref = pref(DigestMode.DAILY);
+
+        // When
+        var before = policy.bucketFor(pref, NotificationType.SUBMISSION_RECEIVED, Instant.parse("2026-03-10T11:00:00Z"));
+        var after = policy.bucketFor(pref, NotificationType.SUBMISSION_RECEIVED, Instant.parse("2026-03-10T12:00:00Z"));
+
+        // Then
+        assertThat(before.get().summaryType()).isEqualTo(NotificationType.DAILY_SUMMARY);
+        assertThat(before.get().flushAt()).isEqualTo(Instant.parse("2026-03-10T12:00:00Z"));
+        assertThat(after.get().flushAt()).isEqualTo(Instant.parse("2026-03-11T12:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Sin preferencia, sin resumen o con el tipo desactivado el aviso sale al momento")
+    void shouldNotDigestWhenNotRequested() {
+        Instant now = Instant.parse("2026-03-10T14:05:00Z");
+        NotificationPreference disabled = new NotificationPreference(1L, Set.of(NotificationType.FORM_CLOSED),
+                Set.of(Channel.EMAIL), null, DigestMode.WINDOW);
+
+        assertThat(policy.bucketFor(null, NotificationType.SUBMISSION_RECEIVED, now)).isEmpty();
+        assertThat(policy.bucketFor(pref(DigestMode.NONE), NotificationType.SUBMISSION_RECEIVED, now)).isEmpty();
+        assertThat(policy.bucketFor(disabled, NotificationType.SUBMISSION_RECEIVED, now)).isEmpty();
+        assertThat(policy.bucketFor(pref(DigestMode.WINDOW), NotificationType.FORM_CLOSED, now)).isEmpty();
+    }
+
+    private static NotificationPreference pref(DigestMode mode) {
+        return new NotificationPreference(1L, Set.of(NotificationType.SUBMISSION_RECEIVED),
+                Set.of(Channel.EMAIL), null, mode);
+    }
+}
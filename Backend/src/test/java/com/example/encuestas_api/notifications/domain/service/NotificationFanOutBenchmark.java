@@ -0,0 +1,65 @@
+package com.example.encuestas_api.notifications.domain.service;
+
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fan-out de un evento a 10k destinatarios con dos canales cada uno. {@code fanOut} es el
+ * camino real (un render por evento); {@code renderPerRecipient} repite el render por
+ * notificacion para medir lo que se ahorra.
+ * Se ejecuta con {@code mvn -Pbenchmark test-compile exec:exec}; surefire no lo recoge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotificationFanOutBenchmark {
+
+    @Param({"10000"})
+    public int recipientCount;
+
+    private final NotificationFactory factory = new NotificationFactory();
+    private NotificationTemplate template;
+    private TemplateModel model;
+    private List<Recipient> recipients;
+    private List<NotificationPreference> preferences;
+    private Instant now;
+
+    @Setup
+    public void setUp() {
+        template = new NotificationTemplate("submission_received", 1L, "Nueva respuesta en {{form_id}}",
+                "Se recibio la respuesta {{submission_id}} de {{respondent}} en el formulario {{form_id}}.");
+        model = new TemplateModel(Map.of("form_id", 1, "submission_id", 2, "respondent", "anon"));
+        recipients = new ArrayList<>(recipientCount);
+        preferences = new ArrayList<>(recipientCount);
+        for (long i = 1; i <= recipientCount; i++) {
+            recipients.add(Recipient.user(i));
+            preferences.add(new NotificationPreference(i, Set.of(NotificationType.SUBMISSION_RECEIVED),
+                    Set.of(Channel.EMAIL, Channel.IN_APP), null));
+        }
+        now = Instant.now();
+    }
+
+    @Benchmark
+    public List<Notification> fanOut() {
+        return factory.fromEvent(NotificationType.SUBMISSION_RECEIVED, model, Map.of(template.getCode(), template),
+                preferences, recipients, EnumSet.of(Channel.EMAIL), now);
+    }
+
+    @Benchmark
+    public void renderPerRecipient(Blackhole bh) {
+        CompiledTemplate compiled = NotificationRenderer.compile(template);
+        for (int i = 0; i < recipientCount * 2; i++) {
+            bh.consume(compiled.render(model));
+        }
+    }
+}
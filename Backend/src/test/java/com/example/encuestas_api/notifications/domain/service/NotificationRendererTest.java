@@ -0,0 +1,88 @@
+package com.example.encuestas_api.notifications.domain.service;
+
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationRenderer Tests")
+class NotificationRendererTest {
+
+    @Test
+    @DisplayName("Debe sustituir variables igual que el render por regex")
+    void shouldRenderVariables() {
+        // Given
+        var tpl = new NotificationTemplate("t_render", "Form {{ form_id }}",
+                "{{respondent}} envio {{submission_id}} a {{form_id}}{{missing}}. Fin {{ a.b }}");
+        var model = new TemplateModel(Map.of("form_id", 7, "respondent", "a$1\\b", "submission_id", 9L, "a.b", "x"));
+
+        // When
+        Message m = NotificationRenderer.render(tpl, model);
+
+        // Then
+        assertThat(m.getSubject()).isEqualTo("Form 7");
+        assertThat(m.getBody()).isEqualTo("a$1\\b envio 9 a 7. Fin x");
+    }
+
+    @Test
+    @DisplayName("Sin asunto ni variables debe devolver el texto tal cual")
+    void shouldRenderLiteralTemplates() {
+        var tpl = new NotificationTemplate("t_literal", null, "Sin {variables} ni {{ }} huecos");
+
+        Message m = NotificationRenderer.render(tpl, new TemplateModel(Map.of()));
+
+        assertThat(m.getSubject()).isEmpty();
+        assertThat(m.getBody()).isEqualTo("Sin {variables} ni {{ }} huecos");
+    }
+
+    @Test
+    @DisplayName("La plantilla compilada se reutiliza por codigo y version")
+    void shouldCacheByCodeAndVersion() {
+        // Given
+        var v1 = new NotificationTemplate("t_cache", 1L, "s", "Hola {{name}}");
+
+        // When
+        CompiledTemplate first = NotificationRenderer.compile(v1);
+        CompiledTemplate again = NotificationRenderer.compile(new NotificationTemplate("t_cache", 1L, "s", "Hola {{name}}"));
+        CompiledTemplate v2 = NotificationRenderer.compile(new NotificationTemplate("t_cache", 2L, "s", "Adios {{name}}"));
+        CompiledTemplate edited = NotificationRenderer.compile(new NotificationTemplate("t_cache", 2L, "s", "Editada {{name}}"));
+
+        // Then
+        assertThat(again).isSameAs(first);
+        assertThat(v2).isNotSameAs(first);
+        assertThat(edited.render(new TemplateModel(Map.of("name", "Ana"))).getBody()).isEqualTo("Editada Ana");
+        assertThat(NotificationRenderer.compiledCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("El fan-out a 10k destinatarios debe renderizar una sola vez y compartir el mensaje")
+    void shouldRenderOncePerFanOut() {
+        // Given
+        var tpl = new NotificationTemplate("submission_received", 3L, "Nueva respuesta en {{form_id}}",
+                "Se recibio la respuesta {{submission_id}} de {{respondent}}.");
+        var model = new TemplateModel(Map.of("form_id", 1, "submission_id", 2, "respondent", "anon"));
+        List<Recipient> recipients = new ArrayList<>();
+        List<NotificationPreference> prefs = new ArrayList<>();
+        for (long i = 1; i <= 10_000; i++) {
+            recipients.add(Recipient.user(i));
+            prefs.add(new NotificationPreference(i, Set.of(NotificationType.SUBMISSION_RECEIVED),
+                    Set.of(Channel.EMAIL, Channel.IN_APP), null));
+        }
+
+        // When
+        List<Notification> built = new NotificationFactory().fromEvent(NotificationType.SUBMISSION_RECEIVED, model,
+                Map.of(tpl.getCode(), tpl), prefs, recipients, EnumSet.of(Channel.EMAIL), Instant.now());
+
+        // Then
+        assertThat(built).hasSize(20_000);
+        Message shared = built.get(0).getMessage();
+        assertThat(shared.getBody()).isEqualTo("Se recibio la respuesta 2 de anon.");
+        assertThat(built).allMatch(n -> n.getMessage() == shared);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.notifications.application.port.out.LoadRecipientDirectoryPort;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Recipient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryRecipientDirectoryAdapter Tests")
+class InMemoryRecipientDirectoryAdapterTest {
+
+    private static final NotificationType TYPE = NotificationType.SUBMISSION_RECEIVED;
+
+    @Mock
+    private LoadRecipientDirectoryPort loader;
+    @Mock
+    private Clock clock;
+
+    private InMemoryRecipientDirectoryAdapter directory;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(1_000L);
+        directory = new InMemoryRecipientDirectoryAdapter(loader, clock, true, 2, 100, 60_000);
+    }
+
+    @Test
+    @DisplayName("Un formulario caliente debe resolverse sin volver a la base de datos")
+    void shouldServeHotFormFromCache() {
+        // Given
+        when(loader.findCampaignIdByFormId(7L)).thenReturn(Optional.of(3L));
+        when(loader.findAllMemberUserIds(3L)).thenReturn(List.of(10L, 11L));
+
+        // When
+        List<Recipient> first = directory.resolve(TYPE, 7L, null, 1L);
+        List<Recipient> second = directory.resolve(TYPE, 7L, null, 2L);
+
+        // Then
+        assertThat(first).extracting(Recipient::getUserId).containsExactly(10L, 11L);
+        assertThat(second).isSameAs(first);
+        verify(loader, times(1)).findCampaignIdByFormId(7L);
+        verify(loader, times(1)).findAllMemberUserIds(3L);
+    }
+
+    @Test
+    @DisplayName("Invalidar la campaña debe recargar los miembros")
+    void shouldReloadAfterCampaignInvalidation() {
+        // Given
+        when(loader.findAllMemberUserIds(3L))
+                .thenReturn(List.of(10L))
+                .thenReturn(List.of(10L, 12L));
+        directory.resolve(TYPE, null, 3L, null);
+
+        // When
+        directory.forgetCampaign(3L);
+        List<Recipient> after = directory.resolve(TYPE, null, 3L, null);
+
+        // Then
+        assertThat(after).extracting(Recipient::getUserId).containsExactly(10L, 12L);
+        verify(loader, times(2)).findAllMemberUserIds(3L);
+    }
+
+    @Test
+    @DisplayName("Una carga que se cruza con una invalidacion no debe quedar en cache")
+    void shouldDiscardLoadRacingWithInvalidation() {
+        // Given: la invalidacion llega mientras se leen los miembros viejos
+        when(loader.findAllMemberUserIds(3L)).thenAnswer(inv -> {
+            directory.forgetCampaign(3L);
+            return List.of(10L);
+        }).thenReturn(List.of());
+
+        // When
+        List<Recipient> stale = directory.resolve(TYPE, null, 3L, null);
+        List<Recipient> fresh = directory.resolve(TYPE, null, 3L, null);
+
+        // Then
+        assertThat(stale).hasSize(1);
+        assertThat(fresh).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Las entradas deben caducar y respetar el limite de campañas")
+    void shouldExpireAndEvict() {
+        // Given
+        when(loader.findAllMemberUserIds(anyLong())).thenReturn(List.of(10L));
+        directory.resolve(TYPE, null, 1L, null);
+        directory.resolve(TYPE, null, 2L, null);
+        directory.resolve(TYPE, null, 1L, null);
+
+        // When: una tercera campaña expulsa la menos usada (2)
+        directory.resolve(TYPE, null, 3L, null);
+        directory.resolve(TYPE, null, 1L, null);
+        directory.resolve(TYPE, null, 2L, null);
+        // y pasado el ttl todo se recarga
+        when(clock.millis()).thenReturn(61_001L);
+        directory.resolve(TYPE, null, 1L, null);
+
+        // Then
+        verify(loader, times(2)).findAllMemberUserIds(1L);
+        verify(loader, times(2)).findAllMemberUserIds(2L);
+        verify(loader, times(1)).findAllMemberUserIds(3L);
+    }
+
+    @Test
+    @DisplayName("Un formulario sin campaña no debe cachearse ni consultar miembros")
+    void shouldNotCacheUnknownForms() {
+        when(loader.findCampaignIdByFormId(9L)).thenReturn(Optional.empty());
+
+        assertThat(directory.resolve(TYPE, 9L, null, null)).isEmpty();
+        assertThat(directory.resolve(TYPE, 9L, null, null)).isEmpty();
+
+        verify(loader, times(2)).findCampaignIdByFormId(9L);
+        verify(loader, never()).findAllMemberUserIds(any());
+    }
+}
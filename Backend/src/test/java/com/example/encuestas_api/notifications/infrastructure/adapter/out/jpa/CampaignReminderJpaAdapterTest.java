@@ -0,0 +1,108 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.config.TimeConfig;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort.Checkpoint;
+import com.example.encuestas_api.notifications.application.port.out.CampaignReminderPort.Due;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:reminders;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CampaignReminderJpaAdapter.class, TimeConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("CampaignReminderJpaAdapter H2 Tests")
+class CampaignReminderJpaAdapterTest {
+
+    private static final LocalDate TARGET = LocalDate.of(2026, 3, 11);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private CampaignReminderJpaAdapter adapter;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        tx.executeWithoutResult(status -> em.createQuery("delete from CampaignReminderCheckpointEntity").executeUpdate());
+    }
+
+    @Test
+    @DisplayName("Abrir dos veces el mismo recordatorio debe devolver el mismo punto de control")
+    void shouldReuseOpenCheckpoint() {
+        // Given
+        Due due = new Due(7L, NotificationType.CAMPAIGN_STARTS_TOMORROW);
+        Checkpoint first = adapter.open(due, TARGET, 1).orElseThrow();
+        Boolean advanced = tx.execute(status -> adapter.advance(first, 120L, 120));
+
+        // When
+        Optional<Checkpoint> again = adapter.open(due, TARGET, 1);
+
+        // Then
+        assertThat(advanced).isTrue();
+        assertThat(again).get().satisfies(cp -> {
+            assertThat(cp.id()).isEqualTo(first.id());
+            assertThat(cp.lastUserId()).isEqualTo(120L);
+            assertThat(cp.enqueued()).isEqualTo(120);
+        });
+        assertThat(adapter.findUnfinished(TARGET)).extracting(Checkpoint::id).containsExactly(first.id());
+    }
+
+    @Test
+    @DisplayName("Solo debe avanzar desde el punto de control que se leyo")
+    void shouldAdvanceOnlyFromExpectedPosition() {
+        // Given
+        Checkpoint cp = adapter.open(new Due(7L, NotificationType.CAMPAIGN_ENDS_TOMORROW), TARGET, 1).orElseThrow();
+
+        // When
+        Boolean nodeA = tx.execute(status -> adapter.advance(cp, 50L, 50));
+        Boolean nodeB = tx.execute(status -> adapter.advance(cp, 50L, 50));
+
+        // Then
+        assertThat(nodeA).isTrue();
+        assertThat(nodeB).isFalse();
+    }
+
+    @Test
+    @DisplayName("Un recordatorio terminado no debe volver a abrirse ni retomarse")
+    void shouldNotReopenFinished() {
+        // Given
+        Due due = new Due(7L, NotificationType.CAMPAIGN_STARTS_TOMORROW);
+        Checkpoint cp = adapter.open(due, TARGET, 1).orElseThrow();
+        adapter.finish(cp);
+
+        // When
+        Optional<Checkpoint> again = adapter.open(due, TARGET, 1);
+        List<Checkpoint> unfinished = adapter.findUnfinished(TARGET.minusDays(1));
+
+        // Then
+        assertThat(again).isEmpty();
+        assertThat(unfinished).isEmpty();
+        assertThat(adapter.findDue(TARGET)).isEmpty();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.application.port.out.NotificationDigestPort.PendingDigest;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:digests;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(NotificationDigestJpaAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("NotificationDigestJpaAdapter H2 Tests")
+class NotificationDigestJpaAdapterTest {
+
+    private static final Instant T = Instant.parse("2026-03-10T14:00:00Z");
+    private static final Instant FLUSH = T.plusSeconds(3600);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private NotificationDigestJpaAdapter adapter;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        tx.executeWithoutResult(status -> em.createQuery("delete from NotificationDigestEntity").executeUpdate());
+    }
+
+    @Test
+    @DisplayName("Las respuestas de la misma ventana deben sumarse en un unico cubo")
+    void shouldCoalesceIntoOneBucket() {
+        // Given
+        for (int i = 0; i < 25; i++) {
+            Instant at = T.plusSeconds(i * 60L);
+            adapter.add(10L, 5L, NotificationType.SUBMISSION_RECEIVED, FLUSH, at);
+        }
+        adapter.add(10L, 6L, NotificationType.SUBMISSION_RECEIVED, FLUSH, T);
+
+        // When
+        List<PendingDigest> early = adapter.findDue(FLUSH.minusSeconds(1), 10);
+        List<PendingDigest> due = adapter.findDue(FLUSH, 10);
+
+        // Then
+        assertThat(early).isEmpty();
+        assertThat(due).hasSize(2);
+        PendingDigest form5 = due.stream().filter(d -> d.formId() == 5L).findFirst().orElseThrow();
+        assertThat(form5.count()).isEqualTo(25);
+        assertThat(form5.firstAt()).isEqualTo(T);
+        assertThat(form5.lastAt()).isEqualTo(T.plusSeconds(24 * 60L));
+    }
+
+    @Test
+    @DisplayName("No debe tomar un cubo que recibio respuestas despues de leerlo")
+    void shouldNotTakeStaleCount() {
+        // Given
+        adapter.add(10L, 5L, NotificationType.SUBMISSION_RECEIVED, FLUSH, T);
+        PendingDigest read = adapter.findDue(FLUSH, 10).get(0);
+        adapter.add(10L, 5L, NotificationType.SUBMISSION_RECEIVED, FLUSH, T.plusSeconds(5));
+
+        // When
+        Boolean stale = tx.execute(status -> adapter.take(read));
+        PendingDigest fresh = adapter.findDue(FLUSH, 10).get(0);
+        Boolean taken = tx.execute(status -> adapter.take(fresh));
+        Boolean twice = tx.execute(status -> adapter.take(fresh));
+
+        // Then
+        assertThat(stale).isFalse();
+        assertThat(fresh.count()).isEqualTo(2);
+        assertThat(taken).isTrue();
+        assertThat(twice).isFalse();
+        assertThat(adapter.findDue(FLUSH, 10)).isEmpty();
+    }
+}
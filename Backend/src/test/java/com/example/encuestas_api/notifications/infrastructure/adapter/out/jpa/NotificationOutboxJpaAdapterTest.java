@@ -0,0 +1,113 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.notifications.domain.event.SubmissionSubmittedEvent;
+import com.example.encuestas_api.notifications.domain.model.OutboxEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:outbox;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(NotificationOutboxJpaAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("NotificationOutboxJpaAdapter H2 Tests")
+class NotificationOutboxJpaAdapterTest {
+
+    @Autowired
+    private NotificationOutboxJpaAdapter outbox;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        // cada test parte de un outbox vacio
+        List<OutboxEvent> left = outbox.findDue(Instant.parse("2100-01-01T00:00:00Z"), Integer.MAX_VALUE, 10_000);
+        left.forEach(e -> tx.execute(status -> outbox.take(e.id())));
+    }
+
+    @Test
+    @DisplayName("Relays concurrentes deben tomar cada evento una sola vez")
+    void shouldTakeEachEventOnce() throws Exception {
+        // Given
+        Instant t = Instant.parse("2026-01-01T10:00:00Z");
+        for (long i = 1; i <= 50; i++) {
+            outbox.append(OutboxEvent.of(new SubmissionSubmittedEvent(i, 7L, "r" + i, t)));
+        }
+        List<OutboxEvent> due = outbox.findDue(t, 10, 100);
+        assertThat(due).hasSize(50);
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> relays = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            relays.add(pool.submit(() -> {
+                int taken = 0;
+                for (OutboxEvent e : due) {
+                    Boolean ok = tx.execute(status -> outbox.take(e.id()).isPresent());
+                    if (Boolean.TRUE.equals(ok)) taken++;
+                }
+                return taken;
+            }));
+        }
+        int total = 0;
+        for (Future<Integer> f : relays) total += f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        assertThat(total).isEqualTo(50);
+        assertThat(outbox.findDue(t, 10, 100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Un fallo debe aplazar el evento y al agotar intentos dejar de devolverlo")
+    void shouldDelayFailedEventsAndStopAfterMaxAttempts() {
+        // Given
+        Instant t = Instant.parse("2026-01-01T10:00:00Z");
+        outbox.append(OutboxEvent.of(new SubmissionSubmittedEvent(1L, 7L, "r", t)));
+        Long id = outbox.findDue(t, 2, 10).get(0).id();
+
+        // When
+        outbox.recordFailure(id, "smtp caido", t.plusSeconds(60));
+
+        // Then
+        assertThat(outbox.findDue(t.plusSeconds(59), 2, 10)).isEmpty();
+        assertThat(outbox.findDue(t.plusSeconds(60), 2, 10)).singleElement()
+                .satisfies(e -> assertThat(e.attempts()).isEqualTo(1));
+        outbox.recordFailure(id, "smtp caido", t.plusSeconds(120));
+        assertThat(outbox.findDue(t.plusSeconds(600), 2, 10)).isEmpty();
+        assertThat(outbox.findDue(t.plusSeconds(600), 3, 10)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("El evento tomado debe conservar los datos del submit")
+    void shouldRoundTripEvent() {
+        Instant t = Instant.parse("2026-01-01T10:00:00Z");
+        outbox.append(OutboxEvent.of(new SubmissionSubmittedEvent(42L, 7L, "user:5", t)));
+        Long id = outbox.findDue(t, 10, 10).get(0).id();
+
+        OutboxEvent taken = tx.execute(status -> outbox.take(id).orElseThrow());
+
+        assertThat(taken.toSubmissionSubmitted()).isEqualTo(new SubmissionSubmittedEvent(42L, 7L, "user:5", t));
+    }
+}
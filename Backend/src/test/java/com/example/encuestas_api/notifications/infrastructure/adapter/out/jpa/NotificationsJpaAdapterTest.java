@@ -0,0 +1,278 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.config.PersistenceConfig;
+import com.example.encuestas_api.notifications.domain.model.Notification;
+import com.example.encuestas_api.notifications.domain.model.NotificationType;
+import com.example.encuestas_api.notifications.domain.valueobject.Channel;
+import com.example.encuestas_api.notifications.domain.valueobject.DeliveryStatus;
+import com.example.encuestas_api.notifications.domain.valueobject.Message;
+import com.example.encuestas_api.notifications.domain.valueobject.Recipient;
+import com.example.encuestas_api.notifications.infrastructure.adapter.out.jpa.entity.NotificationEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:notifications;NON_KEYWORDS=VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({NotificationsJpaAdapter.class, NotificationSequenceInitializer.class, NotificationNextAttemptInitializer.class,
+        PersistenceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("NotificationsJpaAdapter H2 Tests")
+class NotificationsJpaAdapterTest {
+
+    private static final Instant T = Instant.parse("2026-01-01T10:00:00Z");
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private NotificationsJpaAdapter adapter;
+
+    @Autowired
+    private NotificationSequenceInitializer sequenceInitializer;
+
+    @Autowired
+    private NotificationNextAttemptInitializer nextAttemptInitializer;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        tx.executeWithoutResult(status -> em.createQuery("delete from NotificationEntity").executeUpdate());
+    }
+
+    @Test
+    @DisplayName("saveAll debe insertar el fan-out en lotes y devolver los ids en orden")
+    void shouldSaveAllInBatches() {
+        // Given
+        List<Notification> fanOut = new ArrayList<>();
+        for (int i = 0; i < 120; i++) fanOut.add(notification());
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // When
+        List<Notification> saved = tx.execute(status -> adapter.saveAll(fanOut));
+
+        // Then
+        assertThat(saved).hasSize(120).allMatch(n -> n.getId() != null);
+        assertThat(saved.stream().map(Notification::getId).toList()).isSorted().doesNotHaveDuplicates();
+        assertThat(stats.getEntityInsertCount()).isEqualTo(120);
+        // 3 lotes de insert y unas pocas llamadas a la secuencia, no 120 sentencias
+        assertThat(stats.getPrepareStatementCount()).isLessThan(12);
+        assertThat(adapter.countPending(T)).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("La secuencia debe subirse por encima de los ids creados con IDENTITY")
+    void shouldAlignSequenceAboveLegacyIds() {
+        // Given: filas heredadas con ids por delante de la secuencia
+        for (int i = 0; i < 3; i++) adapter.save(notification());
+        tx.executeWithoutResult(status -> em.createNativeQuery("update notifications set id = id + 100000").executeUpdate());
+        Long legacyMax = tx.execute(status -> em.createQuery("select max(n.id) from NotificationEntity n", Long.class)
+                .getSingleResult());
+
+        // When
+        tx.executeWithoutResult(status -> sequenceInitializer.align());
+        long first = nextSequenceValue();
+        tx.executeWithoutResult(status -> sequenceInitializer.align());
+        long second = nextSequenceValue();
+
+        // Then: el siguiente bloque (v-49..v) empieza por encima y realinear no vuelve atras
+        assertThat(first - (NotificationEntity.ID_ALLOCATION_SIZE - 1)).isGreaterThan(legacyMax);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("Las pendientes sin next_attempt_at deben rellenarse al arrancar y quedar visibles para el claim")
+    void shouldBackfillLegacyNextAttempt() {
+        // Given: filas anteriores a la columna
+        for (int i = 0; i < 3; i++) adapter.save(notification());
+        tx.executeWithoutResult(status -> em.createNativeQuery("update notifications set next_attempt_at = null").executeUpdate());
+        assertThat(adapter.countPending(T)).isZero();
+
+        // When
+        Integer filled = tx.execute(status -> nextAttemptInitializer.backfill());
+        Integer again = tx.execute(status -> nextAttemptInitializer.backfill());
+        List<Notification> claimed = tx.execute(status -> adapter.claim("a", null, T, T.plusSeconds(60), 10));
+
+        // Then
+        assertThat(filled).isEqualTo(3);
+        assertThat(again).isZero();
+        assertThat(claimed).hasSize(3);
+    }
+
+    private long nextSequenceValue() {
+        Number v = tx.execute(status -> (Number) em.createNativeQuery(
+                "select next value for " + NotificationEntity.ID_SEQUENCE).getSingleResult());
+        return v.longValue();
+    }
+
+    @Test
+    @DisplayName("Nodos que reclaman a la vez deben quedarse con lotes disjuntos")
+    void shouldClaimDisjointBatches() throws Exception {
+        // Given
+        for (int i = 0; i < 120; i++) adapter.save(notification());
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+
+        // When
+        List<Future<List<Long>>> nodes = new ArrayList<>();
+        for (int n = 0; n < 4; n++) {
+            String owner = "node-" + n;
+            nodes.add(pool.submit(() -> {
+                List<Long> mine = new ArrayList<>();
+                while (true) {
+                    List<Notification> batch = tx.execute(status -> adapter.claim(owner, null, T, T.plusSeconds(60), 7));
+                    if (batch == null || batch.isEmpty()) return mine;
+                    batch.forEach(b -> mine.add(b.getId()));
+                }
+            }));
+        }
+        List<Long> all = new ArrayList<>();
+        for (Future<List<Long>> f : nodes) all.addAll(f.get(30, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        // Then
+        assertThat(all).hasSize(120).doesNotHaveDuplicates();
+        assertThat(adapter.countPending(T)).isZero();
+    }
+
+    @Test
+    @DisplayName("Solo el duenno de la lease puede guardar el resultado")
+    void shouldCompleteOnlyWithLease() {
+        // Given
+        adapter.save(notification());
+        Notification claimed = tx.execute(status -> adapter.claim("a", null, T, T.plusSeconds(60), 10)).get(0);
+        claimed.markSent(T);
+
+        // When
+        Boolean stranger = tx.execute(status -> adapter.complete(claimed, "b", T));
+        Boolean holder = tx.execute(status -> adapter.complete(claimed, "a", T));
+
+        // Then
+        assertThat(stranger).isFalse();
+        assertThat(holder).isTrue();
+        NotificationEntity e = em.find(NotificationEntity.class, claimed.getId());
+        assertThat(e.getStatus()).isEqualTo(DeliveryStatus.SENT.name());
+        assertThat(e.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("Las leases caducadas deben volver a PENDING y poder reclamarse otra vez")
+    void shouldReclaimExpiredLeases() {
+        // Given
+        adapter.save(notification());
+        adapter.save(notification());
+        tx.execute(status -> adapter.claim("caido", null, T, T.plusSeconds(60), 1));
+        tx.execute(status -> adapter.claim("vivo", null, T, T.plusSeconds(600), 1));
+
+        // When
+        Integer early = tx.execute(status -> adapter.reclaimExpired(T.plusSeconds(30)));
+        Integer late = tx.execute(status -> adapter.reclaimExpired(T.plusSeconds(61)));
+
+        // Then
+        assertThat(early).isZero();
+        assertThat(late).isEqualTo(1);
+        List<Notification> again = tx.execute(status -> adapter.claim("otro", null, T.plusSeconds(61), T.plusSeconds(120), 10));
+        assertThat(again).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Un reintento no debe reclamarse antes de su siguiente intento")
+    void shouldHoldRetriesUntilNextAttempt() {
+        // Given
+        adapter.save(notification());
+        Notification claimed = tx.execute(status -> adapter.claim("a", null, T, T.plusSeconds(60), 10)).get(0);
+        claimed.scheduleRetry(T.plusSeconds(30), "IllegalStateException: smtp caido");
+        Boolean saved = tx.execute(status -> adapter.complete(claimed, "a", T));
+        assertThat(saved).isTrue();
+
+        // When
+        List<Notification> early = tx.execute(status -> adapter.claim("a", null, T.plusSeconds(29), T.plusSeconds(90), 10));
+        long dueLater = adapter.countPending(T.plusSeconds(30));
+        List<Notification> late = tx.execute(status -> adapter.claim("a", null, T.plusSeconds(30), T.plusSeconds(90), 10));
+
+        // Then
+        assertThat(early).isEmpty();
+        assertThat(dueLater).isEqualTo(1);
+        assertThat(late).hasSize(1);
+        assertThat(late.get(0).getAttempts()).isEqualTo(1);
+        assertThat(late.get(0).getLastError()).isEqualTo("IllegalStateException: smtp caido");
+    }
+
+    @Test
+    @DisplayName("El claim por canal solo debe tomar notificaciones de ese canal")
+    void shouldClaimByChannel() {
+        // Given
+        for (int i = 0; i < 3; i++) adapter.save(notification());
+        adapter.save(new Notification(NotificationType.SUBMISSION_RECEIVED, Channel.WEBHOOK,
+                Recipient.webhook("http://localhost/hook"), new Message("s", "b"), T.minusSeconds(5), Map.of()));
+
+        // When
+        List<Notification> webhooks = tx.execute(status -> adapter.claim("a", Channel.WEBHOOK, T, T.plusSeconds(60), 10));
+        List<Notification> emails = tx.execute(status -> adapter.claim("a", Channel.EMAIL, T, T.plusSeconds(60), 2));
+
+        // Then
+        assertThat(webhooks).hasSize(1).allMatch(n -> n.getChannel() == Channel.WEBHOOK);
+        assertThat(emails).hasSize(2).allMatch(n -> n.getChannel() == Channel.EMAIL);
+        assertThat(adapter.countPending(T)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Reencolar debe devolver a PENDING solo las dead letters filtradas")
+    void shouldRequeueDeadLetters() {
+        // Given
+        for (int i = 0; i < 3; i++) adapter.save(notification());
+        adapter.save(new Notification(NotificationType.SUBMISSION_RECEIVED, Channel.WEBHOOK,
+                Recipient.webhook("http://localhost/hook"), new Message("s", "b"), T.minusSeconds(5), Map.of()));
+        List<Notification> all = tx.execute(status -> adapter.claim("a", null, T, T.plusSeconds(60), 10));
+        for (Notification n : all) {
+            n.markDead("timeout");
+            tx.execute(status -> adapter.complete(n, "a", T));
+        }
+        assertThat(adapter.countPending(T.plusSeconds(3600))).isZero();
+
+        // When
+        Integer emails = tx.execute(status -> adapter.requeueDead(Channel.EMAIL, null, T.plusSeconds(10), 2));
+        Integer rest = tx.execute(status -> adapter.requeueDead(null, null, T.plusSeconds(10), 100));
+
+        // Then
+        assertThat(emails).isEqualTo(2);
+        assertThat(rest).isEqualTo(2);
+        List<Notification> again = tx.execute(status -> adapter.claim("b", null, T.plusSeconds(10), T.plusSeconds(60), 10));
+        assertThat(again).hasSize(4).allMatch(n -> n.getAttempts() == 0 && "timeout".equals(n.getLastError()));
+    }
+
+    private Notification notification() {
+        return new Notification(NotificationType.SUBMISSION_RECEIVED, Channel.EMAIL, Recipient.email("a@mail.com"),
+                new Message("s", "b"), T.minusSeconds(5), Map.of());
+    }
+}
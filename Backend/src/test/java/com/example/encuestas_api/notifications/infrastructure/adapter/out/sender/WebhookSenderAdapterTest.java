@@ -0,0 +1,219 @@
+package com.example.encuestas_api.notifications.infrastructure.adapter.out.sender;
+
+import com.example.encuestas_api.notifications.domain.valueobject.Message;
+import com.example.encuestas_api.notifications.domain.valueobject.Recipient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookSenderAdapter Tests")
+class WebhookSenderAdapterTest {
+
+    @Mock
+    private Clock clock;
+
+    private HttpServer server;
+    private ExecutorService serverThreads;
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicReference<Handler> handler = new AtomicReference<>(ex -> respond(ex, 204));
+    private String url;
+
+    interface Handler {
+        void handle(HttpExchange ex) throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(clock.millis()).thenReturn(1_000L);
+        lenient().when(clock.instant()).thenReturn(Instant.ofEpochSecond(1_700_000_000L));
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.createContext("/hook", ex -> {
+            calls.incrementAndGet();
+            try {
+                handler.get().handle(ex);
+            } catch (Exception e) {
+                respond(ex, 500);
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/hook";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Debe enviar el JSON firmado con HMAC")
+    void shouldPostSignedJson() throws Exception {
+        // Given
+        AtomicReference<String> body = new AtomicReference<>();
+        AtomicReference<String> signature = new AtomicReference<>();
+        AtomicReference<String> timestamp = new AtomicReference<>();
+        handler.set(ex -> {
+            body.set(new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            signature.set(ex.getRequestHeaders().getFirst(WebhookSenderAdapter.SIGNATURE_HEADER));
+            timestamp.set(ex.getRequestHeaders().getFirst(WebhookSenderAdapter.TIMESTAMP_HEADER));
+            respond(ex, 200);
+        });
+        var sender = sender(4, 5, 10_000, "secreto");
+
+        // When
+        sender.send(Recipient.webhook(url), new Message("Hola", "cuerpo"));
+
+        // Then
+        assertThat(body.get()).isEqualTo("{\"subject\":\"Hola\",\"content\":\"cuerpo\"}");
+        assertThat(timestamp.get()).isEqualTo("1700000000");
+        String expected = WebhookSenderAdapter.sign("secreto".getBytes(StandardCharsets.UTF_8),
+                timestamp.get(), body.get().getBytes(StandardCharsets.UTF_8));
+        assertThat(signature.get()).isEqualTo("sha256=" + expected);
+    }
+
+    @Test
+    @DisplayName("Sin secreto no debe enviar cabecera de firma")
+    void shouldNotSignWithoutSecret() throws Exception {
+        // Given
+        AtomicReference<String> signature = new AtomicReference<>("sin leer");
+        handler.set(ex -> {
+            signature.set(ex.getRequestHeaders().getFirst(WebhookSenderAdapter.SIGNATURE_HEADER));
+            respond(ex, 204);
+        });
+
+        // When
+        sender(4, 5, 10_000, "").send(Recipient.webhook(url), new Message("s", "b"));
+
+        // Then
+        assertThat(signature.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Tras varios 5xx seguidos el breaker debe cortar las llamadas hasta el medio abierto")
+    void shouldOpenBreakerAndRecoverAfterTrial() throws Exception {
+        // Given
+        handler.set(ex -> respond(ex, 503));
+        var sender = sender(4, 3, 10_000, null);
+        String key = WebhookSenderAdapter.hostKey(URI.create(url));
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> sender.send(Recipient.webhook(url), new Message("s", "b")))
+                    .isInstanceOf(WebhookDeliveryException.class)
+                    .hasMessageContaining("503");
+        }
+        assertThat(sender.breakerState(key)).isEqualTo(HostCircuitBreaker.State.OPEN);
+
+        // When: abierto no llega al servidor
+        assertThatThrownBy(() -> sender.send(Recipient.webhook(url), new Message("s", "b")))
+                .hasMessageContaining("Circuito abierto");
+        int callsWhileOpen = calls.get();
+
+        // Then: pasado el tiempo una llamada de prueba cierra el breaker
+        lenient().when(clock.millis()).thenReturn(12_000L);
+        handler.set(ex -> respond(ex, 200));
+        sender.send(Recipient.webhook(url), new Message("s", "b"));
+        assertThat(callsWhileOpen).isEqualTo(3);
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(sender.breakerState(key)).isEqualTo(HostCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Un 4xx falla el envio sin abrir el breaker")
+    void shouldNotTripBreakerOnClientErrors() {
+        // Given
+        handler.set(ex -> respond(ex, 410));
+        var sender = sender(4, 2, 10_000, null);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> sender.send(Recipient.webhook(url), new Message("s", "b")))
+                    .isInstanceOfSatisfying(WebhookDeliveryException.class, ex -> assertThat(ex.getStatus()).isEqualTo(410));
+        }
+
+        // Then
+        assertThat(calls.get()).isEqualTo(5);
+        assertThat(sender.breakerState(WebhookSenderAdapter.hostKey(URI.create(url))))
+                .isEqualTo(HostCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("Debe cortar por timeout de lectura si el receptor no responde")
+    void shouldTimeOutSlowReceivers() {
+        // Given
+        handler.set(ex -> {
+            Thread.sleep(2_000);
+            respond(ex, 200);
+        });
+        var sender = sender(4, 5, 200, null);
+
+        // When / Then
+        assertThatThrownBy(() -> sender.send(Recipient.webhook(url), new Message("s", "b")))
+                .isInstanceOf(HttpTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("Debe respetar el limite de envios simultaneos por host")
+    void shouldCapConcurrencyPerHost() throws Exception {
+        // Given
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        handler.set(ex -> {
+            max.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            current.decrementAndGet();
+            respond(ex, 204);
+        });
+        var sender = sender(3, 5, 10_000, null);
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+
+        // When
+        List<Future<?>> sends = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            sends.add(pool.submit(() -> {
+                sender.send(Recipient.webhook(url), new Message("s", "b"));
+                return null;
+            }));
+        }
+        for (Future<?> f : sends) f.get(10, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        assertThat(calls.get()).isEqualTo(12);
+        assertThat(max.get()).isLessThanOrEqualTo(3).isGreaterThan(1);
+    }
+
+    private WebhookSenderAdapter sender(int perHost, int breakerFailures, long readTimeoutMillis, String secret) {
+        return new WebhookSenderAdapter(clock, 1_000, readTimeoutMillis, perHost, 5_000,
+                breakerFailures, 10_000, secret);
+    }
+
+    private static void respond(HttpExchange ex, int status) throws java.io.IOException {
+        ex.getRequestBody().readAllBytes();
+        ex.sendResponseHeaders(status, -1);
+        ex.close();
+    }
+}
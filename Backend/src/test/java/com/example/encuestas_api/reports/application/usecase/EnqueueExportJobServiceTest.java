@@ -0,0 +1,103 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.EnqueueExportJobCommand;
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.application.port.out.ExportJobQueuePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.exception.ActiveExportJobExistsException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EnqueueExportJobService Tests")
+class EnqueueExportJobServiceTest {
+
+    @Mock
+    private ExportJobRepositoryPort jobs;
+    @Mock
+    private ExportJobQueuePort queue;
+
+    private final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+
+    private EnqueueExportJobService enqueueService;
+
+    @BeforeEach
+    void setUp() {
+        enqueueService = new EnqueueExportJobService(jobs, queue, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private ExportJob running(String id) {
+        return new ExportJob(id, ExportTarget.FORM, 5L, ExportFormat.XLSX, false,
+                ExportJobStatus.RUNNING, 0, null, null, null, 0, null, now, now, null, null);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el job en curso para una peticion identica")
+    void shouldDeduplicateInFlightRequest() {
+        // Given
+        ExportJob existing = running("job-1");
+        when(jobs.findActiveByDedupKey(existing.dedupKey())).thenReturn(Optional.of(existing));
+
+        // When
+        ExportJob result = enqueueService.handle(
+                new EnqueueExportJobCommand(ExportTarget.FORM, 5L, ExportFormat.XLSX, false));
+
+        // Then
+        assertThat(result).isSameAs(existing);
+        verify(jobs, never()).save(any());
+        verifyNoInteractions(queue);
+    }
+
+    @Test
+    @DisplayName("Debe persistir y encolar un job nuevo")
+    void shouldPersistAndSubmitNewJob() {
+        // Given
+        when(jobs.findActiveByDedupKey(anyString())).thenReturn(Optional.empty());
+        when(jobs.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        ExportJob result = enqueueService.handle(
+                new EnqueueExportJobCommand(ExportTarget.CAMPAIGN, 9L, ExportFormat.PDF, true));
+
+        // Then
+        assertThat(result.getStatus()).isEqualTo(ExportJobStatus.QUEUED);
+        verify(queue).submit(result.getId());
+    }
+
+    @Test
+    @DisplayName("Si otra instancia inserta la misma peticion a la vez debe devolver su job")
+    void shouldReturnJobEnqueuedConcurrentlyByAnotherInstance() {
+        // Given
+        ExportJob other = running("job-other");
+        when(jobs.findActiveByDedupKey(other.dedupKey()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(other));
+        when(jobs.save(any())).thenThrow(new ActiveExportJobExistsException(other.dedupKey(), null));
+
+        // When
+        ExportJob result = enqueueService.handle(
+                new EnqueueExportJobCommand(ExportTarget.FORM, 5L, ExportFormat.XLSX, false));
+
+        // Then
+        assertThat(result).isSameAs(other);
+        verify(jobs, times(1)).save(any());
+        verifyNoInteractions(queue);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.CampaignReportQuery;
+import com.example.encuestas_api.reports.application.dto.FormReportQuery;
+import com.example.encuestas_api.reports.application.port.in.GenerateFormReportUseCase;
+import com.example.encuestas_api.reports.application.port.out.ListFormsByCampaignPort;
+import com.example.encuestas_api.reports.domain.exception.ReportException;
+import com.example.encuestas_api.reports.domain.model.CampaignReport;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerateCampaignReportService Tests")
+class GenerateCampaignReportServiceTest {
+
+    @Mock
+    private ListFormsByCampaignPort formsPort;
+
+    @Mock
+    private GenerateFormReportUseCase formReport;
+
+    private ExecutorService executor;
+    private GenerateCampaignReportService service;
+
+    private final Long campaignId = 9L;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        service = new GenerateCampaignReportService(formsPort, formReport, new ReportCalculator(), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static FormReport report(Long formId, long submitted, long drafts) {
+        return new FormReport(formId, submitted + drafts, submitted, drafts, 0.0, List.of(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("Debe calcular los formularios en paralelo respetando el límite y el orden")
+    void shouldFanOutWithinParallelismCap() throws Exception {
+        // Given
+        when(formsPort.findFormIdsByCampaign(campaignId)).thenReturn(List.of(1L, 2L, 3L, 4L));
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        var bothStarted = new CountDownLatch(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        when(formReport.handle(any(FormReportQuery.class))).thenAnswer(inv -> {
+            FormReportQuery q = inv.getArgument(0);
+            threads.add(Thread.currentThread().getName());
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            bothStarted.countDown();
+            bothStarted.await(2, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return report(q.formId(), q.formId(), 1);
+        });
+
+        // When
+        CampaignReport result = service.handle(new CampaignReportQuery(campaignId, true));
+
+        // Then
+        assertThat(result.getForms()).extracting(FormReport::getFormId).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(result.getSubmittedCount()).isEqualTo(10);
+        assertThat(result.getDraftCount()).isEqualTo(4);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(threads).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error de un formulario")
+    void shouldPropagateFormFailure() {
+        // Given
+        when(formsPort.findFormIdsByCampaign(campaignId)).thenReturn(List.of(1L, 2L));
+        when(formReport.handle(any(FormReportQuery.class))).thenAnswer(inv -> {
+            FormReportQuery q = inv.getArgument(0);
+            if (q.formId() == 2L) throw new ReportException("falló el formulario 2");
+            return report(q.formId(), 1, 0);
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> service.handle(new CampaignReportQuery(campaignId, false)))
+                .isInstanceOf(ReportException.class)
+                .hasMessage("falló el formulario 2");
+    }
+
+    @Test
+    @DisplayName("Con la cola del pool llena debe fallar sin encolar el resto de formularios")
+    void shouldFailFastWhenReportPoolIsSaturated() throws Exception {
+        // Given: un hilo ocupado y una cola de un solo hueco
+        var saturated = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        var release = new CountDownLatch(1);
+        saturated.execute(() -> {
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        var bounded = new GenerateCampaignReportService(formsPort, formReport, new ReportCalculator(), saturated);
+        when(formsPort.findFormIdsByCampaign(campaignId)).thenReturn(List.of(1L, 2L, 3L));
+
+        // When & Then
+        try {
+            assertThatThrownBy(() -> bounded.handle(new CampaignReportQuery(campaignId, false)))
+                    .isInstanceOf(ReportException.class)
+                    .hasCauseInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+            assertThat(saturated.awaitTermination(2, TimeUnit.SECONDS)).isTrue();
+        }
+        verify(formReport, never()).handle(any());
+    }
+
+    @Test
+    @DisplayName("Una campaña sin formularios debe devolver un reporte vacío")
+    void shouldReturnEmptyReport() {
+        // Given
+        when(formsPort.findFormIdsByCampaign(campaignId)).thenReturn(List.of());
+
+        // When
+        CampaignReport result = service.handle(new CampaignReportQuery(campaignId, false));
+
+        // Then
+        assertThat(result.getFormsCount()).isZero();
+        assertThat(result.getCompletionRate()).isZero();
+    }
+}
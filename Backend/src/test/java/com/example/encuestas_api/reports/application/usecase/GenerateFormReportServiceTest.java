@@ -0,0 +1,188 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.questions.domain.model.TextMode;
+import com.example.encuestas_api.reports.application.dto.FormReportQuery;
+import com.example.encuestas_api.reports.application.port.out.ListFormSubmissionsPort;
+import com.example.encuestas_api.reports.application.port.out.QuestionsSnapshotPort;
+import com.example.encuestas_api.reports.application.port.out.ReportAggregationPort;
+import com.example.encuestas_api.reports.application.port.out.ReportCountersPort;
+import com.example.encuestas_api.reports.domain.model.*;
+import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import com.example.encuestas_api.reports.domain.valueobject.PairKey;
+import com.example.encuestas_api.reports.domain.valueobject.ReportParams;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerateFormReportService Tests")
+class GenerateFormReportServiceTest {
+
+    @Mock
+    private QuestionsSnapshotPort snapshotsPort;
+
+    @Mock
+    private ListFormSubmissionsPort submissionsPort;
+
+    @Mock
+    private ReportAggregationPort aggregationPort;
+
+    @Mock
+    private ReportCountersPort countersPort;
+
+    private final ReportCalculator calculator = new ReportCalculator();
+
+    private GenerateFormReportService service;
+
+    private final Long formId = 1L;
+    private Map<Long, QuestionSnapshot> snapshots;
+    private List<Submission> submissions;
+
+    @BeforeEach
+    void setUp() {
+        service = new GenerateFormReportService(snapshotsPort, submissionsPort, aggregationPort, countersPort,
+                calculator, new ReportCounterCalculator(), false);
+
+        snapshots = new LinkedHashMap<>();
+        snapshots.put(10L, new QuestionSnapshot.Builder().questionId(10L).kind(QuestionKind.CHOICE)
+                .choice(SelectionMode.MULTI, 1, 2, List.of(100L, 101L, 102L)).build());
+        snapshots.put(11L, new QuestionSnapshot.Builder().questionId(11L).kind(QuestionKind.TRUE_FALSE).build());
+        snapshots.put(12L, new QuestionSnapshot.Builder().questionId(12L).kind(QuestionKind.TEXT)
+                .text(TextMode.SHORT, null, 50).build());
+        snapshots.put(13L, new QuestionSnapshot.Builder().questionId(13L).kind(QuestionKind.MATCHING)
+                .matching(List.of(1L, 2L), List.of(3L, 4L)).build());
+
+        var s1 = new Submission(formId, Respondent.anonymous());
+        s1.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, List.of(100L, 102L)));
+        s1.addOrReplaceAnswer(new TrueFalseAnswer(11L, 1, true));
+        s1.addOrReplaceAnswer(new TextAnswer(12L, 1, "hola"));
+        s1.addOrReplaceAnswer(new MatchingAnswer(13L, 1, List.of(new MatchingPair(1L, 3L), new MatchingPair(2L, 4L))));
+        s1.markSubmitted();
+
+        var s2 = new Submission(formId, Respondent.anonymous());
+        s2.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, List.of(102L)));
+        s2.addOrReplaceAnswer(new TrueFalseAnswer(11L, 1, false));
+        s2.addOrReplaceAnswer(new TextAnswer(12L, 1, "   "));
+        s2.addOrReplaceAnswer(new MatchingAnswer(13L, 1, List.of(new MatchingPair(1L, 3L))));
+        s2.markSubmitted();
+
+        var draft = new Submission(formId, Respondent.anonymous());
+        draft.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, List.of(101L)));
+
+        submissions = List.of(s1, s2, draft);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenStreamedSubmissions(List<Submission> rows) {
+        doAnswer(inv -> {
+            Consumer<Submission> action = inv.getArgument(2);
+            rows.forEach(action);
+            return null;
+        }).when(submissionsPort).forEachByFormId(eq(formId), anyBoolean(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Debe calcular el reporte recorriendo el cursor sin cargar la lista completa")
+    void shouldComputeReportFromStream() {
+        // Given
+        when(snapshotsPort.byFormId(formId)).thenReturn(snapshots);
+        givenStreamedSubmissions(submissions.stream().filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED).toList());
+
+        // When
+        FormReport report = service.handle(new FormReportQuery(formId, false));
+
+        // Then
+        assertThat(report.getTotalSubmissions()).isEqualTo(2);
+        assertThat(report.getSubmittedCount()).isEqualTo(2);
+        assertThat(report.getDraftCount()).isZero();
+        assertThat(report.getQuestions()).hasSize(4);
+
+        var choice = (ChoiceQuestionReport) report.getQuestions().get(0);
+        assertThat(choice.getAnsweredCount()).isEqualTo(2);
+        assertThat(choice.getOptions()).extracting(ChoiceOptionStat::getOptionId).containsExactly(100L, 101L, 102L);
+        assertThat(choice.getOptions()).extracting(ChoiceOptionStat::getCount).containsExactly(1L, 0L, 2L);
+
+        var tf = (TrueFalseQuestionReport) report.getQuestions().get(1);
+        assertThat(tf.getTrueCount()).isEqualTo(1);
+        assertThat(tf.getFalseCount()).isEqualTo(1);
+
+        var text = (TextQuestionReport) report.getQuestions().get(2);
+        assertThat(text.getAnsweredCount()).isEqualTo(1);
+        assertThat(text.getOmittedCount()).isEqualTo(1);
+
+        var matching = (MatchingQuestionReport) report.getQuestions().get(3);
+        assertThat(matching.getLeftIds()).containsExactly(1L, 2L);
+        assertThat(matching.getPairFrequencies()).extracting(MatchingPairStat::getPair)
+                .containsExactly(new PairKey(1L, 3L), new PairKey(2L, 4L));
+        assertThat(matching.getPairFrequencies()).extracting(MatchingPairStat::getCount).containsExactly(2L, 1L);
+
+        verify(submissionsPort).forEachByFormId(eq(formId), eq(false), any());
+    }
+
+    @Test
+    @DisplayName("Debe producir el mismo resultado que el calculo en memoria")
+    void shouldMatchInMemoryCalculator() {
+        // Given
+        when(snapshotsPort.byFormId(formId)).thenReturn(snapshots);
+        givenStreamedSubmissions(submissions);
+
+        // When
+        FormReport streamed = service.handle(new FormReportQuery(formId, true));
+        FormReport inMemory = calculator.computeFormReport(formId, snapshots, submissions, new ReportParams(true));
+
+        // Then
+        assertThat(streamed.getTotalSubmissions()).isEqualTo(inMemory.getTotalSubmissions()).isEqualTo(3);
+        assertThat(streamed.getSubmittedCount()).isEqualTo(inMemory.getSubmittedCount());
+        assertThat(streamed.getDraftCount()).isEqualTo(inMemory.getDraftCount()).isEqualTo(1);
+        assertThat(streamed.getCompletionRate()).isEqualTo(inMemory.getCompletionRate());
+        assertThat(streamed.getQuestions())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(inMemory.getQuestions());
+    }
+
+    @Test
+    @DisplayName("Debe leer los contadores materializados cuando no se piden borradores")
+    void shouldUseMaterializedCounters() {
+        // Given
+        var counterCalculator = new ReportCounterCalculator();
+        Map<String, ReportCounter> counters = new LinkedHashMap<>();
+        submissions.stream()
+                .filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED)
+                .forEach(s -> counterCalculator.merge(counters, counterCalculator.countersFor(s)));
+        when(snapshotsPort.byFormId(formId)).thenReturn(snapshots);
+        when(countersPort.loadByFormId(formId)).thenReturn(List.copyOf(counters.values()));
+
+        // When
+        FormReport fromCounters = service.handle(new FormReportQuery(formId, false));
+
+        // Then
+        FormReport inMemory = calculator.computeFormReport(formId, snapshots,
+                submissions.stream().filter(s -> s.getStatus() == SubmissionStatus.SUBMITTED).toList(),
+                new ReportParams(false));
+        assertThat(fromCounters)
+                .usingRecursiveComparison()
+                .ignoringFields("generatedAt")
+                .isEqualTo(inMemory);
+        verifyNoInteractions(submissionsPort, aggregationPort);
+    }
+}
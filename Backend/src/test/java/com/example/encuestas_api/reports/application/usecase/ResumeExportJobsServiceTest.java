@@ -0,0 +1,64 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.out.ExportJobQueuePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResumeExportJobsService Tests")
+class ResumeExportJobsServiceTest {
+
+    @Mock
+    private ExportJobRepositoryPort jobs;
+    @Mock
+    private ExportJobQueuePort queue;
+
+    private final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+    private final Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("Al arrancar debe reencolar solo lo propio y lo caducado, no los RUNNING vivos de otros nodos")
+    void shouldRequeueOwnAndExpiredJobsAfterRestart() {
+        // Given
+        var service = new ResumeExportJobsService(jobs, queue, clock, 100, "node-a");
+        when(jobs.findQueuedIds(100)).thenReturn(List.of("job-1"));
+        when(queue.submit("job-1")).thenReturn(true);
+
+        // When
+        int submitted = service.handle(true);
+
+        // Then
+        assertThat(submitted).isEqualTo(1);
+        verify(jobs).requeueOwnedBy("node-a#");
+        verify(jobs).requeueExpired(now);
+    }
+
+    @Test
+    @DisplayName("Sin node_id fijo no debe reencolar por dueño y cada pasada debe recuperar leases caducadas")
+    void shouldOnlyRequeueExpiredWithoutNodeId() {
+        // Given
+        var service = new ResumeExportJobsService(jobs, queue, clock, 100, "");
+        when(jobs.findQueuedIds(100)).thenReturn(List.of());
+
+        // When
+        service.handle(true);
+        service.handle(false);
+
+        // Then
+        verify(jobs, never()).requeueOwnedBy(anyString());
+        verify(jobs, times(2)).requeueExpired(now);
+    }
+}
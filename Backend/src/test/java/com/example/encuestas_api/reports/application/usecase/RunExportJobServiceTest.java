@@ -0,0 +1,132 @@
+package com.example.encuestas_api.reports.application.usecase;
+
+import com.example.encuestas_api.reports.application.dto.*;
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.application.port.in.ExportCampaignReportUseCase;
+import com.example.encuestas_api.reports.application.port.in.ExportFormReportUseCase;
+import com.example.encuestas_api.reports.application.port.out.ExportArtifactStorePort;
+import com.example.encuestas_api.reports.application.port.out.ExportJobRepositoryPort;
+import com.example.encuestas_api.reports.domain.exception.ReportException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RunExportJobService Tests")
+class RunExportJobServiceTest {
+
+    @Mock
+    private ExportJobRepositoryPort jobs;
+    @Mock
+    private ExportArtifactStorePort store;
+    @Mock
+    private ExportFormReportUseCase exportForm;
+    @Mock
+    private ExportCampaignReportUseCase exportCampaign;
+
+    private final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+    private final Clock clock = Clock.fixed(now, ZoneOffset.UTC);
+
+    private RunExportJobService runService;
+
+    @BeforeEach
+    void setUp() {
+        runService = new RunExportJobService(jobs, store, exportForm, exportCampaign, clock, 60, 120_000, "node-a");
+    }
+
+    private ExportJob running(String id) {
+        return new ExportJob(id, ExportTarget.FORM, 5L, ExportFormat.XLSX, false,
+                ExportJobStatus.RUNNING, 0, null, null, null, 0, null, now, now, null, null);
+    }
+
+    @Test
+    @DisplayName("Debe generar el export, guardarlo en el store y marcar el job como DONE")
+    void shouldCompleteJob() throws Exception {
+        // Given
+        when(jobs.claim(eq("job-1"), startsWith("node-a#"), eq(now), eq(now.plusSeconds(120)))).thenReturn(true);
+        when(jobs.findById("job-1")).thenReturn(Optional.of(running("job-1")));
+        ExportWriter writer = out -> out.write(1);
+        when(exportForm.handle(new ExportFormReportQuery(5L, false, ExportFormat.XLSX)))
+                .thenReturn(new ExportedFile("form-5.xlsx", "application/x", writer));
+        when(store.write("job-1", writer)).thenReturn(new StoredArtifact("job-1", 1));
+
+        // When
+        runService.handle("job-1");
+
+        // Then
+        ArgumentCaptor<ExportJob> saved = ArgumentCaptor.forClass(ExportJob.class);
+        verify(jobs).updateProgress("job-1", 50);
+        verify(jobs).finish(saved.capture(), startsWith("node-a#"));
+        assertThat(saved.getValue().getStatus()).isEqualTo(ExportJobStatus.DONE);
+        assertThat(saved.getValue().getProgress()).isEqualTo(100);
+        assertThat(saved.getValue().getFilename()).isEqualTo("form-5.xlsx");
+        assertThat(saved.getValue().getExpiresAt()).isEqualTo(now.plusSeconds(3600));
+    }
+
+    @Test
+    @DisplayName("Debe marcar el job como FAILED si falla la generacion")
+    void shouldFailJob() {
+        // Given
+        when(jobs.claim(eq("job-1"), startsWith("node-a#"), eq(now), eq(now.plusSeconds(120)))).thenReturn(true);
+        when(jobs.findById("job-1")).thenReturn(Optional.of(running("job-1")));
+        when(exportForm.handle(any())).thenThrow(new ReportException("boom"));
+
+        // When
+        runService.handle("job-1");
+
+        // Then
+        ArgumentCaptor<ExportJob> saved = ArgumentCaptor.forClass(ExportJob.class);
+        verify(jobs).finish(saved.capture(), anyString());
+        assertThat(saved.getValue().getStatus()).isEqualTo(ExportJobStatus.FAILED);
+        assertThat(saved.getValue().getError()).isEqualTo("boom");
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("No debe ejecutar un job que ya tomo otro worker")
+    void shouldSkipJobAlreadyClaimed() {
+        when(jobs.claim(eq("job-1"), startsWith("node-a#"), eq(now), eq(now.plusSeconds(120)))).thenReturn(false);
+
+        runService.handle("job-1");
+
+        verify(jobs, never()).findById(anyString());
+        verifyNoInteractions(exportForm, exportCampaign, store);
+    }
+
+    @Test
+    @DisplayName("El heartbeat solo debe renovar la lease de los jobs que este nodo esta ejecutando")
+    void shouldRenewLeasesOfRunningJobsOnly() {
+        // Given
+        when(jobs.claim(eq("job-1"), anyString(), any(), any())).thenReturn(true);
+        when(jobs.findById("job-1")).thenReturn(Optional.of(running("job-1")));
+        when(exportForm.handle(any())).thenAnswer(inv -> {
+            runService.renewLeases(); // el heartbeat llega a mitad del export
+            throw new ReportException("boom");
+        });
+
+        // When
+        runService.handle("job-1");
+        int afterFinish = runService.renewLeases();
+
+        // Then
+        verify(jobs).renewLeases(eq(Set.of("job-1")), startsWith("node-a#"), eq(now.plusSeconds(120)));
+        assertThat(afterFinish).isZero();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.in.rest;
+
+import com.example.encuestas_api.common.exception.GlobalExceptionHandler;
+import com.example.encuestas_api.reports.application.dto.ExportRawResponsesQuery;
+import com.example.encuestas_api.reports.application.dto.ExportedFile;
+import com.example.encuestas_api.reports.application.dto.RawExportFormat;
+import com.example.encuestas_api.reports.application.port.in.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportsController Tests")
+class ReportsControllerTest {
+
+    @Mock private GenerateFormReportUseCase formUC;
+    @Mock private GenerateCampaignReportUseCase campaignUC;
+    @Mock private ExportFormReportUseCase exportFormUC;
+    @Mock private ExportCampaignReportUseCase exportCampaignUC;
+    @Mock private RebuildReportCountersUseCase rebuildCountersUC;
+    @Mock private GetReportCacheStatsUseCase cacheStatsUC;
+    @Mock private ExportRawResponsesUseCase exportRawUC;
+
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        var controller = new ReportsController(formUC, campaignUC, exportFormUC, exportCampaignUC,
+                rebuildCountersUC, cacheStatsUC, exportRawUC);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Un formato raw en el export de reporte debe responder 400")
+    void shouldRejectRawFormatOnReportExport() throws Exception {
+        mvc.perform(get("/api/reports/forms/5/export").param("format", "CSV"))
+                .andExpect(status().isBadRequest());
+        mvc.perform(get("/api/reports/campaigns/9/export").param("format", "NDJSON"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(exportFormUC, exportCampaignUC);
+    }
+
+    @Test
+    @DisplayName("Un formato de reporte en el export raw debe responder 400")
+    void shouldRejectReportFormatOnRawExport() throws Exception {
+        mvc.perform(get("/api/reports/forms/5/raw").param("format", "XLSX"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(exportRawUC);
+    }
+
+    @Test
+    @DisplayName("El export raw en CSV debe servirse")
+    void shouldServeRawCsv() throws Exception {
+        // Given
+        when(exportRawUC.handle(new ExportRawResponsesQuery(5L, false, RawExportFormat.CSV)))
+                .thenReturn(new ExportedFile("form-5-raw.csv", "text/csv; charset=UTF-8",
+                        out -> out.write("id\n".getBytes(StandardCharsets.UTF_8))));
+
+        // When & Then
+        mvc.perform(get("/api/reports/forms/5/raw").param("format", "CSV"))
+                .andExpect(request().asyncStarted());
+    }
+}
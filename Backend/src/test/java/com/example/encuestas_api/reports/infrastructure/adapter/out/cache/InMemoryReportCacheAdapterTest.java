@@ -0,0 +1,133 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.reports.domain.model.CampaignReport;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryReportCacheAdapter Tests")
+class InMemoryReportCacheAdapterTest {
+
+    @Mock
+    private Clock clock;
+
+    private InMemoryReportCacheAdapter cache;
+
+    private final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.instant()).thenReturn(now);
+        cache = new InMemoryReportCacheAdapter(clock, true, 2, 60, 2);
+    }
+
+    private static FormReport form(Long id) {
+        return new FormReport(id, 0, 0, 0, 0.0, List.of(), Instant.now());
+    }
+
+    @Test
+    @DisplayName("Debe contar aciertos y fallos por (id, includeDrafts)")
+    void shouldCountHitsAndMisses() {
+        // Given
+        cache.putForm(form(1L), false, cache.beginLoad());
+
+        // When
+        var hit = cache.getForm(1L, false);
+        var missOtherFlag = cache.getForm(1L, true);
+
+        // Then
+        assertThat(hit).isPresent();
+        assertThat(missOtherFlag).isEmpty();
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Debe expulsar por tamaño (LRU) y por TTL")
+    void shouldEvictBySizeAndTtl() {
+        // Given
+        cache.putForm(form(1L), false, cache.beginLoad());
+        cache.putForm(form(2L), false, cache.beginLoad());
+        cache.getForm(1L, false);
+
+        // When
+        cache.putForm(form(3L), false, cache.beginLoad());
+
+        // Then
+        assertThat(cache.getForm(2L, false)).isEmpty();
+        assertThat(cache.getForm(1L, false)).isPresent();
+
+        // When
+        lenient().when(clock.instant()).thenReturn(now.plusSeconds(61));
+
+        // Then
+        assertThat(cache.getForm(3L, false)).isEmpty();
+        assertThat(cache.stats().evictions()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Invalidar un formulario debe descartar sus reportes y los de campaña que lo contienen")
+    void shouldInvalidateFormAndCampaigns() {
+        // Given
+        var campaign = new CampaignReport(9L, 2, 0, 0, 0, 0.0, List.of(form(1L), form(4L)), Instant.now());
+        cache.putForm(form(1L), true, cache.beginLoad());
+        cache.putCampaign(campaign, false, cache.beginLoad());
+
+        // When
+        cache.invalidateForm(4L);
+
+        // Then
+        assertThat(cache.getForm(1L, true)).isPresent();
+        assertThat(cache.getCampaign(9L, false)).isEmpty();
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Un cálculo iniciado antes de una invalidación no debe guardarse")
+    void shouldDropPutStartedBeforeInvalidation() {
+        // Given
+        long mark = cache.beginLoad();
+        cache.invalidateForm(1L);
+
+        // When
+        cache.putForm(form(1L), false, mark);
+        cache.putForm(form(2L), false, mark);
+
+        // Then
+        assertThat(cache.getForm(1L, false)).isEmpty();
+        assertThat(cache.getForm(2L, false)).isPresent();
+    }
+
+    @Test
+    @DisplayName("Debe recordar un numero acotado de invalidaciones sin aceptar cargas viejas")
+    void shouldBoundTrackedInvalidations() {
+        // Given
+        long before = cache.beginLoad();
+        cache.invalidateForm(1L);
+        long between = cache.beginLoad();
+        cache.invalidateForm(2L);
+        cache.invalidateForm(3L); // la de 1L ya no se recuerda
+
+        // When
+        cache.putForm(form(5L), false, before);
+        cache.putForm(form(6L), false, between);
+        cache.putForm(form(7L), false, cache.beginLoad());
+
+        // Then: la carga anterior a la invalidacion olvidada se descarta aunque sea de otro formulario
+        assertThat(cache.getForm(5L, false)).isEmpty();
+        assertThat(cache.getForm(6L, false)).isPresent();
+        assertThat(cache.getForm(7L, false)).isPresent();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.csv;
+
+import com.example.encuestas_api.questions.domain.model.TextMode;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RawResponsesCsvExporterAdapter Tests")
+class RawResponsesCsvExporterAdapterTest {
+
+    private final RawResponsesCsvExporterAdapter exporter = new RawResponsesCsvExporterAdapter();
+
+    private final List<QuestionSnapshot> columns = List.of(
+            new QuestionSnapshot.Builder().questionId(10L).kind(QuestionKind.CHOICE)
+                    .choice(SelectionMode.MULTI, 1, 3, List.of(100L, 101L, 102L)).build(),
+            new QuestionSnapshot.Builder().questionId(11L).kind(QuestionKind.TRUE_FALSE).build(),
+            new QuestionSnapshot.Builder().questionId(12L).kind(QuestionKind.TEXT)
+                    .text(TextMode.LONG, null, null).build(),
+            new QuestionSnapshot.Builder().questionId(13L).kind(QuestionKind.MATCHING)
+                    .matching(List.of(1L, 2L), List.of(3L, 4L)).build()
+    );
+
+    @Test
+    @DisplayName("Debe escribir una fila por submission con las columnas en orden del snapshot")
+    void shouldWriteOneRowPerSubmission() {
+        // Given
+        var s1 = new Submission(5L, Respondent.email("ana@test.com"));
+        s1.setId(1L);
+        s1.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, List.of(102L, 100L)));
+        s1.addOrReplaceAnswer(new TrueFalseAnswer(11L, 1, true));
+        s1.addOrReplaceAnswer(new TextAnswer(12L, 1, "dijo \"hola\", y se fue"));
+        s1.addOrReplaceAnswer(new MatchingAnswer(13L, 1, List.of(new MatchingPair(2L, 4L), new MatchingPair(1L, 3L))));
+        s1.markSubmitted();
+
+        var s2 = new Submission(5L, Respondent.anonymous());
+        s2.setId(2L);
+        s2.addOrReplaceAnswer(new TrueFalseAnswer(11L, 1, false));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(columns, action -> List.of(s1, s2).forEach(action), out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("submission_id,status,respondent_type,respondent,created_at,submitted_at,q_10,q_11,q_12,q_13");
+        assertThat(lines[1]).startsWith("1,SUBMITTED,EMAIL,ana@test.com,")
+                .endsWith(",100;102,true,\"dijo \"\"hola\"\", y se fue\",1:3;2:4");
+        assertThat(lines[2]).startsWith("2,DRAFT,ANONYMOUS,,")
+                .endsWith(",,,false,,");
+    }
+
+    @Test
+    @DisplayName("Debe escribir solo la cabecera si no hay submissions")
+    void shouldWriteHeaderOnly() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(columns, action -> { }, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).endsWith("q_13\r\n").doesNotContain("SUBMITTED");
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.domain.valueobject.ExportFormat;
+import com.example.encuestas_api.reports.domain.exception.ActiveExportJobExistsException;
+import com.example.encuestas_api.reports.domain.model.ExportJob;
+import com.example.encuestas_api.reports.domain.valueobject.ExportJobStatus;
+import com.example.encuestas_api.reports.domain.valueobject.ExportTarget;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.PersistenceException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:exportjobs;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(ExportJobJpaAdapter.class)
+@DisplayName("ExportJobJpaAdapter H2 Tests")
+class ExportJobJpaAdapterTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ExportJobJpaAdapter adapter;
+
+    private final Instant now = Instant.parse("2024-01-01T10:00:00Z");
+
+    private ExportJob queued(String id) {
+        return ExportJob.queue(id, ExportTarget.FORM, 5L, ExportFormat.XLSX, false, now);
+    }
+
+    @Test
+    @DisplayName("Debe encontrar el job activo por clave y liberarla al terminar")
+    void shouldFindActiveByKeyUntilFinished() {
+        // Given
+        ExportJob job = adapter.save(queued("job-1"));
+        String key = job.dedupKey();
+
+        // Then
+        assertThat(adapter.findActiveByDedupKey(key)).map(ExportJob::getId).contains("job-1");
+
+        // When
+        job.complete("form-5.xlsx", "application/x", "job-1", 10, now, now.plusSeconds(60));
+        adapter.save(job);
+
+        // Then
+        assertThat(adapter.findActiveByDedupKey(key)).isEmpty();
+        adapter.save(queued("job-2"));
+        assertThat(adapter.findActiveByDedupKey(key)).map(ExportJob::getId).contains("job-2");
+    }
+
+    @Test
+    @DisplayName("No debe permitir dos jobs activos con la misma peticion")
+    void shouldRejectDuplicateActiveJob() {
+        adapter.save(queued("job-1"));
+
+        assertThatThrownBy(() -> adapter.save(queued("job-2")))
+                .isInstanceOf(ActiveExportJobExistsException.class);
+    }
+
+    @Test
+    @DisplayName("No debe confundir otros fallos del insert con un job activo duplicado")
+    void shouldRethrowOtherInsertFailures() {
+        // When / Then: el id no cabe en la columna, nada que ver con active_key
+        assertThatThrownBy(() -> adapter.save(queued("x".repeat(40))))
+                .isInstanceOf(PersistenceException.class)
+                .isNotInstanceOf(ActiveExportJobExistsException.class);
+    }
+
+    @Test
+    @DisplayName("Claim solo debe funcionar una vez y solo una lease caducada debe devolver el job a QUEUED")
+    void shouldClaimOnceAndRequeueOnlyExpiredLeases() {
+        // Given
+        adapter.save(queued("job-1"));
+
+        // When / Then
+        assertThat(adapter.claim("job-1", "a#1", now, now.plusSeconds(60))).isTrue();
+        assertThat(adapter.claim("job-1", "b#1", now, now.plusSeconds(60))).isFalse();
+        em.clear();
+        assertThat(adapter.findById("job-1")).map(ExportJob::getStatus).contains(ExportJobStatus.RUNNING);
+        assertThat(adapter.findQueuedIds(10)).isEmpty();
+
+        assertThat(adapter.requeueExpired(now.plusSeconds(59))).isZero(); // otro nodo sigue vivo
+        assertThat(adapter.renewLeases(List.of("job-1"), "a#1", now.plusSeconds(120))).isEqualTo(1);
+        assertThat(adapter.requeueExpired(now.plusSeconds(90))).isZero();
+        assertThat(adapter.requeueExpired(now.plusSeconds(120))).isEqualTo(1);
+        em.clear();
+        assertThat(adapter.findQueuedIds(10)).containsExactly("job-1");
+    }
+
+    @Test
+    @DisplayName("Al reiniciar solo debe reencolar los jobs de la vida anterior de este nodo")
+    void shouldRequeueOnlyJobsOwnedByThisNode() {
+        // Given
+        adapter.save(queued("job-1"));
+        adapter.save(ExportJob.queue("job-2", ExportTarget.CAMPAIGN, 9L, ExportFormat.PDF, true, now));
+        adapter.claim("job-1", "a#old", now, now.plusSeconds(60));
+        adapter.claim("job-2", "ab#1", now, now.plusSeconds(60));
+
+        // When
+        int requeued = adapter.requeueOwnedBy("a#");
+
+        // Then
+        em.clear();
+        assertThat(requeued).isEqualTo(1);
+        assertThat(adapter.findQueuedIds(10)).containsExactly("job-1");
+    }
+
+    @Test
+    @DisplayName("Un worker que perdio la lease no debe poder guardar el resultado")
+    void shouldRejectFinishWithoutLease() {
+        // Given
+        adapter.save(queued("job-1"));
+        adapter.claim("job-1", "a#1", now, now.plusSeconds(60));
+        adapter.requeueExpired(now.plusSeconds(60));
+        adapter.claim("job-1", "b#1", now.plusSeconds(61), now.plusSeconds(120));
+        em.clear();
+        ExportJob late = adapter.findById("job-1").orElseThrow();
+        late.complete("a.xlsx", "application/x", "job-1", 1, now, now.plusSeconds(600));
+
+        // When / Then
+        assertThat(adapter.finish(late, "a#1")).isFalse();
+        assertThat(adapter.finish(late, "b#1")).isTrue();
+        em.clear();
+        assertThat(adapter.findById("job-1")).map(ExportJob::getStatus).contains(ExportJobStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("Debe devolver solo los jobs terminados con expiracion vencida")
+    void shouldFindExpired() {
+        // Given
+        ExportJob done = queued("job-1");
+        done.complete("a.xlsx", "application/x", "job-1", 1, now, now.plusSeconds(10));
+        adapter.save(done);
+
+        ExportJob fresh = ExportJob.queue("job-2", ExportTarget.CAMPAIGN, 9L, ExportFormat.PDF, true, now);
+        fresh.complete("b.pdf", "application/pdf", "job-2", 1, now, now.plusSeconds(3600));
+        adapter.save(fresh);
+
+        adapter.save(ExportJob.queue("job-3", ExportTarget.FORM, 7L, ExportFormat.PDF, false, now));
+
+        // When / Then
+        assertThat(adapter.findExpired(now.plusSeconds(60), 10))
+                .extracting(ExportJob::getId)
+                .containsExactly("job-1");
+    }
+}
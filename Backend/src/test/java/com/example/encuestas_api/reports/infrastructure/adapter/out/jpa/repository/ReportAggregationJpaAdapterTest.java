@@ -0,0 +1,229 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.questions.domain.model.TextMode;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import com.example.encuestas_api.reports.domain.model.QuestionReport;
+import com.example.encuestas_api.reports.domain.model.ReportCounter;
+import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import com.example.encuestas_api.reports.domain.valueobject.ReportParams;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionAnswerEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.mapper.ResponsesJpaMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reports;NON_KEYWORDS=VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "reports.stream.window_size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReportAggregationJpaAdapter.class, ListFormSubmissionsAdapter.class})
+@DisplayName("ReportAggregationJpaAdapter H2 Tests")
+class ReportAggregationJpaAdapterTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ReportAggregationJpaAdapter aggregationAdapter;
+
+    @Autowired
+    private ListFormSubmissionsAdapter submissionsAdapter;
+
+    private final ReportCalculator calculator = new ReportCalculator();
+
+    private final Long formId = 77L;
+    private Map<Long, QuestionSnapshot> snapshots;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = new LinkedHashMap<>();
+        snapshots.put(10L, new QuestionSnapshot.Builder().questionId(10L).kind(QuestionKind.CHOICE)
+                .choice(SelectionMode.MULTI, 0, 3, List.of(100L, 101L, 102L)).build());
+        snapshots.put(11L, new QuestionSnapshot.Builder().questionId(11L).kind(QuestionKind.TRUE_FALSE).build());
+        snapshots.put(12L, new QuestionSnapshot.Builder().questionId(12L).kind(QuestionKind.TEXT)
+                .text(TextMode.LONG, null, null).build());
+        snapshots.put(13L, new QuestionSnapshot.Builder().questionId(13L).kind(QuestionKind.MATCHING)
+                .matching(List.of(1L, 2L), List.of(3L, 4L)).build());
+
+        persist(submission(true, List.of(100L, 102L, 999L), true, "respuesta", List.of(pair(2L, 4L), pair(1L, 3L))));
+        persist(submission(true, List.of(102L), false, "  ", List.of(pair(1L, 3L))));
+        persist(submission(true, List.of(), null, null, List.of()));
+        persist(submission(false, List.of(101L), true, "borrador", List.of(pair(1L, 4L))));
+        persist(submission(false, null, null, "", List.of(pair(2L, 3L), pair(2L, 4L))));
+
+        // otro formulario: no debe contarse
+        var other = new Submission(formId + 1, Respondent.anonymous());
+        other.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, List.of(100L)));
+        other.markSubmitted();
+        em.persist(ResponsesJpaMapper.toEntity(other));
+
+        em.flush();
+        em.clear();
+    }
+
+    private static MatchingPair pair(Long l, Long r) { return new MatchingPair(l, r); }
+
+    private Submission submission(boolean submitted, List<Long> choice, Boolean tf, String text, List<MatchingPair> pairs) {
+        var s = new Submission(formId, Respondent.anonymous());
+        if (choice != null) s.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, choice));
+        if (tf != null) s.addOrReplaceAnswer(new TrueFalseAnswer(11L, 1, tf));
+        if (text != null) s.addOrReplaceAnswer(new TextAnswer(12L, 1, text));
+        if (pairs != null) s.addOrReplaceAnswer(new MatchingAnswer(13L, 1, pairs));
+        if (submitted) s.markSubmitted();
+        return s;
+    }
+
+    private void persist(Submission s) {
+        em.persist(ResponsesJpaMapper.toEntity(s));
+    }
+
+    private List<Submission> loadAll(boolean includeDrafts) {
+        return em.createQuery("""
+                        select s from SubmissionEntity s
+                        where s.formId = :fid and (:all = true or s.status = 'SUBMITTED')
+                        order by s.id""", SubmissionEntity.class)
+                .setParameter("fid", formId)
+                .setParameter("all", includeDrafts)
+                .getResultList().stream()
+                .map(ResponsesJpaMapper::toDomain)
+                .toList();
+    }
+
+    @ParameterizedTest(name = "includeDrafts={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("El reporte agregado con GROUP BY debe coincidir con el calculo en memoria")
+    void shouldMatchInMemoryCalculator(boolean includeDrafts) {
+        // Given
+        var base = loadAll(includeDrafts);
+        FormReport inMemory = calculator.computeFormReport(formId, snapshots, base, new ReportParams(includeDrafts));
+
+        // When
+        FormReport aggregated = calculator.computeFormReport(formId, snapshots,
+                aggregationAdapter.aggregate(formId, includeDrafts));
+
+        // Then
+        assertThat(aggregated.getTotalSubmissions()).isEqualTo(includeDrafts ? 5 : 3);
+        assertThat(aggregated)
+                .usingRecursiveComparison()
+                .ignoringFields("generatedAt")
+                .isEqualTo(inMemory);
+    }
+
+    @ParameterizedTest(name = "includeDrafts={0}")
+    @ValueSource(booleans = {false, true})
+    @DisplayName("El cursor de submissions debe producir el mismo reporte que la lista completa")
+    void shouldStreamSameReportAsList(boolean includeDrafts) {
+        // Given
+        var params = new ReportParams(includeDrafts);
+        var acc = calculator.newFormAccumulator(formId, snapshots, params);
+
+        // When
+        submissionsAdapter.forEachByFormId(formId, includeDrafts, acc::accept);
+        FormReport streamed = acc.build();
+
+        // Then
+        var aggregated = calculator.computeFormReport(formId, snapshots, aggregationAdapter.aggregate(formId, includeDrafts));
+        assertThat(streamed)
+                .usingRecursiveComparison()
+                .ignoringFields("generatedAt")
+                .isEqualTo(aggregated);
+    }
+
+    @Test
+    @DisplayName("El cursor debe cargar las respuestas por ventanas y no una consulta por submission")
+    void shouldStreamAnswersInWindowsWithoutNPlusOne() {
+        // Given
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        List<Submission> expected = loadAll(true);
+        em.clear();
+        stats.clear();
+
+        // When
+        List<Submission> streamed = new ArrayList<>();
+        submissionsAdapter.forEachByFormId(formId, true, streamed::add);
+
+        // Then: cursor + 4 consultas (una por tipo de respuesta) por cada una de las 3 ventanas de 2
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(13);
+        assertThat(streamed).usingRecursiveComparison().ignoringCollectionOrder().isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("El cursor no debe soltar ni modificar las entidades que el llamador tiene cargadas")
+    void shouldNotTouchEntitiesManagedByCaller() {
+        // Given: la transaccion del llamador ya tiene una submission cargada con sus respuestas
+        SubmissionEntity owned = em.createQuery("select s from SubmissionEntity s where s.formId = :fid order by s.id",
+                        SubmissionEntity.class)
+                .setParameter("fid", formId)
+                .setMaxResults(1)
+                .getSingleResult();
+        List<SubmissionAnswerEntity> answers = owned.getAnswers();
+        answers.size();
+
+        // When
+        submissionsAdapter.forEachByFormId(formId, true, s -> { });
+
+        // Then
+        assertThat(em.contains(owned)).isTrue();
+        assertThat(owned.getAnswers()).isSameAs(answers);
+        assertThat(answers).allMatch(em::contains);
+    }
+
+    @Test
+    @DisplayName("Textos solo con espacios, tabuladores o saltos de linea no deben contar en ningun camino")
+    void shouldTreatWhitespaceOnlyTextTheSameInSqlAndMemory() {
+        // Given
+        Long textForm = formId + 10;
+        Map<Long, QuestionSnapshot> textOnly = Map.of(12L, snapshots.get(12L));
+        List<Submission> saved = new ArrayList<>();
+        for (String text : List.of("\n", "\t\t", " \r\n\f ", "\u000B", "  si\n", "\tok")) {
+            var s = new Submission(textForm, Respondent.anonymous());
+            s.addOrReplaceAnswer(new TextAnswer(12L, 1, text));
+            s.markSubmitted();
+            persist(s);
+            saved.add(s);
+        }
+        em.flush();
+        em.clear();
+        var counterCalculator = new ReportCounterCalculator();
+        var counters = new LinkedHashMap<String, ReportCounter>();
+        saved.forEach(s -> counterCalculator.merge(counters, counterCalculator.countersFor(s)));
+
+        // When
+        FormReport inMemory = calculator.computeFormReport(textForm, textOnly, saved, new ReportParams(false));
+        FormReport aggregated = calculator.computeFormReport(textForm, textOnly, aggregationAdapter.aggregate(textForm, false));
+        FormReport fromCounters = calculator.computeFormReport(textForm, textOnly, counterCalculator.toAggregates(counters.values()));
+
+        // Then
+        assertThat(inMemory.getQuestions()).extracting(QuestionReport::getAnsweredCount).containsExactly(2L);
+        assertThat(aggregated).usingRecursiveComparison().ignoringFields("generatedAt").isEqualTo(inMemory);
+        assertThat(fromCounters).usingRecursiveComparison().ignoringFields("generatedAt").isEqualTo(inMemory);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.application.usecase.RebuildReportCountersService;
+import com.example.encuestas_api.reports.application.usecase.UpdateReportCountersService;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import com.example.encuestas_api.responses.domain.model.ChoiceAnswer;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.mapper.ResponsesJpaMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:counterslock;NON_KEYWORDS=VALUE;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReportCountersJpaAdapter.class, ReportCounterLockInitializer.class,
+        ReportAggregationJpaAdapter.class, ListFormSubmissionsAdapter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ReportCountersJpaAdapter Concurrency H2 Tests")
+class ReportCountersConcurrencyTest {
+
+    private static final int SUBMITTERS = 4;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ReportCountersJpaAdapter countersAdapter;
+
+    @Autowired
+    private ReportAggregationJpaAdapter aggregationAdapter;
+
+    @Autowired
+    private ListFormSubmissionsAdapter submissionsAdapter;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private final ReportCalculator calculator = new ReportCalculator();
+    private final ReportCounterCalculator counterCalculator = new ReportCounterCalculator();
+
+    private TransactionTemplate tx;
+    private UpdateReportCountersService update;
+
+    private final Long formId = 9L;
+    private final Map<Long, QuestionSnapshot> snapshots = Map.of(1L, new QuestionSnapshot.Builder()
+            .questionId(1L).kind(QuestionKind.CHOICE)
+            .choice(SelectionMode.SINGLE, null, null, List.of(10L, 11L)).build());
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        var rebuild = new RebuildReportCountersService(submissionsAdapter, countersAdapter, counterCalculator);
+        update = new UpdateReportCountersService(countersAdapter, counterCalculator, rebuild);
+    }
+
+    private Submission save(Long option) {
+        var s = new Submission(formId, Respondent.anonymous());
+        s.addOrReplaceAnswer(new ChoiceAnswer(1L, 1, List.of(option)));
+        s.markSubmitted();
+        SubmissionEntity e = ResponsesJpaMapper.toEntity(s);
+        em.persist(e);
+        em.flush();
+        s.setId(e.getId());
+        return s;
+    }
+
+    private FormReport report(boolean fromCounters) {
+        return tx.execute(status -> calculator.computeFormReport(formId, snapshots, fromCounters
+                ? counterCalculator.toAggregates(countersAdapter.loadByFormId(formId))
+                : aggregationAdapter.aggregate(formId, false)));
+    }
+
+    @Test
+    @DisplayName("Submits concurrentes sobre un formulario sin contadores no deben fallar ni reconstruir dos veces")
+    void concurrentFirstSubmitsShouldNotRollBack() throws Exception {
+        // Given: datos previos sin contadores
+        tx.executeWithoutResult(status -> save(10L));
+        var barrier = new CyclicBarrier(SUBMITTERS);
+        ExecutorService pool = Executors.newFixedThreadPool(SUBMITTERS);
+
+        // When: todos insertan su submission y actualizan contadores a la vez
+        List<Future<?>> submits = new ArrayList<>();
+        for (int i = 0; i < SUBMITTERS; i++) {
+            Long option = i % 2 == 0 ? 10L : 11L;
+            submits.add(pool.submit(() -> tx.executeWithoutResult(status -> {
+                Submission s = save(option);
+                await(barrier);
+                update.handle(s, 1);
+            })));
+        }
+        for (Future<?> f : submits) f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then: ningun submit fallo y los contadores cuadran con los datos crudos
+        Boolean initialized = tx.execute(status -> countersAdapter.isInitialized(formId));
+        assertThat(initialized).isTrue();
+        assertThat(report(true).getSubmittedCount()).isEqualTo(SUBMITTERS + 1);
+        assertThat(report(true)).usingRecursiveComparison().ignoringFields("generatedAt").isEqualTo(report(false));
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.jpa.repository;
+
+import com.example.encuestas_api.reports.application.usecase.RebuildReportCountersService;
+import com.example.encuestas_api.reports.application.usecase.UpdateReportCountersService;
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import com.example.encuestas_api.reports.domain.service.ReportCalculator;
+import com.example.encuestas_api.reports.domain.service.ReportCounterCalculator;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.mapper.ResponsesJpaMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:counters;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ReportCountersJpaAdapter.class, ReportCounterLockInitializer.class,
+        ReportAggregationJpaAdapter.class, ListFormSubmissionsAdapter.class})
+@DisplayName("ReportCountersJpaAdapter H2 Tests")
+class ReportCountersJpaAdapterTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ReportCountersJpaAdapter countersAdapter;
+
+    @Autowired
+    private ReportAggregationJpaAdapter aggregationAdapter;
+
+    @Autowired
+    private ListFormSubmissionsAdapter submissionsAdapter;
+
+    private final ReportCalculator calculator = new ReportCalculator();
+    private final ReportCounterCalculator counterCalculator = new ReportCounterCalculator();
+
+    private RebuildReportCountersService rebuild;
+    private UpdateReportCountersService update;
+
+    private final Long formId = 5L;
+    private Map<Long, QuestionSnapshot> snapshots;
+
+    @BeforeEach
+    void setUp() {
+        rebuild = new RebuildReportCountersService(submissionsAdapter, countersAdapter, counterCalculator);
+        update = new UpdateReportCountersService(countersAdapter, counterCalculator, rebuild);
+
+        snapshots = new LinkedHashMap<>();
+        snapshots.put(1L, new QuestionSnapshot.Builder().questionId(1L).kind(QuestionKind.CHOICE)
+                .choice(SelectionMode.SINGLE, null, null, List.of(10L, 11L)).build());
+        snapshots.put(2L, new QuestionSnapshot.Builder().questionId(2L).kind(QuestionKind.TRUE_FALSE).build());
+        snapshots.put(3L, new QuestionSnapshot.Builder().questionId(3L).kind(QuestionKind.MATCHING)
+                .matching(List.of(7L, 8L), List.of(9L)).build());
+    }
+
+    private Submission submitted(Long option, boolean tf, Long left) {
+        var s = new Submission(formId, Respondent.anonymous());
+        s.addOrReplaceAnswer(new ChoiceAnswer(1L, 1, List.of(option)));
+        s.addOrReplaceAnswer(new TrueFalseAnswer(2L, 1, tf));
+        s.addOrReplaceAnswer(new MatchingAnswer(3L, 1, List.of(new MatchingPair(left, 9L))));
+        s.markSubmitted();
+        return s;
+    }
+
+    private Submission save(Submission s) {
+        SubmissionEntity e = ResponsesJpaMapper.toEntity(s);
+        em.persist(e);
+        em.flush();
+        s.setId(e.getId());
+        return s;
+    }
+
+    private FormReport fromCounters() {
+        return calculator.computeFormReport(formId, snapshots,
+                counterCalculator.toAggregates(countersAdapter.loadByFormId(formId)));
+    }
+
+    private FormReport fromAggregation() {
+        return calculator.computeFormReport(formId, snapshots, aggregationAdapter.aggregate(formId, false));
+    }
+
+    @Test
+    @DisplayName("Los contadores incrementales deben coincidir con la agregacion sobre datos crudos")
+    void incrementalCountersShouldMatchAggregation() {
+        // Given: datos previos sin contadores
+        save(submitted(10L, true, 8L));
+        save(new Submission(formId, Respondent.anonymous()));
+        assertThat(countersAdapter.isInitialized(formId)).isFalse();
+
+        // When
+        update.handle(save(submitted(11L, false, 7L)), 1);
+        update.handle(save(submitted(11L, true, 8L)), 1);
+
+        // Then
+        assertThat(countersAdapter.isInitialized(formId)).isTrue();
+        assertThat(fromCounters().getSubmittedCount()).isEqualTo(3);
+        assertThat(fromCounters()).usingRecursiveComparison().ignoringFields("generatedAt").isEqualTo(fromAggregation());
+    }
+
+    @Test
+    @DisplayName("Borrar una submission enviada debe descontarla y la reconstruccion debe corregir desvios")
+    void deleteAndRebuildShouldKeepParity() {
+        // Given
+        var first = save(submitted(10L, true, 8L));
+        update.handle(first, 1);
+        update.handle(save(submitted(11L, false, 7L)), 1);
+
+        // When
+        em.remove(em.find(SubmissionEntity.class, first.getId()));
+        em.flush();
+        update.handle(first, -1);
+
+        // Then
+        assertThat(fromCounters()).usingRecursiveComparison().ignoringFields("generatedAt").isEqualTo(fromAggregation());
+
+        // When: desvio manual y reconstruccion
+        em.createQuery("update ReportCounterEntity c set c.value = 42").executeUpdate();
+        rebuild.handle(formId);
+
+        // Then
+        assertThat(fromCounters().getSubmittedCount()).isEqualTo(1);
+        assertThat(fromCounters()).usingRecursiveComparison().ignoringFields("generatedAt").isEqualTo(fromAggregation());
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.ndjson;
+
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RawResponsesNdjsonExporterAdapter Tests")
+class RawResponsesNdjsonExporterAdapterTest {
+
+    private final RawResponsesNdjsonExporterAdapter exporter = new RawResponsesNdjsonExporterAdapter();
+
+    @Test
+    @DisplayName("Debe escribir un objeto JSON por linea con respuestas tipadas")
+    void shouldWriteOneObjectPerLine() throws Exception {
+        // Given
+        List<QuestionSnapshot> columns = List.of(
+                new QuestionSnapshot.Builder().questionId(10L).kind(QuestionKind.CHOICE)
+                        .choice(SelectionMode.MULTI, 1, 3, List.of(100L, 101L, 102L)).build(),
+                new QuestionSnapshot.Builder().questionId(11L).kind(QuestionKind.TRUE_FALSE).build(),
+                new QuestionSnapshot.Builder().questionId(13L).kind(QuestionKind.MATCHING)
+                        .matching(List.of(1L, 2L), List.of(3L, 4L)).build()
+        );
+
+        var s1 = new Submission(5L, Respondent.user(42L));
+        s1.setId(1L);
+        s1.addOrReplaceAnswer(new ChoiceAnswer(10L, 1, List.of(102L, 100L)));
+        s1.addOrReplaceAnswer(new MatchingAnswer(13L, 1, List.of(new MatchingPair(2L, 4L), new MatchingPair(1L, 3L))));
+        s1.markSubmitted();
+
+        var s2 = new Submission(5L, Respondent.anonymous());
+        s2.setId(2L);
+        s2.addOrReplaceAnswer(new TrueFalseAnswer(11L, 1, true));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(columns, action -> List.of(s1, s2).forEach(action), out);
+
+        // Then
+        String content = out.toString(StandardCharsets.UTF_8);
+        assertThat(content).endsWith("\n");
+        String[] lines = content.split("\n");
+        assertThat(lines).hasSize(2);
+
+        ObjectMapper m = new ObjectMapper();
+        JsonNode first = m.readTree(lines[0]);
+        assertThat(first.get("submissionId").asLong()).isEqualTo(1L);
+        assertThat(first.get("respondent").get("userId").asLong()).isEqualTo(42L);
+        assertThat(first.get("answers").get("10").toString()).isEqualTo("[100,102]");
+        assertThat(first.get("answers").get("11").isNull()).isTrue();
+        assertThat(first.get("answers").get("13").toString()).isEqualTo("[{\"left\":1,\"right\":3},{\"left\":2,\"right\":4}]");
+
+        JsonNode second = m.readTree(lines[1]);
+        assertThat(second.get("status").asText()).isEqualTo("DRAFT");
+        assertThat(second.get("submittedAt").isNull()).isTrue();
+        assertThat(second.get("answers").get("11").asBoolean()).isTrue();
+    }
+}
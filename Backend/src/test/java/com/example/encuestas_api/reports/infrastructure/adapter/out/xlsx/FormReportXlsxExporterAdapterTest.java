@@ -0,0 +1,51 @@
+package com.example.encuestas_api.reports.infrastructure.adapter.out.xlsx;
+
+import com.example.encuestas_api.reports.domain.model.FormReport;
+import com.example.encuestas_api.reports.domain.model.QuestionReport;
+import com.example.encuestas_api.reports.domain.model.TrueFalseQuestionReport;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FormReportXlsxExporterAdapter Tests")
+class FormReportXlsxExporterAdapterTest {
+
+    private final FormReportXlsxExporterAdapter exporter = new FormReportXlsxExporterAdapter();
+
+    @Test
+    @DisplayName("Debe escribir todas las filas aunque superen la ventana en memoria")
+    void shouldWriteAllRowsBeyondWindow() throws Exception {
+        // Given
+        List<QuestionReport> questions = new ArrayList<>();
+        for (long i = 1; i <= 250; i++) {
+            questions.add(new TrueFalseQuestionReport(i, 3, 1, 2, 1));
+        }
+        FormReport report = new FormReport(7L, 4, 4, 0, 1.0, questions, Instant.parse("2024-01-01T10:00:00Z"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        exporter.export(report, out);
+
+        // Then
+        try (XSSFWorkbook wb = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+            Sheet summary = wb.getSheet("Summary");
+            assertThat(summary.getRow(0).getCell(1).getStringCellValue()).isEqualTo("7");
+
+            Sheet qsheet = wb.getSheet("Questions");
+            assertThat(qsheet.getLastRowNum()).isEqualTo(250);
+            assertThat(qsheet.getRow(0).getCell(4).getStringCellValue()).isEqualTo("extra");
+            assertThat(qsheet.getRow(250).getCell(0).getNumericCellValue()).isEqualTo(250.0);
+            assertThat(qsheet.getRow(250).getCell(4).getStringCellValue()).isEqualTo("true=2;false=1");
+            assertThat(qsheet.getColumnWidth(4)).isEqualTo(80 * 256);
+        }
+    }
+}
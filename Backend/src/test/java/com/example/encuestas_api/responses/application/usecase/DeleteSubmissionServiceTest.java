@@ -0,0 +1,76 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.reports.application.port.in.UpdateReportCountersUseCase;
+import com.example.encuestas_api.responses.application.port.out.*;
+import com.example.encuestas_api.responses.application.port.out.LoadFormPoliciesPort.FormPolicies;
+import com.example.encuestas_api.responses.application.port.out.LoadFormPoliciesPort.ResponseLimitMode;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteSubmissionService Tests")
+class DeleteSubmissionServiceTest {
+
+    @Mock private DeleteSubmissionPort deletePort;
+    @Mock private FindSubmissionPort findPort;
+    @Mock private DraftAnswerBufferPort draftBuffer;
+    @Mock private LoadFormPoliciesPort policiesPort;
+    @Mock private ResponseQuotaPort quotaPort;
+    @Mock private UpdateReportCountersUseCase reportCounters;
+
+    private DeleteSubmissionService service;
+    private Submission submitted;
+
+    @BeforeEach
+    void setUp() {
+        service = new DeleteSubmissionService(deletePort, findPort, draftBuffer, policiesPort, quotaPort, reportCounters);
+        submitted = new Submission(7L, Respondent.user(3L));
+        submitted.setId(1L);
+        submitted.markSubmitted();
+        when(findPort.findById(1L)).thenReturn(Optional.of(submitted));
+    }
+
+    private static FormPolicies policies(ResponseLimitMode mode, Integer n) {
+        return new FormPolicies(7L, false, false, false, null, null, mode, n);
+    }
+
+    @Test
+    @DisplayName("Debe devolver el cupo al borrar un envio de un formulario con LIMITED_N")
+    void shouldUncommitWhenLimited() {
+        // Given
+        when(policiesPort.getPolicies(7L)).thenReturn(policies(ResponseLimitMode.LIMITED_N, 5));
+
+        // When
+        service.handle(1L);
+
+        // Then
+        verify(deletePort).deleteById(1L);
+        verify(reportCounters).handle(submitted, -1);
+        verify(quotaPort).uncommit(7L);
+    }
+
+    @Test
+    @DisplayName("No debe tocar el cupo al borrar un envio de un formulario sin limite de respuestas")
+    void shouldNotUncommitWhenNotLimited() {
+        // Given: el envio no ocupo cupo porque el formulario no tenia LIMITED_N
+        when(policiesPort.getPolicies(7L)).thenReturn(policies(ResponseLimitMode.UNLIMITED, null));
+
+        // When
+        service.handle(1L);
+
+        // Then
+        verify(reportCounters).handle(submitted, -1);
+        verify(quotaPort, never()).uncommit(any());
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.questions.domain.model.TextMode;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchCommand;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchCommand.AnswerType;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchCommand.Item;
+import com.example.encuestas_api.responses.application.dto.SaveAnswersBatchResult;
+import com.example.encuestas_api.responses.application.port.out.BuildQuestionSnapshotsPort;
+import com.example.encuestas_api.responses.domain.exception.EditNotAllowedException;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.model.TextAnswer;
+import com.example.encuestas_api.responses.domain.model.TrueFalseAnswer;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SaveAnswersBatchService Tests")
+class SaveAnswersBatchServiceTest {
+
+    @Mock
+    private DraftSubmissionStore drafts;
+    @Mock
+    private BuildQuestionSnapshotsPort snapshotsPort;
+
+    private SaveAnswersBatchService service;
+    private Submission submission;
+
+    @BeforeEach
+    void setUp() {
+        service = new SaveAnswersBatchService(drafts, snapshotsPort);
+        submission = new Submission(7L, Respondent.anonymous());
+        submission.setId(1L);
+        when(drafts.load(1L)).thenReturn(submission);
+    }
+
+    @Test
+    @DisplayName("Debe aplicar todas las respuestas validas con una sola escritura")
+    void shouldApplyValidAnswersInOneSave() {
+        // Given
+        when(snapshotsPort.byFormId(7L)).thenReturn(snapshots());
+        when(drafts.saveAnswers(eq(submission), any())).thenAnswer(inv -> inv.getArgument(0));
+        var cmd = new SaveAnswersBatchCommand(1L, List.of(
+                new Item(AnswerType.CHOICE, 10L, Set.of(100L), null, null, null),
+                new Item(AnswerType.TRUE_FALSE, 11L, null, true, null, null),
+                new Item(AnswerType.TEXT, 12L, null, null, "hola", null),
+                new Item(AnswerType.MATCHING, 13L, null, null, null, List.of(new SaveAnswersBatchCommand.Pair(1L, 2L)))
+        ));
+
+        // When
+        SaveAnswersBatchResult result = service.handle(cmd);
+
+        // Then
+        assertThat(result.results()).allMatch(SaveAnswersBatchResult.AnswerResult::saved);
+        assertThat(result.submission().getAnswers()).hasSize(4);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(drafts, times(1)).saveAnswers(eq(submission), ids.capture());
+        assertThat(ids.getValue()).containsExactly(10L, 11L, 12L, 13L);
+        verify(drafts, times(1)).load(1L);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar solo las respuestas invalidas y reportar el motivo")
+    void shouldRejectInvalidAnswersIndividually() {
+        // Given
+        when(snapshotsPort.byFormId(7L)).thenReturn(snapshots());
+        when(drafts.saveAnswers(eq(submission), any())).thenAnswer(inv -> inv.getArgument(0));
+        var cmd = new SaveAnswersBatchCommand(1L, List.of(
+                new Item(AnswerType.CHOICE, 10L, Set.of(999L), null, null, null),
+                new Item(AnswerType.TEXT, 11L, null, null, "no es texto", null),
+                new Item(AnswerType.TRUE_FALSE, 11L, null, null, null, null),
+                new Item(AnswerType.TEXT, 12L, null, null, "x".repeat(50), null),
+                new Item(AnswerType.TEXT, 99L, null, null, "fuera", null),
+                new Item(AnswerType.TRUE_FALSE, 11L, null, false, null, null)
+        ));
+
+        // When
+        SaveAnswersBatchResult result = service.handle(cmd);
+
+        // Then
+        assertThat(result.results()).extracting(SaveAnswersBatchResult.AnswerResult::saved)
+                .containsExactly(false, false, false, false, false, true);
+        assertThat(result.results()).extracting(r -> r.errors().isEmpty() ? null : r.errors().get(0).code())
+                .containsExactly("invalid_option", "type_mismatch", "invalid_item", "max_length", "unknown", null);
+        assertThat(submission.findAnswer(11L)).get().isInstanceOf(TrueFalseAnswer.class);
+        verify(drafts).saveAnswers(submission, Set.of(11L));
+    }
+
+    @Test
+    @DisplayName("Una respuesta vacia en una pregunta requerida se acepta mientras es borrador")
+    void shouldAcceptEmptyRequiredAnswerInDraft() {
+        // Given
+        when(snapshotsPort.byFormId(7L)).thenReturn(snapshots());
+        when(drafts.saveAnswers(eq(submission), any())).thenAnswer(inv -> inv.getArgument(0));
+
+        // When
+        var result = service.handle(new SaveAnswersBatchCommand(1L,
+                List.of(new Item(AnswerType.TEXT, 12L, null, null, "", null))));
+
+        // Then
+        assertThat(result.results().get(0).saved()).isTrue();
+        assertThat(((TextAnswer) submission.findAnswer(12L).orElseThrow()).getText()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debe escribir si ninguna respuesta es valida")
+    void shouldNotSaveWhenNothingApplied() {
+        // Given
+        when(snapshotsPort.byFormId(7L)).thenReturn(snapshots());
+
+        // When
+        var result = service.handle(new SaveAnswersBatchCommand(1L,
+                List.of(new Item(AnswerType.TEXT, 99L, null, null, "x", null))));
+
+        // Then
+        assertThat(result.results().get(0).saved()).isFalse();
+        verify(drafts, never()).saveAnswers(any(), any());
+    }
+
+    @Test
+    @DisplayName("Debe fallar si la submission ya fue enviada")
+    void shouldFailWhenSubmitted() {
+        // Given
+        when(snapshotsPort.byFormId(7L)).thenReturn(snapshots());
+        submission.markSubmitted();
+
+        // When / Then
+        assertThatThrownBy(() -> service.handle(new SaveAnswersBatchCommand(1L,
+                List.of(new Item(AnswerType.TEXT, 12L, null, null, "x", null)))))
+                .isInstanceOf(EditNotAllowedException.class);
+        verify(drafts, never()).saveAnswers(any(), any());
+    }
+
+    private Map<Long, QuestionSnapshot> snapshots() {
+        Map<Long, QuestionSnapshot> m = new LinkedHashMap<>();
+        m.put(10L, new QuestionSnapshot.Builder().questionId(10L).kind(QuestionKind.CHOICE).required(true)
+                .choice(SelectionMode.SINGLE, null, null, List.of(100L, 101L)).build());
+        m.put(11L, new QuestionSnapshot.Builder().questionId(11L).kind(QuestionKind.TRUE_FALSE).build());
+        m.put(12L, new QuestionSnapshot.Builder().questionId(12L).kind(QuestionKind.TEXT).required(true)
+                .text(TextMode.SHORT, null, 20).build());
+        m.put(13L, new QuestionSnapshot.Builder().questionId(13L).kind(QuestionKind.MATCHING)
+                .matching(List.of(1L), List.of(2L)).build());
+        return m;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.encuestas_api.responses.application.usecase;
+
+import com.example.encuestas_api.notifications.application.port.in.OnResponseLimitReachedUseCase;
+import com.example.encuestas_api.notifications.application.port.in.OnSubmissionSubmittedUseCase;
+import com.example.encuestas_api.reports.application.port.in.UpdateReportCountersUseCase;
+import com.example.encuestas_api.responses.application.dto.SubmitSubmissionCommand;
+import com.example.encuestas_api.responses.application.exception.ResponsePolicyViolationException;
+import com.example.encuestas_api.responses.application.port.out.*;
+import com.example.encuestas_api.responses.application.port.out.LoadFormPoliciesPort.FormPolicies;
+import com.example.encuestas_api.responses.application.port.out.LoadFormPoliciesPort.ResponseLimitMode;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubmitSubmissionService Tests")
+class SubmitSubmissionServiceTest {
+
+    @Mock private FindSubmissionPort findPort;
+    @Mock private SaveSubmissionPort savePort;
+    @Mock private DraftAnswerBufferPort draftBuffer;
+    @Mock private BuildQuestionSnapshotsPort snapshotsPort;
+    @Mock private LoadFormPoliciesPort policiesPort;
+    @Mock private ResponseQuotaPort quotaPort;
+    @Mock private SubmittedRespondentFilterPort respondentFilter;
+    @Mock private ExistsSubmittedByRespondentPort existsPort;
+    @Mock private OnSubmissionSubmittedUseCase onSubmitted;
+    @Mock private OnResponseLimitReachedUseCase onResponseLimitReached;
+    @Mock private UpdateReportCountersUseCase reportCounters;
+
+    private SubmitSubmissionService service;
+    private Submission submission;
+
+    @BeforeEach
+    void setUp() {
+        service = new SubmitSubmissionService(findPort, savePort, draftBuffer, snapshotsPort, policiesPort, quotaPort,
+                respondentFilter, existsPort, onSubmitted, onResponseLimitReached, reportCounters);
+        submission = new Submission(7L, Respondent.user(3L));
+        submission.setId(1L);
+        when(findPort.findById(1L)).thenReturn(Optional.of(submission));
+        when(snapshotsPort.byFormId(7L)).thenReturn(Map.of());
+        when(policiesPort.getPolicies(7L)).thenReturn(new FormPolicies(7L, false, false, false, null, null,
+                ResponseLimitMode.ONE_PER_RESPONDENT, null));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el envio si el respondente ya envio desde otro borrador aunque el filtro no lo viera")
+    void shouldRejectSecondSubmitOfSameRespondent() {
+        // Given: el start paso por otro nodo, cuyo filtro no conocia el primer envio
+        when(existsPort.existsSubmittedByFormAndUser(7L, 3L)).thenReturn(true);
+
+        // When / Then
+        assertThatThrownBy(() -> service.handle(new SubmitSubmissionCommand(1L)))
+                .isInstanceOf(ResponsePolicyViolationException.class);
+        verify(savePort, never()).save(any());
+        verifyNoInteractions(reportCounters, onSubmitted);
+    }
+
+    @Test
+    @DisplayName("Debe enviar si el respondente no tiene otro envio")
+    void shouldSubmitFirstResponse() {
+        // Given
+        when(existsPort.existsSubmittedByFormAndUser(7L, 3L)).thenReturn(false);
+        when(savePort.save(submission)).thenReturn(submission);
+
+        // When
+        Submission saved = service.handle(new SubmitSubmissionCommand(1L));
+
+        // Then
+        assertThat(saved.getStatus()).isEqualTo(SubmissionStatus.SUBMITTED);
+        verify(reportCounters).handle(submission, 1);
+    }
+}
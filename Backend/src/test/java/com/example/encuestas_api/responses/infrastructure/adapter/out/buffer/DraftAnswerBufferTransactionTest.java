@@ -0,0 +1,141 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.buffer;
+
+import com.example.encuestas_api.reports.application.port.in.InvalidateReportCacheUseCase;
+import com.example.encuestas_api.responses.application.exception.SubmissionValidationException;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.model.SubmissionStatus;
+import com.example.encuestas_api.responses.domain.model.TextAnswer;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.SubmissionRepositoryAdapter;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:draftbuffer;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SubmissionRepositoryAdapter.class, DraftAnswerBufferTransactionTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InMemoryDraftAnswerBufferAdapter H2 Tests")
+class DraftAnswerBufferTransactionTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        InvalidateReportCacheUseCase invalidateReportCacheUseCase() {
+            return formId -> {};
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private SubmissionRepositoryAdapter adapter;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+    private InMemoryDraftAnswerBufferAdapter buffer;
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+        buffer = new InMemoryDraftAnswerBufferAdapter(adapter, Clock.systemUTC(), true, 60_000, 50, 100);
+        id = tx.execute(status -> adapter.save(new Submission(3L, Respondent.anonymous())).getId());
+    }
+
+    @Test
+    @DisplayName("Si el submit falla despues del flush los autosaves no deben perderse")
+    void shouldKeepAutosavesWhenSubmitFailsAfterFlush() {
+        // Given
+        Submission draft = adapter.findById(id).orElseThrow();
+        draft.addOrReplaceAnswer(new TextAnswer(10L, null, "pendiente"));
+        buffer.stage(draft, List.of(10L));
+
+        // When: el submit escribe el buffer y luego falla la validacion
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> {
+            buffer.flush(id);
+            throw new SubmissionValidationException(List.of());
+        })).isInstanceOf(SubmissionValidationException.class);
+
+        // Then
+        assertThat(adapter.findById(id).orElseThrow().findAnswer(10L)).isEmpty();
+        assertThat(buffer.contains(id)).isTrue();
+        assertThat(buffer.flushAll()).isEqualTo(1);
+        TextAnswer saved = (TextAnswer) adapter.findById(id).orElseThrow().findAnswer(10L).orElseThrow();
+        assertThat(saved.getText()).isEqualTo("pendiente");
+        assertThat(buffer.contains(id)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Un autosave que llega tarde no debe modificar una submission ya enviada")
+    void shouldNotWriteIntoSubmittedSubmission() {
+        // Given: el autosave quedo en el buffer de este nodo y el submit se hizo en otro
+        Submission draft = adapter.findById(id).orElseThrow();
+        draft.addOrReplaceAnswer(new TextAnswer(10L, null, "tarde"));
+        buffer.stage(draft, List.of(10L));
+        tx.executeWithoutResult(status -> {
+            Submission s = adapter.findById(id).orElseThrow();
+            s.markSubmitted();
+            adapter.save(s);
+        });
+
+        // When
+        int flushed = buffer.flushAll();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(buffer.contains(id)).isFalse();
+        Submission stored = adapter.findById(id).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(SubmissionStatus.SUBMITTED);
+        assertThat(stored.findAnswer(10L)).isEmpty();
+        assertThat(em.find(SubmissionEntity.class, id)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Descartar dentro de un borrado que se deshace no debe perder los autosaves")
+    void shouldKeepAutosavesWhenDeleteRollsBack() {
+        // Given
+        Submission draft = adapter.findById(id).orElseThrow();
+        draft.addOrReplaceAnswer(new TextAnswer(10L, null, "pendiente"));
+        buffer.stage(draft, List.of(10L));
+
+        // When: el borrado descarta el buffer y luego falla
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> {
+            buffer.discard(id);
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(buffer.contains(id)).isTrue();
+
+        // When: el borrado confirma
+        tx.executeWithoutResult(status -> buffer.discard(id));
+
+        // Then
+        assertThat(buffer.contains(id)).isFalse();
+    }
+}
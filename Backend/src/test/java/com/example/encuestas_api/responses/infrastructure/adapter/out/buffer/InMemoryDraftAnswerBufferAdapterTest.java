@@ -0,0 +1,267 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.buffer;
+
+import com.example.encuestas_api.responses.application.port.out.SaveAnswerPort;
+import com.example.encuestas_api.responses.domain.exception.EditNotAllowedException;
+import com.example.encuestas_api.responses.domain.model.Submission;
+import com.example.encuestas_api.responses.domain.model.TextAnswer;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryDraftAnswerBufferAdapter Tests")
+class InMemoryDraftAnswerBufferAdapterTest {
+
+    @Mock
+    private SaveAnswerPort savePort;
+    @Mock
+    private Clock clock;
+
+    private InMemoryDraftAnswerBufferAdapter buffer;
+    private Submission submission;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(1_000L);
+        buffer = new InMemoryDraftAnswerBufferAdapter(savePort, clock, true, 5_000, 3, 100);
+        submission = new Submission(7L, Respondent.anonymous());
+        submission.setId(1L);
+    }
+
+    @Test
+    @DisplayName("Debe agrupar varios autosaves de la misma submission en una sola escritura")
+    void shouldCoalesceAutosaves() {
+        // Given
+        submission.addOrReplaceAnswer(new TextAnswer(10L, null, "a"));
+        buffer.stage(submission, List.of(10L));
+        submission.addOrReplaceAnswer(new TextAnswer(10L, null, "ab"));
+        buffer.stage(submission, List.of(10L));
+        submission.addOrReplaceAnswer(new TextAnswer(11L, null, "x"));
+        buffer.stage(submission, List.of(11L));
+        verifyNoInteractions(savePort);
+
+        // When
+        int flushed = buffer.flushAll();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        ArgumentCaptor<Submission> written = ArgumentCaptor.forClass(Submission.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(savePort, times(1)).saveAnswers(written.capture(), ids.capture());
+        assertThat(ids.getValue()).containsExactly(10L, 11L);
+        assertThat(((TextAnswer) written.getValue().findAnswer(10L).orElseThrow()).getText()).isEqualTo("ab");
+        assertThat(buffer.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Las lecturas deben ver el estado en buffer sin compartir la instancia")
+    void shouldExposeBufferedStateAsCopy() {
+        // Given
+        submission.addOrReplaceAnswer(new TextAnswer(10L, null, "pendiente"));
+        buffer.stage(submission, List.of(10L));
+
+        // When
+        Submission read = buffer.find(1L).orElseThrow();
+        read.addOrReplaceAnswer(new TextAnswer(11L, null, "otra"));
+
+        // Then
+        assertThat(((TextAnswer) read.findAnswer(10L).orElseThrow()).getText()).isEqualTo("pendiente");
+        assertThat(buffer.find(1L).orElseThrow().findAnswer(11L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe escribir solo las entradas que superan la edad maxima")
+    void shouldFlushOnlyDueEntries() {
+        // Given
+        buffer.stage(submission, List.of(10L));
+        when(clock.millis()).thenReturn(3_000L);
+        Submission other = new Submission(7L, Respondent.anonymous());
+        other.setId(2L);
+        buffer.stage(other, List.of(10L));
+
+        // When
+        when(clock.millis()).thenReturn(6_000L);
+        int flushed = buffer.flushDue();
+
+        // Then
+        assertThat(flushed).isEqualTo(1);
+        verify(savePort).saveAnswers(any(), eq(java.util.Set.of(10L)));
+        assertThat(buffer.contains(1L)).isFalse();
+        assertThat(buffer.contains(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Debe escribir de inmediato al llegar al limite de respuestas pendientes")
+    void shouldFlushOnSizeThreshold() {
+        // When
+        buffer.stage(submission, List.of(10L, 11L));
+        verifyNoInteractions(savePort);
+        buffer.stage(submission, List.of(12L));
+
+        // Then
+        verify(savePort, times(1)).saveAnswers(any(), any());
+        assertThat(buffer.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Una escritura fallida debe conservar la entrada para reintentar")
+    void shouldKeepEntryWhenWriteFails() {
+        // Given
+        buffer.stage(submission, List.of(10L));
+        when(savePort.saveAnswers(any(), any())).thenThrow(new IllegalStateException("db caida"));
+
+        // When
+        int flushed = buffer.flushAll();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(buffer.contains(1L)).isTrue();
+        assertThatThrownBy(() -> buffer.flush(1L)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Una escritura dentro de una transaccion deshecha debe volver a quedar pendiente")
+    void shouldRestoreEntryOnRollback() {
+        // Given: el limite de pendientes dispara la escritura dentro de la transaccion del request
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.stage(submission, List.of(10L, 11L));
+            buffer.stage(submission, List.of(12L));
+            verify(savePort, times(1)).saveAnswers(any(), any());
+            assertThat(buffer.contains(1L)).isTrue();
+
+            // When
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(buffer.flushAll()).isEqualTo(1);
+        verify(savePort, times(2)).saveAnswers(any(), eq(new java.util.LinkedHashSet<>(List.of(10L, 11L, 12L))));
+        assertThat(buffer.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Tras el commit debe soltar la entrada salvo que llegaran autosaves nuevos")
+    void shouldReleaseEntryOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            buffer.stage(submission, List.of(10L));
+            buffer.flush(1L);
+            assertThat(buffer.contains(1L)).isTrue();
+            assertThat(buffer.flushAll()).isZero(); // nada nuevo que escribir mientras no confirma
+
+            // When
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertThat(buffer.contains(1L)).isFalse();
+        verify(savePort, times(1)).saveAnswers(any(), any());
+    }
+
+    @Test
+    @DisplayName("No debe aceptar entradas nuevas si esta deshabilitado o lleno")
+    void shouldRejectWhenDisabledOrFull() {
+        var disabled = new InMemoryDraftAnswerBufferAdapter(savePort, clock, false, 5_000, 3, 100);
+        var full = new InMemoryDraftAnswerBufferAdapter(savePort, clock, true, 5_000, 3, 1);
+        Submission other = new Submission(7L, Respondent.anonymous());
+        other.setId(2L);
+
+        assertThat(disabled.stage(submission, List.of(10L))).isFalse();
+        assertThat(full.stage(submission, List.of(10L))).isTrue();
+        assertThat(full.stage(other, List.of(10L))).isFalse();
+        assertThat(full.stage(submission, List.of(11L))).isTrue(); // la entrada existente sigue aceptando
+    }
+
+    @Test
+    @DisplayName("Un autosave pendiente de una submission ya enviada debe descartarse")
+    void shouldDropEntryOfSubmittedSubmission() {
+        // Given
+        buffer.stage(submission, List.of(10L));
+        when(savePort.saveAnswers(any(), any())).thenThrow(new EditNotAllowedException("enviada"));
+
+        // When
+        int flushed = buffer.flushAll();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(buffer.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Descartar debe olvidar los cambios pendientes sin escribirlos")
+    void shouldDiscardPending() {
+        buffer.stage(submission, List.of(10L));
+
+        buffer.discard(1L);
+
+        assertThat(buffer.find(1L)).isEmpty();
+        assertThat(buffer.flushAll()).isZero();
+        verifyNoInteractions(savePort);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        syncs.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    @Test
+    @DisplayName("Autosaves concurrentes no deben perder preguntas modificadas")
+    void shouldNotLoseQuestionsUnderConcurrency() throws Exception {
+        // Given
+        var big = new InMemoryDraftAnswerBufferAdapter(savePort, clock, true, 5_000, 1_000, 100);
+        List<Long> written = java.util.Collections.synchronizedList(new ArrayList<>());
+        when(savePort.saveAnswers(any(), any())).thenAnswer(inv -> {
+            written.addAll(inv.getArgument(1));
+            return inv.getArgument(0);
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        for (long q = 0; q < 400; q++) {
+            long qid = q;
+            pool.submit(() -> {
+                start.await();
+                big.stage(submission.copy(), List.of(qid));
+                if (qid % 50 == 0) big.flushAll();
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        big.flushAll();
+
+        // Then
+        assertThat(written).hasSize(400).doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.responses.application.port.out.CountSubmittedByFormPort;
+import com.example.encuestas_api.responses.application.port.out.LoadSubmittedRespondentsPort;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BloomSubmittedRespondentFilterAdapter Tests")
+class BloomSubmittedRespondentFilterAdapterTest {
+
+    @Mock
+    private LoadSubmittedRespondentsPort loader;
+    @Mock
+    private CountSubmittedByFormPort countPort;
+
+    @Test
+    @DisplayName("Debe construir el filtro desde la base de datos sin falsos negativos")
+    void shouldWarmFromDatabaseWithoutFalseNegatives() {
+        // Given
+        List<Respondent> submitted = new ArrayList<>();
+        for (long i = 0; i < 5_000; i++) submitted.add(Respondent.user(i));
+        for (int i = 0; i < 5_000; i++) submitted.add(Respondent.email("user" + i + "@mail.com"));
+        stubForm(7L, submitted);
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 10, 1 << 22, 0.01);
+
+        // When / Then
+        assertThat(submitted).allMatch(r -> filter.mightHaveSubmitted(7L, r));
+        verify(loader, times(1)).forEachSubmittedRespondent(eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("La tasa de falsos positivos debe mantenerse cerca de la configurada")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        // Given
+        List<Respondent> submitted = new ArrayList<>();
+        for (long i = 0; i < 10_000; i++) submitted.add(Respondent.user(i));
+        stubForm(7L, submitted);
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 10, 1 << 22, 0.01);
+
+        // When
+        int falsePositives = 0;
+        for (long i = 1_000_000; i < 1_050_000; i++) {
+            if (filter.mightHaveSubmitted(7L, Respondent.user(i))) falsePositives++;
+        }
+
+        // Then
+        assertThat(falsePositives / 50_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("Un envio anotado debe verse de inmediato")
+    void shouldSeeRecordedSubmission() {
+        // Given
+        stubForm(7L, List.of());
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 10, 1 << 22, 0.01);
+        Respondent r = Respondent.code("ABC-123");
+        assertThat(filter.mightHaveSubmitted(7L, r)).isFalse();
+
+        // When
+        filter.recordSubmitted(7L, r);
+
+        // Then
+        assertThat(filter.mightHaveSubmitted(7L, r)).isTrue();
+        // la comparacion de la base de datos puede ignorar mayusculas: el filtro no debe descartarlas
+        assertThat(filter.mightHaveSubmitted(7L, Respondent.code("abc-123 "))).isTrue();
+        verify(loader, times(1)).forEachSubmittedRespondent(eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("Anotar un formulario sin filtro no debe ir a la base de datos")
+    void shouldNotBuildOnRecord() {
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 10, 1 << 22, 0.01);
+
+        filter.recordSubmitted(7L, Respondent.user(1L));
+
+        verifyNoInteractions(loader, countPort);
+    }
+
+    @Test
+    @DisplayName("Un filtro lleno debe reconstruirse con el doble de capacidad")
+    void shouldRebuildWhenSaturated() {
+        // Given
+        List<Respondent> submitted = new ArrayList<>();
+        stubForm(7L, submitted);
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 10, 1 << 22, 0.01);
+        filter.mightHaveSubmitted(7L, Respondent.user(-1L));
+
+        // When
+        long total = 3 * BloomSubmittedRespondentFilterAdapter.MIN_CAPACITY;
+        for (long i = 0; i < total; i++) {
+            Respondent r = Respondent.user(i);
+            submitted.add(r);
+            filter.recordSubmitted(7L, r);
+        }
+        filter.mightHaveSubmitted(7L, Respondent.user(-1L));
+
+        // Then
+        verify(loader, times(2)).forEachSubmittedRespondent(eq(7L), any());
+        assertThat(submitted).allMatch(r -> filter.mightHaveSubmitted(7L, r));
+        verify(loader, times(2)).forEachSubmittedRespondent(eq(7L), any());
+    }
+
+    @Test
+    @DisplayName("Si el formulario no cabe en el tope de memoria siempre debe consultar la base de datos")
+    void shouldFallBackToExactCheckWhenTooBig() {
+        // Given
+        when(countPort.countSubmittedByForm(7L)).thenReturn(1_000_000L);
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 10, 1 << 16, 0.01);
+
+        // When / Then
+        assertThat(filter.mightHaveSubmitted(7L, Respondent.user(1L))).isTrue();
+        assertThat(filter.mightHaveSubmitted(7L, Respondent.user(2L))).isTrue();
+        verify(countPort, times(1)).countSubmittedByForm(7L);
+        verifyNoInteractions(loader);
+    }
+
+    @Test
+    @DisplayName("Debe descartar el formulario usado hace mas tiempo al superar el limite")
+    void shouldEvictLeastRecentlyUsedForm() {
+        // Given
+        when(countPort.countSubmittedByForm(anyLong())).thenReturn(0L);
+        var filter = new BloomSubmittedRespondentFilterAdapter(loader, countPort, true, 2, 1 << 22, 0.01);
+        filter.mightHaveSubmitted(1L, Respondent.user(1L));
+        filter.mightHaveSubmitted(2L, Respondent.user(1L));
+        filter.mightHaveSubmitted(1L, Respondent.user(1L));
+
+        // When
+        filter.mightHaveSubmitted(3L, Respondent.user(1L));
+        filter.mightHaveSubmitted(1L, Respondent.user(1L));
+        filter.mightHaveSubmitted(2L, Respondent.user(1L));
+
+        // Then
+        verify(loader, times(1)).forEachSubmittedRespondent(eq(1L), any());
+        verify(loader, times(2)).forEachSubmittedRespondent(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("Anonimos no se comprueban y deshabilitado siempre va a la base de datos")
+    void shouldHandleAnonymousAndDisabled() {
+        var disabled = new BloomSubmittedRespondentFilterAdapter(loader, countPort, false, 10, 1 << 22, 0.01);
+
+        assertThat(disabled.mightHaveSubmitted(7L, Respondent.anonymous())).isFalse();
+        assertThat(disabled.mightHaveSubmitted(7L, Respondent.user(1L))).isTrue();
+        verifyNoInteractions(loader, countPort);
+    }
+
+    private void stubForm(Long formId, List<Respondent> submitted) {
+        lenient().when(countPort.countSubmittedByForm(formId)).thenAnswer(inv -> (long) submitted.size());
+        lenient().doAnswer(inv -> {
+            Consumer<Respondent> action = inv.getArgument(1);
+            new ArrayList<>(submitted).forEach(action);
+            return null;
+        }).when(loader).forEachSubmittedRespondent(eq(formId), any());
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.cache;
+
+import com.example.encuestas_api.responses.application.port.out.FormStructureVersionPort;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.BuildQuestionSnapshotsAdapter;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.QuestionSnapshotJpaLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryQuestionSnapshotCacheAdapter Tests")
+class InMemoryQuestionSnapshotCacheAdapterTest {
+
+    @Mock
+    private QuestionSnapshotJpaLoader loader;
+
+    @Mock
+    private FormStructureVersionPort versions;
+
+    private InMemoryQuestionSnapshotCacheAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new InMemoryQuestionSnapshotCacheAdapter(true, 2);
+    }
+
+    private Map<Long, QuestionSnapshot> snapshots(Long... ids) {
+        Map<Long, QuestionSnapshot> m = new LinkedHashMap<>();
+        for (Long id : ids) {
+            m.put(id, new QuestionSnapshot.Builder().questionId(id).kind(QuestionKind.TRUE_FALSE).build());
+        }
+        return m;
+    }
+
+    @Test
+    @DisplayName("Debe devolver una copia inmutable en el mismo orden")
+    void shouldReturnImmutableCopy() {
+        cache.put(1L, 0, snapshots(3L, 1L, 2L));
+
+        var cached = cache.get(1L, 0).orElseThrow();
+
+        assertThat(cached.keySet()).containsExactly(3L, 1L, 2L);
+        assertThatThrownBy(() -> cached.remove(3L)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("Evict debe descartar la entrada local")
+    void shouldDropEntryOnEvict() {
+        // Given
+        cache.put(1L, 0, snapshots(1L));
+
+        // When
+        cache.evict(1L);
+
+        // Then
+        assertThat(cache.get(1L, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("No debe servir una entrada construida con otra version")
+    void shouldMissOnOtherVersion() {
+        cache.put(1L, 0, snapshots(1L));
+
+        assertThat(cache.get(1L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Una carga lenta con version anterior no debe pisar una entrada mas nueva")
+    void shouldKeepNewerEntryOnStalePut() {
+        // Given
+        cache.put(1L, 2, snapshots(1L, 2L));
+
+        // When
+        cache.put(1L, 1, snapshots(1L));
+
+        // Then
+        assertThat(cache.get(1L, 2).orElseThrow().keySet()).containsExactly(1L, 2L);
+        assertThat(cache.get(1L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Debe descartar la entrada usada hace mas tiempo al superar el limite")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        cache.put(1L, 0, snapshots(1L));
+        cache.put(2L, 0, snapshots(2L));
+        cache.get(1L, 0);
+
+        // When
+        cache.put(3L, 0, snapshots(3L));
+
+        // Then
+        assertThat(cache.get(1L, 0)).isPresent();
+        assertThat(cache.get(2L, 0)).isEmpty();
+        assertThat(cache.get(3L, 0)).isPresent();
+    }
+
+    @Test
+    @DisplayName("El adapter de snapshots solo debe ir a base de datos cuando cambia la version del formulario")
+    void shouldLoadOncePerVersion() {
+        // Given
+        BuildQuestionSnapshotsAdapter adapter = new BuildQuestionSnapshotsAdapter(loader, cache, versions);
+        when(versions.current(1L)).thenReturn(0L, 0L, 1L); // la mutacion llega desde otro nodo
+        when(loader.byFormId(1L)).thenReturn(snapshots(1L), snapshots(1L, 2L));
+
+        // When
+        adapter.byFormId(1L);
+        var second = adapter.byFormId(1L);
+        var third = adapter.byFormId(1L);
+
+        // Then
+        assertThat(second.keySet()).containsExactly(1L);
+        assertThat(third.keySet()).containsExactly(1L, 2L);
+        verify(loader, times(2)).byFormId(1L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.forms.domain.model.FormStatus;
+import com.example.encuestas_api.forms.infrastructure.adapter.out.jpa.entity.FormEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:structureversion;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(FormStructureVersionJpaAdapter.class)
+@DisplayName("FormStructureVersionJpaAdapter H2 Tests")
+class FormStructureVersionJpaAdapterTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private FormStructureVersionJpaAdapter adapter;
+
+    private Long form() {
+        FormEntity f = new FormEntity();
+        f.setCampaignId(1L);
+        f.setTitle("Encuesta");
+        f.setStatus(FormStatus.draft);
+        em.persist(f);
+        em.flush();
+        return f.getId();
+    }
+
+    @Test
+    @DisplayName("Un formulario nuevo debe empezar en la version 0 e incrementarse en la fila")
+    void shouldStartAtZeroAndIncrement() {
+        // Given
+        Long formId = form();
+
+        // When
+        long before = adapter.current(formId);
+        adapter.increment(formId);
+        adapter.increment(formId);
+
+        // Then
+        assertThat(before).isZero();
+        assertThat(adapter.current(formId)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Guardar el formulario con una entidad cargada antes del incremento no debe pisar la version")
+    void shouldNotOverwriteVersionOnFormSave() {
+        // Given
+        Long formId = form();
+        em.clear();
+        FormEntity loaded = em.find(FormEntity.class, formId);
+        adapter.increment(formId);
+
+        // When
+        loaded.setTitle("Otro titulo");
+        em.merge(loaded);
+        em.flush();
+
+        // Then
+        assertThat(adapter.current(formId)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Un formulario inexistente debe tener version 0")
+    void shouldReturnZeroForUnknownForm() {
+        assertThat(adapter.current(999L)).isZero();
+    }
+}
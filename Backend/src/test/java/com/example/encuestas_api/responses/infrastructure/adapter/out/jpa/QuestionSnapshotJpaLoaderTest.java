@@ -0,0 +1,164 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.questions.domain.model.QuestionType;
+import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.MatchingLeftEntity;
+import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.MatchingRightEntity;
+import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.OptionEntity;
+import com.example.encuestas_api.questions.infrastructure.adapter.out.jpa.entity.QuestionEntity;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionKind;
+import com.example.encuestas_api.responses.domain.valueobject.QuestionSnapshot;
+import com.example.encuestas_api.responses.domain.valueobject.SelectionMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshots;NON_KEYWORDS=VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QuestionSnapshotJpaLoader.class)
+@DisplayName("QuestionSnapshotJpaLoader H2 Tests")
+class QuestionSnapshotJpaLoaderTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private QuestionSnapshotJpaLoader loader;
+
+    private int position;
+
+    @Test
+    @DisplayName("Debe construir los snapshots en orden con opciones y lados de matching")
+    void shouldBuildSnapshots() {
+        // Given
+        Long choice = question(1L, QuestionType.CHOICE);
+        Long o2 = option(choice, 2);
+        Long o1 = option(choice, 1);
+        Long tf = question(1L, QuestionType.TRUE_FALSE);
+        Long matching = question(1L, QuestionType.MATCHING);
+        Long l1 = left(matching);
+        Long r1 = right(matching);
+        Long r2 = right(matching);
+        question(2L, QuestionType.CHOICE); // otro formulario
+        em.flush();
+        em.clear();
+
+        // When
+        Map<Long, QuestionSnapshot> snapshots = loader.byFormId(1L);
+
+        // Then
+        assertThat(snapshots.keySet()).containsExactly(choice, tf, matching);
+        QuestionSnapshot c = snapshots.get(choice);
+        assertThat(c.getKind()).isEqualTo(QuestionKind.CHOICE);
+        assertThat(c.getSelectionMode()).isEqualTo(SelectionMode.MULTI);
+        assertThat(c.getOptionIds()).containsExactly(o1, o2);
+        assertThat(snapshots.get(tf).getKind()).isEqualTo(QuestionKind.TRUE_FALSE);
+        assertThat(snapshots.get(matching).getLeftIds()).containsExactly(l1);
+        assertThat(snapshots.get(matching).getRightIds()).containsExactly(r1, r2);
+    }
+
+    @Test
+    @DisplayName("Debe usar el mismo numero de sentencias sin importar cuantas preguntas haya")
+    void shouldUseConstantNumberOfStatements() {
+        // Given
+        seedForm(10L, 2);
+        seedForm(20L, 30);
+        em.flush();
+        em.clear();
+
+        // When
+        long small = statementsFor(10L);
+        long large = statementsFor(20L);
+
+        // Then: preguntas + opciones + izquierda + derecha
+        assertThat(small).isEqualTo(4);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    @DisplayName("No debe consultar opciones ni matching si el formulario no los tiene")
+    void shouldSkipItemQueriesWhenNotNeeded() {
+        question(30L, QuestionType.TRUE_FALSE);
+        question(30L, QuestionType.TEXT);
+        em.flush();
+        em.clear();
+
+        assertThat(statementsFor(30L)).isEqualTo(1);
+    }
+
+    private long statementsFor(Long formId) {
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        em.clear();
+        stats.clear();
+        assertThat(loader.byFormId(formId)).isNotEmpty();
+        return stats.getPrepareStatementCount();
+    }
+
+    private void seedForm(Long formId, int perType) {
+        for (int i = 0; i < perType; i++) {
+            Long c = question(formId, QuestionType.CHOICE);
+            option(c, 1);
+            option(c, 2);
+            Long m = question(formId, QuestionType.MATCHING);
+            left(m);
+            right(m);
+            question(formId, QuestionType.TEXT);
+        }
+    }
+
+    private Long question(Long formId, QuestionType type) {
+        QuestionEntity q = new QuestionEntity();
+        q.setFormId(formId);
+        q.setPosition(position++);
+        q.setType(type);
+        q.setPrompt("P" + position);
+        q.setRequired(true);
+        if (type == QuestionType.CHOICE) q.setSelectionMode("MULTI");
+        if (type == QuestionType.TEXT) q.setTextMode("SHORT");
+        q.setCreatedAt(Instant.now());
+        q.setUpdatedAt(Instant.now());
+        em.persist(q);
+        return q.getId();
+    }
+
+    private Long option(Long questionId, int pos) {
+        OptionEntity o = new OptionEntity();
+        o.setQuestionId(questionId);
+        o.setLabel("O" + pos);
+        o.setPosition(pos);
+        em.persist(o);
+        return o.getId();
+    }
+
+    private Long left(Long questionId) {
+        MatchingLeftEntity m = new MatchingLeftEntity();
+        m.setQuestionId(questionId);
+        m.setText("L");
+        em.persist(m);
+        return m.getId();
+    }
+
+    private Long right(Long questionId) {
+        MatchingRightEntity m = new MatchingRightEntity();
+        m.setQuestionId(questionId);
+        m.setText("R");
+        em.persist(m);
+        return m.getId();
+    }
+}
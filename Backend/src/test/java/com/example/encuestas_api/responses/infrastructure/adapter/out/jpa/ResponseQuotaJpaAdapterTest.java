@@ -0,0 +1,213 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.ResponseQuotaEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:quotas;NON_KEYWORDS=VALUE")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ResponseQuotaJpaAdapter.class, ResponseQuotaInitializer.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // cada operacion en su propia transaccion, como en produccion
+@DisplayName("ResponseQuotaJpaAdapter H2 Tests")
+class ResponseQuotaJpaAdapterTest {
+
+    private static final AtomicLong FORM_IDS = new AtomicLong(1000);
+    private static final AtomicLong SUBMISSION_IDS = new AtomicLong(1);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private ResponseQuotaJpaAdapter quota;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(txManager);
+    }
+
+    @Test
+    @DisplayName("Bajo concurrencia deben reservarse exactamente N huecos")
+    void shouldGrantExactlyNUnderContention() throws Exception {
+        // Given
+        Long formId = FORM_IDS.incrementAndGet();
+        int limit = 25;
+        List<Long> holders = new CopyOnWriteArrayList<>();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        List<Future<?>> futures = new java.util.ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                tx.executeWithoutResult(status -> {
+                    if (quota.reserve(formId, limit)) {
+                        long submissionId = SUBMISSION_IDS.incrementAndGet();
+                        quota.attach(formId, submissionId, Instant.now().plusSeconds(3600));
+                        holders.add(submissionId);
+                    }
+                });
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) f.get(30, TimeUnit.SECONDS);
+        pool.shutdown();
+
+        // Then
+        assertThat(holders).hasSize(limit);
+        assertThat(row(formId).getReserved()).isEqualTo(limit);
+        assertThat(row(formId).getCommitted()).isZero();
+    }
+
+    @Test
+    @DisplayName("Confirmar debe pasar las reservas a enviadas y rechazar envios sin hueco")
+    void shouldCommitReservationsAndRejectOverflow() throws Exception {
+        // Given
+        Long formId = FORM_IDS.incrementAndGet();
+        int limit = 10;
+        List<Long> holders = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            tx.executeWithoutResult(status -> {
+                assertThat(quota.reserve(formId, limit)).isTrue();
+                long id = SUBMISSION_IDS.incrementAndGet();
+                quota.attach(formId, id, Instant.now().plusSeconds(3600));
+                holders.add(id);
+            });
+        }
+
+        // When
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<Long>> commits = new java.util.ArrayList<>();
+        for (Long id : holders) {
+            commits.add(pool.submit(() -> tx.execute(status -> quota.commit(formId, id, limit))));
+        }
+        // envios sin reserva compitiendo por el mismo cupo
+        for (int i = 0; i < 20; i++) {
+            long stray = SUBMISSION_IDS.incrementAndGet();
+            commits.add(pool.submit(() -> tx.execute(status -> quota.commit(formId, stray, limit))));
+        }
+        List<Long> results = new java.util.ArrayList<>();
+        for (Future<Long> f : commits) results.add(f.get(30, TimeUnit.SECONDS));
+        pool.shutdown();
+
+        // Then
+        assertThat(results.subList(0, limit)).allMatch(r -> r > 0);
+        assertThat(results.subList(limit, results.size())).allMatch(r -> r == -1);
+        assertThat(results).contains((long) limit);
+        assertThat(row(formId).getCommitted()).isEqualTo(limit);
+        assertThat(row(formId).getReserved()).isZero();
+    }
+
+    @Test
+    @DisplayName("Las reservas caducadas deben devolver el hueco")
+    void shouldReleaseExpiredReservations() {
+        // Given
+        Long formId = FORM_IDS.incrementAndGet();
+        Long abandoned = SUBMISSION_IDS.incrementAndGet();
+        tx.executeWithoutResult(status -> {
+            quota.reserve(formId, 1);
+            quota.attach(formId, abandoned, Instant.now().minusSeconds(60));
+        });
+        Boolean full = tx.execute(status -> quota.reserve(formId, 1));
+        assertThat(full).isFalse();
+
+        // When
+        int released = tx.execute(status -> quota.releaseExpired(Instant.now(), 100));
+
+        // Then
+        assertThat(released).isEqualTo(1);
+        Boolean again = tx.execute(status -> quota.reserve(formId, 1));
+        assertThat(again).isTrue();
+        // el borrador abandonado ya no tiene hueco reservado y el cupo esta lleno
+        Long lateCommit = tx.execute(status -> quota.commit(formId, abandoned, 1));
+        assertThat(lateCommit).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("El contador debe arrancar con las submissions ya enviadas")
+    void shouldSeedFromExistingSubmissions() {
+        // Given
+        Long formId = FORM_IDS.incrementAndGet();
+        tx.executeWithoutResult(status -> {
+            em.persist(submission(formId, "SUBMITTED"));
+            em.persist(submission(formId, "SUBMITTED"));
+            em.persist(submission(formId, "DRAFT"));
+        });
+
+        // When
+        boolean first = tx.execute(status -> quota.reserve(formId, 3));
+        boolean second = tx.execute(status -> quota.reserve(formId, 3));
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(row(formId).getCommitted()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Liberar y descontar deben devolver huecos al cupo")
+    void shouldReleaseAndUncommit() {
+        // Given
+        Long formId = FORM_IDS.incrementAndGet();
+        Long draft = SUBMISSION_IDS.incrementAndGet();
+        Long sent = SUBMISSION_IDS.incrementAndGet();
+        tx.executeWithoutResult(status -> {
+            quota.reserve(formId, 2);
+            quota.attach(formId, draft, Instant.now().plusSeconds(3600));
+            quota.reserve(formId, 2);
+            quota.attach(formId, sent, Instant.now().plusSeconds(3600));
+            quota.commit(formId, sent, 2);
+        });
+
+        // When
+        tx.executeWithoutResult(status -> {
+            quota.release(draft);
+            quota.uncommit(formId);
+        });
+
+        // Then
+        assertThat(row(formId).getReserved()).isZero();
+        assertThat(row(formId).getCommitted()).isZero();
+    }
+
+    private ResponseQuotaEntity row(Long formId) {
+        return tx.execute(status -> em.find(ResponseQuotaEntity.class, formId));
+    }
+
+    private SubmissionEntity submission(Long formId, String status) {
+        SubmissionEntity e = new SubmissionEntity();
+        e.setFormId(formId);
+        e.setRespondentType(SubmissionEntity.RespondentType.ANONYMOUS);
+        e.setStatus(status);
+        e.setCreatedAt(Instant.now());
+        e.setUpdatedAt(Instant.now());
+        return e;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.encuestas_api.responses.infrastructure.adapter.out.jpa;
+
+import com.example.encuestas_api.reports.application.port.in.InvalidateReportCacheUseCase;
+import com.example.encuestas_api.responses.domain.model.*;
+import com.example.encuestas_api.responses.domain.valueobject.Respondent;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionAnswerEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.SubmissionEntity;
+import com.example.encuestas_api.responses.infrastructure.adapter.out.jpa.entity.TrueFalseAnswerEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:submissions;NON_KEYWORDS=VALUE",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({SubmissionRepositoryAdapter.class, SubmittedRespondentsJpaAdapter.class, SubmissionRepositoryAdapterTest.Config.class})
+@DisplayName("SubmissionRepositoryAdapter H2 Tests")
+class SubmissionRepositoryAdapterTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        InvalidateReportCacheUseCase invalidateReportCacheUseCase() {
+            return formId -> {};
+        }
+    }
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private SubmissionRepositoryAdapter adapter;
+
+    @Autowired
+    private SubmittedRespondentsJpaAdapter respondents;
+
+    @Test
+    @DisplayName("Guardar una respuesta debe costar las mismas sentencias con 5 o 60 respuestas hermanas")
+    void shouldUseConstantStatementsPerAnswerSave() {
+        // Given
+        Long small = seed(5);
+        Long large = seed(60);
+
+        // When
+        long smallCount = statementsForAnswerSave(small);
+        long largeCount = statementsForAnswerSave(large);
+
+        // Then
+        assertThat(smallCount).isEqualTo(largeCount);
+        assertThat(largeCount).isLessThanOrEqualTo(2); // fila de la respuesta + updated_at de la submission
+    }
+
+    @Test
+    @DisplayName("Debe conservar las filas de las respuestas hermanas")
+    void shouldKeepSiblingRows() {
+        // Given
+        Long id = seed(10);
+        Map<Long, Long> before = answerIds(id);
+
+        // When
+        Submission s = adapter.findById(id).orElseThrow();
+        s.addOrReplaceAnswer(new TextAnswer(1L, null, "cambiado"));
+        adapter.saveAnswer(s, 1L);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(answerIds(id)).isEqualTo(before);
+        Submission reloaded = adapter.findById(id).orElseThrow();
+        assertThat(((TextAnswer) reloaded.findAnswer(1L).orElseThrow()).getText()).isEqualTo("cambiado");
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar la respuesta si cambia el tipo y borrarla si se quita")
+    void shouldReplaceOrRemoveSingleAnswer() {
+        // Given
+        Long id = seed(4);
+
+        // When
+        Submission s = adapter.findById(id).orElseThrow();
+        s.addOrReplaceAnswer(new TrueFalseAnswer(1L, null, true));
+        adapter.saveAnswer(s, 1L);
+        s.removeAnswer(2L);
+        adapter.saveAnswer(s, 2L);
+        em.flush();
+        em.clear();
+
+        // Then
+        SubmissionEntity e = em.find(SubmissionEntity.class, id);
+        assertThat(e.getAnswers()).extracting(SubmissionAnswerEntity::getQuestionId).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(e.getAnswers()).filteredOn(a -> a.getQuestionId().equals(1L))
+                .singleElement().isInstanceOf(TrueFalseAnswerEntity.class);
+    }
+
+    @Test
+    @DisplayName("Enviar la submission no debe reinsertar sus respuestas")
+    void submitShouldNotRewriteAnswers() {
+        // Given
+        Long id = seed(10);
+        Map<Long, Long> before = answerIds(id);
+
+        // When
+        Submission s = adapter.findById(id).orElseThrow();
+        s.markSubmitted();
+        adapter.save(s);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(answerIds(id)).isEqualTo(before);
+        assertThat(adapter.findById(id).orElseThrow().getStatus()).isEqualTo(SubmissionStatus.SUBMITTED);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer solo los respondentes identificados de submissions enviadas")
+    void shouldStreamSubmittedRespondents() {
+        // Given
+        List<Respondent> all = List.of(Respondent.user(5L), Respondent.email("a@mail.com"),
+                Respondent.code("X1"), Respondent.anonymous());
+        for (Respondent r : all) {
+            Submission s = new Submission(40L, r);
+            s.markSubmitted();
+            adapter.save(s);
+        }
+        adapter.save(new Submission(40L, Respondent.user(6L))); // borrador
+        em.flush();
+
+        // When
+        List<Respondent> seen = new java.util.ArrayList<>();
+        respondents.forEachSubmittedRespondent(40L, seen::add);
+
+        // Then
+        assertThat(seen).extracting(Respondent::getType).containsExactlyInAnyOrder(
+                Respondent.Type.USER, Respondent.Type.EMAIL, Respondent.Type.CODE);
+        assertThat(seen).extracting(Respondent::getUserId).contains(5L).doesNotContain(6L);
+    }
+
+    private long statementsForAnswerSave(Long id) {
+        Submission s = loadedForWrite(id);
+        Statistics stats = statistics();
+        stats.clear();
+        s.addOrReplaceAnswer(new TextAnswer(1L, null, "nuevo texto"));
+        adapter.saveAnswer(s, 1L);
+        em.flush();
+        return stats.getPrepareStatementCount();
+    }
+
+    private Submission loadedForWrite(Long id) {
+        em.clear();
+        return adapter.findById(id).orElseThrow();
+    }
+
+    private Statistics statistics() {
+        return em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Map<Long, Long> answerIds(Long submissionId) {
+        em.clear();
+        return em.find(SubmissionEntity.class, submissionId).getAnswers().stream()
+                .collect(Collectors.toMap(SubmissionAnswerEntity::getQuestionId, SubmissionAnswerEntity::getId));
+    }
+
+    private Long seed(int answers) {
+        Submission s = new Submission(1L, Respondent.anonymous());
+        for (long q = 1; q <= answers; q++) {
+            s.addOrReplaceAnswer(switch ((int) (q % 4)) {
+                case 1 -> new TextAnswer(q, null, "texto " + q);
+                case 2 -> new ChoiceAnswer(q, null, List.of(10L, 11L));
+                case 3 -> new TrueFalseAnswer(q, null, q % 2 == 0);
+                default -> new MatchingAnswer(q, null, List.of(new MatchingPair(1L, 2L), new MatchingPair(3L, 4L)));
+            });
+        }
+        Long id = adapter.save(s).getId();
+        em.flush();
+        em.clear();
+        return id;
+    }
+}